@@ -0,0 +1,7 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.CircuitSearchResult;
+
+public interface CircuitSearchUseCase {
+    CircuitSearchResult executeSearch(int qubitCount, int targetIndex);
+}
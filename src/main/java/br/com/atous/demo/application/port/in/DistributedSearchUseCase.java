@@ -0,0 +1,10 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.DistributedSearchResult;
+
+public interface DistributedSearchUseCase {
+    /**
+     * Grover search over an amplitude space sharded across worker processes.
+     */
+    DistributedSearchResult executeSearch(int searchSpaceSize, int targetIndex);
+}
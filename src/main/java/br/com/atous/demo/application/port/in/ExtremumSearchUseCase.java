@@ -0,0 +1,17 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.Extremum;
+import br.com.atous.demo.domain.model.ExtremumSearchResult;
+
+public interface ExtremumSearchUseCase {
+
+    /**
+     * Finds the record with the lowest (or highest) value of an INTEGER field of a registered dataset.
+     */
+    ExtremumSearchResult findExtremum(String datasetId, String field, Extremum extremum);
+
+    /**
+     * Same search over a primitive value array, indexed by position; the array is only read.
+     */
+    ExtremumSearchResult findExtremum(long[] values, Extremum extremum);
+}
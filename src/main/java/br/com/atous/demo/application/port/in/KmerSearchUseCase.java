@@ -0,0 +1,16 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.KmerIndexDescriptor;
+import br.com.atous.demo.domain.model.KmerSearchResult;
+
+import java.nio.file.Path;
+
+public interface KmerSearchUseCase {
+    KmerIndexDescriptor buildIndex(String indexId, Path fasta, int k, Path indexFile);
+
+    KmerIndexDescriptor extendIndex(String indexId, Path fasta);
+
+    KmerIndexDescriptor openIndex(String indexId, Path indexFile);
+
+    KmerSearchResult search(String indexId, String kmer);
+}
@@ -0,0 +1,20 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.SweepGrid;
+import br.com.atous.demo.domain.model.SweepPoint;
+
+import java.util.function.Consumer;
+
+public interface ParameterSweepUseCase {
+    /**
+     * Validates the grid and its backend and returns the number of points it expands to.
+     */
+    long plan(SweepGrid grid);
+
+    /**
+     * Runs every point of the grid in parallel and hands each result to {@code sink} as soon as
+     * it completes, in completion order. The sink is never called concurrently. Returns the
+     * number of points run; the first failure, in a point or in the sink, aborts the sweep.
+     */
+    long sweep(SweepGrid grid, Consumer<SweepPoint> sink);
+}
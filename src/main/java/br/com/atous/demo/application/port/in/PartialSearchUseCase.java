@@ -0,0 +1,17 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.PartialSearchResult;
+
+public interface PartialSearchUseCase {
+
+    /**
+     * Finds which of {@code blockCount} equal consecutive blocks holds the target, with fewer
+     * oracle calls than a full search; {@code blockCount} must divide the search space size.
+     */
+    PartialSearchResult searchBlock(int searchSpaceSize, int targetIndex, int blockCount);
+
+    /**
+     * Same search on a named amplitude backend; it must support range updates.
+     */
+    PartialSearchResult searchBlock(int searchSpaceSize, int targetIndex, int blockCount, String backend);
+}
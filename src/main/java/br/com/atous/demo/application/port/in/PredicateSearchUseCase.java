@@ -0,0 +1,14 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.DatasetDescriptor;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.PredicateSearchResult;
+import br.com.atous.demo.domain.model.RecordPredicate;
+
+import java.nio.file.Path;
+
+public interface PredicateSearchUseCase {
+    DatasetDescriptor registerDataset(String datasetId, Path path, DatasetSchema schema);
+
+    PredicateSearchResult search(String datasetId, RecordPredicate predicate);
+}
@@ -0,0 +1,9 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.CountingResult;
+
+public interface QuantumCountingUseCase {
+    CountingResult estimateMarkedCount(int searchSpaceSize, int[] markedIndices);
+
+    CountingResult estimateMarkedCount(int searchSpaceSize, int[] markedIndices, int[] groverPowers, int shotsPerPower);
+}
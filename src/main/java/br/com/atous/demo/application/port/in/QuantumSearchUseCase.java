@@ -1,7 +1,18 @@
 package br.com.atous.demo.application.port.in;
 
 import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
 
 public interface QuantumSearchUseCase {
     GroverResult executeSearch(int searchSpaceSize, int targetIndex);
+
+    /**
+     * Same search on a named amplitude backend, e.g. the compact single-precision one.
+     */
+    GroverResult executeSearch(int searchSpaceSize, int targetIndex, String backend);
+
+    /**
+     * Amplitude amplification from a prior state; the search space size is the number of weights.
+     */
+    GroverResult executeSearch(int targetIndex, PriorWeights prior);
 } 
\ No newline at end of file
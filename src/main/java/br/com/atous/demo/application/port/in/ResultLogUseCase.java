@@ -0,0 +1,13 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.LoggedResult;
+import br.com.atous.demo.domain.model.ResultCompaction;
+import br.com.atous.demo.domain.model.ResultQuery;
+
+import java.util.List;
+
+public interface ResultLogUseCase {
+    List<LoggedResult> query(ResultQuery query);
+
+    ResultCompaction compact(int keepPerKey);
+}
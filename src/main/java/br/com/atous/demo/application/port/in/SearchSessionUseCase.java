@@ -0,0 +1,29 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.SessionProbability;
+import br.com.atous.demo.domain.model.SessionState;
+
+/**
+ * Long-lived Grover states that are stepped incrementally and queried between steps.
+ * Unknown, closed and expired sessions raise {@link java.util.NoSuchElementException}.
+ */
+public interface SearchSessionUseCase {
+    /**
+     * Builds the uniform superposition once; {@code backend} may be null for the primary one.
+     */
+    SessionState create(int searchSpaceSize, int targetIndex, String backend);
+
+    /**
+     * Applies {@code k} more oracle + diffusion iterations. Steps on one session are serialised.
+     */
+    SessionState step(String sessionId, int k);
+
+    SessionState state(String sessionId);
+
+    /**
+     * |a_index|² as of the last completed iteration; never waits for a step in progress.
+     */
+    SessionProbability probability(String sessionId, int index);
+
+    void close(String sessionId);
+}
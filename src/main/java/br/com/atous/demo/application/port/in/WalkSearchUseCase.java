@@ -0,0 +1,18 @@
+package br.com.atous.demo.application.port.in;
+
+import br.com.atous.demo.domain.model.GraphDescriptor;
+import br.com.atous.demo.domain.model.WalkSearchResult;
+
+import java.nio.file.Path;
+
+public interface WalkSearchUseCase {
+    GraphDescriptor buildGraph(String graphId, Path edgeList, Path graphFile);
+
+    GraphDescriptor openGraph(String graphId, Path graphFile);
+
+    /**
+     * Searches the graph for any of {@code markedVertices}; {@code maxSteps} bounds the walk,
+     * null uses a budget of ⌈π/2 · √(N ln N)⌉ steps.
+     */
+    WalkSearchResult search(String graphId, int[] markedVertices, Integer maxSteps);
+}
@@ -0,0 +1,80 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Idle amplitude structures kept per backend, so a long run of small searches re-initialises
+ * the same instances instead of creating a prototype bean and fresh arrays for every point.
+ * Backends that keep their arrays across {@code initialize} (the segment tree does, as long as
+ * they are large enough) then allocate only when the size grows.
+ *
+ * At most {@code capacity} idle instances are kept per backend; extra ones are dropped on
+ * release, and so are instances holding more than {@code maxPooledBytes}, since a pooled
+ * instance keeps the arrays of the largest size it has seen.
+ */
+final class AmplitudeStructurePool {
+
+    private static final String PRIMARY = "";
+
+    private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+    private final AmplitudeBackendRegistry backendRegistry;
+    private final int capacity;
+    private final long maxPooledBytes;
+    private final Map<String, Idle> idle = new ConcurrentHashMap<>();
+
+    private record Idle(Queue<AmplitudeDataStructure> structures, AtomicInteger count) {
+        Idle() {
+            this(new ConcurrentLinkedQueue<>(), new AtomicInteger());
+        }
+    }
+
+    AmplitudeStructurePool(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                           AmplitudeBackendRegistry backendRegistry, int capacity) {
+        this(amplitudeProvider, backendRegistry, capacity, Long.MAX_VALUE);
+    }
+
+    AmplitudeStructurePool(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                           AmplitudeBackendRegistry backendRegistry, int capacity, long maxPooledBytes) {
+        this.amplitudeProvider = amplitudeProvider;
+        this.backendRegistry = backendRegistry;
+        this.capacity = capacity;
+        this.maxPooledBytes = maxPooledBytes;
+    }
+
+    /**
+     * Returns an idle instance of the backend, or a new one; null names the primary backend.
+     */
+    AmplitudeDataStructure acquire(String backend) {
+        Idle pool = idle.get(key(backend));
+        AmplitudeDataStructure structure = pool == null ? null : pool.structures().poll();
+        if (structure != null) {
+            pool.count().decrementAndGet();
+            return structure;
+        }
+        return backend == null ? amplitudeProvider.getObject() : backendRegistry.create(backend);
+    }
+
+    void release(String backend, AmplitudeDataStructure structure) {
+        if (structure.memoryFootprintBytes() > maxPooledBytes) {
+            return;
+        }
+        Idle pool = idle.computeIfAbsent(key(backend), name -> new Idle());
+        if (pool.count().incrementAndGet() <= capacity) {
+            pool.structures().offer(structure);
+        } else {
+            pool.count().decrementAndGet();
+        }
+    }
+
+    private static String key(String backend) {
+        return backend == null ? PRIMARY : backend;
+    }
+}
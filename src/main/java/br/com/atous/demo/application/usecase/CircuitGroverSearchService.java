@@ -0,0 +1,110 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.CircuitSearchUseCase;
+import br.com.atous.demo.domain.model.CircuitSearchResult;
+import br.com.atous.demo.domain.model.QuantumCircuit;
+import br.com.atous.demo.domain.model.QuantumGate;
+import br.com.atous.demo.domain.port.out.StateVector;
+import br.com.atous.demo.domain.port.out.StateVectorSimulator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grover's search as an explicit gate-level circuit on n qubits, for comparison with the
+ * algebraic oracle/diffusion shortcut of {@link ClassicalGroverSearchService}.
+ *
+ * Oracle: X on every qubit where the target bit is 0, a multi-controlled Z, the same X layer.
+ * Diffusion: H⊗n · X⊗n · MCZ · X⊗n · H⊗n, which equals I - 2|s⟩⟨s| (the usual diffusion up to
+ * a global phase).
+ */
+@Service
+public class CircuitGroverSearchService implements CircuitSearchUseCase {
+
+    private final StateVectorSimulator simulator;
+
+    public CircuitGroverSearchService(StateVectorSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @Override
+    public CircuitSearchResult executeSearch(int qubitCount, int targetIndex) {
+        if (qubitCount <= 0 || qubitCount >= Integer.SIZE - 1) {
+            throw new IllegalArgumentException("Qubit count must be in [1, 30], got: " + qubitCount);
+        }
+        int searchSpaceSize = 1 << qubitCount;
+        if (targetIndex < 0 || targetIndex >= searchSpaceSize) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, searchSpaceSize)
+            );
+        }
+
+        long startTime = System.nanoTime();
+
+        int iterations = GroverIterations.forMarkedCount(searchSpaceSize, 1);
+        QuantumCircuit circuit = groverCircuit(qubitCount, targetIndex, iterations);
+        StateVector state = simulator.run(circuit);
+
+        int foundIndex = state.findMaxAmplitudeIndex();
+        double amplitude = state.getAmplitude(targetIndex);
+        long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        return new CircuitSearchResult(
+            foundIndex,
+            targetIndex,
+            foundIndex == targetIndex,
+            amplitude * amplitude,
+            qubitCount,
+            iterations,
+            circuit.gates().size(),
+            simulator.kernelCount(circuit),
+            durationMillis
+        );
+    }
+
+    static QuantumCircuit groverCircuit(int qubitCount, int targetIndex, int iterations) {
+        List<QuantumGate> gates = new ArrayList<>();
+        hadamardLayer(gates, qubitCount);
+        for (int i = 0; i < iterations; i++) {
+            // Oracle: flip the phase of |target⟩ only
+            for (int qubit = 0; qubit < qubitCount; qubit++) {
+                if ((targetIndex & (1 << qubit)) == 0) {
+                    gates.add(new QuantumGate.PauliX(qubit));
+                }
+            }
+            gates.add(allControlledZ(qubitCount));
+            for (int qubit = 0; qubit < qubitCount; qubit++) {
+                if ((targetIndex & (1 << qubit)) == 0) {
+                    gates.add(new QuantumGate.PauliX(qubit));
+                }
+            }
+
+            // Diffusion: reflection about |s⟩ via a reflection about |0…0⟩
+            hadamardLayer(gates, qubitCount);
+            for (int qubit = 0; qubit < qubitCount; qubit++) {
+                gates.add(new QuantumGate.PauliX(qubit));
+            }
+            gates.add(allControlledZ(qubitCount));
+            for (int qubit = 0; qubit < qubitCount; qubit++) {
+                gates.add(new QuantumGate.PauliX(qubit));
+            }
+            hadamardLayer(gates, qubitCount);
+        }
+        return new QuantumCircuit(qubitCount, gates);
+    }
+
+    private static void hadamardLayer(List<QuantumGate> gates, int qubitCount) {
+        for (int qubit = 0; qubit < qubitCount; qubit++) {
+            gates.add(new QuantumGate.Hadamard(qubit));
+        }
+    }
+
+    private static QuantumGate allControlledZ(int qubitCount) {
+        int[] controls = new int[qubitCount - 1];
+        for (int qubit = 0; qubit < controls.length; qubit++) {
+            controls[qubit] = qubit;
+        }
+        return new QuantumGate.MultiControlledZ(controls, qubitCount - 1);
+    }
+}
@@ -2,18 +2,44 @@ package br.com.atous.demo.application.usecase;
 
 import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
 import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
 import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.MultiLaneAmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.PriorAmplitudeDataStructure;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ClassicalGroverSearchService implements QuantumSearchUseCase {
 
     private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+    private final AmplitudeBackendRegistry backendRegistry;
+    private final GroverLaneBatcher laneBatcher; // null quando o micro-batching está desligado
+    private final int maxBatchedSearchSpace;
 
-    // Usamos ObjectProvider para obter uma nova instância de FenwickTreeAmplitude (escopo prototype) a cada chamada.
-    public ClassicalGroverSearchService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider) {
+    /**
+     * Usamos ObjectProvider para obter uma nova instância do backend primário (escopo prototype) a cada chamada.
+     *
+     * Com um backend multi-lane disponível, buscas uniformes no backend primário que chegam
+     * dentro de {@code search.batch.window-micros} umas das outras, com o mesmo N (até
+     * {@code search.batch.max-search-space}), são agrupadas em até {@code search.batch.max-lanes}
+     * lanes e executadas em lockstep. Janela 0 desliga o agrupamento.
+     */
+    public ClassicalGroverSearchService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                                        AmplitudeBackendRegistry backendRegistry,
+                                        ObjectProvider<MultiLaneAmplitudeDataStructure> multiLaneProvider,
+                                        @Value("${search.batch.window-micros:200}") long batchWindowMicros,
+                                        @Value("${search.batch.max-lanes:8}") int maxBatchLanes,
+                                        @Value("${search.batch.max-search-space:1048576}") int maxBatchedSearchSpace) {
         this.amplitudeProvider = amplitudeProvider;
+        this.backendRegistry = backendRegistry;
+        this.maxBatchedSearchSpace = maxBatchedSearchSpace;
+        boolean batching = multiLaneProvider.getIfAvailable() != null
+            && batchWindowMicros > 0 && maxBatchLanes > 1;
+        this.laneBatcher = batching ?
+            new GroverLaneBatcher(multiLaneProvider::getObject, batchWindowMicros * 1_000, maxBatchLanes) : null;
     }
 
     @Override
@@ -22,24 +48,68 @@ public class ClassicalGroverSearchService implements QuantumSearchUseCase {
         
         long startTime = System.nanoTime();
 
-        AmplitudeDataStructure amplitudes = amplitudeProvider.getObject();
-        // Ensure the correct implementation is used based on configuration or explicit choice
-        // For now, we assume SegmentTreeAmplitude is the desired implementation.
-        // In a real application, this might be managed by Spring profiles or a factory.
-        if (!(amplitudes instanceof br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude)) {
-            throw new IllegalStateException("Expected SegmentTreeAmplitude, but received a different implementation.");
+        if (laneBatcher != null && searchSpaceSize > 1 && searchSpaceSize <= maxBatchedSearchSpace) {
+            int iterations = calculateOptimalIterations(searchSpaceSize);
+            Integer foundIndex = laneBatcher.search(searchSpaceSize, targetIndex, iterations);
+            if (foundIndex != null) {
+                return result(foundIndex, targetIndex, searchSpaceSize, iterations, startTime);
+            }
         }
+
+        return search(amplitudeProvider.getObject(), searchSpaceSize, targetIndex, startTime);
+    }
+
+    @Override
+    public GroverResult executeSearch(int searchSpaceSize, int targetIndex, String backend) {
+        validateInputs(searchSpaceSize, targetIndex);
+
+        long startTime = System.nanoTime();
+
+        return search(backendRegistry.create(backend), searchSpaceSize, targetIndex, startTime);
+    }
+
+    private GroverResult search(AmplitudeDataStructure amplitudes, int searchSpaceSize, int targetIndex, long startTime) {
         amplitudes.initialize(searchSpaceSize);
 
         // Cálculo otimizado de iterações com tratamento de casos especiais
         int iterations = calculateOptimalIterations(searchSpaceSize);
 
+        return runIterations(amplitudes, searchSpaceSize, targetIndex, iterations, startTime);
+    }
+
+    @Override
+    public GroverResult executeSearch(int targetIndex, PriorWeights prior) {
+        if (prior == null) {
+            throw new IllegalArgumentException("Prior weights must not be null");
+        }
+        int searchSpaceSize = prior.size();
+        validateInputs(searchSpaceSize, targetIndex);
+
+        long startTime = System.nanoTime();
+
+        if (!(amplitudeProvider.getObject() instanceof PriorAmplitudeDataStructure amplitudes)) {
+            throw new IllegalArgumentException("The primary amplitude backend does not support prior-weighted initial states");
+        }
+        amplitudes.initialize(prior);
+
+        // O número de iterações depende da amplitude inicial do alvo, e não mais de N
+        int iterations = calculatePriorIterations(amplitudes.getAmplitude(targetIndex));
+
+        return runIterations(amplitudes, searchSpaceSize, targetIndex, iterations, startTime);
+    }
+
+    private GroverResult runIterations(AmplitudeDataStructure amplitudes, int searchSpaceSize,
+                                       int targetIndex, int iterations, long startTime) {
         for (int i = 0; i < iterations; i++) {
             amplitudes.applyOracle(targetIndex);
             amplitudes.applyDiffusion();
         }
 
         int foundIndex = amplitudes.findMaxAmplitudeIndex();
+        return result(foundIndex, targetIndex, searchSpaceSize, iterations, startTime);
+    }
+
+    private GroverResult result(int foundIndex, int targetIndex, int searchSpaceSize, int iterations, long startTime) {
         long endTime = System.nanoTime();
         long durationMillis = (endTime - startTime) / 1_000_000;
 
@@ -95,4 +165,19 @@ public class ClassicalGroverSearchService implements QuantumSearchUseCase {
         // Garantia de pelo menos 1 iteração para evitar casos degenerados
         return Math.max(1, calculated);
     }
+
+    /**
+     * Amplificação de amplitude geral: com amplitude inicial a = sin θ no alvo, após k iterações
+     * a amplitude é sin((2k + 1)θ), máxima para k ≈ π/(4θ) - 1/2, ou seja ⌊π/(4θ)⌋.
+     *
+     * Com a priori uniforme, θ = asin(1/√N) e o resultado coincide com ⌊π/4 · √N⌋.
+     * Um alvo com peso a priori nulo não pode ser amplificado (0 iterações).
+     */
+    private int calculatePriorIterations(double targetAmplitude) {
+        double theta = Math.asin(Math.min(1.0, Math.abs(targetAmplitude)));
+        if (theta == 0.0) {
+            return 0;
+        }
+        return (int) Math.floor(Math.PI / (4.0 * theta));
+    }
 } 
\ No newline at end of file
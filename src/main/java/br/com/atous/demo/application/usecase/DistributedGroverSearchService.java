@@ -0,0 +1,63 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.DistributedSearchUseCase;
+import br.com.atous.demo.domain.model.CommunicationStats;
+import br.com.atous.demo.domain.model.DistributedSearchResult;
+import br.com.atous.demo.domain.port.out.ShardedAmplitudeSpace;
+import br.com.atous.demo.domain.port.out.ShardedAmplitudeSpaceFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Grover search whose amplitudes live in shards outside this JVM, so N is bounded by the
+ * workers' combined heap instead of ours. Each iteration costs one all-reduce round trip;
+ * the result reports what the search spent on communication.
+ */
+@Service
+public class DistributedGroverSearchService implements DistributedSearchUseCase {
+
+    private final ShardedAmplitudeSpaceFactory spaceFactory;
+
+    public DistributedGroverSearchService(ShardedAmplitudeSpaceFactory spaceFactory) {
+        this.spaceFactory = spaceFactory;
+    }
+
+    @Override
+    public DistributedSearchResult executeSearch(int searchSpaceSize, int targetIndex) {
+        if (searchSpaceSize <= 0) {
+            throw new IllegalArgumentException("Search space size must be positive, got: " + searchSpaceSize);
+        }
+        if (targetIndex < 0 || targetIndex >= searchSpaceSize) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, searchSpaceSize)
+            );
+        }
+
+        long startTime = System.nanoTime();
+
+        try (ShardedAmplitudeSpace amplitudes = spaceFactory.open()) {
+            amplitudes.initialize(searchSpaceSize);
+            int iterations = GroverIterations.forMarkedCount(searchSpaceSize, 1);
+            for (int i = 0; i < iterations; i++) {
+                amplitudes.applyOracle(targetIndex);
+                amplitudes.applyDiffusion();
+            }
+
+            int foundIndex = amplitudes.findMaxAmplitudeIndex();
+            double amplitude = amplitudes.getAmplitude(targetIndex);
+            CommunicationStats communication = amplitudes.communicationStats();
+            long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+            return new DistributedSearchResult(
+                foundIndex,
+                targetIndex,
+                foundIndex == targetIndex,
+                amplitude * amplitude,
+                searchSpaceSize,
+                iterations,
+                amplitudes.shardCount(),
+                durationMillis,
+                communication
+            );
+        }
+    }
+}
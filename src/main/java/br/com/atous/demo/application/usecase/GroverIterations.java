@@ -0,0 +1,36 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+
+final class GroverIterations {
+
+    private GroverIterations() {
+    }
+
+    /**
+     * Optimal number of Grover iterations with M marked items out of N: ⌊π/4 · √(N/M)⌋.
+     * With a single marked item this reduces to the classic π/4 · √N.
+     */
+    static int forMarkedCount(int searchSpaceSize, int markedCount) {
+        if (markedCount <= 0) {
+            return 0;
+        }
+        return (int) Math.floor(Math.PI / 4.0 * Math.sqrt((double) searchSpaceSize / markedCount));
+    }
+
+    /**
+     * Runs a multi-target search from the uniform superposition and returns the index with
+     * the highest amplitude, or -1 when nothing is marked.
+     */
+    static int amplify(AmplitudeDataStructure amplitudes, int searchSpaceSize, int[] marked, int iterations) {
+        if (marked.length == 0) {
+            return -1;
+        }
+        amplitudes.initialize(searchSpaceSize);
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(marked);
+            amplitudes.applyDiffusion();
+        }
+        return amplitudes.findMaxAmplitudeIndex();
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.port.out.MultiLaneAmplitudeDataStructure;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micro-batching front end for uniform searches: requests of the same size that arrive within
+ * {@code windowNanos} of the first one become lanes of one
+ * {@link MultiLaneAmplitudeDataStructure} and run in lockstep.
+ *
+ * The first request of a batch is its leader. It waits for the window to pass or the batch to
+ * fill, closes the batch and runs it on its own thread; the others block on the batch's future.
+ * A leader left alone gets null back and runs its search the usual way, so a lone request only
+ * pays the window.
+ */
+final class GroverLaneBatcher {
+
+    private final Supplier<MultiLaneAmplitudeDataStructure> structures;
+    private final long windowNanos;
+    private final int maxLanes;
+    private final Map<Integer, Batch> open = new HashMap<>(); // Guarded by this
+
+    private static final class Batch {
+        final int size;
+        final int[] targets;
+        int lanes;
+        final CountDownLatch full = new CountDownLatch(1);
+        final CompletableFuture<int[]> found = new CompletableFuture<>();
+
+        Batch(int size, int maxLanes) {
+            this.size = size;
+            this.targets = new int[maxLanes];
+        }
+    }
+
+    GroverLaneBatcher(Supplier<MultiLaneAmplitudeDataStructure> structures, long windowNanos, int maxLanes) {
+        this.structures = structures;
+        this.windowNanos = windowNanos;
+        this.maxLanes = maxLanes;
+    }
+
+    /**
+     * Runs the search as one lane of a batch and returns the found index, or null when no other
+     * request joined within the window.
+     */
+    Integer search(int searchSpaceSize, int targetIndex, int iterations) {
+        Batch batch;
+        int lane;
+        synchronized (this) {
+            batch = open.computeIfAbsent(searchSpaceSize, size -> new Batch(size, maxLanes));
+            lane = batch.lanes++;
+            batch.targets[lane] = targetIndex;
+            if (batch.lanes == maxLanes) {
+                open.remove(searchSpaceSize);
+                batch.full.countDown();
+            }
+        }
+        if (lane == 0) {
+            return lead(batch, iterations);
+        }
+        try {
+            return batch.found.join()[lane];
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Integer lead(Batch batch, int iterations) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int[] targets;
+        synchronized (this) {
+            open.remove(batch.size, batch);
+            targets = Arrays.copyOf(batch.targets, batch.lanes);
+        }
+        if (targets.length == 1) {
+            return null;
+        }
+        try {
+            int[] found = run(batch.size, targets, iterations);
+            batch.found.complete(found);
+            return found[0];
+        } catch (RuntimeException | Error e) {
+            batch.found.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private int[] run(int searchSpaceSize, int[] targets, int iterations) {
+        MultiLaneAmplitudeDataStructure amplitudes = structures.get();
+        amplitudes.initialize(searchSpaceSize, targets.length);
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(targets);
+            amplitudes.applyDiffusion();
+        }
+        return amplitudes.findMaxAmplitudeIndices();
+    }
+}
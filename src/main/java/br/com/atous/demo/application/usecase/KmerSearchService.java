@@ -0,0 +1,80 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.KmerSearchUseCase;
+import br.com.atous.demo.domain.model.Chromosome;
+import br.com.atous.demo.domain.model.KmerIndexDescriptor;
+import br.com.atous.demo.domain.model.KmerSearchResult;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.KmerIndexRepository;
+import br.com.atous.demo.domain.port.out.KmerSearchSpace;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Grover search over the positions of an indexed genome: the occurrences of the queried
+ * k-mer are the marked positions of a multi-target oracle.
+ */
+@Service
+public class KmerSearchService implements KmerSearchUseCase {
+
+    private final KmerIndexRepository indexRepository;
+    private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+
+    public KmerSearchService(KmerIndexRepository indexRepository,
+                             ObjectProvider<AmplitudeDataStructure> amplitudeProvider) {
+        this.indexRepository = indexRepository;
+        this.amplitudeProvider = amplitudeProvider;
+    }
+
+    @Override
+    public KmerIndexDescriptor buildIndex(String indexId, Path fasta, int k, Path indexFile) {
+        return indexRepository.build(indexId, fasta, k, indexFile).descriptor();
+    }
+
+    @Override
+    public KmerIndexDescriptor extendIndex(String indexId, Path fasta) {
+        return indexRepository.extend(indexId, fasta).descriptor();
+    }
+
+    @Override
+    public KmerIndexDescriptor openIndex(String indexId, Path indexFile) {
+        return indexRepository.open(indexId, indexFile).descriptor();
+    }
+
+    @Override
+    public KmerSearchResult search(String indexId, String kmer) {
+        KmerSearchSpace searchSpace = indexRepository.find(indexId)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown k-mer index: " + indexId));
+        KmerIndexDescriptor descriptor = searchSpace.descriptor();
+
+        long startTime = System.nanoTime();
+        int[] positions = searchSpace.positionsOf(kmer);
+        long lookupEnd = System.nanoTime();
+
+        int searchSpaceSize = descriptor.searchSpaceSize();
+        int iterations = GroverIterations.forMarkedCount(searchSpaceSize, positions.length);
+        int foundPosition = GroverIterations.amplify(amplitudeProvider.getObject(), searchSpaceSize, positions, iterations);
+        long endTime = System.nanoTime();
+
+        boolean success = foundPosition >= 0 && Arrays.binarySearch(positions, foundPosition) >= 0;
+        Chromosome chromosome = foundPosition >= 0 ? descriptor.chromosomeAt(foundPosition) : null;
+
+        return new KmerSearchResult(
+            indexId,
+            kmer,
+            foundPosition,
+            chromosome != null ? chromosome.name() : null,
+            chromosome != null ? foundPosition - chromosome.start() : -1,
+            success,
+            positions.length,
+            searchSpaceSize,
+            iterations,
+            lookupEnd - startTime,
+            endTime - lookupEnd,
+            (endTime - startTime) / 1_000_000
+        );
+    }
+}
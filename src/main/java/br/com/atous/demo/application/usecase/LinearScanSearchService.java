@@ -0,0 +1,132 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.ScanEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Classical baselines behind the same use case as the Grover search, so both can be timed on
+ * the same problem: find the one index the oracle accepts among N.
+ *
+ * The data is a generated key column, keys[i] = π(i) for a fixed bijection π of the 32-bit
+ * integers, and the oracle accepts keys[i] == π(target); exactly one index matches and its
+ * position reveals nothing about the key. The column is built once, outside the timed search,
+ * and grown by doubling; since keys[i] depends on i alone, a longer column serves every
+ * smaller N. Engines are the {@link ScanEngine} beans by name (sequentialScan, parallelScan,
+ * simdScan), sequentialScan by default.
+ *
+ * In the returned {@link GroverResult}, {@code iterations} is the number of oracle evaluations
+ * a sequential scan makes to reach the answer.
+ */
+@Service
+public class LinearScanSearchService implements QuantumSearchUseCase {
+
+    static final String DEFAULT_ENGINE = "sequentialScan";
+
+    private final Map<String, ScanEngine> engines;
+    private final int maxSearchSpace;
+    private volatile int[] keys = new int[0];
+
+    public LinearScanSearchService(Map<String, ScanEngine> engines,
+                                   @Value("${search.scan.max-search-space:16777216}") int maxSearchSpace) {
+        this.engines = Map.copyOf(engines);
+        this.maxSearchSpace = maxSearchSpace;
+    }
+
+    @Override
+    public GroverResult executeSearch(int searchSpaceSize, int targetIndex) {
+        return executeSearch(searchSpaceSize, targetIndex, DEFAULT_ENGINE);
+    }
+
+    @Override
+    public GroverResult executeSearch(int searchSpaceSize, int targetIndex, String backend) {
+        ScanEngine engine = engine(backend);
+        validateInputs(searchSpaceSize, targetIndex);
+        int[] column = column(searchSpaceSize);
+
+        long startTime = System.nanoTime();
+        int foundIndex = engine.indexOf(column, searchSpaceSize, key(targetIndex));
+        long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        return new GroverResult(
+            foundIndex,
+            targetIndex,
+            foundIndex == targetIndex,
+            durationMillis,
+            searchSpaceSize,
+            foundIndex >= 0 ? foundIndex + 1 : searchSpaceSize
+        );
+    }
+
+    /**
+     * A scan has no use for the prior unless it probes in descending weight order, which costs
+     * a sort; the weights only set N here and the scan runs in index order.
+     */
+    @Override
+    public GroverResult executeSearch(int targetIndex, PriorWeights prior) {
+        if (prior == null) {
+            throw new IllegalArgumentException("Prior weights must not be null");
+        }
+        return executeSearch(prior.size(), targetIndex);
+    }
+
+    /**
+     * π(i): multiplication by an odd constant and an xorshift, both invertible modulo 2^32.
+     */
+    static int key(int index) {
+        int x = index * 0x9E3779B1;
+        return x ^ (x >>> 16);
+    }
+
+    private ScanEngine engine(String name) {
+        ScanEngine engine = name == null ? null : engines.get(name);
+        if (engine == null) {
+            throw new IllegalArgumentException(
+                "Unknown scan engine '" + name + "', available: " + new TreeSet<>(engines.keySet()));
+        }
+        return engine;
+    }
+
+    private int[] column(int size) {
+        int[] current = keys;
+        if (current.length >= size) {
+            return current;
+        }
+        synchronized (this) {
+            current = keys;
+            if (current.length < size) {
+                int length = (int) Math.min(maxSearchSpace, Math.max(size, 2L * current.length));
+                int[] grown = Arrays.copyOf(current, length);
+                for (int i = current.length; i < length; i++) {
+                    grown[i] = key(i);
+                }
+                keys = grown;
+                current = grown;
+            }
+            return current;
+        }
+    }
+
+    private void validateInputs(int searchSpaceSize, int targetIndex) {
+        if (searchSpaceSize <= 0) {
+            throw new IllegalArgumentException("Search space size must be positive, got: " + searchSpaceSize);
+        }
+        if (searchSpaceSize > maxSearchSpace) {
+            throw new IllegalArgumentException(
+                String.format("Search space size %d exceeds the scan limit %d", searchSpaceSize, maxSearchSpace)
+            );
+        }
+        if (targetIndex < 0 || targetIndex >= searchSpaceSize) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, searchSpaceSize)
+            );
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.QuantumCountingUseCase;
+import br.com.atous.demo.domain.model.CountingResult;
+import br.com.atous.demo.domain.model.CountingRun;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Quantum counting via Maximum-Likelihood Amplitude Estimation (Suzuki et al., 2019).
+ *
+ * For each Grover power m_k the marked-state probability is sin²((2m_k + 1)θ), where
+ * sin²θ = M/N. Every schedule is simulated on its own {@link AmplitudeDataStructure},
+ * measured {@code shots} times, and θ is recovered by maximising the joint likelihood
+ * of all observed hit counts. No QFT is required.
+ *
+ * The schedules are independent, so they run in parallel.
+ */
+@Service
+public class MaximumLikelihoodCountingService implements QuantumCountingUseCase {
+
+    static final int DEFAULT_SHOTS_PER_POWER = 100;
+    static final double CONFIDENCE_LEVEL = 0.95;
+    private static final double Z_SCORE = 1.959963984540054; // two-sided 95%
+    private static final double PROBABILITY_EPSILON = 1e-12;
+    private static final int MIN_GRID_POINTS = 1_000;
+    private static final int GRID_POINTS_PER_PERIOD = 50;
+    private static final int GOLDEN_SECTION_STEPS = 60;
+
+    private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+    private final SplittableRandom seedSource = new SplittableRandom();
+
+    public MaximumLikelihoodCountingService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider) {
+        this.amplitudeProvider = amplitudeProvider;
+    }
+
+    @Override
+    public CountingResult estimateMarkedCount(int searchSpaceSize, int[] markedIndices) {
+        return estimateMarkedCount(searchSpaceSize, markedIndices,
+            defaultGroverPowers(searchSpaceSize), DEFAULT_SHOTS_PER_POWER);
+    }
+
+    @Override
+    public CountingResult estimateMarkedCount(int searchSpaceSize, int[] markedIndices,
+                                              int[] groverPowers, int shotsPerPower) {
+        int[] marked = validateInputs(searchSpaceSize, markedIndices, groverPowers, shotsPerPower);
+
+        long startTime = System.nanoTime();
+
+        // Split the random streams up front so every parallel schedule owns its generator
+        long[] seeds = new long[groverPowers.length];
+        synchronized (seedSource) {
+            for (int i = 0; i < seeds.length; i++) {
+                seeds[i] = seedSource.nextLong();
+            }
+        }
+
+        CountingRun[] runs = IntStream.range(0, groverPowers.length)
+            .parallel()
+            .mapToObj(i -> simulateRun(searchSpaceSize, marked, groverPowers[i], shotsPerPower, seeds[i]))
+            .toArray(CountingRun[]::new);
+
+        double theta = maximumLikelihoodTheta(runs);
+        double halfWidth = Z_SCORE / Math.sqrt(fisherInformation(runs));
+        double thetaLow = Math.max(0.0, theta - halfWidth);
+        double thetaHigh = Math.min(Math.PI / 2.0, theta + halfWidth);
+
+        long totalOracleCalls = 0;
+        for (CountingRun run : runs) {
+            totalOracleCalls += run.oracleCalls();
+        }
+        long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        double amplitude = Math.sin(theta);
+        return new CountingResult(
+            searchSpaceSize * amplitude * amplitude,
+            searchSpaceSize * square(Math.sin(thetaLow)),
+            searchSpaceSize * square(Math.sin(thetaHigh)),
+            CONFIDENCE_LEVEL,
+            amplitude,
+            marked.length,
+            searchSpaceSize,
+            totalOracleCalls,
+            durationMillis,
+            List.of(runs)
+        );
+    }
+
+    private CountingRun simulateRun(int searchSpaceSize, int[] marked, int groverPower, int shots, long seed) {
+        long startTime = System.nanoTime();
+
+        AmplitudeDataStructure amplitudes = amplitudeProvider.getObject();
+        amplitudes.initialize(searchSpaceSize);
+        for (int i = 0; i < groverPower; i++) {
+            amplitudes.applyOracle(marked);
+            amplitudes.applyDiffusion();
+        }
+
+        double markedProbability = 0.0;
+        for (int index : marked) {
+            double amplitude = amplitudes.getAmplitude(index);
+            markedProbability += amplitude * amplitude;
+        }
+
+        // Simulated projective measurement: each shot lands on a marked state with probability p
+        SplittableRandom random = new SplittableRandom(seed);
+        int hits = 0;
+        for (int shot = 0; shot < shots; shot++) {
+            if (random.nextDouble() < markedProbability) {
+                hits++;
+            }
+        }
+
+        return new CountingRun(
+            groverPower,
+            shots,
+            hits,
+            (long) groverPower * shots,
+            System.nanoTime() - startTime
+        );
+    }
+
+    /**
+     * The likelihood is multimodal in θ, so a grid fine enough to resolve the fastest
+     * oscillation (period π / (2m_max + 1)) locates the global peak, which is then refined
+     * with a golden-section search inside the neighbouring grid cells.
+     */
+    private double maximumLikelihoodTheta(CountingRun[] runs) {
+        int maxPower = 0;
+        for (CountingRun run : runs) {
+            maxPower = Math.max(maxPower, run.groverPower());
+        }
+        int gridPoints = Math.max(MIN_GRID_POINTS, GRID_POINTS_PER_PERIOD * (2 * maxPower + 1));
+        double step = (Math.PI / 2.0) / gridPoints;
+
+        double bestTheta = 0.0;
+        double bestLogLikelihood = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i <= gridPoints; i++) {
+            double theta = i * step;
+            double logLikelihood = logLikelihood(runs, theta);
+            if (logLikelihood > bestLogLikelihood) {
+                bestLogLikelihood = logLikelihood;
+                bestTheta = theta;
+            }
+        }
+
+        double low = Math.max(0.0, bestTheta - step);
+        double high = Math.min(Math.PI / 2.0, bestTheta + step);
+        double invPhi = (Math.sqrt(5.0) - 1.0) / 2.0;
+        for (int i = 0; i < GOLDEN_SECTION_STEPS; i++) {
+            double left = high - invPhi * (high - low);
+            double right = low + invPhi * (high - low);
+            if (logLikelihood(runs, left) < logLikelihood(runs, right)) {
+                low = left;
+            } else {
+                high = right;
+            }
+        }
+        double refined = (low + high) / 2.0;
+        return logLikelihood(runs, refined) >= bestLogLikelihood ? refined : bestTheta;
+    }
+
+    private double logLikelihood(CountingRun[] runs, double theta) {
+        double logLikelihood = 0.0;
+        for (CountingRun run : runs) {
+            double p = square(Math.sin((2 * run.groverPower() + 1) * theta));
+            p = Math.min(1.0 - PROBABILITY_EPSILON, Math.max(PROBABILITY_EPSILON, p));
+            logLikelihood += run.hits() * Math.log(p) + (run.shots() - run.hits()) * Math.log(1.0 - p);
+        }
+        return logLikelihood;
+    }
+
+    // For p(θ) = sin²((2m+1)θ) the Fisher information per shot is 4(2m+1)², independent of θ
+    private double fisherInformation(CountingRun[] runs) {
+        double information = 0.0;
+        for (CountingRun run : runs) {
+            double factor = 2 * run.groverPower() + 1;
+            information += 4.0 * factor * factor * run.shots();
+        }
+        return information;
+    }
+
+    /**
+     * Exponentially increasing schedule 0, 1, 2, 4, ... capped at π/4·√N, the largest
+     * power that is useful when at least one element is marked.
+     */
+    static int[] defaultGroverPowers(int searchSpaceSize) {
+        int maxPower = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(searchSpaceSize));
+        int count = 1;
+        for (int power = 1; power <= maxPower; power *= 2) {
+            count++;
+        }
+        int[] powers = new int[count];
+        int power = 1;
+        for (int i = 1; i < count; i++) {
+            powers[i] = power;
+            power *= 2;
+        }
+        return powers;
+    }
+
+    private int[] validateInputs(int searchSpaceSize, int[] markedIndices, int[] groverPowers, int shotsPerPower) {
+        if (searchSpaceSize <= 0) {
+            throw new IllegalArgumentException("Search space size must be positive, got: " + searchSpaceSize);
+        }
+        if (markedIndices == null) {
+            throw new IllegalArgumentException("Marked indices must not be null");
+        }
+        if (groverPowers == null || groverPowers.length == 0) {
+            throw new IllegalArgumentException("At least one Grover power is required");
+        }
+        for (int power : groverPowers) {
+            if (power < 0) {
+                throw new IllegalArgumentException("Grover powers must be non-negative, got: " + power);
+            }
+        }
+        if (shotsPerPower <= 0) {
+            throw new IllegalArgumentException("Shots per power must be positive, got: " + shotsPerPower);
+        }
+
+        int[] marked = Arrays.stream(markedIndices).sorted().distinct().toArray();
+        for (int index : marked) {
+            if (index < 0 || index >= searchSpaceSize) {
+                throw new IllegalArgumentException(
+                    String.format("Marked index %d is out of bounds [0, %d)", index, searchSpaceSize)
+                );
+            }
+        }
+        return marked;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+}
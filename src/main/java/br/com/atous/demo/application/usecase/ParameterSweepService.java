@@ -0,0 +1,157 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.ParameterSweepUseCase;
+import br.com.atous.demo.domain.model.SweepGrid;
+import br.com.atous.demo.domain.model.SweepPoint;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs a size × target × multiplier grid on a fixed pool of worker threads.
+ *
+ * The grid is never materialised: the calling thread walks it and submits one point at a time,
+ * blocking on a semaphore once {@code parallelism} points are in flight. Memory therefore stays
+ * bounded by the in-flight points whatever the grid size, and results leave through the sink as
+ * they complete. Amplitude structures come from an {@link AmplitudeStructurePool}, so consecutive
+ * points reuse instances (and, for the segment tree, their arrays); instances holding more than
+ * {@code search.sweep.max-pooled-mb} are dropped instead, so idle structures cannot pin the
+ * arrays of the largest sizes for the life of the service.
+ */
+@Service
+public class ParameterSweepService implements ParameterSweepUseCase {
+
+    private final int parallelism;
+    private final ExecutorService executor;
+    private final AmplitudeStructurePool pool;
+
+    public ParameterSweepService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                                 AmplitudeBackendRegistry backendRegistry,
+                                 @Value("${search.sweep.parallelism:0}") int parallelism,
+                                 @Value("${search.sweep.max-pooled-mb:32}") long maxPooledMb) {
+        if (maxPooledMb < 0) {
+            throw new IllegalArgumentException("Sweep pool limit must not be negative, got: " + maxPooledMb + "MB");
+        }
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(this.parallelism,
+            Thread.ofPlatform().name("sweep-", 0).daemon().factory());
+        this.pool = new AmplitudeStructurePool(amplitudeProvider, backendRegistry, this.parallelism,
+            maxPooledMb << 20);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public long plan(SweepGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("Sweep grid must not be null");
+        }
+        // Resolves the backend up front, so an unknown name fails before anything is streamed
+        pool.release(grid.backend(), pool.acquire(grid.backend()));
+        return grid.pointCount();
+    }
+
+    @Override
+    public long sweep(SweepGrid grid, Consumer<SweepPoint> sink) {
+        plan(grid);
+        Semaphore slots = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Object sinkLock = new Object();
+        int multipliers = grid.multiplierCount();
+        long submitted = 0;
+
+        try {
+            grid:
+            for (long n = grid.minSize(); n <= grid.maxSize(); n *= grid.sizeFactor()) {
+                int size = (int) n;
+                int optimalIterations = GroverIterations.forMarkedCount(size, 1);
+                int targets = grid.targetCount(size);
+                for (int t = 0; t < targets; t++) {
+                    int target = grid.minTarget() + t * grid.targetStep();
+                    for (int k = 0; k < multipliers; k++) {
+                        slots.acquire();
+                        if (failure.get() != null) {
+                            slots.release();
+                            break grid;
+                        }
+                        double multiplier = grid.multiplier(k);
+                        int iterations = (int) Math.round(multiplier * optimalIterations);
+                        Runnable point = () -> {
+                            try {
+                                SweepPoint result = runPoint(grid.backend(), size, target, multiplier, iterations);
+                                synchronized (sinkLock) {
+                                    if (failure.get() == null) {
+                                        sink.accept(result);
+                                    }
+                                }
+                            } catch (Throwable e) {
+                                failure.compareAndSet(null, e);
+                            } finally {
+                                slots.release();
+                            }
+                        };
+                        try {
+                            executor.execute(point);
+                        } catch (RejectedExecutionException e) {
+                            slots.release();
+                            failure.compareAndSet(null, new IllegalStateException("Sweep executor is shut down", e));
+                            break grid;
+                        }
+                        submitted++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("Sweep interrupted", e));
+        } finally {
+            // In-flight points are bounded, so waiting for them out is cheap and keeps the sink quiet afterwards
+            slots.acquireUninterruptibly(parallelism);
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Sweep point failed", error);
+        }
+        return submitted;
+    }
+
+    private SweepPoint runPoint(String backend, int size, int target, double multiplier, int iterations) {
+        AmplitudeDataStructure amplitudes = pool.acquire(backend);
+        try {
+            long startTime = System.nanoTime();
+            amplitudes.initialize(size);
+            for (int i = 0; i < iterations; i++) {
+                amplitudes.applyOracle(target);
+                amplitudes.applyDiffusion();
+            }
+            int foundIndex = amplitudes.findMaxAmplitudeIndex();
+            long elapsed = System.nanoTime() - startTime;
+
+            double amplitude = amplitudes.getAmplitude(target);
+            return new SweepPoint(size, target, multiplier, iterations, foundIndex, foundIndex == target,
+                amplitude * amplitude, elapsed);
+        } finally {
+            pool.release(backend, amplitudes);
+        }
+    }
+}
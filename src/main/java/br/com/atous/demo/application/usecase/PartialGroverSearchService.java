@@ -0,0 +1,117 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.PartialSearchUseCase;
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PartialSearchResult;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.RangeAmplitudeDataStructure;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * Partial search (Grover–Radhakrishnan): locates the block holding the target instead of the
+ * target itself, following the schedule of a {@link PartialSearchPlan}.
+ *
+ * The local iterations reflect each block about its own mean through
+ * {@link RangeAmplitudeDataStructure#applyBlockDiffusion}, a range sum and a range affine
+ * update per block, so a local step costs O(K log N) on the segment tree against O(log N) for
+ * a global one. The saving is in oracle calls, which is what partial search is about.
+ */
+@Service
+public class PartialGroverSearchService implements PartialSearchUseCase {
+
+    private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+    private final AmplitudeBackendRegistry backendRegistry;
+
+    public PartialGroverSearchService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                                      AmplitudeBackendRegistry backendRegistry) {
+        this.amplitudeProvider = amplitudeProvider;
+        this.backendRegistry = backendRegistry;
+    }
+
+    @Override
+    public PartialSearchResult searchBlock(int searchSpaceSize, int targetIndex, int blockCount) {
+        validateInputs(searchSpaceSize, targetIndex, blockCount);
+        return search(rangeCapable(amplitudeProvider.getObject(), "primary"), searchSpaceSize, targetIndex, blockCount);
+    }
+
+    @Override
+    public PartialSearchResult searchBlock(int searchSpaceSize, int targetIndex, int blockCount, String backend) {
+        validateInputs(searchSpaceSize, targetIndex, blockCount);
+        return search(rangeCapable(backendRegistry.create(backend), backend), searchSpaceSize, targetIndex, blockCount);
+    }
+
+    private PartialSearchResult search(RangeAmplitudeDataStructure amplitudes, int searchSpaceSize,
+                                       int targetIndex, int blockCount) {
+        long startTime = System.nanoTime();
+        int blockSize = searchSpaceSize / blockCount;
+        PartialSearchPlan plan = PartialSearchPlan.forBlocks(searchSpaceSize, blockCount);
+
+        amplitudes.initialize(searchSpaceSize);
+        for (int i = 0; i < plan.globalIterations(); i++) {
+            amplitudes.applyOracle(targetIndex);
+            amplitudes.applyDiffusion();
+        }
+        for (int i = 0; i < plan.localIterations(); i++) {
+            amplitudes.applyOracle(targetIndex);
+            amplitudes.applyBlockDiffusion(blockSize);
+        }
+        amplitudes.applyOracle(targetIndex);
+        amplitudes.applyDiffusion();
+
+        int foundIndex = amplitudes.findMaxAmplitudeIndex();
+        int foundBlock = foundIndex / blockSize;
+        int targetBlock = targetIndex / blockSize;
+        double blockProbability = blockProbability(amplitudes, targetIndex, targetBlock * blockSize, blockSize);
+        long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        int fullOracleCalls = GroverIterations.forMarkedCount(searchSpaceSize, 1);
+        GroverResult search = new GroverResult(
+            foundIndex,
+            targetIndex,
+            foundBlock == targetBlock,
+            durationMillis,
+            searchSpaceSize,
+            plan.globalIterations() + plan.localIterations(),
+            plan.oracleCalls(),
+            fullOracleCalls - plan.oracleCalls()
+        );
+        return new PartialSearchResult(foundBlock, targetBlock, blockCount, blockSize,
+            plan.globalIterations(), plan.localIterations(), blockProbability, search);
+    }
+
+    // All other indices of the target's block share one amplitude, so two reads give the block total
+    private static double blockProbability(AmplitudeDataStructure amplitudes, int targetIndex, int blockStart, int blockSize) {
+        double target = amplitudes.getAmplitude(targetIndex);
+        if (blockSize == 1) {
+            return target * target;
+        }
+        double other = amplitudes.getAmplitude(targetIndex == blockStart ? blockStart + 1 : blockStart);
+        return target * target + (blockSize - 1) * other * other;
+    }
+
+    private static RangeAmplitudeDataStructure rangeCapable(AmplitudeDataStructure amplitudes, String backend) {
+        if (amplitudes instanceof RangeAmplitudeDataStructure range) {
+            return range;
+        }
+        throw new IllegalArgumentException("Backend '" + backend + "' does not support the range updates partial search needs");
+    }
+
+    private void validateInputs(int searchSpaceSize, int targetIndex, int blockCount) {
+        if (searchSpaceSize <= 0) {
+            throw new IllegalArgumentException("Search space size must be positive, got: " + searchSpaceSize);
+        }
+        if (targetIndex < 0 || targetIndex >= searchSpaceSize) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, searchSpaceSize)
+            );
+        }
+        if (blockCount < 2 || blockCount > searchSpaceSize || searchSpaceSize % blockCount != 0) {
+            throw new IllegalArgumentException(
+                String.format("Block count must be in [2, %d] and divide the search space size, got: %d",
+                    searchSpaceSize, blockCount)
+            );
+        }
+    }
+}
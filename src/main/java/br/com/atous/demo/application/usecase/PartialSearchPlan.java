@@ -0,0 +1,74 @@
+package br.com.atous.demo.application.usecase;
+
+/**
+ * Iteration schedule of a Grover–Radhakrishnan partial search over K blocks of b = N/K:
+ * {@code globalIterations} ordinary iterations, {@code localIterations} iterations whose
+ * diffusion reflects each block about its own mean, and one last oracle call followed by a
+ * global diffusion, which cancels most of the amplitude left outside the target's block.
+ *
+ * From the uniform state every index is in one of three classes that share an amplitude: the
+ * target, the rest of its block, and everything outside it. The schedule is therefore found by
+ * running that three-amplitude model, not the N-amplitude state: the cheapest (j1, j2) whose
+ * block probability is at least the full search's probability of finding the target, so the
+ * partial search is never less reliable than a full one. Planning takes O(√N · √b) steps of
+ * the model, independent of the target.
+ */
+record PartialSearchPlan(int globalIterations, int localIterations, double blockProbability) {
+
+    private static final double TOLERANCE = 1e-12;
+
+    int oracleCalls() {
+        return globalIterations + localIterations + 1;
+    }
+
+    static PartialSearchPlan forBlocks(int searchSpaceSize, int blockCount) {
+        int blockSize = searchSpaceSize / blockCount;
+        int fullIterations = GroverIterations.forMarkedCount(searchSpaceSize, 1);
+        double theta = Math.asin(1.0 / Math.sqrt(searchSpaceSize));
+        double fullProbability = Math.pow(Math.sin((2 * fullIterations + 1) * theta), 2);
+        int maxLocal = GroverIterations.forMarkedCount(blockSize, 1) + 1;
+
+        double start = 1.0 / Math.sqrt(searchSpaceSize);
+        double target = start;       // The target
+        double inBlock = start;      // Each other index of the target's block
+        double outside = start;      // Each index of the other blocks
+        PartialSearchPlan best = null;
+        PartialSearchPlan mostLikely = null;
+        for (int j1 = 0; j1 <= fullIterations; j1++) {
+            if (j1 > 0) {
+                double mean = (-target + (blockSize - 1) * inBlock + (double) (searchSpaceSize - blockSize) * outside)
+                    / searchSpaceSize;
+                target = 2 * mean + target;
+                inBlock = 2 * mean - inBlock;
+                outside = 2 * mean - outside;
+            }
+            double localTarget = target;
+            double localInBlock = inBlock;
+            // Other blocks hold no marked index, so their local reflection leaves them unchanged
+            for (int j2 = 0; j2 <= maxLocal && j1 + j2 + 1 <= fullIterations; j2++) {
+                if (j2 > 0) {
+                    double blockMean = (-localTarget + (blockSize - 1) * localInBlock) / blockSize;
+                    localTarget = 2 * blockMean + localTarget;
+                    localInBlock = 2 * blockMean - localInBlock;
+                }
+                double mean = (-localTarget + (blockSize - 1) * localInBlock
+                    + (double) (searchSpaceSize - blockSize) * outside) / searchSpaceSize;
+                double finalTarget = 2 * mean + localTarget;
+                double finalInBlock = 2 * mean - localInBlock;
+                double probability = finalTarget * finalTarget + (blockSize - 1) * finalInBlock * finalInBlock;
+
+                PartialSearchPlan plan = new PartialSearchPlan(j1, j2, Math.min(1.0, probability));
+                if (probability >= fullProbability - TOLERANCE
+                    && (best == null || plan.oracleCalls() < best.oracleCalls()
+                        || plan.oracleCalls() == best.oracleCalls() && probability > best.blockProbability())) {
+                    best = plan;
+                }
+                if (mostLikely == null || probability > mostLikely.blockProbability()) {
+                    mostLikely = plan;
+                }
+            }
+        }
+        // Only on tiny spaces can no schedule within the full search's budget match it
+        return best != null ? best : mostLikely;
+    }
+}
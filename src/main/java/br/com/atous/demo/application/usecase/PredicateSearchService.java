@@ -0,0 +1,67 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.PredicateSearchUseCase;
+import br.com.atous.demo.domain.model.DatasetDescriptor;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.PredicateSearchResult;
+import br.com.atous.demo.domain.model.RecordPredicate;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.DatasetRepository;
+import br.com.atous.demo.domain.port.out.RecordDataset;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Grover search whose oracle is a predicate over a registered dataset.
+ *
+ * The search runs in two phases that are timed separately: a classical scan that marks the
+ * records satisfying the predicate, and the amplitude simulation driven by the resulting
+ * multi-target oracle.
+ */
+@Service
+public class PredicateSearchService implements PredicateSearchUseCase {
+
+    private final DatasetRepository datasetRepository;
+    private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+
+    public PredicateSearchService(DatasetRepository datasetRepository,
+                                  ObjectProvider<AmplitudeDataStructure> amplitudeProvider) {
+        this.datasetRepository = datasetRepository;
+        this.amplitudeProvider = amplitudeProvider;
+    }
+
+    @Override
+    public DatasetDescriptor registerDataset(String datasetId, Path path, DatasetSchema schema) {
+        return datasetRepository.register(datasetId, path, schema).descriptor();
+    }
+
+    @Override
+    public PredicateSearchResult search(String datasetId, RecordPredicate predicate) {
+        RecordDataset dataset = datasetRepository.find(datasetId)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown dataset: " + datasetId));
+
+        long startTime = System.nanoTime();
+        int[] marked = dataset.mark(predicate);
+        long scanEnd = System.nanoTime();
+
+        int searchSpaceSize = dataset.recordCount();
+        int iterations = GroverIterations.forMarkedCount(searchSpaceSize, marked.length);
+        int foundIndex = GroverIterations.amplify(amplitudeProvider.getObject(), searchSpaceSize, marked, iterations);
+        long endTime = System.nanoTime();
+
+        return new PredicateSearchResult(
+            datasetId,
+            foundIndex,
+            foundIndex >= 0 && Arrays.binarySearch(marked, foundIndex) >= 0,
+            marked.length,
+            searchSpaceSize,
+            iterations,
+            scanEnd - startTime,
+            endTime - scanEnd,
+            (endTime - startTime) / 1_000_000
+        );
+    }
+}
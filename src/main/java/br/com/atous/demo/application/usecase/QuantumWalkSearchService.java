@@ -0,0 +1,111 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.WalkSearchUseCase;
+import br.com.atous.demo.domain.model.GraphDescriptor;
+import br.com.atous.demo.domain.model.WalkSearchResult;
+import br.com.atous.demo.domain.port.out.GraphRepository;
+import br.com.atous.demo.domain.port.out.QuantumWalkSimulator;
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import br.com.atous.demo.domain.port.out.WalkState;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Spatial search on a graph by quantum walk, for search spaces where only neighbouring
+ * vertices may exchange amplitude and the global reflection of Grover's diffusion is not
+ * available.
+ *
+ * Unlike Grover's iteration count there is no closed form for the best stopping time on an
+ * arbitrary graph: the walk is traced once over the step budget, the step with the highest
+ * marked probability is taken and the walk is replayed to it before measuring. The budget
+ * default, ⌈π/2 · √(N ln N)⌉, covers the O(√(N log N)) steps of the 2D lattice. The trace
+ * holds one probability per step, so a client budget is capped at
+ * {@value #MAX_STEP_BUDGET_FACTOR} times the default.
+ */
+@Service
+public class QuantumWalkSearchService implements WalkSearchUseCase {
+
+    static final int MAX_STEP_BUDGET_FACTOR = 4;
+
+    private final GraphRepository graphRepository;
+    private final QuantumWalkSimulator simulator;
+
+    public QuantumWalkSearchService(GraphRepository graphRepository, QuantumWalkSimulator simulator) {
+        this.graphRepository = graphRepository;
+        this.simulator = simulator;
+    }
+
+    @Override
+    public GraphDescriptor buildGraph(String graphId, Path edgeList, Path graphFile) {
+        return graphRepository.build(graphId, edgeList, graphFile).descriptor();
+    }
+
+    @Override
+    public GraphDescriptor openGraph(String graphId, Path graphFile) {
+        return graphRepository.open(graphId, graphFile).descriptor();
+    }
+
+    @Override
+    public WalkSearchResult search(String graphId, int[] markedVertices, Integer maxSteps) {
+        SearchGraph graph = graphRepository.find(graphId)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown graph: " + graphId));
+        int vertexCount = graph.vertexCount();
+        int[] marked = validateMarked(markedVertices, vertexCount);
+        int defaultBudget = defaultStepBudget(vertexCount);
+        int stepBudget = maxSteps != null ? maxSteps : defaultBudget;
+        if (stepBudget < 0) {
+            throw new IllegalArgumentException("Step budget must be non-negative, got: " + stepBudget);
+        }
+        long maxBudget = (long) MAX_STEP_BUDGET_FACTOR * defaultBudget;
+        if (stepBudget > maxBudget) {
+            throw new IllegalArgumentException(
+                String.format("Step budget too large for %d vertices (max: %d), got: %d", vertexCount, maxBudget, stepBudget)
+            );
+        }
+
+        long startTime = System.nanoTime();
+
+        double[] trace = simulator.markedProbabilities(graph, marked, stepBudget);
+        int steps = 0;
+        for (int step = 1; step < trace.length; step++) {
+            if (trace[step] > trace[steps]) {
+                steps = step;
+            }
+        }
+        WalkState state = simulator.run(graph, marked, steps);
+        int foundVertex = state.findMaxProbabilityVertex();
+        long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        return new WalkSearchResult(
+            graphId,
+            foundVertex,
+            Arrays.binarySearch(marked, foundVertex) >= 0,
+            trace[steps],
+            marked.length,
+            steps,
+            stepBudget,
+            vertexCount,
+            graph.descriptor().edgeCount(),
+            durationMillis
+        );
+    }
+
+    static int defaultStepBudget(int vertexCount) {
+        return (int) Math.ceil(Math.PI / 2.0 * Math.sqrt(vertexCount * Math.log(Math.max(2, vertexCount))));
+    }
+
+    private static int[] validateMarked(int[] markedVertices, int vertexCount) {
+        if (markedVertices == null || markedVertices.length == 0) {
+            throw new IllegalArgumentException("At least one marked vertex is required");
+        }
+        int[] marked = Arrays.stream(markedVertices).sorted().distinct().toArray();
+        if (marked[0] < 0 || marked[marked.length - 1] >= vertexCount) {
+            throw new IllegalArgumentException(
+                String.format("Marked vertices must be in [0, %d)", vertexCount)
+            );
+        }
+        return marked;
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.ResultLogUseCase;
+import br.com.atous.demo.domain.model.LoggedResult;
+import br.com.atous.demo.domain.model.ResultCompaction;
+import br.com.atous.demo.domain.model.ResultQuery;
+import br.com.atous.demo.domain.port.out.ResultLog;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ResultLogService implements ResultLogUseCase {
+
+    static final int MAX_QUERY_LIMIT = 10_000;
+
+    private final ResultLog resultLog;
+
+    public ResultLogService(ResultLog resultLog) {
+        this.resultLog = resultLog;
+    }
+
+    @Override
+    public List<LoggedResult> query(ResultQuery query) {
+        if (query.limit() <= 0 || query.limit() > MAX_QUERY_LIMIT) {
+            throw new IllegalArgumentException(
+                String.format("Limit must be in [1, %d], got: %d", MAX_QUERY_LIMIT, query.limit())
+            );
+        }
+        if (query.fromMillis() != null && query.toMillis() != null && query.toMillis() < query.fromMillis()) {
+            throw new IllegalArgumentException(
+                String.format("Time range [%d, %d) is empty", query.fromMillis(), query.toMillis())
+            );
+        }
+        return resultLog.query(query);
+    }
+
+    @Override
+    public ResultCompaction compact(int keepPerKey) {
+        if (keepPerKey <= 0) {
+            throw new IllegalArgumentException("Results to keep per key must be positive, got: " + keepPerKey);
+        }
+        if (!resultLog.enabled()) {
+            throw new IllegalArgumentException("Result log is disabled, set search.result-log.path to enable it");
+        }
+        return resultLog.compact(keepPerKey);
+    }
+}
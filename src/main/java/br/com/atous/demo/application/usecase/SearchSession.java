@@ -0,0 +1,177 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.model.SessionProbability;
+import br.com.atous.demo.domain.model.SessionState;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * One session's amplitude structure plus a published snapshot of its state.
+ *
+ * From the uniform superposition, the oracle and the diffusion keep the state in
+ * span{|t⟩, |s⟩}: every non-target index carries the same amplitude, so the target amplitude
+ * and one other amplitude describe the state exactly. They are published under a
+ * {@link StampedLock} after every iteration. Readers take an optimistic stamp and fall back to
+ * the read lock only when a publish raced them, so queries never touch the structure (whose
+ * reads push lazy tags) and never wait for a step. Steps are serialised by their own mutex,
+ * held for the whole step.
+ */
+final class SearchSession {
+
+    /**
+     * Largest single step, as a multiple of the optimal iteration count.
+     */
+    static final int MAX_STEP_MULTIPLE = 8;
+
+    private final String id;
+    private final int size;
+    private final int target;
+    private final String backend;
+    private final int optimalIterations;
+    private final long memoryBytes;
+    private final AmplitudeStructurePool pool;
+
+    private final ReentrantLock stepLock = new ReentrantLock();
+    private AmplitudeDataStructure amplitudes; // Guarded by stepLock, null once returned to the pool
+
+    private final StampedLock snapshotLock = new StampedLock();
+    private int iterations;
+    private double targetAmplitude;
+    private double otherAmplitude;
+
+    private volatile boolean closed;
+    private volatile long lastAccessNanos;
+
+    private record Snapshot(int iterations, double targetAmplitude, double otherAmplitude) {}
+
+    SearchSession(String id, int size, int target, String backend, AmplitudeDataStructure amplitudes,
+                  AmplitudeStructurePool pool, long nowNanos) {
+        this.id = id;
+        this.size = size;
+        this.target = target;
+        this.backend = backend;
+        this.optimalIterations = GroverIterations.forMarkedCount(size, 1);
+        this.memoryBytes = amplitudes.memoryFootprintBytes();
+        this.amplitudes = amplitudes;
+        this.pool = pool;
+        this.lastAccessNanos = nowNanos;
+        publish(0);
+    }
+
+    String id() {
+        return id;
+    }
+
+    /**
+     * Largest {@code k} one step may run; sessions too small to need an iteration still allow
+     * a few.
+     */
+    int maxStep() {
+        return Math.max(1, optimalIterations) * MAX_STEP_MULTIPLE;
+    }
+
+    long memoryBytes() {
+        return memoryBytes;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long nowNanos) {
+        lastAccessNanos = nowNanos;
+    }
+
+    void step(int k) {
+        stepLock.lock();
+        try {
+            if (closed) {
+                throw new NoSuchElementException("Session " + id + " is closed");
+            }
+            int done = iterations; // Only steps write it, and they hold stepLock
+            for (int i = 0; i < k && !closed; i++) {
+                amplitudes.applyOracle(target);
+                amplitudes.applyDiffusion();
+                publish(++done);
+            }
+        } finally {
+            if (closed) {
+                releaseStructure();
+            }
+            stepLock.unlock();
+        }
+        if (closed) {
+            throw new NoSuchElementException("Session " + id + " was closed during the step");
+        }
+    }
+
+    private void publish(int completedIterations) {
+        double targetValue = amplitudes.getAmplitude(target);
+        double otherValue = size > 1 ? amplitudes.getAmplitude(target == 0 ? 1 : 0) : 0.0;
+        long stamp = snapshotLock.writeLock();
+        try {
+            iterations = completedIterations;
+            targetAmplitude = targetValue;
+            otherAmplitude = otherValue;
+        } finally {
+            snapshotLock.unlockWrite(stamp);
+        }
+    }
+
+    private Snapshot snapshot() {
+        long stamp = snapshotLock.tryOptimisticRead();
+        Snapshot snapshot = new Snapshot(iterations, targetAmplitude, otherAmplitude);
+        if (snapshotLock.validate(stamp)) {
+            return snapshot;
+        }
+        stamp = snapshotLock.readLock();
+        try {
+            return new Snapshot(iterations, targetAmplitude, otherAmplitude);
+        } finally {
+            snapshotLock.unlockRead(stamp);
+        }
+    }
+
+    SessionState state() {
+        Snapshot snapshot = snapshot();
+        return new SessionState(id, size, target, backend, snapshot.iterations(), optimalIterations,
+            snapshot.targetAmplitude() * snapshot.targetAmplitude(), memoryBytes);
+    }
+
+    SessionProbability probability(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(
+                String.format("Index %d is out of bounds [0, %d)", index, size)
+            );
+        }
+        Snapshot snapshot = snapshot();
+        double amplitude = index == target ? snapshot.targetAmplitude() : snapshot.otherAmplitude();
+        return new SessionProbability(id, index, snapshot.iterations(), amplitude * amplitude);
+    }
+
+    /**
+     * Marks the session closed. The structure goes back to the pool now, or when the step in
+     * progress notices the flag, so eviction never waits for a long step. If the flag lands
+     * just after a finishing step looked at it, the structure is left to the GC instead.
+     */
+    void close() {
+        closed = true;
+        if (stepLock.tryLock()) {
+            try {
+                releaseStructure();
+            } finally {
+                stepLock.unlock();
+            }
+        }
+    }
+
+    private void releaseStructure() {
+        if (amplitudes != null) {
+            pool.release(backend, amplitudes);
+            amplitudes = null;
+        }
+    }
+}
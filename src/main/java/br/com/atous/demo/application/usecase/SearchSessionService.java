@@ -0,0 +1,250 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.SearchSessionUseCase;
+import br.com.atous.demo.domain.model.SessionProbability;
+import br.com.atous.demo.domain.model.SessionState;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds {@link SearchSession}s between requests.
+ *
+ * A session expires once it has been idle for {@code search.sessions.ttl-seconds}; expired
+ * sessions are dropped on access and by a background reaper. Sessions also count their
+ * structure's footprint against {@code search.sessions.memory-budget-mb}: the backend's estimate
+ * for the size is reserved before anything is allocated, and settled to what the structure
+ * actually holds once initialised. Admitting a session that would exceed the budget evicts the
+ * least recently used ones first, and a session larger than the whole budget is rejected
+ * without allocating it. Closed sessions hand their structure back to a small pool;
+ * a session charges what its structure actually holds, so only structures within a sixteenth
+ * of the budget are pooled, which keeps a small session from inheriting a large one's arrays.
+ * A single step runs at most {@link SearchSession#MAX_STEP_MULTIPLE} times the session's
+ * optimal iteration count.
+ */
+@Service
+public class SearchSessionService implements SearchSessionUseCase {
+
+    private static final int POOLED_PER_BACKEND = 2;
+    private static final int POOLED_BUDGET_FRACTION = 16;
+
+    private final AmplitudeStructurePool pool;
+    private final long ttlNanos;
+    private final long memoryBudgetBytes;
+    private final Map<String, SearchSession> sessions = new ConcurrentHashMap<>();
+    private final Object admissionLock = new Object();
+    private long reservedBytes; // Guarded by admissionLock
+    private final ScheduledExecutorService reaper;
+
+    public SearchSessionService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                                AmplitudeBackendRegistry backendRegistry,
+                                @Value("${search.sessions.ttl-seconds:600}") long ttlSeconds,
+                                @Value("${search.sessions.memory-budget-mb:512}") long memoryBudgetMb) {
+        if (ttlSeconds <= 0 || memoryBudgetMb <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Session TTL and memory budget must be positive, got: %ds, %dMB", ttlSeconds, memoryBudgetMb)
+            );
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.memoryBudgetBytes = memoryBudgetMb << 20;
+        this.pool = new AmplitudeStructurePool(amplitudeProvider, backendRegistry, POOLED_PER_BACKEND,
+            memoryBudgetBytes / POOLED_BUDGET_FRACTION);
+        this.reaper = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("session-reaper").daemon().factory());
+        long period = Math.max(1, ttlSeconds / 4);
+        reaper.scheduleWithFixedDelay(() -> evictExpired(System.nanoTime()), period, period, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reaper.shutdownNow();
+        sessions.values().forEach(this::remove);
+    }
+
+    @Override
+    public SessionState create(int searchSpaceSize, int targetIndex, String backend) {
+        if (searchSpaceSize <= 0) {
+            throw new IllegalArgumentException("Search space size must be positive, got: " + searchSpaceSize);
+        }
+        if (targetIndex < 0 || targetIndex >= searchSpaceSize) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, searchSpaceSize)
+            );
+        }
+
+        // The estimate is reserved before anything is allocated, so concurrent creates cannot
+        // overcommit the budget between them
+        AmplitudeDataStructure amplitudes = pool.acquire(backend);
+        long estimatedBytes;
+        List<SearchSession> evicted = new ArrayList<>();
+        try {
+            estimatedBytes = amplitudes.memoryFootprintBytes(searchSpaceSize);
+            checkWithinBudget(estimatedBytes);
+            synchronized (admissionLock) {
+                reserve(estimatedBytes, evicted);
+            }
+        } catch (RuntimeException e) {
+            pool.release(backend, amplitudes);
+            throw e;
+        } finally {
+            // Closing may hand structures back to the pool, which is not worth holding the admission lock for
+            evicted.forEach(SearchSession::close);
+            evicted.clear();
+        }
+
+        long bytes;
+        try {
+            amplitudes.initialize(searchSpaceSize);
+            bytes = amplitudes.memoryFootprintBytes();
+            checkWithinBudget(bytes);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            synchronized (admissionLock) {
+                reservedBytes -= estimatedBytes;
+            }
+            pool.release(backend, amplitudes);
+            if (e instanceof OutOfMemoryError) {
+                throw new IllegalArgumentException(
+                    String.format("Not enough memory for a session of size %d", searchSpaceSize), e);
+            }
+            throw e;
+        }
+
+        // A pooled structure may hold larger arrays than the estimate, so the session is charged
+        // what it actually holds
+        SearchSession session = new SearchSession(UUID.randomUUID().toString(), searchSpaceSize, targetIndex,
+            backend, amplitudes, pool, System.nanoTime());
+        try {
+            synchronized (admissionLock) {
+                reservedBytes -= estimatedBytes;
+                reserve(bytes, evicted);
+                sessions.put(session.id(), session);
+            }
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        } finally {
+            evicted.forEach(SearchSession::close);
+        }
+        return session.state();
+    }
+
+    private void checkWithinBudget(long bytes) {
+        if (bytes > memoryBudgetBytes) {
+            throw new IllegalArgumentException(
+                String.format("Session needs %d bytes, above the session memory budget of %d bytes", bytes, memoryBudgetBytes)
+            );
+        }
+    }
+
+    // Evicts least recently used sessions until the bytes fit, then reserves them; caller holds admissionLock
+    private void reserve(long bytes, List<SearchSession> evicted) {
+        while (reservedBytes + bytes > memoryBudgetBytes) {
+            SearchSession leastRecent = null;
+            for (SearchSession candidate : sessions.values()) {
+                if (leastRecent == null || candidate.lastAccessNanos() < leastRecent.lastAccessNanos()) {
+                    leastRecent = candidate;
+                }
+            }
+            if (leastRecent == null) {
+                // What is left is reserved by sessions still being created
+                throw new IllegalArgumentException(
+                    String.format("Session needs %d bytes, but the session memory budget is reserved by sessions being created",
+                        bytes)
+                );
+            }
+            sessions.remove(leastRecent.id());
+            reservedBytes -= leastRecent.memoryBytes();
+            evicted.add(leastRecent);
+        }
+        reservedBytes += bytes;
+    }
+
+    @Override
+    public SessionState step(String sessionId, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Step count must be positive, got: " + k);
+        }
+        SearchSession session = lookup(sessionId);
+        if (k > session.maxStep()) {
+            throw new IllegalArgumentException(
+                String.format("Step count too large for this session (max: %d), got: %d", session.maxStep(), k)
+            );
+        }
+        session.step(k);
+        session.touch(System.nanoTime());
+        return session.state();
+    }
+
+    @Override
+    public SessionState state(String sessionId) {
+        return lookup(sessionId).state();
+    }
+
+    @Override
+    public SessionProbability probability(String sessionId, int index) {
+        return lookup(sessionId).probability(index);
+    }
+
+    @Override
+    public void close(String sessionId) {
+        SearchSession session = sessions.get(sessionId);
+        if (session == null || !remove(session)) {
+            throw new NoSuchElementException("Unknown or expired session: " + sessionId);
+        }
+    }
+
+    private SearchSession lookup(String sessionId) {
+        SearchSession session = sessionId == null ? null : sessions.get(sessionId);
+        long now = System.nanoTime();
+        if (session != null && now - session.lastAccessNanos() > ttlNanos) {
+            remove(session);
+            session = null;
+        }
+        if (session == null) {
+            throw new NoSuchElementException("Unknown or expired session: " + sessionId);
+        }
+        session.touch(now);
+        return session;
+    }
+
+    /**
+     * Drops every session idle for longer than the TTL as of {@code nowNanos}.
+     */
+    void evictExpired(long nowNanos) {
+        for (SearchSession session : sessions.values()) {
+            if (nowNanos - session.lastAccessNanos() > ttlNanos) {
+                remove(session);
+            }
+        }
+    }
+
+    private boolean remove(SearchSession session) {
+        synchronized (admissionLock) {
+            if (!sessions.remove(session.id(), session)) {
+                return false;
+            }
+            reservedBytes -= session.memoryBytes();
+        }
+        session.close();
+        return true;
+    }
+
+    long reservedBytes() {
+        synchronized (admissionLock) {
+            return reservedBytes;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.SearchShadowMetricsUseCase;
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.ShadowStats;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shadow execution of served searches on a candidate backend, so it can be promoted on evidence.
+ *
+ * A sampled fraction of uniform searches is handed to a small pool of minimum-priority daemon
+ * threads with a bounded queue; when the queue is full the sample is skipped, never waited for,
+ * so the request path only pays for a random draw and an offer. Each sample runs the search
+ * again on the candidate and on the backend that served it, back to back on the same thread,
+ * and compares the candidate's foundIndex with the one served, the final target probabilities
+ * and the two timings.
+ *
+ * Off unless {@code search.shadow.backend} names a registered backend. Samples larger than
+ * {@code search.shadow.max-search-space} are not shadowed, which bounds the memory of a run.
+ */
+@Service
+public class ShadowSearchService implements SearchShadowMetricsUseCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShadowSearchService.class);
+
+    private final ObjectProvider<AmplitudeDataStructure> amplitudeProvider;
+    private final AmplitudeBackendRegistry backendRegistry;
+    private final String candidateBackend; // null when shadowing is off
+    private final double sampleRate;
+    private final int maxSearchSpace;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder compared = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder divergences = new LongAdder();
+    private final DoubleAccumulator maxProbabilityDivergence = new DoubleAccumulator(Math::max, 0.0);
+    private final DoubleAdder totalProbabilityDivergence = new DoubleAdder();
+    private final LongAdder referenceNanos = new LongAdder();
+    private final LongAdder candidateNanos = new LongAdder();
+
+    public ShadowSearchService(ObjectProvider<AmplitudeDataStructure> amplitudeProvider,
+                               AmplitudeBackendRegistry backendRegistry,
+                               @Value("${search.shadow.backend:}") String candidateBackend,
+                               @Value("${search.shadow.sample-rate:0.01}") double sampleRate,
+                               @Value("${search.shadow.threads:1}") int threads,
+                               @Value("${search.shadow.queue-capacity:64}") int queueCapacity,
+                               @Value("${search.shadow.max-search-space:1048576}") int maxSearchSpace) {
+        if (!(sampleRate >= 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException("Shadow sample rate must be in [0, 1], got: " + sampleRate);
+        }
+        this.amplitudeProvider = amplitudeProvider;
+        this.backendRegistry = backendRegistry;
+        this.candidateBackend = candidateBackend == null || candidateBackend.isBlank() ? null : candidateBackend;
+        this.sampleRate = sampleRate;
+        this.maxSearchSpace = maxSearchSpace;
+        if (this.candidateBackend == null) {
+            this.executor = null;
+            return;
+        }
+        // Fails at startup on a misspelt backend rather than on every sample
+        backendRegistry.create(this.candidateBackend);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("shadow-", 0).daemon().priority(Thread.MIN_PRIORITY).factory(),
+            (task, pool) -> skipped.increment());
+        LOG.info("Shadowing {} of uniform searches on backend {}", sampleRate, this.candidateBackend);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Maybe schedules a shadow run of a search served by {@code servedBackend} (null for the
+     * primary backend). Returns at once.
+     */
+    void offer(GroverResult served, String servedBackend) {
+        if (executor == null || served.searchSpaceSize() > maxSearchSpace
+            || candidateBackend.equals(servedBackend)
+            || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        sampled.increment();
+        executor.execute(() -> compare(served, servedBackend));
+    }
+
+    private void compare(GroverResult served, String servedBackend) {
+        int size = served.searchSpaceSize();
+        int target = served.targetIndex();
+        try {
+            AmplitudeDataStructure reference = servedBackend == null ?
+                amplitudeProvider.getObject() : backendRegistry.create(servedBackend);
+            long referenceStart = System.nanoTime();
+            run(reference, size, target, served.iterations());
+            long referenceTime = System.nanoTime() - referenceStart;
+            double referenceProbability = probability(reference, target);
+
+            AmplitudeDataStructure candidate = backendRegistry.create(candidateBackend);
+            long candidateStart = System.nanoTime();
+            int candidateFound = run(candidate, size, target, served.iterations());
+            long candidateTime = System.nanoTime() - candidateStart;
+            double probabilityDivergence = Math.abs(probability(candidate, target) - referenceProbability);
+
+            if (candidateFound != served.foundIndex()) {
+                divergences.increment();
+                LOG.warn("Shadow divergence on {}: N={} target={} served foundIndex {} but candidate found {}",
+                    candidateBackend, size, target, served.foundIndex(), candidateFound);
+            }
+            maxProbabilityDivergence.accumulate(probabilityDivergence);
+            totalProbabilityDivergence.add(probabilityDivergence);
+            referenceNanos.add(referenceTime);
+            candidateNanos.add(candidateTime);
+            compared.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            LOG.warn("Shadow run on {} failed for N={} target={}", candidateBackend, size, target, e);
+        }
+    }
+
+    // The served iteration count is replayed, so both runs do exactly the work the request did
+    private static int run(AmplitudeDataStructure amplitudes, int size, int target, int iterations) {
+        amplitudes.initialize(size);
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(target);
+            amplitudes.applyDiffusion();
+        }
+        return amplitudes.findMaxAmplitudeIndex();
+    }
+
+    private static double probability(AmplitudeDataStructure amplitudes, int index) {
+        double amplitude = amplitudes.getAmplitude(index);
+        return amplitude * amplitude;
+    }
+
+    @Override
+    public ShadowStats shadowStats() {
+        long comparedCount = compared.sum();
+        long reference = referenceNanos.sum();
+        long candidate = candidateNanos.sum();
+        return new ShadowStats(
+            candidateBackend,
+            candidateBackend == null ? 0.0 : sampleRate,
+            sampled.sum(),
+            skipped.sum(),
+            comparedCount,
+            failed.sum(),
+            divergences.sum(),
+            maxProbabilityDivergence.get(),
+            comparedCount == 0 ? 0.0 : totalProbabilityDivergence.sum() / comparedCount,
+            reference,
+            candidate,
+            candidate == 0 ? 0.0 : (double) reference / candidate
+        );
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
+import br.com.atous.demo.application.port.in.SearchCoalescingMetricsUseCase;
+import br.com.atous.demo.domain.model.CoalescingStats;
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.ResultLog;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer in front of {@link ClassicalGroverSearchService}: concurrent requests for
+ * the same (N, target, backend) attach to the search already running and share its
+ * {@link GroverResult}; if that search fails, every attached caller gets the same exception.
+ * Nothing is cached, so a request arriving after the search finished runs a new one.
+ *
+ * Prior-weighted searches pass straight through, since their weights have no cheap identity.
+ * Every executed search is offered to the {@link ResultLog} once, by whoever ran it; the log
+ * never blocks, so recording adds no latency to the request. Uniform searches are also offered
+ * to the {@link ShadowSearchService}, which samples them for a candidate backend.
+ */
+@Service
+@Primary
+public class SingleFlightQuantumSearchService implements QuantumSearchUseCase, SearchCoalescingMetricsUseCase {
+
+    private record SearchKey(int searchSpaceSize, int targetIndex, String backend) {}
+
+    private final ClassicalGroverSearchService delegate;
+    private final ResultLog resultLog;
+    private final ShadowSearchService shadow;
+    private final ConcurrentMap<SearchKey, CompletableFuture<GroverResult>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SingleFlightQuantumSearchService(ClassicalGroverSearchService delegate, ResultLog resultLog,
+                                            ShadowSearchService shadow) {
+        this.delegate = delegate;
+        this.resultLog = resultLog;
+        this.shadow = shadow;
+    }
+
+    @Override
+    public GroverResult executeSearch(int searchSpaceSize, int targetIndex) {
+        return singleFlight(new SearchKey(searchSpaceSize, targetIndex, null),
+            () -> delegate.executeSearch(searchSpaceSize, targetIndex));
+    }
+
+    @Override
+    public GroverResult executeSearch(int searchSpaceSize, int targetIndex, String backend) {
+        return singleFlight(new SearchKey(searchSpaceSize, targetIndex, backend),
+            () -> delegate.executeSearch(searchSpaceSize, targetIndex, backend));
+    }
+
+    @Override
+    public GroverResult executeSearch(int targetIndex, PriorWeights prior) {
+        GroverResult result = delegate.executeSearch(targetIndex, prior);
+        resultLog.append(result);
+        return result;
+    }
+
+    @Override
+    public CoalescingStats coalescingStats() {
+        return new CoalescingStats(executed.sum(), coalesced.sum(), failed.sum(), inFlight.size());
+    }
+
+    private GroverResult singleFlight(SearchKey key, Supplier<GroverResult> search) {
+        CompletableFuture<GroverResult> flight = new CompletableFuture<>();
+        CompletableFuture<GroverResult> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        // This caller leads: it runs the search on its own thread and publishes the outcome
+        executed.increment();
+        try {
+            GroverResult result = search.get();
+            flight.complete(result);
+            resultLog.append(result);
+            shadow.offer(result, key.backend());
+            return result;
+        } catch (RuntimeException | Error e) {
+            failed.increment();
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    // Followers rethrow the leader's exception as is, so callers map errors exactly as before
+    private static GroverResult await(CompletableFuture<GroverResult> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
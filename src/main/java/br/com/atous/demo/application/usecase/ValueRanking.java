@@ -0,0 +1,81 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.model.Extremum;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Records relabelled by rank, best value first (ties by index): rank r holds record
+ * {@code order[r]}. In rank space the records better than any threshold are a prefix of the
+ * ranks, so a threshold oracle is a single range phase flip.
+ *
+ * Ranks are built without boxing: the keys are sorted once, each record's key is replaced by
+ * the position of its first occurrence, and (position, index) pairs packed into longs are
+ * sorted again. For {@link Extremum#MAXIMUM} the key is {@code ~value}, which reverses the
+ * order without overflowing at {@link Long#MIN_VALUE}.
+ */
+final class ValueRanking {
+
+    private final long[] sortedKeys;
+    private final int[] order;
+
+    private ValueRanking(long[] sortedKeys, int[] order) {
+        this.sortedKeys = sortedKeys;
+        this.order = order;
+    }
+
+    static ValueRanking of(long[] values, Extremum extremum) {
+        int size = values.length;
+        long[] sortedKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = key(values[i], extremum);
+        }
+        Arrays.parallelSort(sortedKeys);
+
+        long[] packed = new long[size];
+        IntStream.range(0, size).parallel().forEach(i ->
+            packed[i] = (long) firstPosition(sortedKeys, key(values[i], extremum)) << 32 | i);
+        Arrays.parallelSort(packed);
+
+        int[] order = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            order[rank] = (int) packed[rank];
+        }
+        return new ValueRanking(sortedKeys, order);
+    }
+
+    int size() {
+        return order.length;
+    }
+
+    int index(int rank) {
+        return order[rank];
+    }
+
+    /**
+     * Number of ranks strictly better than {@code rank}, i.e. the length of the marked prefix
+     * when rank's value is the threshold.
+     */
+    int betterThan(int rank) {
+        return firstPosition(sortedKeys, sortedKeys[rank]);
+    }
+
+    private static long key(long value, Extremum extremum) {
+        return extremum == Extremum.MINIMUM ? value : ~value;
+    }
+
+    private static int firstPosition(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
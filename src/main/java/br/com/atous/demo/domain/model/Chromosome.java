@@ -0,0 +1,6 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * A named sequence occupying positions [start, start + length) of the concatenated search space.
+ */
+public record Chromosome(String name, int start, int length) {}
@@ -0,0 +1,13 @@
+package br.com.atous.demo.domain.model;
+
+public record CircuitSearchResult(
+    int foundIndex,
+    int targetIndex,
+    boolean success,
+    double successProbability,
+    int qubitCount,
+    int iterations,
+    int gateCount,
+    int kernelCount,
+    long executionTimeMillis
+) {}
@@ -0,0 +1,12 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Counters of the single-flight search layer: searches actually run, requests that attached
+ * to an identical search already in flight, and searches that ended in an error.
+ */
+public record CoalescingStats(
+    long executed,
+    long coalesced,
+    long failed,
+    int inFlight
+) {}
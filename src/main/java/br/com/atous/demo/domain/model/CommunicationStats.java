@@ -0,0 +1,29 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Traffic between a coordinator and its shards. An iteration is one oracle + diffusion step;
+ * {@code waitNanos} is the time the coordinator spent blocked on shard replies.
+ */
+public record CommunicationStats(
+    int shards,
+    long iterations,
+    long messagesSent,
+    long messagesReceived,
+    long bytesSent,
+    long bytesReceived,
+    long roundTrips,
+    long waitNanos,
+    double bytesPerIteration,
+    double roundTripsPerIteration,
+    double waitMicrosPerIteration
+) {
+    public static CommunicationStats of(int shards, long iterations, long messagesSent, long messagesReceived,
+                                        long bytesSent, long bytesReceived, long roundTrips, long waitNanos) {
+        double perIteration = iterations == 0 ? 0.0 : 1.0 / iterations;
+        return new CommunicationStats(shards, iterations, messagesSent, messagesReceived, bytesSent, bytesReceived,
+            roundTrips, waitNanos,
+            (bytesSent + bytesReceived) * perIteration,
+            roundTrips * perIteration,
+            waitNanos / 1_000.0 * perIteration);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.model;
+
+import java.util.List;
+
+public record CountingResult(
+    double estimatedMarkedCount,
+    double lowerBound,
+    double upperBound,
+    double confidenceLevel,
+    double estimatedAmplitude,
+    int actualMarkedCount,
+    int searchSpaceSize,
+    long totalOracleCalls,
+    long executionTimeMillis,
+    List<CountingRun> runs
+) {}
@@ -0,0 +1,13 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * One schedule of a maximum-likelihood amplitude estimation: {@code shots} simulated
+ * measurements taken after {@code groverPower} Grover iterations.
+ */
+public record CountingRun(
+    int groverPower,
+    int shots,
+    int hits,
+    long oracleCalls,
+    long executionTimeNanos
+) {}
@@ -0,0 +1,8 @@
+package br.com.atous.demo.domain.model;
+
+public record DatasetDescriptor(
+    String id,
+    String path,
+    int recordCount,
+    DatasetSchema schema
+) {}
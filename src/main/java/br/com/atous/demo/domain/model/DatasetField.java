@@ -0,0 +1,7 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * A fixed-width field inside a record. Text fields are ASCII, right-padded with spaces;
+ * integer fields hold optionally signed ASCII digits, padded with spaces on either side.
+ */
+public record DatasetField(String name, int offset, int length, FieldType type) {}
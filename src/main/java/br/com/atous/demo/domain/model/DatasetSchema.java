@@ -0,0 +1,36 @@
+package br.com.atous.demo.domain.model;
+
+import java.util.List;
+
+public record DatasetSchema(int recordLength, List<DatasetField> fields) {
+
+    public DatasetSchema {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be positive, got: " + recordLength);
+        }
+        if (fields == null || fields.isEmpty()) {
+            throw new IllegalArgumentException("Schema must declare at least one field");
+        }
+        fields = List.copyOf(fields);
+        for (DatasetField field : fields) {
+            if (field.offset() < 0 || field.length() <= 0 || field.offset() + field.length() > recordLength) {
+                throw new IllegalArgumentException(
+                    String.format("Field '%s' [%d, %d) does not fit in a record of %d bytes",
+                        field.name(), field.offset(), field.offset() + field.length(), recordLength)
+                );
+            }
+        }
+        if (fields.stream().map(DatasetField::name).distinct().count() != fields.size()) {
+            throw new IllegalArgumentException("Field names must be unique");
+        }
+    }
+
+    public DatasetField field(String name) {
+        for (DatasetField field : fields) {
+            if (field.name().equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + name);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.atous.demo.domain.model;
+
+public record DistributedSearchResult(
+    int foundIndex,
+    int targetIndex,
+    boolean success,
+    double successProbability,
+    int searchSpaceSize,
+    int iterations,
+    int shardCount,
+    long executionTimeMillis,
+    CommunicationStats communication
+) {}
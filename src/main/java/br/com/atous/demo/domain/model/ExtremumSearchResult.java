@@ -0,0 +1,29 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Outcome of a Dürr–Høyer extremum search. {@code rounds} counts the threshold improvements,
+ * {@code measurements} the Grover runs measured along the way, and {@code oracleCalls} the
+ * iterations they applied, out of {@code oracleCallBudget}.
+ *
+ * The same column is also scanned by a parallel classical search, whose answer decides
+ * {@code success} and whose time is the baseline for {@code emulatedTimeNanos}, the sum of
+ * {@code preparationTimeNanos} (reading and ranking the column) and
+ * {@code simulationTimeNanos} (the Grover runs).
+ */
+public record ExtremumSearchResult(
+    Extremum extremum,
+    int foundIndex,
+    long foundValue,
+    boolean success,
+    int searchSpaceSize,
+    int rounds,
+    int measurements,
+    long oracleCalls,
+    long oracleCallBudget,
+    int classicalIndex,
+    long preparationTimeNanos,
+    long simulationTimeNanos,
+    long emulatedTimeNanos,
+    long classicalTimeNanos,
+    long executionTimeMillis
+) {}
@@ -0,0 +1,6 @@
+package br.com.atous.demo.domain.model;
+
+public enum FieldType {
+    TEXT,
+    INTEGER
+}
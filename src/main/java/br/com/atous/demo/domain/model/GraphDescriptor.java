@@ -0,0 +1,14 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * An undirected graph stored as directed arcs: every edge u–v appears as u→v and v→u,
+ * so {@code arcCount} is twice {@code edgeCount}.
+ */
+public record GraphDescriptor(
+    String id,
+    String path,
+    int vertexCount,
+    long edgeCount,
+    int arcCount,
+    int maxDegree
+) {}
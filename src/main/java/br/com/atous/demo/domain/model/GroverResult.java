@@ -1,10 +1,25 @@
 package br.com.atous.demo.domain.model;
 
+/**
+ * {@code oracleCalls} counts the oracle applications the search made, and
+ * {@code oracleCallsSaved} how many fewer than a full search on the same N that is; both
+ * differ from the iteration count only for searches that do not run plain Grover iterations.
+ */
 public record GroverResult(
     int foundIndex,
     int targetIndex,
     boolean success,
     long executionTimeMillis,
     int searchSpaceSize,
-    int iterations
-) {} 
\ No newline at end of file
+    int iterations,
+    int oracleCalls,
+    int oracleCallsSaved
+) {
+    /**
+     * A full search: one oracle call per iteration and nothing saved.
+     */
+    public GroverResult(int foundIndex, int targetIndex, boolean success, long executionTimeMillis,
+                        int searchSpaceSize, int iterations) {
+        this(foundIndex, targetIndex, success, executionTimeMillis, searchSpaceSize, iterations, iterations, 0);
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.atous.demo.domain.model;
+
+import java.util.List;
+
+public record KmerIndexDescriptor(
+    String id,
+    String path,
+    int k,
+    int searchSpaceSize,
+    long distinctKmers,
+    long indexedPositions,
+    List<Chromosome> chromosomes
+) {
+
+    public KmerIndexDescriptor {
+        chromosomes = List.copyOf(chromosomes);
+    }
+
+    /**
+     * Resolves a global position to the chromosome containing it, in O(log C).
+     */
+    public Chromosome chromosomeAt(int position) {
+        int low = 0;
+        int high = chromosomes.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Chromosome chromosome = chromosomes.get(mid);
+            if (position < chromosome.start()) {
+                high = mid - 1;
+            } else if (position >= chromosome.start() + chromosome.length()) {
+                low = mid + 1;
+            } else {
+                return chromosome;
+            }
+        }
+        throw new IllegalArgumentException("Position " + position + " is outside every chromosome");
+    }
+}
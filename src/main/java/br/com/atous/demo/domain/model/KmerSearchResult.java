@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.model;
+
+public record KmerSearchResult(
+    String indexId,
+    String kmer,
+    int foundPosition,
+    String chromosome,
+    int chromosomeOffset,
+    boolean success,
+    int occurrences,
+    int searchSpaceSize,
+    int iterations,
+    long lookupTimeNanos,
+    long simulationTimeNanos,
+    long executionTimeMillis
+) {}
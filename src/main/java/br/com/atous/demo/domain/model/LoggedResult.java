@@ -0,0 +1,11 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * A {@link GroverResult} as stored in the result log: {@code sequence} is assigned on write and
+ * survives compaction, {@code recordedAtMillis} is the wall-clock time the result was produced.
+ */
+public record LoggedResult(
+    long sequence,
+    long recordedAtMillis,
+    GroverResult result
+) {}
@@ -0,0 +1,21 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Outcome of a partial (block) search: the N indices are cut into {@code blockCount}
+ * consecutive blocks of {@code blockSize} and only the target's block is sought.
+ *
+ * {@code search.foundIndex} is the index measured, an element of {@code foundBlock};
+ * {@code search.success} means the block is right. {@code blockProbability} is the probability
+ * of measuring anything in the target's block, and {@code search.oracleCallsSaved} compares
+ * the {@code globalIterations + localIterations + 1} oracle calls with a full search.
+ */
+public record PartialSearchResult(
+    int foundBlock,
+    int targetBlock,
+    int blockCount,
+    int blockSize,
+    int globalIterations,
+    int localIterations,
+    double blockProbability,
+    GroverResult search
+) {}
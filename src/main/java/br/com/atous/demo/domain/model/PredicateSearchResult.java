@@ -0,0 +1,13 @@
+package br.com.atous.demo.domain.model;
+
+public record PredicateSearchResult(
+    String datasetId,
+    int foundIndex,
+    boolean success,
+    int markedCount,
+    int searchSpaceSize,
+    int iterations,
+    long scanTimeNanos,
+    long simulationTimeNanos,
+    long executionTimeMillis
+) {}
@@ -0,0 +1,46 @@
+package br.com.atous.demo.domain.model;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * Non-negative prior weights over the search space, one per index and not necessarily
+ * normalised. Index i starts with amplitude √(w_i / Σw), so amplitude amplification starts
+ * from the prior instead of the uniform superposition.
+ *
+ * Implementations may stream from storage; every call to {@link #iterator()} starts a new pass.
+ */
+public interface PriorWeights {
+    int size();
+
+    PrimitiveIterator.OfDouble iterator();
+
+    static PriorWeights of(double[] weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException("Prior weights must not be null");
+        }
+        return new PriorWeights() {
+            @Override
+            public int size() {
+                return weights.length;
+            }
+
+            @Override
+            public PrimitiveIterator.OfDouble iterator() {
+                return Arrays.stream(weights).iterator();
+            }
+        };
+    }
+
+    /**
+     * Validates one streamed weight and returns its amplitude-basis component √w.
+     */
+    static double amplitudeOf(double weight, int index) {
+        if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException(
+                String.format("Prior weight at index %d must be finite and non-negative, got: %s", index, weight)
+            );
+        }
+        return Math.sqrt(weight);
+    }
+}
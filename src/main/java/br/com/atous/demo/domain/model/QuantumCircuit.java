@@ -0,0 +1,30 @@
+package br.com.atous.demo.domain.model;
+
+import java.util.List;
+
+public record QuantumCircuit(int qubitCount, List<QuantumGate> gates) {
+
+    public QuantumCircuit {
+        if (qubitCount <= 0) {
+            throw new IllegalArgumentException("Qubit count must be positive, got: " + qubitCount);
+        }
+        if (gates == null) {
+            throw new IllegalArgumentException("Gates must not be null");
+        }
+        gates = List.copyOf(gates);
+        for (QuantumGate gate : gates) {
+            long seen = 0;
+            for (int qubit : gate.qubits()) {
+                if (qubit < 0 || qubit >= qubitCount) {
+                    throw new IllegalArgumentException(
+                        String.format("Qubit %d is out of bounds [0, %d) in %s", qubit, qubitCount, gate)
+                    );
+                }
+                if ((seen & (1L << qubit)) != 0) {
+                    throw new IllegalArgumentException("Qubit " + qubit + " is used twice in " + gate);
+                }
+                seen |= 1L << qubit;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.atous.demo.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Gates of the real-valued Grover circuit. Multi-controlled gates act on the target only when
+ * every control qubit is |1⟩; qubit 0 is the least significant bit of the basis index.
+ */
+public sealed interface QuantumGate {
+
+    /**
+     * Every qubit the gate touches, target last.
+     */
+    int[] qubits();
+
+    record Hadamard(int qubit) implements QuantumGate {
+        @Override
+        public int[] qubits() {
+            return new int[]{qubit};
+        }
+    }
+
+    record PauliX(int qubit) implements QuantumGate {
+        @Override
+        public int[] qubits() {
+            return new int[]{qubit};
+        }
+    }
+
+    record PauliZ(int qubit) implements QuantumGate {
+        @Override
+        public int[] qubits() {
+            return new int[]{qubit};
+        }
+    }
+
+    record MultiControlledX(int[] controls, int target) implements QuantumGate {
+        public MultiControlledX {
+            controls = controls.clone();
+        }
+
+        @Override
+        public int[] qubits() {
+            return withTarget(controls, target);
+        }
+    }
+
+    record MultiControlledZ(int[] controls, int target) implements QuantumGate {
+        public MultiControlledZ {
+            controls = controls.clone();
+        }
+
+        @Override
+        public int[] qubits() {
+            return withTarget(controls, target);
+        }
+    }
+
+    private static int[] withTarget(int[] controls, int target) {
+        int[] qubits = Arrays.copyOf(controls, controls.length + 1);
+        qubits[controls.length] = target;
+        return qubits;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Predicate evaluated against one field of every record; matching records are the
+ * indices marked by the oracle.
+ */
+public sealed interface RecordPredicate {
+
+    String field();
+
+    record Equals(String field, String value) implements RecordPredicate {}
+
+    /** Inclusive numeric range over an {@link FieldType#INTEGER} field. */
+    record Range(String field, long min, long max) implements RecordPredicate {}
+
+    /** Full-match regular expression over the trimmed field text. */
+    record Regex(String field, String pattern) implements RecordPredicate {}
+}
@@ -0,0 +1,8 @@
+package br.com.atous.demo.domain.model;
+
+public record ResultCompaction(
+    long recordsBefore,
+    long recordsAfter,
+    long bytesBefore,
+    long bytesAfter
+) {}
@@ -0,0 +1,13 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Filter over the result log; null fields match anything. The time range is
+ * [fromMillis, toMillis) and at most {@code limit} results come back, newest first.
+ */
+public record ResultQuery(
+    Integer searchSpaceSize,
+    Integer targetIndex,
+    Long fromMillis,
+    Long toMillis,
+    int limit
+) {}
@@ -0,0 +1,42 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Limits applied to client requests before any amplitude state is allocated.
+ */
+public final class SearchLimits {
+
+    /**
+     * Largest search space a request may ask for, whatever the entrypoint.
+     */
+    public static final int MAX_SEARCH_SPACE = 1_000_000;
+
+    private SearchLimits() {
+    }
+
+    /**
+     * Checks a plain search request against these limits, shared by every entrypoint that
+     * accepts one.
+     *
+     * @return the reason the request is rejected, or null when it may run
+     */
+    public static String validateSearch(int searchSpaceSize, int targetIndex) {
+        if (searchSpaceSize <= 0) {
+            return "Search space size must be positive, got: " + searchSpaceSize;
+        }
+
+        if (searchSpaceSize > MAX_SEARCH_SPACE) {
+            return "Search space size too large (max: 1,000,000), got: " + searchSpaceSize;
+        }
+
+        if (targetIndex < 0) {
+            return "Target index must be non-negative, got: " + targetIndex;
+        }
+
+        if (targetIndex >= searchSpaceSize) {
+            return String.format("Target index (%d) must be less than search space size (%d)",
+                targetIndex, searchSpaceSize);
+        }
+
+        return null;
+    }
+}
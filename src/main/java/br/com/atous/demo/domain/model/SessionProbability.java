@@ -0,0 +1,8 @@
+package br.com.atous.demo.domain.model;
+
+public record SessionProbability(
+    String sessionId,
+    int index,
+    int iterations,
+    double probability
+) {}
@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * A search session as of its last completed iteration. {@code memoryBytes} is what the session
+ * counts against the session memory budget.
+ */
+public record SessionState(
+    String sessionId,
+    int searchSpaceSize,
+    int targetIndex,
+    String backend,
+    int iterations,
+    int optimalIterations,
+    double targetProbability,
+    long memoryBytes
+) {}
@@ -0,0 +1,26 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Evidence for promoting a candidate backend, gathered by re-running sampled searches on it
+ * off the request path.
+ *
+ * {@code sampled} searches were picked, of which {@code skipped} found the shadow queue full.
+ * Each compared search ran on the candidate and on the backend that served it: a divergence is
+ * a candidate {@code foundIndex} different from the one served, and the probability figures are
+ * |P_candidate(target) - P_reference(target)|. The speedup is the reference time over the
+ * candidate time, summed over all compared searches.
+ */
+public record ShadowStats(
+    String candidateBackend,
+    double sampleRate,
+    long sampled,
+    long skipped,
+    long compared,
+    long failed,
+    long foundIndexDivergences,
+    double maxProbabilityDivergence,
+    double meanProbabilityDivergence,
+    long referenceNanos,
+    long candidateNanos,
+    double speedup
+) {}
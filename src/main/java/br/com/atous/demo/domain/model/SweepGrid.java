@@ -0,0 +1,119 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * A parameter sweep over search-space sizes, target indices and iteration multipliers.
+ *
+ * Sizes grow geometrically from {@code minSize} by {@code sizeFactor} up to {@code maxSize},
+ * which is held to {@link SearchLimits#MAX_SEARCH_SPACE};
+ * targets step from {@code minTarget} to {@code maxTarget}, and only those below the current
+ * size are run. A point runs {@code round(multiplier · ⌊π/4 · √N⌋)} iterations, so 1.0 is the
+ * optimal count, and multipliers are held to {@link #MAX_MULTIPLIER}. A grid runs at most
+ * {@link #MAX_POINTS} points. {@code backend} names an amplitude backend, or is null for the
+ * primary one.
+ */
+public record SweepGrid(
+    int minSize,
+    int maxSize,
+    int sizeFactor,
+    int minTarget,
+    int maxTarget,
+    int targetStep,
+    double minMultiplier,
+    double maxMultiplier,
+    double multiplierStep,
+    String backend
+) {
+    /**
+     * Largest iteration multiplier; well past the optimum the success probability only oscillates.
+     */
+    public static final double MAX_MULTIPLIER = 8.0;
+
+    /**
+     * Largest number of points a single grid may run.
+     */
+    public static final long MAX_POINTS = 1_000_000;
+
+    public SweepGrid {
+        if (minSize <= 0 || maxSize < minSize) {
+            throw new IllegalArgumentException(
+                String.format("Size range [%d, %d] must be positive and non-empty", minSize, maxSize)
+            );
+        }
+        if (maxSize > SearchLimits.MAX_SEARCH_SPACE) {
+            throw new IllegalArgumentException("Maximum size too large (max: 1,000,000), got: " + maxSize);
+        }
+        if (sizeFactor < 2) {
+            throw new IllegalArgumentException("Size factor must be at least 2, got: " + sizeFactor);
+        }
+        if (minTarget < 0 || maxTarget < minTarget) {
+            throw new IllegalArgumentException(
+                String.format("Target range [%d, %d] must be non-negative and non-empty", minTarget, maxTarget)
+            );
+        }
+        if (targetStep <= 0) {
+            throw new IllegalArgumentException("Target step must be positive, got: " + targetStep);
+        }
+        if (!(minMultiplier >= 0.0) || !(maxMultiplier >= minMultiplier) || Double.isInfinite(maxMultiplier)) {
+            throw new IllegalArgumentException(
+                String.format("Multiplier range [%s, %s] must be finite, non-negative and non-empty",
+                    minMultiplier, maxMultiplier)
+            );
+        }
+        if (maxMultiplier > MAX_MULTIPLIER) {
+            throw new IllegalArgumentException("Maximum multiplier too large (max: 8), got: " + maxMultiplier);
+        }
+        if (!(multiplierStep >= 0.0) || (multiplierStep == 0.0 && maxMultiplier != minMultiplier)) {
+            throw new IllegalArgumentException("Multiplier step must be positive, got: " + multiplierStep);
+        }
+        if (multiplierStep > 0.0 && (maxMultiplier - minMultiplier) / multiplierStep >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Multiplier step is too small for the range, got: " + multiplierStep);
+        }
+        // The fields are not assigned yet, so the count is taken from the parameters
+        long points = pointCount(minSize, maxSize, sizeFactor, minTarget, maxTarget, targetStep,
+            multiplierCount(minMultiplier, maxMultiplier, multiplierStep));
+        if (points > MAX_POINTS) {
+            throw new IllegalArgumentException("Sweep grid too large (max: 1,000,000 points), got: " + points);
+        }
+    }
+
+    public int multiplierCount() {
+        return multiplierCount(minMultiplier, maxMultiplier, multiplierStep);
+    }
+
+    private static int multiplierCount(double minMultiplier, double maxMultiplier, double multiplierStep) {
+        if (multiplierStep == 0.0) {
+            return 1;
+        }
+        // The tolerance keeps an end point such as 1.5 = 0.5 + 4 · 0.25 despite rounding
+        return (int) Math.floor((maxMultiplier - minMultiplier) / multiplierStep + 1e-9) + 1;
+    }
+
+    public double multiplier(int k) {
+        return minMultiplier + k * multiplierStep;
+    }
+
+    /**
+     * Number of targets run at the given size.
+     */
+    public int targetCount(int size) {
+        return targetCount(size, minTarget, maxTarget, targetStep);
+    }
+
+    private static int targetCount(int size, int minTarget, int maxTarget, int targetStep) {
+        long lastTarget = Math.min(maxTarget, size - 1L);
+        return lastTarget < minTarget ? 0 : (int) ((lastTarget - minTarget) / targetStep + 1);
+    }
+
+    public long pointCount() {
+        return pointCount(minSize, maxSize, sizeFactor, minTarget, maxTarget, targetStep, multiplierCount());
+    }
+
+    private static long pointCount(int minSize, int maxSize, int sizeFactor,
+                                   int minTarget, int maxTarget, int targetStep, int multipliers) {
+        long points = 0;
+        for (long size = minSize; size <= maxSize; size *= sizeFactor) {
+            points += (long) targetCount((int) size, minTarget, maxTarget, targetStep) * multipliers;
+        }
+        return points;
+    }
+}
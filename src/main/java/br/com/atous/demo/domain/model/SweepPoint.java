@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * One point of a parameter sweep. {@code targetProbability} is |a_target|² after the last
+ * iteration; {@code executionTimeNanos} covers initialisation, the iterations and the argmax.
+ */
+public record SweepPoint(
+    int searchSpaceSize,
+    int targetIndex,
+    double iterationMultiplier,
+    int iterations,
+    int foundIndex,
+    boolean success,
+    double targetProbability,
+    long executionTimeNanos
+) {}
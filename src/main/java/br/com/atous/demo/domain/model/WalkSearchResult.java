@@ -0,0 +1,19 @@
+package br.com.atous.demo.domain.model;
+
+/**
+ * Outcome of a quantum-walk search: {@code steps} walk steps were run, out of a budget of
+ * {@code stepBudget}, and {@code markedProbability} is the probability of measuring a marked
+ * vertex after them.
+ */
+public record WalkSearchResult(
+    String graphId,
+    int foundVertex,
+    boolean success,
+    double markedProbability,
+    int markedCount,
+    int steps,
+    int stepBudget,
+    int vertexCount,
+    long edgeCount,
+    long executionTimeMillis
+) {}
@@ -0,0 +1,21 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Capability of backends that can hold one shard of a larger amplitude space: the initial
+ * amplitude comes from the global size, and the diffusion is driven from outside with the
+ * global mean, since a shard only knows its own partial sum.
+ */
+public interface AffineAmplitudeDataStructure extends AmplitudeDataStructure {
+
+    /**
+     * {@code size} amplitudes, all equal to {@code amplitude}.
+     */
+    void initialize(int size, double amplitude);
+
+    /**
+     * a_i → mul · a_i + add for every index.
+     */
+    void applyAffine(double mul, double add);
+
+    double getAmplitudeSum();
+}
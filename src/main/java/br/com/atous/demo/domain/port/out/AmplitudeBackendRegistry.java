@@ -0,0 +1,19 @@
+package br.com.atous.demo.domain.port.out;
+
+import java.util.Set;
+
+/**
+ * Named amplitude backends, so a caller can pick one per request (e.g. a compact
+ * single-precision backend when the precision trade-off is acceptable).
+ */
+public interface AmplitudeBackendRegistry {
+
+    /**
+     * A fresh, uninitialised instance of the named backend.
+     *
+     * @throws IllegalArgumentException if no backend has that name
+     */
+    AmplitudeDataStructure create(String backend);
+
+    Set<String> backends();
+}
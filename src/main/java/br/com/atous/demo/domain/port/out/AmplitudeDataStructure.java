@@ -2,7 +2,37 @@ package br.com.atous.demo.domain.port.out;
 
 public interface AmplitudeDataStructure {
     void initialize(int size);
+
     void applyOracle(int targetIndex);
     void applyDiffusion();
     int findMaxAmplitudeIndex();
-} 
\ No newline at end of file
+    double getAmplitude(int index);
+
+    /**
+     * Approximate heap bytes held by the amplitude state, used for memory budgets;
+     * 0 when unknown or held outside this process.
+     */
+    default long memoryFootprintBytes() {
+        return 0;
+    }
+
+    /**
+     * Approximate heap bytes a fresh {@code initialize(size)} would allocate, so a memory budget
+     * can be checked before the state exists; 0 when unknown.
+     *
+     * @throws IllegalArgumentException if this backend cannot hold a state of that size
+     */
+    default long memoryFootprintBytes(int size) {
+        return 0;
+    }
+
+    /**
+     * Multi-target oracle: inverts the phase of every index in {@code targetIndices}.
+     * Indices are expected to be distinct, since flipping the same index twice cancels out.
+     */
+    default void applyOracle(int[] targetIndices) {
+        for (int targetIndex : targetIndices) {
+            applyOracle(targetIndex);
+        }
+    }
+}
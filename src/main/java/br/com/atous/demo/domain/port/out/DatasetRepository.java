@@ -0,0 +1,12 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.DatasetSchema;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface DatasetRepository {
+    RecordDataset register(String id, Path path, DatasetSchema schema);
+
+    Optional<RecordDataset> find(String id);
+}
@@ -0,0 +1,17 @@
+package br.com.atous.demo.domain.port.out;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface GraphRepository {
+
+    /**
+     * Converts a text edge list (one "u v" pair of vertex ids per line) into a graph file.
+     * Edges are undirected; self-loops and repeated edges are dropped.
+     */
+    SearchGraph build(String id, Path edgeList, Path graphFile);
+
+    SearchGraph open(String id, Path graphFile);
+
+    Optional<SearchGraph> find(String id);
+}
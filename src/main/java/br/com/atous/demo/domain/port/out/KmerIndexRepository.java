@@ -0,0 +1,18 @@
+package br.com.atous.demo.domain.port.out;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface KmerIndexRepository {
+    KmerSearchSpace build(String id, Path fasta, int k, Path indexFile);
+
+    /**
+     * Indexes the sequences of another FASTA file on top of an existing index. The new
+     * chromosomes are appended after the existing ones, so known positions are unchanged.
+     */
+    KmerSearchSpace extend(String id, Path fasta);
+
+    KmerSearchSpace open(String id, Path indexFile);
+
+    Optional<KmerSearchSpace> find(String id);
+}
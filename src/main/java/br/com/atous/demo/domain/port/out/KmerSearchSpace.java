@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.KmerIndexDescriptor;
+
+/**
+ * Search space of sequence positions; a k-mer query yields the positions it starts at,
+ * which become the targets of a multi-target oracle.
+ */
+public interface KmerSearchSpace {
+    KmerIndexDescriptor descriptor();
+
+    /**
+     * Returns the global start positions of {@code kmer}, sorted ascending.
+     */
+    int[] positionsOf(String kmer);
+}
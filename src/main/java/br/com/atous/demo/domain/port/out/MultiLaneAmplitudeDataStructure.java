@@ -0,0 +1,28 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * K independent amplitude states over the same search space, evolved in lockstep: each
+ * operation acts on every lane at once. Lanes start from the uniform superposition.
+ */
+public interface MultiLaneAmplitudeDataStructure {
+    void initialize(int size, int lanes);
+
+    int lanes();
+
+    /**
+     * Inverts the phase of {@code targetIndices[lane]} in each lane; one target per lane.
+     */
+    void applyOracle(int[] targetIndices);
+
+    /**
+     * Reflects every lane about its own mean.
+     */
+    void applyDiffusion();
+
+    /**
+     * The index with the highest probability in each lane.
+     */
+    int[] findMaxAmplitudeIndices();
+
+    double getAmplitude(int lane, int index);
+}
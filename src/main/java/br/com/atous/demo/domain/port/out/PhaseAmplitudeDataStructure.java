@@ -0,0 +1,40 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Amplitude storage with complex amplitudes, so oracles and diffusion can apply an arbitrary
+ * phase instead of only the π flip (fixed-point / π/3 amplitude amplification, partial-phase
+ * oracles).
+ *
+ * With φ = π both operators coincide with the real-valued ones: the oracle negates the target
+ * and the diffusion is 2|s⟩⟨s| - I.
+ */
+public interface PhaseAmplitudeDataStructure extends AmplitudeDataStructure {
+
+    /**
+     * Phase oracle |t⟩ → e^{iφ}|t⟩, leaving every other basis state unchanged.
+     */
+    void applyOracle(int targetIndex, double phase);
+
+    default void applyOracle(int[] targetIndices, double phase) {
+        for (int targetIndex : targetIndices) {
+            applyOracle(targetIndex, phase);
+        }
+    }
+
+    /**
+     * Generalised diffusion (1 - e^{iφ})|s⟩⟨s| - I, i.e. the selective phase shift
+     * I - (1 - e^{iφ})|s⟩⟨s| about the uniform state up to a global phase of -1.
+     */
+    void applyDiffusion(double phase);
+
+    /**
+     * Imaginary part of the amplitude; {@link #getAmplitude(int)} returns the real part.
+     */
+    double getImaginaryAmplitude(int index);
+
+    default double getProbability(int index) {
+        double real = getAmplitude(index);
+        double imaginary = getImaginaryAmplitude(index);
+        return real * real + imaginary * imaginary;
+    }
+}
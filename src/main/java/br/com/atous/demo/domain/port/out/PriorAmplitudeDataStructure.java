@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.PriorWeights;
+
+/**
+ * Capability of backends that can start from a non-uniform initial state (general amplitude
+ * amplification).
+ */
+public interface PriorAmplitudeDataStructure extends AmplitudeDataStructure {
+
+    /**
+     * Starts from the prior state |p⟩ = Σ √(w_i / Σw) |i⟩ instead of the uniform superposition;
+     * {@link #applyDiffusion()} then reflects about |p⟩.
+     */
+    void initialize(PriorWeights prior);
+}
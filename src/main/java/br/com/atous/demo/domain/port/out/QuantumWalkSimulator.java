@@ -0,0 +1,19 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Discrete-time quantum walk search over a graph. The marked vertices play the oracle's part:
+ * their coin is a phase flip instead of a reflection about the mean of their arcs.
+ */
+public interface QuantumWalkSimulator {
+
+    /**
+     * Probability of measuring a marked vertex after 0, 1, …, {@code steps} walk steps.
+     * {@code markedVertices} must be distinct and within the graph.
+     */
+    double[] markedProbabilities(SearchGraph graph, int[] markedVertices, int steps);
+
+    /**
+     * The state after {@code steps} walk steps from the uniform superposition over arcs.
+     */
+    WalkState run(SearchGraph graph, int[] markedVertices, int steps);
+}
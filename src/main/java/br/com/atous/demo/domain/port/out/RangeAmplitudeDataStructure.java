@@ -0,0 +1,29 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Capability of backends with range operations over the half-open range [from, to), which is
+ * what a diffusion local to each block of the index space needs.
+ */
+public interface RangeAmplitudeDataStructure extends AmplitudeDataStructure {
+
+    double rangeSum(int from, int to);
+
+    /**
+     * a_i → mul · a_i + add for every i in [from, to).
+     */
+    void rangeAffineUpdate(int from, int to, double mul, double add);
+
+    /**
+     * Reflects every block of {@code blockSize} consecutive amplitudes about its own mean,
+     * a → 2·mean_block - a: one range sum and one range update per block.
+     */
+    default void applyBlockDiffusion(int blockSize) {
+        for (int from = 0; from < size(); from += blockSize) {
+            int to = Math.min(size(), from + blockSize);
+            double mean = rangeSum(from, to) / (to - from);
+            rangeAffineUpdate(from, to, -1.0, 2.0 * mean);
+        }
+    }
+
+    int size();
+}
@@ -0,0 +1,21 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.DatasetDescriptor;
+import br.com.atous.demo.domain.model.RecordPredicate;
+
+public interface RecordDataset {
+    DatasetDescriptor descriptor();
+
+    int recordCount();
+
+    /**
+     * Scans every record and returns the indices matching {@code predicate}, sorted ascending.
+     */
+    int[] mark(RecordPredicate predicate);
+
+    /**
+     * Reads an {@code INTEGER} field of every record into a primitive column, indexed by
+     * record; fails if any record does not hold a valid integer there.
+     */
+    long[] integerColumn(String field);
+}
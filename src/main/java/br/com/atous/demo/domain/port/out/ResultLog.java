@@ -0,0 +1,28 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.LoggedResult;
+import br.com.atous.demo.domain.model.ResultCompaction;
+import br.com.atous.demo.domain.model.ResultQuery;
+
+import java.util.List;
+
+/**
+ * Append-only, durable record of search results.
+ */
+public interface ResultLog {
+    boolean enabled();
+
+    /**
+     * Hands the result to the log and returns immediately; it becomes durable, and visible to
+     * {@link #query}, shortly after. A result may be dropped when the log cannot keep up.
+     */
+    void append(GroverResult result);
+
+    List<LoggedResult> query(ResultQuery query);
+
+    /**
+     * Rewrites the log keeping only the newest {@code keepPerKey} results per (N, target).
+     */
+    ResultCompaction compact(int keepPerKey);
+}
@@ -0,0 +1,13 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Classical linear scan, the baseline the Grover backends are measured against: the oracle is
+ * {@code keys[i] == needle}, evaluated over the key column until it holds.
+ */
+public interface ScanEngine {
+
+    /**
+     * Index of the first keys[i] == needle in [0, length), or -1.
+     */
+    int indexOf(int[] keys, int length, int needle);
+}
@@ -0,0 +1,27 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.GraphDescriptor;
+
+/**
+ * Search space of graph vertices in compressed sparse row form: the outgoing arcs of vertex
+ * v are the arc indices [arcStart(v), arcStart(v + 1)), sorted by neighbour.
+ */
+public interface SearchGraph {
+    GraphDescriptor descriptor();
+
+    int vertexCount();
+
+    int arcCount();
+
+    /**
+     * First arc of {@code vertex}; {@code arcStart(vertexCount())} is {@link #arcCount()}.
+     */
+    int arcStart(int vertex);
+
+    int neighbour(int arc);
+
+    /**
+     * Index of the opposite arc: for u→v, the arc v→u.
+     */
+    int reverseArc(int arc);
+}
@@ -0,0 +1,17 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.CommunicationStats;
+
+/**
+ * An amplitude space partitioned across shards that live outside this JVM. It behaves like
+ * any {@link AmplitudeDataStructure}, but holds connections and must be closed.
+ */
+public interface ShardedAmplitudeSpace extends AmplitudeDataStructure, AutoCloseable {
+
+    int shardCount();
+
+    CommunicationStats communicationStats();
+
+    @Override
+    void close();
+}
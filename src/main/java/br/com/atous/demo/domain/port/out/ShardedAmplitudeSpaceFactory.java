@@ -0,0 +1,11 @@
+package br.com.atous.demo.domain.port.out;
+
+public interface ShardedAmplitudeSpaceFactory {
+
+    /**
+     * Connects to the configured shards.
+     *
+     * @throws IllegalStateException if no shards are configured or one is unreachable
+     */
+    ShardedAmplitudeSpace open();
+}
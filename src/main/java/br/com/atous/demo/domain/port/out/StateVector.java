@@ -0,0 +1,14 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Read-only view of a simulated n-qubit register with 2^n real amplitudes.
+ */
+public interface StateVector {
+    int qubitCount();
+
+    double getAmplitude(int basisIndex);
+
+    int findMaxAmplitudeIndex();
+
+    double getTotalProbability();
+}
@@ -0,0 +1,16 @@
+package br.com.atous.demo.domain.port.out;
+
+import br.com.atous.demo.domain.model.QuantumCircuit;
+
+public interface StateVectorSimulator {
+
+    /**
+     * Runs the circuit on |0…0⟩.
+     */
+    StateVector run(QuantumCircuit circuit);
+
+    /**
+     * Number of kernels the circuit compiles to after gate fusion, i.e. full passes over the state.
+     */
+    int kernelCount(QuantumCircuit circuit);
+}
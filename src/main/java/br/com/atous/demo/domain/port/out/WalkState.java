@@ -0,0 +1,12 @@
+package br.com.atous.demo.domain.port.out;
+
+/**
+ * Read-only view of a quantum walk's state, measured per vertex.
+ */
+public interface WalkState {
+    double vertexProbability(int vertex);
+
+    int findMaxProbabilityVertex();
+
+    double getTotalProbability();
+}
@@ -0,0 +1,190 @@
+package br.com.atous.demo.entrypoints.binary;
+
+import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.SearchLimits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Raw-socket alternative to {@code POST /api/v1/search/execute} for high request rates, using
+ * the fixed frames of {@link SearchFrameCodec}.
+ *
+ * Each connection is served by a virtual thread that parses every complete frame in its
+ * input buffer, answers them in order into one output buffer and writes that buffer only when
+ * the input runs dry, so a client that pipelines many requests gets them back in a few
+ * writes. Requests are held to the same {@link SearchLimits} as the REST endpoint. Disabled
+ * unless {@code search.binary.port} is set (0 picks a free port); binds to loopback unless
+ * {@code search.binary.bind-address} says otherwise.
+ */
+@Component
+public class BinarySearchServer implements SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinarySearchServer.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final QuantumSearchUseCase searchUseCase;
+    private final int configuredPort;
+    private final String bindAddress;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocketChannel serverChannel;
+
+    public BinarySearchServer(QuantumSearchUseCase searchUseCase,
+                              @Value("${search.binary.port:-1}") int configuredPort,
+                              @Value("${search.binary.bind-address:127.0.0.1}") String bindAddress) {
+        this.searchUseCase = searchUseCase;
+        this.configuredPort = configuredPort;
+        this.bindAddress = bindAddress;
+    }
+
+    @Override
+    public void start() {
+        if (configuredPort < 0) {
+            return;
+        }
+        try {
+            ServerSocketChannel channel = ServerSocketChannel.open();
+            channel.bind(new InetSocketAddress(InetAddress.getByName(bindAddress), configuredPort));
+            serverChannel = channel;
+            Thread.ofPlatform().daemon().name("binary-search-acceptor").start(() -> acceptLoop(channel));
+            LOG.info("Binary search protocol listening on {}:{}", bindAddress, port());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not open binary search port " + bindAddress + ":" + configuredPort, e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        ServerSocketChannel channel = serverChannel;
+        serverChannel = null;
+        if (channel == null) {
+            return;
+        }
+        closeQuietly(channel);
+        connections.forEach(this::closeQuietly);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverChannel != null;
+    }
+
+    /**
+     * The bound port, or -1 when the endpoint is disabled.
+     */
+    public int port() {
+        ServerSocketChannel channel = serverChannel;
+        if (channel == null) {
+            return -1;
+        }
+        return channel.socket().getLocalPort();
+    }
+
+    /**
+     * The bound address, or null when the endpoint is disabled.
+     */
+    public InetSocketAddress localAddress() {
+        ServerSocketChannel channel = serverChannel;
+        if (channel == null) {
+            return null;
+        }
+        return (InetSocketAddress) channel.socket().getLocalSocketAddress();
+    }
+
+    private void acceptLoop(ServerSocketChannel channel) {
+        while (channel.isOpen()) {
+            try {
+                SocketChannel connection = channel.accept();
+                connections.add(connection);
+                Thread.ofVirtual().name("binary-search-connection").start(() -> serve(connection));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                LOG.warn("Binary search acceptor failed", e);
+                return;
+            }
+        }
+    }
+
+    private void serve(SocketChannel connection) {
+        try (connection) {
+            connection.socket().setTcpNoDelay(true);
+            ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (connection.read(in) >= 0) {
+                in.flip();
+                while (in.remaining() >= Integer.BYTES) {
+                    int length = in.getInt(in.position());
+                    if (length != SearchFrameCodec.REQUEST_LENGTH) {
+                        // Fixed layout: anything else means the stream is out of sync
+                        LOG.debug("Closing binary search connection after a {}-byte frame", length);
+                        return;
+                    }
+                    if (in.remaining() < Integer.BYTES + length) {
+                        break;
+                    }
+                    in.getInt();
+                    int searchSpaceSize = in.getInt();
+                    int targetIndex = in.getInt();
+                    if (out.remaining() < SearchFrameCodec.MAX_RESPONSE_FRAME) {
+                        flush(connection, out);
+                    }
+                    answer(searchSpaceSize, targetIndex, out);
+                }
+                in.compact();
+                flush(connection, out);
+            }
+        } catch (IOException e) {
+            // Client went away
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void answer(int searchSpaceSize, int targetIndex, ByteBuffer out) {
+        String validationError = SearchLimits.validateSearch(searchSpaceSize, targetIndex);
+        if (validationError != null) {
+            SearchFrameCodec.writeError(out, SearchFrameCodec.BAD_REQUEST, validationError);
+            return;
+        }
+        try {
+            GroverResult result = searchUseCase.executeSearch(searchSpaceSize, targetIndex);
+            SearchFrameCodec.writeResult(out, result);
+        } catch (IllegalArgumentException e) {
+            SearchFrameCodec.writeError(out, SearchFrameCodec.BAD_REQUEST, e.getMessage());
+        } catch (Exception | OutOfMemoryError e) {
+            // A failed allocation must not take the connection thread down with it
+            SearchFrameCodec.writeError(out, SearchFrameCodec.ERROR, "Internal error: " + e.getMessage());
+        }
+    }
+
+    private void flush(SocketChannel connection, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            connection.write(out);
+        }
+        out.clear();
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Shutting down anyway
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.atous.demo.entrypoints.binary;
+
+import br.com.atous.demo.domain.model.GroverResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-layout frames of the binary search protocol, big-endian, each prefixed with its
+ * payload length as an int.
+ *
+ * <pre>
+ * request   [int 8]  int searchSpaceSize, int targetIndex
+ * response  [int 26] byte OK, int foundIndex, int targetIndex, byte success,
+ *                    long executionTimeMillis, int searchSpaceSize, int iterations
+ *           [int n]  byte BAD_REQUEST | ERROR, n - 1 bytes of UTF-8 message
+ * </pre>
+ *
+ * Results are written field by field straight into the connection's buffer, so encoding
+ * allocates nothing.
+ */
+public final class SearchFrameCodec {
+
+    public static final int REQUEST_LENGTH = 8;
+    public static final int RESULT_LENGTH = 26;
+    public static final int MAX_MESSAGE_BYTES = 512;
+    public static final int MAX_RESPONSE_FRAME = Integer.BYTES + 1 + Math.max(RESULT_LENGTH, MAX_MESSAGE_BYTES);
+
+    public static final byte OK = 0;
+    public static final byte BAD_REQUEST = 1;
+    public static final byte ERROR = 2;
+
+    private SearchFrameCodec() {
+    }
+
+    public static void writeRequest(ByteBuffer buffer, int searchSpaceSize, int targetIndex) {
+        buffer.putInt(REQUEST_LENGTH);
+        buffer.putInt(searchSpaceSize);
+        buffer.putInt(targetIndex);
+    }
+
+    public static void writeResult(ByteBuffer buffer, GroverResult result) {
+        buffer.putInt(RESULT_LENGTH);
+        buffer.put(OK);
+        buffer.putInt(result.foundIndex());
+        buffer.putInt(result.targetIndex());
+        buffer.put((byte) (result.success() ? 1 : 0));
+        buffer.putLong(result.executionTimeMillis());
+        buffer.putInt(result.searchSpaceSize());
+        buffer.putInt(result.iterations());
+    }
+
+    public static void writeError(ByteBuffer buffer, byte status, String message) {
+        byte[] bytes = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_MESSAGE_BYTES);
+        buffer.putInt(1 + length);
+        buffer.put(status);
+        buffer.put(bytes, 0, length);
+    }
+
+    /**
+     * Reads the payload of a response frame whose length prefix has already been consumed.
+     * Returns the result, or throws with the server's message for a failed request.
+     *
+     * @throws IllegalArgumentException for BAD_REQUEST
+     * @throws IllegalStateException    for ERROR
+     */
+    public static GroverResult readResponse(ByteBuffer buffer, int length) {
+        byte status = buffer.get();
+        if (status != OK) {
+            byte[] message = new byte[length - 1];
+            buffer.get(message);
+            String text = new String(message, StandardCharsets.UTF_8);
+            if (status == BAD_REQUEST) {
+                throw new IllegalArgumentException(text);
+            }
+            throw new IllegalStateException(text);
+        }
+        int foundIndex = buffer.getInt();
+        int targetIndex = buffer.getInt();
+        boolean success = buffer.get() != 0;
+        long executionTimeMillis = buffer.getLong();
+        int searchSpaceSize = buffer.getInt();
+        int iterations = buffer.getInt();
+        return new GroverResult(foundIndex, targetIndex, success, executionTimeMillis, searchSpaceSize, iterations);
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile("!test") // Não executa este runner durante os testes
+@Profile("demo") // Opcional: a busca síncrona atrasava o startup, ative com --spring.profiles.active=demo
 public class AlgorithmRunner implements CommandLineRunner {
 
     private static final Logger LOG = LoggerFactory.getLogger(AlgorithmRunner.class);
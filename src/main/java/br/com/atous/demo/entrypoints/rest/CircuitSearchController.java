@@ -0,0 +1,39 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.CircuitSearchUseCase;
+import br.com.atous.demo.domain.model.CircuitSearchResult;
+import br.com.atous.demo.entrypoints.rest.dto.CircuitSearchRequest;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/circuits")
+public class CircuitSearchController {
+
+    private final CircuitSearchUseCase circuitSearchUseCase;
+
+    public CircuitSearchController(CircuitSearchUseCase circuitSearchUseCase) {
+        this.circuitSearchUseCase = circuitSearchUseCase;
+    }
+
+    @PostMapping("/grover")
+    public ResponseEntity<SearchResponse> executeCircuitSearch(@RequestBody CircuitSearchRequest request) {
+        try {
+            CircuitSearchResult result = circuitSearchUseCase.executeSearch(request.qubitCount(), request.targetIndex());
+
+            String message = result.success() ?
+                String.format("Search successful! Found target at index %d (%d gates fused into %d kernels)",
+                    result.foundIndex(), result.gateCount(), result.kernelCount()) :
+                "Search completed but target not found. Found index: " + result.foundIndex();
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Confines the file names sent by clients (datasets, FASTA files, indexes, graphs, priors) to
+ * {@code search.data-dir}. Names are resolved against that directory; anything absolute or that
+ * escapes it after normalisation is rejected with an {@link IllegalArgumentException}, which the
+ * controllers answer with 400.
+ */
+@Component
+public class DataDirectory {
+
+    private final Path root;
+
+    public DataDirectory(@Value("${search.data-dir:data}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    public Path resolve(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("File name must not be blank");
+        }
+        Path relative = Path.of(name).normalize();
+        Path resolved = root.resolve(relative).normalize();
+        if (relative.isAbsolute() || !resolved.startsWith(root) || resolved.equals(root)) {
+            throw new IllegalArgumentException("File '" + name + "' must be a relative path inside the data directory");
+        }
+        return resolved;
+    }
+
+    public Path root() {
+        return root;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.ExtremumSearchUseCase;
+import br.com.atous.demo.application.port.in.PredicateSearchUseCase;
+import br.com.atous.demo.domain.model.DatasetDescriptor;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.ExtremumSearchResult;
+import br.com.atous.demo.domain.model.PredicateSearchResult;
+import br.com.atous.demo.entrypoints.rest.dto.DatasetRegistrationRequest;
+import br.com.atous.demo.entrypoints.rest.dto.ExtremumRequest;
+import br.com.atous.demo.entrypoints.rest.dto.PredicateSearchRequest;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/datasets")
+public class DatasetController {
+
+    private final PredicateSearchUseCase predicateSearchUseCase;
+    private final ExtremumSearchUseCase extremumSearchUseCase;
+    private final DataDirectory dataDirectory;
+
+    public DatasetController(PredicateSearchUseCase predicateSearchUseCase, ExtremumSearchUseCase extremumSearchUseCase,
+                             DataDirectory dataDirectory) {
+        this.predicateSearchUseCase = predicateSearchUseCase;
+        this.extremumSearchUseCase = extremumSearchUseCase;
+        this.dataDirectory = dataDirectory;
+    }
+
+    @PostMapping
+    public ResponseEntity<SearchResponse> registerDataset(@RequestBody DatasetRegistrationRequest request) {
+        if (request.path() == null || request.path().isBlank()) {
+            return ResponseEntity.badRequest().body(new SearchResponse("Dataset path must not be blank", null));
+        }
+
+        try {
+            DatasetDescriptor descriptor = predicateSearchUseCase.registerDataset(
+                request.id(), dataDirectory.resolve(request.path()), new DatasetSchema(request.recordLength(), request.fields()));
+            return ResponseEntity.ok(new SearchResponse(
+                "Dataset registered with " + descriptor.recordCount() + " records", descriptor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+
+    @PostMapping("/{datasetId}/search")
+    public ResponseEntity<SearchResponse> search(@PathVariable String datasetId,
+                                                 @RequestBody PredicateSearchRequest request) {
+        try {
+            PredicateSearchResult result = predicateSearchUseCase.search(datasetId, request.toPredicate());
+
+            String message = result.success() ?
+                "Search successful! Found matching record at index " + result.foundIndex() :
+                "Search completed but no matching record was found (" + result.markedCount() + " marked)";
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+
+    @PostMapping("/{datasetId}/extremum")
+    public ResponseEntity<SearchResponse> findExtremum(@PathVariable String datasetId,
+                                                       @RequestBody ExtremumRequest request) {
+        if (request.field() == null || request.field().isBlank()) {
+            return ResponseEntity.badRequest().body(new SearchResponse("Field must not be blank", null));
+        }
+
+        try {
+            ExtremumSearchResult result = extremumSearchUseCase.findExtremum(datasetId, request.field(), request.toExtremum());
+
+            String message = result.success() ?
+                String.format("Search successful! Record %d holds the %s value %d (%d rounds, %d oracle calls)",
+                    result.foundIndex(), result.extremum().name().toLowerCase(), result.foundValue(),
+                    result.rounds(), result.oracleCalls()) :
+                String.format("Search completed but record %d (value %d) is not the %s",
+                    result.foundIndex(), result.foundValue(), result.extremum().name().toLowerCase());
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.DistributedSearchUseCase;
+import br.com.atous.demo.domain.model.DistributedSearchResult;
+import br.com.atous.demo.entrypoints.rest.dto.DistributedSearchRequest;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/search")
+public class DistributedSearchController {
+
+    private final DistributedSearchUseCase distributedSearchUseCase;
+
+    public DistributedSearchController(DistributedSearchUseCase distributedSearchUseCase) {
+        this.distributedSearchUseCase = distributedSearchUseCase;
+    }
+
+    @PostMapping("/distributed")
+    public ResponseEntity<SearchResponse> executeDistributedSearch(@RequestBody DistributedSearchRequest request) {
+        try {
+            DistributedSearchResult result =
+                distributedSearchUseCase.executeSearch(request.searchSpaceSize(), request.targetIndex());
+
+            String message = result.success() ?
+                String.format("Search successful! Found target at index %d across %d shards (%.1f bytes per iteration)",
+                    result.foundIndex(), result.shardCount(), result.communication().bytesPerIteration()) :
+                "Search completed but target not found. Found index: " + result.foundIndex();
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
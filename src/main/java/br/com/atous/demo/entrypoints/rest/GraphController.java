@@ -0,0 +1,75 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.WalkSearchUseCase;
+import br.com.atous.demo.domain.model.GraphDescriptor;
+import br.com.atous.demo.domain.model.WalkSearchResult;
+import br.com.atous.demo.entrypoints.rest.dto.GraphRequest;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import br.com.atous.demo.entrypoints.rest.dto.WalkSearchRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v1/graphs")
+public class GraphController {
+
+    private final WalkSearchUseCase walkSearchUseCase;
+    private final DataDirectory dataDirectory;
+
+    public GraphController(WalkSearchUseCase walkSearchUseCase, DataDirectory dataDirectory) {
+        this.walkSearchUseCase = walkSearchUseCase;
+        this.dataDirectory = dataDirectory;
+    }
+
+    @PostMapping
+    public ResponseEntity<SearchResponse> buildGraph(@RequestBody GraphRequest request) {
+        if (request.edgeListPath() == null || request.graphPath() == null) {
+            return ResponseEntity.badRequest().body(new SearchResponse("edgeListPath and graphPath are required", null));
+        }
+        return describe("Graph built", () -> walkSearchUseCase.buildGraph(
+            request.id(), dataDirectory.resolve(request.edgeListPath()), dataDirectory.resolve(request.graphPath())));
+    }
+
+    @PostMapping("/open")
+    public ResponseEntity<SearchResponse> openGraph(@RequestBody GraphRequest request) {
+        if (request.graphPath() == null) {
+            return ResponseEntity.badRequest().body(new SearchResponse("graphPath is required", null));
+        }
+        return describe("Graph opened", () -> walkSearchUseCase.openGraph(request.id(), dataDirectory.resolve(request.graphPath())));
+    }
+
+    @PostMapping("/{graphId}/search")
+    public ResponseEntity<SearchResponse> search(@PathVariable String graphId, @RequestBody WalkSearchRequest request) {
+        try {
+            WalkSearchResult result = walkSearchUseCase.search(graphId, request.markedVertices(), request.maxSteps());
+
+            String message = result.success() ?
+                String.format("Search successful! Found marked vertex %d after %d walk steps (probability %.3f)",
+                    result.foundVertex(), result.steps(), result.markedProbability()) :
+                "Search completed but no marked vertex was found. Found vertex: " + result.foundVertex();
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+
+    private ResponseEntity<SearchResponse> describe(String message, Supplier<GraphDescriptor> action) {
+        try {
+            GraphDescriptor descriptor = action.get();
+            return ResponseEntity.ok(new SearchResponse(
+                String.format("%s: %d vertices, %d edges", message, descriptor.vertexCount(), descriptor.edgeCount()),
+                descriptor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.KmerSearchUseCase;
+import br.com.atous.demo.domain.model.KmerIndexDescriptor;
+import br.com.atous.demo.domain.model.KmerSearchResult;
+import br.com.atous.demo.entrypoints.rest.dto.KmerIndexRequest;
+import br.com.atous.demo.entrypoints.rest.dto.KmerSearchRequest;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v1/kmer-indexes")
+public class KmerIndexController {
+
+    private final KmerSearchUseCase kmerSearchUseCase;
+    private final DataDirectory dataDirectory;
+
+    public KmerIndexController(KmerSearchUseCase kmerSearchUseCase, DataDirectory dataDirectory) {
+        this.kmerSearchUseCase = kmerSearchUseCase;
+        this.dataDirectory = dataDirectory;
+    }
+
+    @PostMapping
+    public ResponseEntity<SearchResponse> buildIndex(@RequestBody KmerIndexRequest request) {
+        if (request.fastaPath() == null || request.indexPath() == null || request.k() == null) {
+            return ResponseEntity.badRequest().body(new SearchResponse("fastaPath, indexPath and k are required", null));
+        }
+        return describe("K-mer index built", () -> kmerSearchUseCase.buildIndex(request.id(),
+            dataDirectory.resolve(request.fastaPath()), request.k(), dataDirectory.resolve(request.indexPath())));
+    }
+
+    @PostMapping("/open")
+    public ResponseEntity<SearchResponse> openIndex(@RequestBody KmerIndexRequest request) {
+        if (request.indexPath() == null) {
+            return ResponseEntity.badRequest().body(new SearchResponse("indexPath is required", null));
+        }
+        return describe("K-mer index opened", () -> kmerSearchUseCase.openIndex(request.id(), dataDirectory.resolve(request.indexPath())));
+    }
+
+    @PostMapping("/{indexId}/sequences")
+    public ResponseEntity<SearchResponse> extendIndex(@PathVariable String indexId, @RequestBody KmerIndexRequest request) {
+        if (request.fastaPath() == null) {
+            return ResponseEntity.badRequest().body(new SearchResponse("fastaPath is required", null));
+        }
+        return describe("K-mer index extended", () -> kmerSearchUseCase.extendIndex(indexId, dataDirectory.resolve(request.fastaPath())));
+    }
+
+    @PostMapping("/{indexId}/search")
+    public ResponseEntity<SearchResponse> search(@PathVariable String indexId, @RequestBody KmerSearchRequest request) {
+        try {
+            KmerSearchResult result = kmerSearchUseCase.search(indexId, request.kmer());
+
+            String message = result.success() ?
+                String.format("Search successful! Found %s at %s:%d", result.kmer(), result.chromosome(), result.chromosomeOffset()) :
+                "Search completed but the k-mer does not occur in the index";
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+
+    private ResponseEntity<SearchResponse> describe(String message, Supplier<KmerIndexDescriptor> action) {
+        try {
+            KmerIndexDescriptor descriptor = action.get();
+            return ResponseEntity.ok(new SearchResponse(
+                String.format("%s: %d positions, %d distinct %d-mers", message,
+                    descriptor.searchSpaceSize(), descriptor.distinctKmers(), descriptor.k()),
+                descriptor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
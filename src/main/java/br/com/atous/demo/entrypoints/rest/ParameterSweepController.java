@@ -0,0 +1,76 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.ParameterSweepUseCase;
+import br.com.atous.demo.domain.model.SweepGrid;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import br.com.atous.demo.entrypoints.rest.dto.SweepRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams a parameter sweep as NDJSON, one {@code SweepPoint} per line in completion order.
+ * The grid is validated before the response starts, so a bad grid is still a 400; a failure
+ * once points are flowing ends the stream with a {@code SearchResponse} line instead.
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+public class ParameterSweepController {
+
+    static final String POINT_COUNT_HEADER = "X-Sweep-Points";
+
+    private final ParameterSweepUseCase sweepUseCase;
+    private final ObjectMapper objectMapper;
+
+    public ParameterSweepController(ParameterSweepUseCase sweepUseCase, ObjectMapper objectMapper) {
+        this.sweepUseCase = sweepUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping("/sweep")
+    public ResponseEntity<StreamingResponseBody> executeSweep(@RequestBody SweepRequest request) {
+        SweepGrid grid;
+        long points;
+        try {
+            grid = new SweepGrid(request.minSize(), request.maxSize(), request.sizeFactor(),
+                request.minTarget(), request.maxTarget(), request.targetStep(),
+                request.minMultiplier(), request.maxMultiplier(), request.multiplierStep(), request.backend());
+            points = sweepUseCase.plan(grid);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(output -> writeLine(output, new SearchResponse(e.getMessage(), null)));
+        }
+
+        StreamingResponseBody body = output -> {
+            try {
+                sweepUseCase.sweep(grid, point -> writeLine(output, point));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                writeLine(output, new SearchResponse("Sweep aborted: " + e.getMessage(), null));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(POINT_COUNT_HEADER, Long.toString(points))
+            .body(body);
+    }
+
+    // Each line is flushed on its own so clients see points as they complete
+    private void writeLine(OutputStream output, Object value) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(value));
+            output.write('\n');
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.PartialSearchUseCase;
+import br.com.atous.demo.domain.model.PartialSearchResult;
+import br.com.atous.demo.entrypoints.rest.dto.PartialSearchRequest;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/search")
+public class PartialSearchController {
+
+    private final PartialSearchUseCase partialSearchUseCase;
+
+    public PartialSearchController(PartialSearchUseCase partialSearchUseCase) {
+        this.partialSearchUseCase = partialSearchUseCase;
+    }
+
+    @PostMapping("/partial")
+    public ResponseEntity<SearchResponse> executePartialSearch(@RequestBody PartialSearchRequest request) {
+        try {
+            PartialSearchResult result = request.backend() == null
+                ? partialSearchUseCase.searchBlock(request.searchSpaceSize(), request.targetIndex(), request.blockCount())
+                : partialSearchUseCase.searchBlock(request.searchSpaceSize(), request.targetIndex(),
+                    request.blockCount(), request.backend());
+
+            String message = result.search().success() ?
+                String.format("Search successful! Target is in block %d of %d (%d oracle calls, %d saved)",
+                    result.foundBlock(), result.blockCount(), result.search().oracleCalls(),
+                    result.search().oracleCallsSaved()) :
+                "Search completed but the target's block was not found. Found block: " + result.foundBlock();
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
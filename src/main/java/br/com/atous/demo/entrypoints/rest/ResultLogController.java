@@ -0,0 +1,58 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.ResultLogUseCase;
+import br.com.atous.demo.domain.model.LoggedResult;
+import br.com.atous.demo.domain.model.ResultCompaction;
+import br.com.atous.demo.domain.model.ResultQuery;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v1/results")
+public class ResultLogController {
+
+    private final ResultLogUseCase resultLogUseCase;
+
+    public ResultLogController(ResultLogUseCase resultLogUseCase) {
+        this.resultLogUseCase = resultLogUseCase;
+    }
+
+    // Every filter is optional; from/to are epoch milliseconds, newest results first
+    @GetMapping
+    public ResponseEntity<SearchResponse> query(@RequestParam(required = false) Integer searchSpaceSize,
+                                                @RequestParam(required = false) Integer targetIndex,
+                                                @RequestParam(required = false) Long from,
+                                                @RequestParam(required = false) Long to,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        return respond(() -> {
+            List<LoggedResult> results = resultLogUseCase.query(
+                new ResultQuery(searchSpaceSize, targetIndex, from, to, limit));
+            return new SearchResponse(results.size() + " logged results", results);
+        });
+    }
+
+    @PostMapping("/compact")
+    public ResponseEntity<SearchResponse> compact(@RequestParam(defaultValue = "1") int keepPerKey) {
+        return respond(() -> {
+            ResultCompaction compaction = resultLogUseCase.compact(keepPerKey);
+            String message = String.format("Result log compacted from %d to %d records",
+                compaction.recordsBefore(), compaction.recordsAfter());
+            return new SearchResponse(message, compaction);
+        });
+    }
+
+    private ResponseEntity<SearchResponse> respond(Supplier<SearchResponse> action) {
+        try {
+            return ResponseEntity.ok(action.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
@@ -2,8 +2,12 @@ package br.com.atous.demo.entrypoints.rest;
 
 import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
 import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.model.SearchLimits;
+import br.com.atous.demo.entrypoints.rest.dto.PriorSearchRequest;
 import br.com.atous.demo.entrypoints.rest.dto.SearchRequest;
 import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import br.com.atous.demo.infrastructure.dataset.BinaryPriorWeights;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +16,11 @@ import org.springframework.web.bind.annotation.*;
 public class SearchController {
 
     private final QuantumSearchUseCase searchUseCase;
+    private final DataDirectory dataDirectory;
 
-    public SearchController(QuantumSearchUseCase searchUseCase) {
+    public SearchController(QuantumSearchUseCase searchUseCase, DataDirectory dataDirectory) {
         this.searchUseCase = searchUseCase;
+        this.dataDirectory = dataDirectory;
     }
 
     @PostMapping("/execute")
@@ -26,7 +32,9 @@ public class SearchController {
         }
         
         try {
-            GroverResult result = searchUseCase.executeSearch(request.searchSpaceSize(), request.targetIndex());
+            GroverResult result = request.backend() == null
+                ? searchUseCase.executeSearch(request.searchSpaceSize(), request.targetIndex())
+                : searchUseCase.executeSearch(request.searchSpaceSize(), request.targetIndex(), request.backend());
             
             String message = result.success() ? 
                 "Search successful! Found target at index " + result.foundIndex() : 
@@ -34,30 +42,46 @@ public class SearchController {
                 
             return ResponseEntity.ok(new SearchResponse(message, result));
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body(new SearchResponse("Internal error: " + e.getMessage(), null));
         }
     }
     
-    private String validateRequest(SearchRequest request) {
-        if (request.searchSpaceSize() <= 0) {
-            return "Search space size must be positive, got: " + request.searchSpaceSize();
-        }
-        
-        if (request.searchSpaceSize() > 1_000_000) {
-            return "Search space size too large (max: 1,000,000), got: " + request.searchSpaceSize();
-        }
-        
-        if (request.targetIndex() < 0) {
-            return "Target index must be non-negative, got: " + request.targetIndex();
+    @PostMapping("/prior")
+    public ResponseEntity<SearchResponse> executePriorSearch(@RequestBody PriorSearchRequest request) {
+        if ((request.priorWeights() == null) == (request.priorFile() == null)) {
+            return ResponseEntity.badRequest()
+                .body(new SearchResponse("Exactly one of priorWeights or priorFile is required", null));
         }
-        
-        if (request.targetIndex() >= request.searchSpaceSize()) {
-            return String.format("Target index (%d) must be less than search space size (%d)", 
-                request.targetIndex(), request.searchSpaceSize());
+
+        try {
+            PriorWeights prior = request.priorWeights() != null
+                ? PriorWeights.of(request.priorWeights())
+                : new BinaryPriorWeights(dataDirectory.resolve(request.priorFile()));
+            if (prior.size() > SearchLimits.MAX_SEARCH_SPACE) {
+                return ResponseEntity.badRequest().body(new SearchResponse(
+                    "Prior too large (max: 1,000,000 weights), got: " + prior.size(), null));
+            }
+            GroverResult result = searchUseCase.executeSearch(request.targetIndex(), prior);
+
+            String message = result.success() ?
+                "Search successful! Found target at index " + result.foundIndex() :
+                "Search completed but target not found. Found index: " + result.foundIndex();
+
+            return ResponseEntity.ok(new SearchResponse(message, result));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
         }
-        
-        return null; // Validação passou
     }
-} 
\ No newline at end of file
+
+    private String validateRequest(SearchRequest request) {
+        return SearchLimits.validateSearch(request.searchSpaceSize(), request.targetIndex());
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.SearchCoalescingMetricsUseCase;
+import br.com.atous.demo.application.port.in.SearchShadowMetricsUseCase;
+import br.com.atous.demo.domain.model.CoalescingStats;
+import br.com.atous.demo.domain.model.ShadowStats;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/search/metrics")
+public class SearchMetricsController {
+
+    private final SearchCoalescingMetricsUseCase metricsUseCase;
+    private final SearchShadowMetricsUseCase shadowMetricsUseCase;
+
+    public SearchMetricsController(SearchCoalescingMetricsUseCase metricsUseCase,
+                                   SearchShadowMetricsUseCase shadowMetricsUseCase) {
+        this.metricsUseCase = metricsUseCase;
+        this.shadowMetricsUseCase = shadowMetricsUseCase;
+    }
+
+    @GetMapping("/coalescing")
+    public ResponseEntity<SearchResponse> coalescing() {
+        CoalescingStats stats = metricsUseCase.coalescingStats();
+        String message = String.format("%d searches executed, %d requests coalesced, %d failed",
+            stats.executed(), stats.coalesced(), stats.failed());
+        return ResponseEntity.ok(new SearchResponse(message, stats));
+    }
+
+    @GetMapping("/shadow")
+    public ResponseEntity<SearchResponse> shadow() {
+        ShadowStats stats = shadowMetricsUseCase.shadowStats();
+        if (stats.candidateBackend() == null) {
+            return ResponseEntity.ok(new SearchResponse("Shadow execution is off, set search.shadow.backend", stats));
+        }
+        String message = String.format("%s: %d searches compared, %d foundIndex divergences, speedup %.2fx",
+            stats.candidateBackend(), stats.compared(), stats.foundIndexDivergences(), stats.speedup());
+        return ResponseEntity.ok(new SearchResponse(message, stats));
+    }
+}
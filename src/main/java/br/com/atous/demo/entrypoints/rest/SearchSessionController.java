@@ -0,0 +1,82 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import br.com.atous.demo.application.port.in.SearchSessionUseCase;
+import br.com.atous.demo.domain.model.SessionProbability;
+import br.com.atous.demo.domain.model.SessionState;
+import br.com.atous.demo.entrypoints.rest.dto.SearchResponse;
+import br.com.atous.demo.entrypoints.rest.dto.SessionRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/v1/sessions")
+public class SearchSessionController {
+
+    private final SearchSessionUseCase sessionUseCase;
+
+    public SearchSessionController(SearchSessionUseCase sessionUseCase) {
+        this.sessionUseCase = sessionUseCase;
+    }
+
+    @PostMapping
+    public ResponseEntity<SearchResponse> create(@RequestBody SessionRequest request) {
+        return respond(() -> {
+            SessionState state = sessionUseCase.create(request.searchSpaceSize(), request.targetIndex(), request.backend());
+            return new SearchResponse("Session created: " + state.sessionId(), state);
+        });
+    }
+
+    @PostMapping("/{sessionId}/step")
+    public ResponseEntity<SearchResponse> step(@PathVariable String sessionId,
+                                               @RequestParam(defaultValue = "1") int k) {
+        return respond(() -> {
+            SessionState state = sessionUseCase.step(sessionId, k);
+            String message = String.format("%d of %d optimal iterations applied, target probability %.6f",
+                state.iterations(), state.optimalIterations(), state.targetProbability());
+            return new SearchResponse(message, state);
+        });
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<SearchResponse> state(@PathVariable String sessionId) {
+        return respond(() -> new SearchResponse("Session " + sessionId, sessionUseCase.state(sessionId)));
+    }
+
+    // Without an index the session's own target is queried
+    @GetMapping("/{sessionId}/probability")
+    public ResponseEntity<SearchResponse> probability(@PathVariable String sessionId,
+                                                      @RequestParam(required = false) Integer index) {
+        return respond(() -> {
+            int queried = index != null ? index : sessionUseCase.state(sessionId).targetIndex();
+            SessionProbability probability = sessionUseCase.probability(sessionId, queried);
+            String message = String.format("Probability of index %d after %d iterations: %.6f",
+                probability.index(), probability.iterations(), probability.probability());
+            return new SearchResponse(message, probability);
+        });
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<SearchResponse> close(@PathVariable String sessionId) {
+        return respond(() -> {
+            sessionUseCase.close(sessionId);
+            return new SearchResponse("Session closed: " + sessionId, null);
+        });
+    }
+
+    private ResponseEntity<SearchResponse> respond(Supplier<SearchResponse> action) {
+        try {
+            return ResponseEntity.ok(action.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new SearchResponse(e.getMessage(), null));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new SearchResponse(e.getMessage(), null));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(new SearchResponse("Internal error: " + e.getMessage(), null));
+        }
+    }
+}
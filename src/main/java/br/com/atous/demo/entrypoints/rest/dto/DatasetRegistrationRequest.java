@@ -0,0 +1,9 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+import br.com.atous.demo.domain.model.DatasetField;
+
+import java.util.List;
+
+// path é relativo a search.data-dir
+public record DatasetRegistrationRequest(String id, String path, int recordLength, List<DatasetField> fields) {
+}
@@ -0,0 +1,20 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+import br.com.atous.demo.domain.model.Extremum;
+
+/**
+ * {@code extremum} is MINIMUM or MAXIMUM; null means MINIMUM.
+ */
+public record ExtremumRequest(String field, String extremum) {
+
+    public Extremum toExtremum() {
+        if (extremum == null) {
+            return Extremum.MINIMUM;
+        }
+        try {
+            return Extremum.valueOf(extremum.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported extremum: " + extremum + " (MINIMUM or MAXIMUM)");
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+// edgeListPath e graphPath são relativos a search.data-dir
+public record GraphRequest(String id, String edgeListPath, String graphPath) {
+}
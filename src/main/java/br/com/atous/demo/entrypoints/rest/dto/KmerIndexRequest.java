@@ -0,0 +1,4 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+public record KmerIndexRequest(String id, String fastaPath, String indexPath, Integer k) {
+}
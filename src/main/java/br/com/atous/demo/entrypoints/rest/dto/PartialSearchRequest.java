@@ -0,0 +1,5 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+// backend é opcional: nulo usa o backend primário
+public record PartialSearchRequest(int searchSpaceSize, int targetIndex, int blockCount, String backend) {
+}
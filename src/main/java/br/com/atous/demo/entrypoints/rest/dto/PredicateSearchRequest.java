@@ -0,0 +1,32 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+import br.com.atous.demo.domain.model.RecordPredicate;
+
+/**
+ * Predicate over one dataset field. {@code operator} is EQUALS (uses {@code value}),
+ * RANGE (uses {@code min}/{@code max}) or REGEX (uses {@code pattern}).
+ */
+public record PredicateSearchRequest(String field, String operator, String value, Long min, Long max, String pattern) {
+
+    public RecordPredicate toPredicate() {
+        if (field == null || field.isBlank()) {
+            throw new IllegalArgumentException("Predicate field must not be blank");
+        }
+        if (operator == null) {
+            throw new IllegalArgumentException("Predicate operator is required (EQUALS, RANGE or REGEX)");
+        }
+        return switch (operator.toUpperCase()) {
+            case "EQUALS" -> new RecordPredicate.Equals(field, require(value, "value", operator));
+            case "RANGE" -> new RecordPredicate.Range(field, require(min, "min", operator), require(max, "max", operator));
+            case "REGEX" -> new RecordPredicate.Regex(field, require(pattern, "pattern", operator));
+            default -> throw new IllegalArgumentException("Unsupported predicate operator: " + operator);
+        };
+    }
+
+    private static <T> T require(T argument, String name, String operator) {
+        if (argument == null) {
+            throw new IllegalArgumentException("Predicate '" + name + "' is required for operator " + operator);
+        }
+        return argument;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+/**
+ * Search from a prior state: weights are given inline or, for large spaces, as a file of
+ * little-endian doubles inside {@code search.data-dir} on the server. Exactly one of the two
+ * must be present.
+ */
+public record PriorSearchRequest(int targetIndex, double[] priorWeights, String priorFile) {
+}
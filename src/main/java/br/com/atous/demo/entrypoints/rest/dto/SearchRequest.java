@@ -1,5 +1,6 @@
 package br.com.atous.demo.entrypoints.rest.dto;
 
 // Usamos record para DTOs imutáveis e concisos
-public record SearchRequest(int searchSpaceSize, int targetIndex) {
+// backend é opcional: nulo usa o backend primário
+public record SearchRequest(int searchSpaceSize, int targetIndex, String backend) {
 } 
\ No newline at end of file
@@ -0,0 +1,4 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+public record SessionRequest(int searchSpaceSize, int targetIndex, String backend) {
+}
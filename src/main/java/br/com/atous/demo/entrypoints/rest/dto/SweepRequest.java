@@ -0,0 +1,15 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+public record SweepRequest(
+    int minSize,
+    int maxSize,
+    int sizeFactor,
+    int minTarget,
+    int maxTarget,
+    int targetStep,
+    double minMultiplier,
+    double maxMultiplier,
+    double multiplierStep,
+    String backend
+) {
+}
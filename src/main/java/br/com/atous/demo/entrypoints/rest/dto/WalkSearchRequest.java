@@ -0,0 +1,5 @@
+package br.com.atous.demo.entrypoints.rest.dto;
+
+// maxSteps é opcional: nulo usa o orçamento padrão ⌈π/2 · √(N ln N)⌉
+public record WalkSearchRequest(int[] markedVertices, Integer maxSteps) {
+}
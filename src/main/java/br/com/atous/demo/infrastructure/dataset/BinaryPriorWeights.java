@@ -0,0 +1,68 @@
+package br.com.atous.demo.infrastructure.dataset;
+
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.model.SearchLimits;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * Prior weights stored as consecutive little-endian IEEE-754 doubles, one per index.
+ * Each pass reads the whole file and closes it before returning the iterator, so a consumer
+ * that stops early or fails on a weight never leaves a descriptor open. Passes are held to
+ * {@link SearchLimits#MAX_SEARCH_SPACE} weights, 8 MB at most.
+ */
+public class BinaryPriorWeights implements PriorWeights {
+
+    private final Path path;
+    private final int size;
+
+    public BinaryPriorWeights(Path path) {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % Double.BYTES != 0) {
+                throw new IllegalArgumentException("Prior file size " + bytes + " is not a multiple of 8 bytes: " + path);
+            }
+            if (bytes / Double.BYTES > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Prior file has too many weights: " + path);
+            }
+            this.size = (int) (bytes / Double.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open prior file " + path, e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        if (size > SearchLimits.MAX_SEARCH_SPACE) {
+            throw new IllegalArgumentException(
+                "Prior file has " + size + " weights, above the limit of " + SearchLimits.MAX_SEARCH_SPACE + ": " + path);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IllegalStateException("Prior file truncated while reading: " + path);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read prior file " + path, e);
+        }
+        double[] weights = new double[size];
+        buffer.flip().asDoubleBuffer().get(weights);
+        return Arrays.stream(weights).iterator();
+    }
+}
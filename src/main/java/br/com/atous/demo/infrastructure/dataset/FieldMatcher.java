@@ -0,0 +1,172 @@
+package br.com.atous.demo.infrastructure.dataset;
+
+import br.com.atous.demo.domain.model.DatasetField;
+import br.com.atous.demo.domain.model.FieldType;
+import br.com.atous.demo.domain.model.RecordPredicate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates a predicate directly against the bytes of a mapped record, without copying
+ * the field out of the buffer. Instances may hold per-scan mutable state (regex matchers),
+ * so every scanning thread obtains its own through {@link #forPredicate}.
+ */
+@FunctionalInterface
+interface FieldMatcher {
+
+    boolean matches(ByteBuffer buffer, int fieldStart);
+
+    static Supplier<FieldMatcher> forPredicate(RecordPredicate predicate, DatasetField field) {
+        return switch (predicate) {
+            case RecordPredicate.Equals equals when field.type() == FieldType.INTEGER -> {
+                long expected = parseLongArgument(equals.value(), field);
+                yield () -> (buffer, start) -> {
+                    long value = parseInteger(buffer, start, field.length());
+                    return value != NOT_A_NUMBER && value == expected;
+                };
+            }
+            case RecordPredicate.Equals equals -> {
+                byte[] expected = equals.value().getBytes(StandardCharsets.US_ASCII);
+                yield () -> (buffer, start) -> textEquals(buffer, start, field.length(), expected);
+            }
+            case RecordPredicate.Range range -> {
+                if (field.type() != FieldType.INTEGER) {
+                    throw new IllegalArgumentException("Range predicates require an INTEGER field: " + field.name());
+                }
+                if (range.min() > range.max()) {
+                    throw new IllegalArgumentException(
+                        String.format("Range minimum (%d) must not exceed maximum (%d)", range.min(), range.max())
+                    );
+                }
+                yield () -> (buffer, start) -> {
+                    long value = parseInteger(buffer, start, field.length());
+                    return value != NOT_A_NUMBER && value >= range.min() && value <= range.max();
+                };
+            }
+            case RecordPredicate.Regex regex -> {
+                Pattern pattern = Pattern.compile(regex.pattern());
+                yield () -> {
+                    AsciiFieldSequence sequence = new AsciiFieldSequence();
+                    Matcher matcher = pattern.matcher("");
+                    return (buffer, start) -> matcher.reset(sequence.wrap(buffer, start, field.length())).matches();
+                };
+            }
+        };
+    }
+
+    // Sentinel for fields that do not hold a valid integer; such records never match
+    long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private static long parseLongArgument(String value, DatasetField field) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format("Value '%s' is not a valid integer for field '%s'", value, field.name())
+            );
+        }
+    }
+
+    private static boolean textEquals(ByteBuffer buffer, int start, int length, byte[] expected) {
+        if (expected.length > length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        for (int i = expected.length; i < length; i++) {
+            byte padding = buffer.get(start + i);
+            if (padding != ' ' && padding != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long parseInteger(ByteBuffer buffer, int start, int length) {
+        int end = start + length;
+        int i = start;
+        while (i < end && buffer.get(i) == ' ') {
+            i++;
+        }
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        int digitsStart = i;
+        long value = 0;
+        while (i < end) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            i++;
+        }
+        int digits = i - digitsStart;
+        if (digits == 0 || digits > 18) {
+            return NOT_A_NUMBER;
+        }
+        while (i < end) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != 0) {
+                return NOT_A_NUMBER;
+            }
+            i++;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Read-only {@link CharSequence} view over an ASCII field, trimmed of trailing padding,
+     * so regular expressions run straight over the mapped bytes.
+     */
+    final class AsciiFieldSequence implements CharSequence {
+        private ByteBuffer buffer;
+        private int start;
+        private int length;
+
+        AsciiFieldSequence wrap(ByteBuffer buffer, int start, int fieldLength) {
+            int end = start + fieldLength;
+            while (end > start && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == 0)) {
+                end--;
+            }
+            this.buffer = buffer;
+            this.start = start;
+            this.length = end - start;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return toString().substring(from, to);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
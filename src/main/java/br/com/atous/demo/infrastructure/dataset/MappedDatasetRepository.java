@@ -0,0 +1,46 @@
+package br.com.atous.demo.infrastructure.dataset;
+
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.port.out.DatasetRepository;
+import br.com.atous.demo.domain.port.out.RecordDataset;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class MappedDatasetRepository implements DatasetRepository {
+
+    private final Map<String, RecordDataset> datasets = new ConcurrentHashMap<>();
+
+    @Override
+    public RecordDataset register(String id, Path path, DatasetSchema schema) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Dataset id must not be blank");
+        }
+        if (datasets.containsKey(id)) {
+            throw alreadyRegistered(id);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Dataset file not found: " + path);
+        }
+        RecordDataset dataset = new MappedRecordDataset(id, path, schema);
+        // A concurrent registration of the same id may have won since the check
+        if (datasets.putIfAbsent(id, dataset) != null) {
+            throw alreadyRegistered(id);
+        }
+        return dataset;
+    }
+
+    @Override
+    public Optional<RecordDataset> find(String id) {
+        return Optional.ofNullable(datasets.get(id));
+    }
+
+    private static IllegalArgumentException alreadyRegistered(String id) {
+        return new IllegalArgumentException("Dataset id already registered: " + id);
+    }
+}
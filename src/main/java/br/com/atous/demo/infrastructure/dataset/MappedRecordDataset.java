@@ -0,0 +1,149 @@
+package br.com.atous.demo.infrastructure.dataset;
+
+import br.com.atous.demo.domain.model.DatasetDescriptor;
+import br.com.atous.demo.domain.model.DatasetField;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.FieldType;
+import br.com.atous.demo.domain.model.RecordPredicate;
+import br.com.atous.demo.domain.port.out.RecordDataset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only dataset of fixed-width records backed by memory-mapped file segments.
+ *
+ * A single {@link MappedByteBuffer} is limited to 2 GiB, so the file is mapped as a
+ * sequence of segments that each hold a whole number of records. Scans split the record
+ * range into chunks that are evaluated in parallel straight from the page cache; the only
+ * per-chunk allocation is the primitive buffer collecting matching indices.
+ */
+public class MappedRecordDataset implements RecordDataset {
+
+    static final int SCAN_CHUNK_RECORDS = 1 << 16;
+
+    private final DatasetDescriptor descriptor;
+    private final MappedByteBuffer[] segments;
+    private final int recordLength;
+    private final int recordsPerSegment;
+    private final int recordCount;
+
+    public MappedRecordDataset(String id, Path path, DatasetSchema schema) {
+        this.recordLength = schema.recordLength();
+        this.recordsPerSegment = Integer.MAX_VALUE / recordLength;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize == 0 || fileSize % recordLength != 0) {
+                throw new IllegalArgumentException(
+                    String.format("File size %d is not a positive multiple of the record length %d", fileSize, recordLength)
+                );
+            }
+            long records = fileSize / recordLength;
+            if (records > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Dataset has too many records: " + records);
+            }
+            this.recordCount = (int) records;
+
+            int segmentCount = (recordCount + recordsPerSegment - 1) / recordsPerSegment;
+            this.segments = new MappedByteBuffer[segmentCount];
+            long segmentBytes = (long) recordsPerSegment * recordLength;
+            for (int i = 0; i < segmentCount; i++) {
+                long position = i * segmentBytes;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentBytes, fileSize - position));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map dataset " + path, e);
+        }
+
+        this.descriptor = new DatasetDescriptor(id, path.toString(), recordCount, schema);
+    }
+
+    @Override
+    public DatasetDescriptor descriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public int recordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public int[] mark(RecordPredicate predicate) {
+        DatasetField field = descriptor.schema().field(predicate.field());
+        Supplier<FieldMatcher> matchers = FieldMatcher.forPredicate(predicate, field);
+
+        int chunks = (recordCount + SCAN_CHUNK_RECORDS - 1) / SCAN_CHUNK_RECORDS;
+        int[][] matchesPerChunk = IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(chunk -> scanChunk(chunk, field.offset(), matchers.get()))
+            .toArray(int[][]::new);
+
+        int total = 0;
+        for (int[] matches : matchesPerChunk) {
+            total += matches.length;
+        }
+        int[] marked = new int[total];
+        int position = 0;
+        for (int[] matches : matchesPerChunk) {
+            System.arraycopy(matches, 0, marked, position, matches.length);
+            position += matches.length;
+        }
+        return marked;
+    }
+
+    @Override
+    public long[] integerColumn(String fieldName) {
+        DatasetField field = descriptor.schema().field(fieldName);
+        if (field.type() != FieldType.INTEGER) {
+            throw new IllegalArgumentException("Field is not an INTEGER field: " + field.name());
+        }
+
+        long[] column = new long[recordCount];
+        int chunks = (recordCount + SCAN_CHUNK_RECORDS - 1) / SCAN_CHUNK_RECORDS;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * SCAN_CHUNK_RECORDS;
+            int to = (int) Math.min((long) from + SCAN_CHUNK_RECORDS, recordCount);
+            for (int record = from; record < to; record++) {
+                ByteBuffer segment = segments[record / recordsPerSegment];
+                int fieldStart = (record % recordsPerSegment) * recordLength + field.offset();
+                long value = FieldMatcher.parseInteger(segment, fieldStart, field.length());
+                if (value == FieldMatcher.NOT_A_NUMBER) {
+                    throw new IllegalArgumentException(
+                        String.format("Record %d has no integer value in field '%s'", record, field.name())
+                    );
+                }
+                column[record] = value;
+            }
+        });
+        return column;
+    }
+
+    private int[] scanChunk(int chunk, int fieldOffset, FieldMatcher matcher) {
+        int from = chunk * SCAN_CHUNK_RECORDS;
+        int to = (int) Math.min((long) from + SCAN_CHUNK_RECORDS, recordCount);
+
+        int[] matches = new int[16];
+        int count = 0;
+        for (int record = from; record < to; record++) {
+            ByteBuffer segment = segments[record / recordsPerSegment];
+            int fieldStart = (record % recordsPerSegment) * recordLength + fieldOffset;
+            if (matcher.matches(segment, fieldStart)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = record;
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional JIT warm-up: once the application is ready, a low-priority daemon thread runs a few
+ * hundred small searches (initialise, oracle/diffusion rounds, argmax) on every registered
+ * backend, so the first real requests do not pay for interpretation and compilation.
+ *
+ * Readiness is never delayed and nothing is recorded: the structures come straight from the
+ * registry, bypassing the search services, their pools and the result log. Disabled unless
+ * {@code search.warmup.enabled} is set.
+ */
+@Component
+public class BackendWarmup implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BackendWarmup.class);
+
+    private final AmplitudeBackendRegistry backendRegistry;
+    private final boolean enabled;
+    private final int searchSpaceSize;
+    private final int searches;
+
+    public BackendWarmup(AmplitudeBackendRegistry backendRegistry,
+                         @Value("${search.warmup.enabled:false}") boolean enabled,
+                         @Value("${search.warmup.search-space:4096}") int searchSpaceSize,
+                         @Value("${search.warmup.searches:300}") int searches) {
+        if (searchSpaceSize < 1 || searches < 1) {
+            throw new IllegalArgumentException("Warm-up search space and search count must be positive");
+        }
+        this.backendRegistry = backendRegistry;
+        this.enabled = enabled;
+        this.searchSpaceSize = searchSpaceSize;
+        this.searches = searches;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Thread.ofPlatform().daemon().priority(Thread.MIN_PRIORITY).name("backend-warmup").start(this::warmUp);
+    }
+
+    /**
+     * Runs the warm-up searches on the calling thread and returns the number of backends that
+     * completed them; a backend that fails is logged and skipped.
+     */
+    int warmUp() {
+        long start = System.nanoTime();
+        int iterations = Math.max(1, (int) Math.floor(Math.PI / 4.0 * Math.sqrt(searchSpaceSize)));
+        int warmed = 0;
+        for (String backend : backendRegistry.backends()) {
+            try {
+                AmplitudeDataStructure structure = backendRegistry.create(backend);
+                for (int search = 0; search < searches; search++) {
+                    int target = search % searchSpaceSize;
+                    structure.initialize(searchSpaceSize);
+                    for (int i = 0; i < iterations; i++) {
+                        structure.applyOracle(target);
+                        structure.applyDiffusion();
+                    }
+                    structure.findMaxAmplitudeIndex();
+                }
+                warmed++;
+            } catch (RuntimeException e) {
+                LOG.warn("Warm-up of backend '{}' failed", backend, e);
+            }
+        }
+        LOG.info("Warmed up {} amplitude backends with {} searches of N = {} in {} ms",
+            warmed, searches, searchSpaceSize, (System.nanoTime() - start) / 1_000_000);
+        return warmed;
+    }
+}
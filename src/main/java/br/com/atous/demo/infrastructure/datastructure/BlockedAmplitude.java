@@ -0,0 +1,340 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.AffineAmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.RangeAmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Square-root decomposition of the amplitudes into contiguous blocks, as a cache-friendly
+ * alternative to the segment tree's heap-ordered nodes.
+ *
+ * The raw values live in one flat array, cut into power-of-two blocks of about √N elements
+ * (never fewer than one 64-byte cache line of doubles). Amplitudes are two affine tags deep:
+ * a_i = G(B_b(raw_i)), with a per-block tag B_b and one global tag G. Per block we keep the
+ * sum under B_b and the raw extremes, so:
+ * <ul>
+ *   <li>the diffusion composes only the global tag, O(1);</li>
+ *   <li>the oracle rewrites one raw value and its block summary, O(1) amortised;</li>
+ *   <li>{@link #rangeAffineUpdate} tags whole blocks and rewrites only the two partial ones,
+ *       O(√N);</li>
+ *   <li>the argmax screens the block extremes (an affine map is monotone, so max|a| of a block
+ *       sits at its raw max or raw min) and scans a single block, O(√N).</li>
+ * </ul>
+ * All scans run over contiguous memory, which is what keeps large states out of DRAM-latency
+ * territory. Prior-weighted initial states are not supported.
+ */
+@Component
+@Scope("prototype")
+public class BlockedAmplitude implements AffineAmplitudeDataStructure, RangeAmplitudeDataStructure {
+
+    private static final int MIN_BLOCK_SHIFT = 3; // 8 doubles = one 64-byte cache line
+
+    private double[] raw;
+    private double[] blockMul;
+    private double[] blockAdd;
+    private double[] blockSum;    // Σ B_b(raw_i) over the block
+    private double[] blockRawMax;
+    private double[] blockRawMin;
+    private boolean[] extremesStale;
+    private double totalSum;      // Σ blockSum
+    private double globalMul;
+    private double globalAdd;
+    private int blockShift;
+    private int size;
+
+    @Override
+    public void initialize(int size) {
+        initialize(size, 1.0 / Math.sqrt(size));
+    }
+
+    @Override
+    public void initialize(int size, double initialValue) {
+        validateSize(size);
+        this.size = size;
+        this.blockShift = blockShiftFor(size);
+        int blocks = ((size - 1) >>> blockShift) + 1;
+
+        this.raw = new double[size];
+        this.blockMul = new double[blocks];
+        this.blockAdd = new double[blocks];
+        this.blockSum = new double[blocks];
+        this.blockRawMax = new double[blocks];
+        this.blockRawMin = new double[blocks];
+        this.extremesStale = new boolean[blocks];
+
+        Arrays.fill(raw, initialValue);
+        Arrays.fill(blockMul, 1.0);
+        Arrays.fill(blockRawMax, initialValue);
+        Arrays.fill(blockRawMin, initialValue);
+        for (int b = 0; b < blocks; b++) {
+            blockSum[b] = initialValue * blockLength(b);
+        }
+        this.totalSum = initialValue * size;
+        this.globalMul = 1.0;
+        this.globalAdd = 0.0;
+    }
+
+    // Block of 2^k ≈ √N elements, k ≥ MIN_BLOCK_SHIFT
+    static int blockShiftFor(int size) {
+        int sqrt = (int) Math.ceil(Math.sqrt(size));
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(1, sqrt - 1));
+        return Math.max(MIN_BLOCK_SHIFT, shift);
+    }
+
+    @Override
+    public void applyOracle(int targetIndex) {
+        validateTargetIndex(targetIndex);
+        setAmplitude(targetIndex, -amplitudeAt(targetIndex));
+    }
+
+    @Override
+    public void applyDiffusion() {
+        // a → 2·mean - a composed into the global tag: G'(x) = -G(x) + 2·mean
+        double mean = (globalMul * totalSum + globalAdd * size) / size;
+        globalMul = -globalMul;
+        globalAdd = 2.0 * mean - globalAdd;
+    }
+
+    @Override
+    public void applyAffine(double mul, double add) {
+        if (mul == 0.0) {
+            throw new IllegalArgumentException("Multiplier must be non-zero, the block tags have to stay invertible");
+        }
+        globalMul *= mul;
+        globalAdd = mul * globalAdd + add;
+    }
+
+    @Override
+    public double getAmplitudeSum() {
+        return globalMul * totalSum + globalAdd * size;
+    }
+
+    /**
+     * Σ a_i over [from, to). Whole blocks read their summary; the partial blocks at either end
+     * are summed element by element.
+     */
+    @Override
+    public double rangeSum(int from, int to) {
+        validateRange(from, to);
+        int blockLength = 1 << blockShift;
+        double total = 0.0;
+        int index = from;
+        while (index < to) {
+            int block = index >>> blockShift;
+            int blockStart = block << blockShift;
+            int blockEnd = Math.min(size, blockStart + blockLength);
+            if (index == blockStart && blockEnd <= to) {
+                total += globalMul * blockSum[block] + globalAdd * (blockEnd - blockStart);
+                index = blockEnd;
+            } else {
+                int end = Math.min(blockEnd, to);
+                for (; index < end; index++) {
+                    total += amplitudeAt(index);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * a_i → mul · a_i + add for every i in [from, to). Whole blocks only compose their tag;
+     * the partial blocks at either end are rewritten element by element.
+     */
+    @Override
+    public void rangeAffineUpdate(int from, int to, double mul, double add) {
+        validateRange(from, to);
+        if (mul == 0.0) {
+            throw new IllegalArgumentException("Multiplier must be non-zero, the block tags have to stay invertible");
+        }
+        int blockLength = 1 << blockShift;
+        int index = from;
+        while (index < to) {
+            int block = index >>> blockShift;
+            int blockStart = block << blockShift;
+            int blockEnd = Math.min(size, blockStart + blockLength);
+            if (index == blockStart && blockEnd <= to) {
+                // G(y') = mul·G(y) + add  ⇔  y' = mul·y + (mul·gAdd + add - gAdd) / gMul
+                double blockLevelAdd = (mul * globalAdd + add - globalAdd) / globalMul;
+                blockMul[block] *= mul;
+                blockAdd[block] = mul * blockAdd[block] + blockLevelAdd;
+                double updatedSum = mul * blockSum[block] + blockLevelAdd * (blockEnd - blockStart);
+                totalSum += updatedSum - blockSum[block];
+                blockSum[block] = updatedSum;
+                index = blockEnd;
+            } else {
+                int end = Math.min(blockEnd, to);
+                for (; index < end; index++) {
+                    setAmplitude(index, mul * amplitudeAt(index) + add);
+                }
+            }
+        }
+    }
+
+    private double amplitudeAt(int index) {
+        int block = index >>> blockShift;
+        return globalMul * (blockMul[block] * raw[index] + blockAdd[block]) + globalAdd;
+    }
+
+    // Inverts both tags to find the raw value, then patches the block summary
+    private void setAmplitude(int index, double amplitude) {
+        int block = index >>> blockShift;
+        double blockLevel = (amplitude - globalAdd) / globalMul;
+        double previousRaw = raw[index];
+        double updatedRaw = (blockLevel - blockAdd[block]) / blockMul[block];
+        raw[index] = updatedRaw;
+
+        double delta = blockLevel - (blockMul[block] * previousRaw + blockAdd[block]);
+        blockSum[block] += delta;
+        totalSum += delta;
+
+        // Growing an extreme is cheap; moving away from one defers a rescan to the next argmax
+        if (updatedRaw >= blockRawMax[block]) {
+            blockRawMax[block] = updatedRaw;
+        } else if (previousRaw == blockRawMax[block]) {
+            extremesStale[block] = true;
+        }
+        if (updatedRaw <= blockRawMin[block]) {
+            blockRawMin[block] = updatedRaw;
+        } else if (previousRaw == blockRawMin[block]) {
+            extremesStale[block] = true;
+        }
+    }
+
+    @Override
+    public int findMaxAmplitudeIndex() {
+        if (raw == null) {
+            throw new IllegalStateException("Amplitudes not initialized");
+        }
+        int bestBlock = 0;
+        double bestProbability = -1.0;
+        for (int b = 0; b < blockSum.length; b++) {
+            if (extremesStale[b]) {
+                refreshExtremes(b);
+            }
+            double mul = globalMul * blockMul[b];
+            double add = globalMul * blockAdd[b] + globalAdd;
+            double high = mul * blockRawMax[b] + add;
+            double low = mul * blockRawMin[b] + add;
+            double probability = Math.max(high * high, low * low);
+            if (probability > bestProbability) {
+                bestProbability = probability;
+                bestBlock = b;
+            }
+        }
+
+        // Same arithmetic as the screen, so the winning element is found in this block
+        int from = bestBlock << blockShift;
+        int to = Math.min(size, from + (1 << blockShift));
+        double mul = globalMul * blockMul[bestBlock];
+        double add = globalMul * blockAdd[bestBlock] + globalAdd;
+        int maxIndex = from;
+        double maxProbability = -1.0;
+        for (int i = from; i < to; i++) {
+            double amplitude = mul * raw[i] + add;
+            double probability = amplitude * amplitude;
+            if (probability > maxProbability) {
+                maxProbability = probability;
+                maxIndex = i;
+            }
+        }
+        return maxIndex;
+    }
+
+    private void refreshExtremes(int block) {
+        int from = block << blockShift;
+        int to = Math.min(size, from + (1 << blockShift));
+        double max = raw[from];
+        double min = raw[from];
+        for (int i = from + 1; i < to; i++) {
+            max = Math.max(max, raw[i]);
+            min = Math.min(min, raw[i]);
+        }
+        blockRawMax[block] = max;
+        blockRawMin[block] = min;
+        extremesStale[block] = false;
+    }
+
+    private int blockLength(int block) {
+        int from = block << blockShift;
+        return Math.min(size, from + (1 << blockShift)) - from;
+    }
+
+    @Override
+    public double getAmplitude(int index) {
+        validateTargetIndex(index);
+        return amplitudeAt(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        if (raw == null) {
+            return 0;
+        }
+        return (long) Double.BYTES * raw.length + (5L * Double.BYTES + 1) * blockSum.length;
+    }
+
+    @Override
+    public long memoryFootprintBytes(int size) {
+        validateSize(size);
+        int blocks = ((size - 1) >>> blockShiftFor(size)) + 1;
+        return (long) Double.BYTES * size + (5L * Double.BYTES + 1) * blocks;
+    }
+
+    // --- Validation Methods ---
+
+    private void validateSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive, got: " + size);
+        }
+    }
+
+    private void validateRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IllegalArgumentException(
+                String.format("Range [%d, %d) is out of bounds [0, %d)", from, to, size)
+            );
+        }
+    }
+
+    private void validateTargetIndex(int targetIndex) {
+        if (targetIndex < 0 || targetIndex >= size) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, size)
+            );
+        }
+    }
+
+    // --- Auxiliary Methods (for debugging/testing) ---
+
+    public double[] getAllAmplitudes() {
+        double[] amplitudes = new double[size];
+        if (size == 0) {
+            return amplitudes;
+        }
+        System.arraycopy(raw, 0, amplitudes, 0, size);
+        AmplitudeKernels kernels = AmplitudeKernels.get();
+        for (int b = 0; b < blockSum.length; b++) {
+            int from = b << blockShift;
+            kernels.affine(amplitudes, from, from + blockLength(b),
+                globalMul * blockMul[b], globalMul * blockAdd[b] + globalAdd);
+        }
+        return amplitudes;
+    }
+
+    public double getTotalProbability() {
+        return AmplitudeKernels.get().sumOfSquares(getAllAmplitudes(), 0, size);
+    }
+
+    int blockSize() {
+        return 1 << blockShift;
+    }
+}
@@ -0,0 +1,237 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.PhaseAmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+/**
+ * Complex-valued counterpart of {@link SegmentTreeAmplitude}.
+ *
+ * Every node keeps the split real/imaginary sum of its range and a complex affine lazy tag
+ * f(z) = m·z + a, all in parallel primitive arrays indexed by heap position. A phase oracle
+ * is a point update with m = e^{iφ}; the generalised diffusion is a root update with m = -1
+ * and a = (1 - e^{iφ})·mean, so one iteration stays O(log N) whatever the phase.
+ */
+@Component
+@Scope("prototype")
+public class ComplexSegmentTreeAmplitude implements PhaseAmplitudeDataStructure {
+
+    private double[] sumRe;
+    private double[] sumIm;
+    private double[] mulRe; // Complex multiplier of the lazy tag
+    private double[] mulIm;
+    private double[] addRe; // Complex additive of the lazy tag
+    private double[] addIm;
+    private int size;
+    private double scanMaxProbability; // Running maximum of findMaxAmplitudeIndex
+
+    @Override
+    public void initialize(int size) {
+        validateSize(size);
+        this.size = size;
+        int nodes = 4 * size;
+        this.sumRe = new double[nodes];
+        this.sumIm = new double[nodes];
+        this.mulRe = new double[nodes];
+        this.mulIm = new double[nodes];
+        this.addRe = new double[nodes];
+        this.addIm = new double[nodes];
+
+        build(1, 0, size - 1, 1.0 / Math.sqrt(size));
+    }
+
+    private void build(int nodeIdx, int start, int end, double leafValue) {
+        mulRe[nodeIdx] = 1.0;
+        if (start == end) {
+            sumRe[nodeIdx] = leafValue;
+        } else {
+            int mid = (start + end) / 2;
+            build(2 * nodeIdx, start, mid, leafValue);
+            build(2 * nodeIdx + 1, mid + 1, end, leafValue);
+            sumRe[nodeIdx] = sumRe[2 * nodeIdx] + sumRe[2 * nodeIdx + 1];
+        }
+    }
+
+    private void push(int nodeIdx, int start, int end) {
+        if (mulRe[nodeIdx] != 1.0 || mulIm[nodeIdx] != 0.0 || addRe[nodeIdx] != 0.0 || addIm[nodeIdx] != 0.0) {
+            if (start != end) {
+                int mid = (start + end) / 2;
+                apply(2 * nodeIdx, start, mid, mulRe[nodeIdx], mulIm[nodeIdx], addRe[nodeIdx], addIm[nodeIdx]);
+                apply(2 * nodeIdx + 1, mid + 1, end, mulRe[nodeIdx], mulIm[nodeIdx], addRe[nodeIdx], addIm[nodeIdx]);
+            }
+            mulRe[nodeIdx] = 1.0;
+            mulIm[nodeIdx] = 0.0;
+            addRe[nodeIdx] = 0.0;
+            addIm[nodeIdx] = 0.0;
+        }
+    }
+
+    // Applies z → m·z + a to a node: S' = m·S + a·len, and composes the tag (m, a) after the pending one
+    private void apply(int nodeIdx, int start, int end, double mRe, double mIm, double aRe, double aIm) {
+        int length = end - start + 1;
+
+        double sRe = sumRe[nodeIdx];
+        double sIm = sumIm[nodeIdx];
+        sumRe[nodeIdx] = mRe * sRe - mIm * sIm + aRe * length;
+        sumIm[nodeIdx] = mRe * sIm + mIm * sRe + aIm * length;
+
+        double pmRe = mulRe[nodeIdx];
+        double pmIm = mulIm[nodeIdx];
+        mulRe[nodeIdx] = mRe * pmRe - mIm * pmIm;
+        mulIm[nodeIdx] = mRe * pmIm + mIm * pmRe;
+
+        double paRe = addRe[nodeIdx];
+        double paIm = addIm[nodeIdx];
+        addRe[nodeIdx] = mRe * paRe - mIm * paIm + aRe;
+        addIm[nodeIdx] = mRe * paIm + mIm * paRe + aIm;
+    }
+
+    @Override
+    public void applyOracle(int targetIndex) {
+        applyOracle(targetIndex, Math.PI);
+    }
+
+    @Override
+    public void applyOracle(int targetIndex, double phase) {
+        validateTargetIndex(targetIndex);
+        pointMultiply(1, 0, size - 1, targetIndex, Math.cos(phase), Math.sin(phase));
+    }
+
+    private void pointMultiply(int nodeIdx, int start, int end, int index, double mRe, double mIm) {
+        if (start == end) {
+            apply(nodeIdx, start, end, mRe, mIm, 0.0, 0.0);
+            return;
+        }
+        push(nodeIdx, start, end);
+        int mid = (start + end) / 2;
+        if (index <= mid) {
+            pointMultiply(2 * nodeIdx, start, mid, index, mRe, mIm);
+        } else {
+            pointMultiply(2 * nodeIdx + 1, mid + 1, end, index, mRe, mIm);
+        }
+        sumRe[nodeIdx] = sumRe[2 * nodeIdx] + sumRe[2 * nodeIdx + 1];
+        sumIm[nodeIdx] = sumIm[2 * nodeIdx] + sumIm[2 * nodeIdx + 1];
+    }
+
+    @Override
+    public void applyDiffusion() {
+        applyDiffusion(Math.PI);
+    }
+
+    @Override
+    public void applyDiffusion(double phase) {
+        // (1 - e^{iφ})|s⟩⟨s|z⟩ - z, with |s⟩⟨s|z⟩ = mean(z) on every component
+        double meanRe = sumRe[1] / size;
+        double meanIm = sumIm[1] / size;
+        double cRe = 1.0 - Math.cos(phase);
+        double cIm = -Math.sin(phase);
+        apply(1, 0, size - 1, -1.0, 0.0, cRe * meanRe - cIm * meanIm, cRe * meanIm + cIm * meanRe);
+    }
+
+    @Override
+    public int findMaxAmplitudeIndex() {
+        if (size == 0) {
+            throw new IllegalStateException("Amplitudes not initialized or empty.");
+        }
+        scanMaxProbability = -1.0;
+        return scanMax(1, 0, size - 1, -1);
+    }
+
+    // Pushes every tag down once and compares the leaves in index order, O(N) and no copies
+    private int scanMax(int nodeIdx, int start, int end, int maxIndex) {
+        if (start == end) {
+            double probability = sumRe[nodeIdx] * sumRe[nodeIdx] + sumIm[nodeIdx] * sumIm[nodeIdx];
+            if (probability > scanMaxProbability) {
+                scanMaxProbability = probability;
+                return start;
+            }
+            return maxIndex;
+        }
+        push(nodeIdx, start, end);
+        int mid = (start + end) / 2;
+        maxIndex = scanMax(2 * nodeIdx, start, mid, maxIndex);
+        return scanMax(2 * nodeIdx + 1, mid + 1, end, maxIndex);
+    }
+
+    // Pushes every tag down once and copies the leaves out, O(N) instead of N point queries
+    private void collect(int nodeIdx, int start, int end, double[] real, double[] imaginary) {
+        if (start == end) {
+            real[start] = sumRe[nodeIdx];
+            imaginary[start] = sumIm[nodeIdx];
+            return;
+        }
+        push(nodeIdx, start, end);
+        int mid = (start + end) / 2;
+        collect(2 * nodeIdx, start, mid, real, imaginary);
+        collect(2 * nodeIdx + 1, mid + 1, end, real, imaginary);
+    }
+
+    // Point query: walks to the leaf pushing tags on the way
+    private int leafOf(int index) {
+        int nodeIdx = 1;
+        int start = 0;
+        int end = size - 1;
+        while (start != end) {
+            push(nodeIdx, start, end);
+            int mid = (start + end) / 2;
+            if (index <= mid) {
+                nodeIdx = 2 * nodeIdx;
+                end = mid;
+            } else {
+                nodeIdx = 2 * nodeIdx + 1;
+                start = mid + 1;
+            }
+        }
+        return nodeIdx;
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        return sumRe == null ? 0 : 6L * Double.BYTES * sumRe.length;
+    }
+
+    @Override
+    public long memoryFootprintBytes(int size) {
+        validateSize(size);
+        return 6L * Double.BYTES * 4L * size;
+    }
+
+    // --- Validation Methods ---
+
+    private void validateSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive, got: " + size);
+        }
+    }
+
+    private void validateTargetIndex(int targetIndex) {
+        if (targetIndex < 0 || targetIndex >= size) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, size)
+            );
+        }
+    }
+
+    // --- Auxiliary Methods (for debugging/testing) ---
+
+    @Override
+    public double getAmplitude(int index) {
+        validateTargetIndex(index);
+        return sumRe[leafOf(index)];
+    }
+
+    @Override
+    public double getImaginaryAmplitude(int index) {
+        validateTargetIndex(index);
+        return sumIm[leafOf(index)];
+    }
+
+    public double getTotalProbability() {
+        double[] real = new double[size];
+        double[] imaginary = new double[size];
+        collect(1, 0, size - 1, real, imaginary);
+        AmplitudeKernels kernels = AmplitudeKernels.get();
+        return kernels.sumOfSquares(real, 0, size) + kernels.sumOfSquares(imaginary, 0, size);
+    }
+}
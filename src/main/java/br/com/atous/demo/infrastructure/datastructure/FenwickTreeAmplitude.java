@@ -1,9 +1,15 @@
 package br.com.atous.demo.infrastructure.datastructure;
 
-import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.PriorAmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
 /**
  * IMPLEMENTAÇÃO CORRIGIDA - ALGORITMO DE GROVER CLÁSSICO
  * 
@@ -16,11 +22,15 @@ import org.springframework.stereotype.Component;
  * 3. ✅ Validações de Entrada: Parâmetros validados corretamente.
  * 
  * COMPLEXIDADE ALGORÍTMICA (com Fenwick Tree):
- * - initialize(): O(N log N)
+ * - initialize(): O(N) - construção da BIT em uma passada (cada nó soma-se ao pai)
  * - applyOracle(): O(log N)
- * - applyDiffusion(): O(N log N) - Iteração sobre N elementos, cada um com update O(log N)
+ * - applyDiffusion(): O(N) - mapa afim sobre as amplitudes seguido de reconstrução O(N)
  * - findMaxAmplitudeIndex(): O(N) - Iteração sobre actualAmplitudes
- * - Total para Grover: O(N log N + √N * (log N + N log N)) = O(N√N log N)
+ * - Total para Grover: O(N + √N * N) = O(N√N)
+ *
+ * As varreduras densas (mapa afim da difusão, produto interno, argmax de x², soma dos
+ * quadrados) usam {@link AmplitudeKernels} (Vector API quando disponível) e são divididas
+ * em blocos paralelos acima de {@link ParallelSupport#THRESHOLD} elementos.
  * 
  * NOTA: A otimização da difusão para O(log N) (conforme sugerido no pseudocódigo do PDF)
  * exigiria uma Fenwick Tree mais avançada ou uma abordagem diferente para transformações
@@ -28,11 +38,14 @@ import org.springframework.stereotype.Component;
  */
 @Component
 @Scope("prototype")
-public class FenwickTreeAmplitude implements AmplitudeDataStructure {
+public class FenwickTreeAmplitude implements PriorAmplitudeDataStructure {
 
     private double[] bit; // Fenwick Tree array (1-indexed)
     private double[] actualAmplitudes; // Stores actual amplitude values (0-indexed)
     private int size;
+    private double[] priorComponents; // s_i = √w_i of the prior state, null for the uniform superposition
+    private double priorNormSquared;  // ‖s‖² = Σ w_i
+    private final AmplitudeKernels kernels = AmplitudeKernels.get();
 
     @Override
     public void initialize(int size) {
@@ -40,13 +53,43 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
         this.size = size;
         this.bit = new double[size + 1]; // Fenwick Tree is 1-indexed
         this.actualAmplitudes = new double[size];
+        this.priorComponents = null;
         
         // Inicialização com superposição uniforme: |ψ⟩ = (1/√N) Σ|i⟩
         double initialAmplitude = 1.0 / Math.sqrt(size);
+        Arrays.fill(actualAmplitudes, initialAmplitude);
+        rebuildFenwickTree();
+    }
+
+    @Override
+    public void initialize(PriorWeights prior) {
+        int size = prior.size();
+        validateSize(size);
+        this.size = size;
+        this.bit = new double[size + 1];
+        this.actualAmplitudes = new double[size];
+        this.priorComponents = new double[size];
+
+        // Estado inicial a priori: |ψ⟩ = Σ √(w_i / Σw) |i⟩, normalizado durante a leitura do stream
+        PrimitiveIterator.OfDouble weights = prior.iterator();
+        double normSquared = 0.0;
+        for (int i = 0; i < size; i++) {
+            if (!weights.hasNext()) {
+                throw new IllegalArgumentException("Prior stream ended after " + i + " of " + size + " weights");
+            }
+            priorComponents[i] = PriorWeights.amplitudeOf(weights.nextDouble(), i);
+            normSquared += priorComponents[i] * priorComponents[i];
+        }
+        if (normSquared <= 0.0) {
+            throw new IllegalArgumentException("Prior weights must not all be zero");
+        }
+        this.priorNormSquared = normSquared;
+
+        double norm = Math.sqrt(normSquared);
         for (int i = 0; i < size; i++) {
-            actualAmplitudes[i] = initialAmplitude;
-            updateFenwickTree(i, initialAmplitude); // Initialize Fenwick Tree
+            actualAmplitudes[i] = priorComponents[i] / norm;
         }
+        rebuildFenwickTree();
     }
 
     @Override
@@ -65,6 +108,11 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
 
     @Override
     public void applyDiffusion() {
+        if (priorComponents != null) {
+            applyPriorDiffusion();
+            return;
+        }
+
         // CORREÇÃO CRÍTICA: Operação de difusão matematicamente correta
         // 
         // Diffusion Operator: 2|s⟩⟨s| - I
@@ -77,16 +125,41 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
         double mean = totalSum / size;
         
         // 2. Aplica a transformação de difusão: v_new = 2*mean - v_old
-        // Esta etapa é O(N log N) pois itera sobre todos os N elementos
-        // e cada atualização na Fenwick Tree é O(log N).
-        for (int i = 0; i < size; i++) {
-            double oldAmplitude = actualAmplitudes[i];
-            double newAmplitude = 2.0 * mean - oldAmplitude;
-            double delta = newAmplitude - oldAmplitude;
+        // Todos os N elementos mudam, então em vez de N updates O(log N)
+        // a BIT é reconstruída de uma vez em O(N).
+        double twiceMean = 2.0 * mean;
+        if (ParallelSupport.isParallel(size)) {
+            forEachChunk((from, to) -> kernels.affine(actualAmplitudes, from, to, -1.0, twiceMean));
+        } else {
+            kernels.affine(actualAmplitudes, 0, size, -1.0, twiceMean);
+        }
+        rebuildFenwickTree();
+    }
+
+    // Reflexão em torno do estado a priori: v_new = 2⟨p|v⟩p - v = 2(⟨s|v⟩ / ‖s‖²)s - v
+    private void applyPriorDiffusion() {
+        double innerProduct = kernels.dot(priorComponents, actualAmplitudes, 0, size);
+        double coefficient = 2.0 * innerProduct / priorNormSquared;
 
-            actualAmplitudes[i] = newAmplitude;
-            updateFenwickTree(i, delta);
+        if (ParallelSupport.isParallel(size)) {
+            forEachChunk((from, to) -> kernels.reflect(actualAmplitudes, priorComponents, from, to, coefficient));
+        } else {
+            kernels.reflect(actualAmplitudes, priorComponents, 0, size, coefficient);
         }
+        rebuildFenwickTree();
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    // Blocos de THRESHOLD elementos em paralelo; abaixo do limiar os chamadores vão direto ao kernel,
+    // pois a lambda capturada alocaria a cada iteração
+    private void forEachChunk(RangeAction action) {
+        int chunk = ParallelSupport.THRESHOLD;
+        IntStream.range(0, (size + chunk - 1) / chunk).parallel()
+            .forEach(c -> action.apply(c * chunk, Math.min(size, (c + 1) * chunk)));
     }
 
     @Override
@@ -95,21 +168,31 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
             throw new IllegalStateException("Amplitudes not initialized");
         }
         
-        int maxIndex = 0;
-        double maxProbability = actualAmplitudes[0] * actualAmplitudes[0];
-        
-        // Encontra o índice com maior probabilidade |amplitude|²
+        // Encontra o índice com maior probabilidade |amplitude|², o menor em caso de empate
         // Esta operação é O(N)
-        for (int i = 1; i < size; i++) {
-            double probability = actualAmplitudes[i] * actualAmplitudes[i];
-            if (probability > maxProbability) {
-                maxProbability = probability;
-                maxIndex = i;
+        if (!ParallelSupport.isParallel(size)) {
+            return kernels.argMaxSquare(actualAmplitudes, 0, size);
+        }
+        int chunk = ParallelSupport.THRESHOLD;
+        int[] candidates = IntStream.range(0, (size + chunk - 1) / chunk).parallel()
+            .map(c -> kernels.argMaxSquare(actualAmplitudes, c * chunk, Math.min(size, (c + 1) * chunk)))
+            .toArray();
+
+        int maxIndex = candidates[0];
+        for (int candidate : candidates) {
+            if (actualAmplitudes[candidate] * actualAmplitudes[candidate]
+                > actualAmplitudes[maxIndex] * actualAmplitudes[maxIndex]) {
+                maxIndex = candidate;
             }
         }
-        
         return maxIndex;
     }
+
+    @Override
+    public double getAmplitude(int index) {
+        validateTargetIndex(index);
+        return actualAmplitudes[index];
+    }
     
     // --- Fenwick Tree (BIT) Helper Methods ---
     
@@ -122,6 +205,18 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
         }
     }
 
+    // Rebuilds the BIT from actualAmplitudes in O(N): each node passes its partial sum to its parent
+    private void rebuildFenwickTree() {
+        System.arraycopy(actualAmplitudes, 0, bit, 1, size);
+        bit[0] = 0.0;
+        for (int idx = 1; idx <= size; idx++) {
+            int parent = idx + (idx & (-idx));
+            if (parent <= size) {
+                bit[parent] += bit[idx];
+            }
+        }
+    }
+
     // Returns the sum of elements from 0 to 'idx' (0-indexed)
     private double queryFenwickTree(int idx) {
         idx++; // Convert to 1-indexed
@@ -133,6 +228,21 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
         return sum;
     }
     
+    @Override
+    public long memoryFootprintBytes() {
+        if (bit == null) {
+            return 0;
+        }
+        long bytes = (long) Double.BYTES * (bit.length + actualAmplitudes.length);
+        return priorComponents == null ? bytes : bytes + (long) Double.BYTES * priorComponents.length;
+    }
+
+    @Override
+    public long memoryFootprintBytes(int size) {
+        validateSize(size);
+        return (long) Double.BYTES * (2L * size + 1);
+    }
+
     // --- Validation Methods ---
     
     private void validateSize(int size) {
@@ -159,10 +269,6 @@ public class FenwickTreeAmplitude implements AmplitudeDataStructure {
     }
     
     public double getTotalProbability() {
-        double total = 0.0;
-        for (double amplitude : actualAmplitudes) {
-            total += amplitude * amplitude;
-        }
-        return total;
+        return kernels.sumOfSquares(actualAmplitudes, 0, size);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,216 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.MultiLaneAmplitudeDataStructure;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * K Grover states over the same N in one segment tree, for batches of searches that share
+ * the same size but not the same target.
+ *
+ * Every node keeps its K lane values side by side (slot node · K + lane) in parallel primitive
+ * arrays, so the lanes of a node share one or two cache lines and the per-lane loops are
+ * unit-stride loops the JIT vectorises. The tree is a perfect binary tree over
+ * P = 2^⌈log2 N⌉ leaves (root 1, children 2i and 2i + 1, index i at leaf P + i); leaves past N
+ * stay zero because a tag's additive term is weighted by the number of real leaves under the
+ * node, which also keeps the arrays at 2P nodes instead of the 4N of the recursive split.
+ * <ul>
+ *   <li>the diffusion updates the K root tags in one pass, O(K);</li>
+ *   <li>the oracle walks one root-to-leaf path per lane, pushing only that lane's tags,
+ *       O(K log N);</li>
+ *   <li>the argmax is a single traversal that composes all K lanes' tags on the way down and
+ *       tracks the K maxima at the leaves, O(K · N), instead of K separate traversals.</li>
+ * </ul>
+ */
+@Component
+@Scope("prototype")
+public class MultiLaneSegmentTreeAmplitude implements MultiLaneAmplitudeDataStructure {
+
+    private double[] sum;
+    private double[] lazyMul;
+    private double[] lazyAdd;
+    private int size;
+    private int lanes;
+    private int leafBase; // P, the first leaf slot
+    private int levels;   // log2 P, the depth of the leaves
+
+    @Override
+    public void initialize(int size, int lanes) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive, got: " + size);
+        }
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive, got: " + lanes);
+        }
+        int leafBase = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        long slots = 2L * leafBase * lanes;
+        if (leafBase <= 0 || slots > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                String.format("Size %d with %d lanes is too large for one multi-lane tree", size, lanes)
+            );
+        }
+        this.size = size;
+        this.lanes = lanes;
+        this.leafBase = leafBase;
+        this.levels = Integer.numberOfTrailingZeros(leafBase);
+        this.sum = new double[(int) slots];
+        this.lazyMul = new double[(int) slots];
+        this.lazyAdd = new double[(int) slots];
+        Arrays.fill(lazyMul, 1.0);
+
+        // Real leaves are contiguous, so the uniform state is one fill; the padding stays zero
+        Arrays.fill(sum, leafBase * lanes, (leafBase + size) * lanes, 1.0 / Math.sqrt(size));
+        for (int node = leafBase - 1; node >= 1; node--) {
+            int slot = node * lanes;
+            int left = 2 * node * lanes;
+            int right = left + lanes;
+            for (int lane = 0; lane < lanes; lane++) {
+                sum[slot + lane] = sum[left + lane] + sum[right + lane];
+            }
+        }
+    }
+
+    @Override
+    public int lanes() {
+        return lanes;
+    }
+
+    @Override
+    public void applyOracle(int[] targetIndices) {
+        if (targetIndices.length != lanes) {
+            throw new IllegalArgumentException(
+                String.format("Expected one target per lane (%d), got: %d", lanes, targetIndices.length)
+            );
+        }
+        for (int targetIndex : targetIndices) {
+            validateIndex(targetIndex);
+        }
+        for (int lane = 0; lane < lanes; lane++) {
+            flip(lane, leafBase + targetIndices[lane]);
+        }
+    }
+
+    private void flip(int lane, int leaf) {
+        for (int shift = levels; shift > 0; shift--) {
+            push(leaf >>> shift, lane);
+        }
+        // The path is pushed, so every ancestor sum changes by exactly the leaf's delta
+        int leafSlot = leaf * lanes + lane;
+        double delta = -2.0 * sum[leafSlot];
+        sum[leafSlot] += delta;
+        for (int node = leaf >>> 1; node >= 1; node >>>= 1) {
+            sum[node * lanes + lane] += delta;
+        }
+    }
+
+    private void push(int node, int lane) {
+        int slot = node * lanes + lane;
+        double mul = lazyMul[slot];
+        double add = lazyAdd[slot];
+        if (mul != 1.0 || add != 0.0) {
+            apply(2 * node, lane, mul, add);
+            apply(2 * node + 1, lane, mul, add);
+            lazyMul[slot] = 1.0;
+            lazyAdd[slot] = 0.0;
+        }
+    }
+
+    private void apply(int node, int lane, double mul, double add) {
+        int slot = node * lanes + lane;
+        sum[slot] = mul * sum[slot] + add * realLeaves(node);
+        lazyMul[slot] *= mul;
+        lazyAdd[slot] = mul * lazyAdd[slot] + add;
+    }
+
+    // Leaves below N under the node: its range starts at (node - 2^depth) · width
+    private int realLeaves(int node) {
+        int depth = 31 - Integer.numberOfLeadingZeros(node);
+        int width = leafBase >>> depth;
+        long start = (long) (node - (1 << depth)) * width;
+        return (int) Math.max(0, Math.min(width, size - start));
+    }
+
+    @Override
+    public void applyDiffusion() {
+        // a → 2·mean - a keeps the sum, so only the root tags change
+        int root = lanes;
+        for (int lane = 0; lane < lanes; lane++) {
+            double mean = sum[root + lane] / size;
+            lazyMul[root + lane] = -lazyMul[root + lane];
+            lazyAdd[root + lane] = 2.0 * mean - lazyAdd[root + lane];
+        }
+    }
+
+    @Override
+    public int[] findMaxAmplitudeIndices() {
+        if (sum == null) {
+            throw new IllegalStateException("Amplitudes not initialized");
+        }
+        int[] maxIndex = new int[lanes];
+        double[] maxProbability = new double[lanes];
+        Arrays.fill(maxProbability, -1.0);
+        // One row of composed (mul, add) per depth, so the traversal allocates nothing
+        double[][] mul = new double[levels + 1][lanes];
+        double[][] add = new double[levels + 1][lanes];
+        Arrays.fill(mul[0], 1.0);
+        collectMax(1, 0, mul, add, maxIndex, maxProbability);
+        return maxIndex;
+    }
+
+    private void collectMax(int node, int depth, double[][] mul, double[][] add,
+                            int[] maxIndex, double[] maxProbability) {
+        int slot = node * lanes;
+        double[] nodeMul = mul[depth];
+        double[] nodeAdd = add[depth];
+        if (node >= leafBase) {
+            int index = node - leafBase;
+            for (int lane = 0; lane < lanes; lane++) {
+                double amplitude = nodeMul[lane] * sum[slot + lane] + nodeAdd[lane];
+                double probability = amplitude * amplitude;
+                if (probability > maxProbability[lane]) {
+                    maxProbability[lane] = probability;
+                    maxIndex[lane] = index;
+                }
+            }
+            return;
+        }
+        double[] childMul = mul[depth + 1];
+        double[] childAdd = add[depth + 1];
+        for (int lane = 0; lane < lanes; lane++) {
+            childMul[lane] = nodeMul[lane] * lazyMul[slot + lane];
+            childAdd[lane] = nodeMul[lane] * lazyAdd[slot + lane] + nodeAdd[lane];
+        }
+        collectMax(2 * node, depth + 1, mul, add, maxIndex, maxProbability);
+        if (realLeaves(2 * node + 1) > 0) {
+            // The left subtree overwrote the rows below this depth, not this one
+            collectMax(2 * node + 1, depth + 1, mul, add, maxIndex, maxProbability);
+        }
+    }
+
+    @Override
+    public double getAmplitude(int lane, int index) {
+        if (lane < 0 || lane >= lanes) {
+            throw new IllegalArgumentException(String.format("Lane %d is out of bounds [0, %d)", lane, lanes));
+        }
+        validateIndex(index);
+        int leaf = leafBase + index;
+        double mul = 1.0;
+        double add = 0.0;
+        for (int shift = levels; shift > 0; shift--) {
+            int slot = (leaf >>> shift) * lanes + lane;
+            add = mul * lazyAdd[slot] + add;
+            mul *= lazyMul[slot];
+        }
+        return mul * sum[leaf * lanes + lane] + add;
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", index, size)
+            );
+        }
+    }
+}
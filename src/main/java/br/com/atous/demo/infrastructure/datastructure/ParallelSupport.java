@@ -0,0 +1,19 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+/**
+ * Shared cut-off for the fork/join paths of the amplitude structures.
+ *
+ * Below the threshold the fork overhead outweighs the work, so builds and bulk reads stay on
+ * the calling thread; it can be tuned per machine with {@code -Damplitude.parallel.threshold=N}.
+ */
+final class ParallelSupport {
+
+    static final int THRESHOLD = Math.max(2, Integer.getInteger("amplitude.parallel.threshold", 1 << 15));
+
+    private ParallelSupport() {
+    }
+
+    static boolean isParallel(int elements) {
+        return elements > THRESHOLD;
+    }
+}
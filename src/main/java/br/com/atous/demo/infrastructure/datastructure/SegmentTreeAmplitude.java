@@ -1,90 +1,261 @@
 package br.com.atous.demo.infrastructure.datastructure;
 
-import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.AffineAmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.PriorAmplitudeDataStructure;
+import br.com.atous.demo.domain.port.out.RangeAmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import org.springframework.context.annotation.Primary;
 
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Segment Tree implementation for amplitude management in Grover's algorithm.
  * Supports range affine updates (f(x) = ax + b) and range sum queries in O(log N).
  * This is crucial for achieving the O(√N log N) complexity for the classical Grover search.
+ *
+ * Nodes are stored as parallel primitive arrays indexed by heap position (children of
+ * node i are 2i and 2i + 1), which avoids one object header and pointer per node.
+ *
+ * With a prior initial state |p⟩ ∝ s (s_i = √w_i), the diffusion 2|p⟩⟨p| - I is no longer a
+ * constant shift, so the lazy tag gains a third term: f(x_i) = a·x_i + b + c·s_i. Each node
+ * then also keeps the static sums Σs and Σs² and the running inner product Σs·x, which is
+ * what the reflection needs instead of the mean.
+ *
+ * Above {@link ParallelSupport#THRESHOLD} leaves the uniform build and the bulk reads
+ * (getAllAmplitudes, findMaxAmplitudeIndex) fork/join over disjoint subtrees. Bulk reads never
+ * push: the pending tags are composed on the way down and applied at the leaves, so they do
+ * not mutate the tree and subtrees can be read concurrently.
+ *
+ * Node positions come from a {@link SegmentTreeLayout}: the classic heap order, or a blocked
+ * order that keeps every three levels of a root-to-leaf walk contiguous. The default is
+ * HEAP; the beans take theirs from {@code amplitude.segment-tree.layout=blocked} through
+ * {@link SegmentTreeLayoutProperty}.
  */
 @Component
 @Scope("prototype")
 @Primary
-public class SegmentTreeAmplitude implements AmplitudeDataStructure {
+public class SegmentTreeAmplitude
+    implements AffineAmplitudeDataStructure, RangeAmplitudeDataStructure, PriorAmplitudeDataStructure {
 
     private static final double INITIAL_AMPLITUDE_VALUE = 1.0; // Placeholder, will be adjusted by initialize
 
-    private Node[] tree;
-    private double[] initialAmplitudes; // To store the initial state for building the tree
+    public enum Layout {
+        /** Node i at slot i, children at 2i and 2i + 1. */
+        HEAP,
+        /** Three-level subtrees stored contiguously, sibling subtrees adjacent. */
+        BLOCKED;
+
+        static Layout parse(String name) {
+            for (Layout layout : values()) {
+                if (name != null && layout.name().equalsIgnoreCase(name.trim())) {
+                    return layout;
+                }
+            }
+            throw new IllegalArgumentException(
+                "Unknown segment-tree layout '" + name + "', expected one of " + Arrays.toString(values()));
+        }
+    }
+
+    private final Layout layoutOption;
+    private SegmentTreeLayout layout;
+
+    private double[] sum;
+    private double[] lazyMul; // Multiplier for lazy propagation
+    private double[] lazyAdd; // Additive for lazy propagation
     private int size;
 
-    private static class Node {
-        double sum;
-        double lazyMul; // Multiplier for lazy propagation
-        double lazyAdd; // Additive for lazy propagation
+    // Prior mode only (null for the uniform superposition)
+    private double[] priorSum;          // Σ s_i over the node range (static)
+    private double[] priorSquareSum;    // Σ s_i² over the node range (static)
+    private double[] priorInnerProduct; // Σ s_i · x_i over the node range
+    private double[] lazyPrior;         // Coefficient of s_i for lazy propagation
+    private double priorNormSquared;    // ‖s‖² = Σ w_i
 
-        Node() {
-            this.sum = 0.0;
-            this.lazyMul = 1.0; // Default: no multiplication
-            this.lazyAdd = 0.0; // Default: no addition
-        }
+    // Running maximum of the sequential findMaxAmplitudeIndex scan
+    private double scanMaxProbability;
+
+    public SegmentTreeAmplitude() {
+        this(Layout.HEAP);
+    }
+
+    public SegmentTreeAmplitude(Layout layout) {
+        this.layoutOption = layout;
+    }
+
+    @Autowired
+    public SegmentTreeAmplitude(SegmentTreeLayoutProperty layoutProperty) {
+        this(layoutProperty.layout());
     }
 
     @Override
     public void initialize(int size) {
+        initialize(size, INITIAL_AMPLITUDE_VALUE / Math.sqrt(size));
+    }
+
+    @Override
+    public void initialize(int size, double initialValue) {
         validateSize(size);
+        allocate(size, false);
+
+        BuildTask root = new BuildTask(layout.root(), 0, size - 1, initialValue);
+        if (ParallelSupport.isParallel(size)) {
+            ForkJoinPool.commonPool().invoke(root);
+        } else {
+            root.compute();
+        }
+    }
+
+    @Override
+    public void initialize(PriorWeights prior) {
+        int size = prior.size();
+        validateSize(size);
+        allocate(size, true);
+
+        // Leaves consume the stream in index order, so the prior is never materialised;
+        // the tree is built with raw √w_i and normalised afterwards by one root tag
+        buildPrior(layout.root(), 0, size - 1, prior.iterator(), new int[1]);
+        priorNormSquared = priorSquareSum[layout.root()];
+        if (priorNormSquared <= 0.0) {
+            throw new IllegalArgumentException("Prior weights must not all be zero");
+        }
+        apply(layout.root(), 0, size - 1, 1.0 / Math.sqrt(priorNormSquared), 0.0, 0.0);
+    }
+
+    private void allocate(int size, boolean withPrior) {
         this.size = size;
-        this.tree = new Node[4 * size]; // Max size for segment tree
-        this.initialAmplitudes = new double[size];
+        this.layout = layoutOption == Layout.BLOCKED ? SegmentTreeLayout.blocked(size) : SegmentTreeLayout.heap(size);
+        int nodes = layout.capacity();
+        // Re-initialising a pooled instance keeps arrays that are already large enough: the build
+        // rewrites sum and lazyMul on every node it reaches, so only lazyAdd has to be cleared
+        if (sum == null || sum.length < nodes) {
+            this.sum = new double[nodes];
+            this.lazyMul = new double[nodes];
+            this.lazyAdd = new double[nodes];
+        } else {
+            Arrays.fill(lazyAdd, 0, nodes, 0.0);
+        }
+        if (withPrior) {
+            this.priorSum = new double[nodes];
+            this.priorSquareSum = new double[nodes];
+            this.priorInnerProduct = new double[nodes];
+            this.lazyPrior = new double[nodes];
+        } else {
+            this.priorSum = null;
+            this.priorSquareSum = null;
+            this.priorInnerProduct = null;
+            this.lazyPrior = null;
+        }
+    }
 
-        double initialValue = INITIAL_AMPLITUDE_VALUE / Math.sqrt(size);
-        for (int i = 0; i < size; i++) {
-            initialAmplitudes[i] = initialValue;
+    // Subtrees own disjoint heap slots, so they are built independently and summed on join
+    private final class BuildTask extends RecursiveAction {
+        private final int nodeIdx;
+        private final int start;
+        private final int end;
+        private final double leafValue;
+
+        BuildTask(int nodeIdx, int start, int end, double leafValue) {
+            this.nodeIdx = nodeIdx;
+            this.start = start;
+            this.end = end;
+            this.leafValue = leafValue;
+        }
+
+        @Override
+        protected void compute() {
+            if (!ParallelSupport.isParallel(end - start + 1)) {
+                build(nodeIdx, start, end, leafValue);
+                return;
+            }
+            int mid = (start + end) / 2;
+            invokeAll(new BuildTask(layout.left(nodeIdx), start, mid, leafValue),
+                new BuildTask(layout.right(nodeIdx), mid + 1, end, leafValue));
+            lazyMul[nodeIdx] = 1.0;
+            sum[nodeIdx] = sum[layout.left(nodeIdx)] + sum[layout.right(nodeIdx)];
         }
-        build(1, 0, size - 1);
     }
 
-    // Builds the segment tree
-    private void build(int nodeIdx, int start, int end) {
-        tree[nodeIdx] = new Node();
+    // Builds the segment tree bottom-up: children are complete before their parent is summed
+    private void build(int nodeIdx, int start, int end, double leafValue) {
+        lazyMul[nodeIdx] = 1.0; // Default: no multiplication
         if (start == end) {
-            tree[nodeIdx].sum = initialAmplitudes[start];
+            sum[nodeIdx] = leafValue;
         } else {
             int mid = (start + end) / 2;
-            build(2 * nodeIdx, start, mid);
-            build(2 * nodeIdx + 1, mid + 1, end);
-            tree[nodeIdx].sum = tree[2 * nodeIdx].sum + tree[2 * nodeIdx + 1].sum;
+            build(layout.left(nodeIdx), start, mid, leafValue);
+            build(layout.right(nodeIdx), mid + 1, end, leafValue);
+            sum[nodeIdx] = sum[layout.left(nodeIdx)] + sum[layout.right(nodeIdx)];
+        }
+    }
+
+    // The prior stream is consumed in index order, so this build stays sequential
+    private void buildPrior(int nodeIdx, int start, int end, PrimitiveIterator.OfDouble weights, int[] nextIndex) {
+        lazyMul[nodeIdx] = 1.0;
+        if (start == end) {
+            if (!weights.hasNext()) {
+                throw new IllegalArgumentException("Prior stream ended after " + nextIndex[0] + " of " + size + " weights");
+            }
+            double component = PriorWeights.amplitudeOf(weights.nextDouble(), nextIndex[0]++);
+            sum[nodeIdx] = component;
+            priorSum[nodeIdx] = component;
+            priorSquareSum[nodeIdx] = component * component;
+            priorInnerProduct[nodeIdx] = component * component;
+        } else {
+            int mid = (start + end) / 2;
+            int left = layout.left(nodeIdx);
+            int right = layout.right(nodeIdx);
+            buildPrior(left, start, mid, weights, nextIndex);
+            buildPrior(right, mid + 1, end, weights, nextIndex);
+            sum[nodeIdx] = sum[left] + sum[right];
+            priorSum[nodeIdx] = priorSum[left] + priorSum[right];
+            priorSquareSum[nodeIdx] = priorSquareSum[left] + priorSquareSum[right];
+            priorInnerProduct[nodeIdx] = priorInnerProduct[left] + priorInnerProduct[right];
         }
     }
 
     // Pushes lazy tags down to children
     private void push(int nodeIdx, int start, int end) {
-        if (tree[nodeIdx].lazyMul != 1.0 || tree[nodeIdx].lazyAdd != 0.0) {
+        double prior = lazyPrior != null ? lazyPrior[nodeIdx] : 0.0;
+        if (lazyMul[nodeIdx] != 1.0 || lazyAdd[nodeIdx] != 0.0 || prior != 0.0) {
             if (start != end) { // Not a leaf node
                 int mid = (start + end) / 2;
                 // Apply current node's lazy tags to left child
-                apply(2 * nodeIdx, start, mid, tree[nodeIdx].lazyMul, tree[nodeIdx].lazyAdd);
+                apply(layout.left(nodeIdx), start, mid, lazyMul[nodeIdx], lazyAdd[nodeIdx], prior);
                 // Apply current node's lazy tags to right child
-                apply(2 * nodeIdx + 1, mid + 1, end, tree[nodeIdx].lazyMul, tree[nodeIdx].lazyAdd);
+                apply(layout.right(nodeIdx), mid + 1, end, lazyMul[nodeIdx], lazyAdd[nodeIdx], prior);
             }
             // Reset lazy tags at current node
-            tree[nodeIdx].lazyMul = 1.0;
-            tree[nodeIdx].lazyAdd = 0.0;
+            lazyMul[nodeIdx] = 1.0;
+            lazyAdd[nodeIdx] = 0.0;
+            if (lazyPrior != null) {
+                lazyPrior[nodeIdx] = 0.0;
+            }
         }
     }
 
-    // Applies affine transformation (mul * x + add) to a node's sum
-    // Applies affine transformation (mul * x + add) to a node's sum
-    private void apply(int nodeIdx, int start, int end, double mul, double add) {
-        // Update sum
-        tree[nodeIdx].sum = mul * tree[nodeIdx].sum + add * (end - start + 1);
+    // Applies transformation (mul * x + add + prior * s) to a node's sums
+    private void apply(int nodeIdx, int start, int end, double mul, double add, double prior) {
+        int length = end - start + 1;
+        if (lazyPrior == null) {
+            // Update sum
+            sum[nodeIdx] = mul * sum[nodeIdx] + add * length;
+        } else {
+            sum[nodeIdx] = mul * sum[nodeIdx] + add * length + prior * priorSum[nodeIdx];
+            priorInnerProduct[nodeIdx] = mul * priorInnerProduct[nodeIdx]
+                + add * priorSum[nodeIdx] + prior * priorSquareSum[nodeIdx];
+            lazyPrior[nodeIdx] = mul * lazyPrior[nodeIdx] + prior;
+        }
 
         // Compose and update lazy tags for the current node
-        tree[nodeIdx].lazyMul *= mul;
-        tree[nodeIdx].lazyAdd = mul * tree[nodeIdx].lazyAdd + add;
+        lazyMul[nodeIdx] *= mul;
+        lazyAdd[nodeIdx] = mul * lazyAdd[nodeIdx] + add;
     }
 
     @Override
@@ -93,19 +264,55 @@ public class SegmentTreeAmplitude implements AmplitudeDataStructure {
         // Oracle inverts the phase of the target element.
         // This is equivalent to applying f(x) = -x to the target element.
         // We can achieve this with a range affine update on a single element.
-        rangeAffineUpdate(1, 0, size - 1, targetIndex, targetIndex, -1.0, 0.0);
+        rangeAffineUpdate(layout.root(), 0, size - 1, targetIndex, targetIndex, -1.0, 0.0);
     }
 
     @Override
     public void applyDiffusion() {
+        if (lazyPrior != null) {
+            // Reflection about the prior state: x' = 2⟨p|x⟩p - x = 2(⟨s|x⟩ / ‖s‖²)s - x
+            double coefficient = 2.0 * priorInnerProduct[layout.root()] / priorNormSquared;
+            apply(layout.root(), 0, size - 1, -1.0, 0.0, coefficient);
+            return;
+        }
+
         // 1. Calculate the mean of amplitudes using the Segment Tree (O(log N))
-        double totalSum = querySum(1, 0, size - 1, 0, size - 1);
+        double totalSum = querySum(layout.root(), 0, size - 1, 0, size - 1);
         double mean = totalSum / size;
 
         // 2. Apply the diffusion transformation: new_amplitude = 2 * mean - old_amplitude
         // This is an affine transformation: f(x) = -1 * x + 2 * mean
         // Apply this transformation to the entire range [0, size-1] in O(log N)
-        rangeAffineUpdate(1, 0, size - 1, 0, size - 1, -1.0, 2.0 * mean);
+        rangeAffineUpdate(layout.root(), 0, size - 1, 0, size - 1, -1.0, 2.0 * mean);
+    }
+
+    @Override
+    public void applyAffine(double mul, double add) {
+        apply(layout.root(), 0, size - 1, mul, add, 0.0);
+    }
+
+    @Override
+    public double getAmplitudeSum() {
+        return sum[layout.root()];
+    }
+
+    @Override
+    public double rangeSum(int from, int to) {
+        validateRange(from, to);
+        return from == to ? 0.0 : querySum(layout.root(), 0, size - 1, from, to - 1);
+    }
+
+    @Override
+    public void rangeAffineUpdate(int from, int to, double mul, double add) {
+        validateRange(from, to);
+        if (from < to) {
+            rangeAffineUpdate(layout.root(), 0, size - 1, from, to - 1, mul, add);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
     }
 
     // Performs a range affine update (mul * x + add) on the segment tree
@@ -119,17 +326,26 @@ public class SegmentTreeAmplitude implements AmplitudeDataStructure {
 
         // Full overlap
         if (queryStart <= start && end <= queryEnd) {
-            apply(nodeIdx, start, end, mul, add);
+            apply(nodeIdx, start, end, mul, add, 0.0);
             return;
         }
 
         // Partial overlap, recurse
         int mid = (start + end) / 2;
-        rangeAffineUpdate(2 * nodeIdx, start, mid, queryStart, queryEnd, mul, add);
-        rangeAffineUpdate(2 * nodeIdx + 1, mid + 1, end, queryStart, queryEnd, mul, add);
+        rangeAffineUpdate(layout.left(nodeIdx), start, mid, queryStart, queryEnd, mul, add);
+        rangeAffineUpdate(layout.right(nodeIdx), mid + 1, end, queryStart, queryEnd, mul, add);
 
-        // Update current node's sum based on children
-        tree[nodeIdx].sum = tree[2 * nodeIdx].sum + tree[2 * nodeIdx + 1].sum;
+        // Update current node's sums based on children
+        pull(nodeIdx);
+    }
+
+    private void pull(int nodeIdx) {
+        int left = layout.left(nodeIdx);
+        int right = layout.right(nodeIdx);
+        sum[nodeIdx] = sum[left] + sum[right];
+        if (priorInnerProduct != null) {
+            priorInnerProduct[nodeIdx] = priorInnerProduct[left] + priorInnerProduct[right];
+        }
     }
 
     // Queries the sum of amplitudes in a given range
@@ -143,48 +359,181 @@ public class SegmentTreeAmplitude implements AmplitudeDataStructure {
 
         // Full overlap
         if (queryStart <= start && end <= queryEnd) {
-            return tree[nodeIdx].sum;
+            return sum[nodeIdx];
         }
 
         // Partial overlap, recurse
         int mid = (start + end) / 2;
-        double p1 = querySum(2 * nodeIdx, start, mid, queryStart, queryEnd);
-        double p2 = querySum(2 * nodeIdx + 1, mid + 1, end, queryStart, queryEnd);
+        double p1 = querySum(layout.left(nodeIdx), start, mid, queryStart, queryEnd);
+        double p2 = querySum(layout.right(nodeIdx), mid + 1, end, queryStart, queryEnd);
         return p1 + p2;
     }
 
     @Override
     public int findMaxAmplitudeIndex() {
-        // For finding the max amplitude index, we need to query individual amplitudes.
-        // A segment tree can do point queries (querySum for a range of 1 element) in O(log N).
-        // However, finding the maximum over N elements would still be O(N log N) if done by N point queries.
-        // For now, we'll use a direct O(N) scan after ensuring all lazy updates are pushed down.
-        // In a real scenario, if this is a bottleneck, a different approach for max query might be needed
-        // (e.g., storing max in nodes and updating it, but that complicates affine transformations).
-
-        // Ensure all lazy updates are propagated to leaf nodes before reading actual values
-        // This is a temporary measure for correctness. A more efficient way to get actual values
-        // at leaves might be needed if this becomes a performance bottleneck.
-        double[] actualAmplitudes = new double[size];
-        for (int i = 0; i < size; i++) {
-            actualAmplitudes[i] = querySum(1, 0, size - 1, i, i);
-        }
-
-        if (actualAmplitudes.length == 0) {
+        if (size == 0) {
             throw new IllegalStateException("Amplitudes not initialized or empty.");
         }
+        // Read-only scan with composed tags: O(N), no point queries and no pushes
+        if (ParallelSupport.isParallel(size)) {
+            MaxTask root = new MaxTask(layout.root(), 0, size - 1, 1.0, 0.0, 0.0);
+            ForkJoinPool.commonPool().invoke(root);
+            return root.maxIndex;
+        }
+        // The calling thread needs no task object, the running maximum is kept in a field
+        scanMaxProbability = -1.0;
+        return scanMax(layout.root(), 0, size - 1, 1.0, 0.0, 0.0, -1);
+    }
 
-        int maxIndex = 0;
-        double maxProbability = actualAmplitudes[0] * actualAmplitudes[0];
+    private int scanMax(int node, int from, int to, double m, double a, double p, int maxIndex) {
+        if (from == to) {
+            double amplitude = leafValue(node, m, a, p);
+            double probability = amplitude * amplitude;
+            if (probability > scanMaxProbability) {
+                scanMaxProbability = probability;
+                return from;
+            }
+            return maxIndex;
+        }
+        int mid = (from + to) / 2;
+        double childMul = m * lazyMul[node];
+        double childAdd = m * lazyAdd[node] + a;
+        double childPrior = lazyPrior != null ? m * lazyPrior[node] + p : 0.0;
+        maxIndex = scanMax(layout.left(node), from, mid, childMul, childAdd, childPrior, maxIndex);
+        return scanMax(layout.right(node), mid + 1, to, childMul, childAdd, childPrior, maxIndex);
+    }
 
-        for (int i = 1; i < size; i++) {
-            double probability = actualAmplitudes[i] * actualAmplitudes[i];
-            if (probability > maxProbability) {
-                maxProbability = probability;
-                maxIndex = i;
+    /*
+     * Bulk reads carry the pending transformation x → mul·x + add + prior·s of all ancestors.
+     * Below a node with tag (m, a, p) the children see the composition
+     * x → (mul·m)·x + (mul·a + add) + (mul·p + prior)·s.
+     */
+
+    private final class MaxTask extends RecursiveAction {
+        private final int nodeIdx;
+        private final int start;
+        private final int end;
+        private final double mul;
+        private final double add;
+        private final double prior;
+        private int maxIndex = -1;
+        private double maxProbability = -1.0;
+
+        MaxTask(int nodeIdx, int start, int end, double mul, double add, double prior) {
+            this.nodeIdx = nodeIdx;
+            this.start = start;
+            this.end = end;
+            this.mul = mul;
+            this.add = add;
+            this.prior = prior;
+        }
+
+        @Override
+        protected void compute() {
+            if (!ParallelSupport.isParallel(end - start + 1)) {
+                scan(nodeIdx, start, end, mul, add, prior);
+                return;
             }
+            int mid = (start + end) / 2;
+            double childMul = mul * lazyMul[nodeIdx];
+            double childAdd = mul * lazyAdd[nodeIdx] + add;
+            double childPrior = lazyPrior != null ? mul * lazyPrior[nodeIdx] + prior : 0.0;
+            MaxTask left = new MaxTask(layout.left(nodeIdx), start, mid, childMul, childAdd, childPrior);
+            MaxTask right = new MaxTask(layout.right(nodeIdx), mid + 1, end, childMul, childAdd, childPrior);
+            invokeAll(left, right);
+            // Ties go to the lower index, as in a left-to-right scan
+            MaxTask best = right.maxProbability > left.maxProbability ? right : left;
+            maxIndex = best.maxIndex;
+            maxProbability = best.maxProbability;
+        }
+
+        private void scan(int node, int from, int to, double m, double a, double p) {
+            if (from == to) {
+                double amplitude = leafValue(node, m, a, p);
+                double probability = amplitude * amplitude;
+                if (probability > maxProbability) {
+                    maxProbability = probability;
+                    maxIndex = from;
+                }
+                return;
+            }
+            int mid = (from + to) / 2;
+            double childMul = m * lazyMul[node];
+            double childAdd = m * lazyAdd[node] + a;
+            double childPrior = lazyPrior != null ? m * lazyPrior[node] + p : 0.0;
+            scan(layout.left(node), from, mid, childMul, childAdd, childPrior);
+            scan(layout.right(node), mid + 1, to, childMul, childAdd, childPrior);
         }
-        return maxIndex;
+    }
+
+    private final class CollectTask extends RecursiveAction {
+        private final int nodeIdx;
+        private final int start;
+        private final int end;
+        private final double mul;
+        private final double add;
+        private final double prior;
+        private final double[] out;
+
+        CollectTask(int nodeIdx, int start, int end, double mul, double add, double prior, double[] out) {
+            this.nodeIdx = nodeIdx;
+            this.start = start;
+            this.end = end;
+            this.mul = mul;
+            this.add = add;
+            this.prior = prior;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            if (!ParallelSupport.isParallel(end - start + 1)) {
+                collect(nodeIdx, start, end, mul, add, prior);
+                return;
+            }
+            int mid = (start + end) / 2;
+            double childMul = mul * lazyMul[nodeIdx];
+            double childAdd = mul * lazyAdd[nodeIdx] + add;
+            double childPrior = lazyPrior != null ? mul * lazyPrior[nodeIdx] + prior : 0.0;
+            invokeAll(new CollectTask(layout.left(nodeIdx), start, mid, childMul, childAdd, childPrior, out),
+                new CollectTask(layout.right(nodeIdx), mid + 1, end, childMul, childAdd, childPrior, out));
+        }
+
+        private void collect(int node, int from, int to, double m, double a, double p) {
+            if (from == to) {
+                out[from] = leafValue(node, m, a, p);
+                return;
+            }
+            int mid = (from + to) / 2;
+            double childMul = m * lazyMul[node];
+            double childAdd = m * lazyAdd[node] + a;
+            double childPrior = lazyPrior != null ? m * lazyPrior[node] + p : 0.0;
+            collect(layout.left(node), from, mid, childMul, childAdd, childPrior);
+            collect(layout.right(node), mid + 1, to, childMul, childAdd, childPrior);
+        }
+    }
+
+    // A leaf's own tag is already folded into its sum; only the ancestors' pending transformation applies
+    private double leafValue(int leaf, double mul, double add, double prior) {
+        double value = mul * sum[leaf] + add;
+        return priorSum != null ? value + prior * priorSum[leaf] : value;
+    }
+
+    @Override
+    public long memoryFootprintBytes() {
+        if (sum == null) {
+            return 0;
+        }
+        int arrays = lazyPrior != null ? 7 : 3;
+        return (long) arrays * Double.BYTES * sum.length;
+    }
+
+    @Override
+    public long memoryFootprintBytes(int size) {
+        validateSize(size);
+        // The heap layout needs 4 · size slots, counted in longs since that overflows an int first
+        long nodes = layoutOption == Layout.BLOCKED ? SegmentTreeLayout.blocked(size).capacity() : 4L * size;
+        return 3L * Double.BYTES * nodes;
     }
 
     // --- Validation Methods ---
@@ -196,6 +545,14 @@ public class SegmentTreeAmplitude implements AmplitudeDataStructure {
         // Consider adding a max size limit if memory becomes an issue for very large N
     }
 
+    private void validateRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IllegalArgumentException(
+                String.format("Range [%d, %d) is out of bounds [0, %d)", from, to, size)
+            );
+        }
+    }
+
     private void validateTargetIndex(int targetIndex) {
         if (targetIndex < 0 || targetIndex >= size) {
             throw new IllegalArgumentException(
@@ -207,24 +564,28 @@ public class SegmentTreeAmplitude implements AmplitudeDataStructure {
     // --- Auxiliary Methods (for debugging/testing) ---
     // These methods are for testing and debugging purposes to inspect the internal state.
     // They might not be efficient for production use.
+    @Override
     public double getAmplitude(int index) {
-        return querySum(1, 0, size - 1, index, index);
+        validateTargetIndex(index);
+        return querySum(layout.root(), 0, size - 1, index, index);
     }
 
     public double[] getAllAmplitudes() {
         double[] amplitudes = new double[size];
-        for (int i = 0; i < size; i++) {
-            amplitudes[i] = querySum(1, 0, size - 1, i, i);
+        if (size == 0) {
+            return amplitudes;
+        }
+        CollectTask root = new CollectTask(layout.root(), 0, size - 1, 1.0, 0.0, 0.0, amplitudes);
+        if (ParallelSupport.isParallel(size)) {
+            ForkJoinPool.commonPool().invoke(root);
+        } else {
+            root.compute();
         }
         return amplitudes;
     }
 
+    // Leaves sit in heap order, not contiguously, so the gather is scalar; the reduction is not
     public double getTotalProbability() {
-        double total = 0.0;
-        double[] amplitudes = getAllAmplitudes();
-        for (double amplitude : amplitudes) {
-            total += amplitude * amplitude;
-        }
-        return total;
+        return AmplitudeKernels.get().sumOfSquares(getAllAmplitudes(), 0, size);
     }
 }
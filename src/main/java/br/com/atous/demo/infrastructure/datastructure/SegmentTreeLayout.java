@@ -0,0 +1,92 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+/**
+ * Where the nodes of a segment tree live in its arrays: the root slot and the slots of a
+ * node's two children.
+ *
+ * The heap layout (root 1, children 2i and 2i + 1) puts the nodes of a root-to-leaf path far
+ * apart, so below the first few levels every step of the walk is a new cache line. The blocked
+ * layout cuts the tree into subtrees of three levels, each stored contiguously in 7 slots
+ * (56 bytes per array, within one or two cache lines), and numbers the blocks as an 8-ary heap:
+ * the children of block b are the adjacent blocks 8b - 7 + f .. 8b + f, with f the root block's
+ * fan-out. A walk then touches one block per three levels and the sibling subtrees it pushes
+ * tags into sit next to each other.
+ *
+ * Blocks are aligned to the leaves, so only the root block may be shorter (one or two levels)
+ * and the capacity stays about 2^(⌈log2 N⌉ + 1), like the heap layout. Children are computed
+ * from the slot alone, with no lookup tables, because an indirection per step costs more than
+ * the cache misses the layout saves. Java has no explicit prefetch; laying the walk out in
+ * contiguous blocks is what lets the hardware prefetchers follow it.
+ */
+final class SegmentTreeLayout {
+
+    private static final int BLOCK_LEVELS = 3;
+    private static final int BLOCK_SLOTS = (1 << BLOCK_LEVELS) - 1;       // 7 nodes
+    private static final int BLOCK_FAN_OUT = 1 << BLOCK_LEVELS;           // 8 child blocks
+    private static final int BLOCK_BOTTOM = (1 << (BLOCK_LEVELS - 1)) - 1; // first slot of the last level
+
+    private final boolean blocked;
+    private final int capacity;
+    private final int rootBottom;  // First local slot of the root block's last level
+    private final int rootFanOut;  // Child blocks of the root block
+
+    private SegmentTreeLayout(boolean blocked, int capacity, int rootBottom, int rootFanOut) {
+        this.blocked = blocked;
+        this.capacity = capacity;
+        this.rootBottom = rootBottom;
+        this.rootFanOut = rootFanOut;
+    }
+
+    static SegmentTreeLayout heap(int size) {
+        return new SegmentTreeLayout(false, 4 * size, 0, 0);
+    }
+
+    static SegmentTreeLayout blocked(int size) {
+        // Splitting at mid = (start + end) / 2 puts the leaves at depth ≤ ⌈log2 size⌉
+        int levels = 33 - Integer.numberOfLeadingZeros(size - 1);
+        int rootLevels = (levels - 1) % BLOCK_LEVELS + 1;
+        int fullBlockLevels = (levels - rootLevels) / BLOCK_LEVELS;
+        int rootFanOut = 1 << rootLevels;
+
+        long blocks = 1;
+        long levelBlocks = rootFanOut;
+        for (int level = 0; level < fullBlockLevels; level++) {
+            blocks += levelBlocks;
+            levelBlocks *= BLOCK_FAN_OUT;
+        }
+        long capacity = blocks * BLOCK_SLOTS;
+        if (capacity > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Size too large for the blocked segment-tree layout: " + size);
+        }
+        return new SegmentTreeLayout(true, (int) capacity, (1 << (rootLevels - 1)) - 1, rootFanOut);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int root() {
+        return blocked ? 0 : 1;
+    }
+
+    int left(int node) {
+        return blocked ? blockedChild(node, 0) : 2 * node;
+    }
+
+    int right(int node) {
+        return blocked ? blockedChild(node, 1) : 2 * node + 1;
+    }
+
+    private int blockedChild(int node, int side) {
+        int block = node / BLOCK_SLOTS;
+        int local = node - block * BLOCK_SLOTS;
+        int bottom = block == 0 ? rootBottom : BLOCK_BOTTOM;
+        if (local < bottom) {
+            // Inside the block: a 7-slot mini-heap with children 2l + 1 and 2l + 2
+            return node + local + 1 + side;
+        }
+        int child = 2 * (local - bottom) + side;
+        int childBlock = block == 0 ? 1 + child : BLOCK_FAN_OUT * block - BLOCK_FAN_OUT + 1 + rootFanOut + child;
+        return childBlock * BLOCK_SLOTS;
+    }
+}
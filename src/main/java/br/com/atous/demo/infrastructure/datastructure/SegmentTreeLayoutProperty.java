@@ -0,0 +1,23 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node layout of the segment-tree beans, read once from {@code amplitude.segment-tree.layout}
+ * ({@code heap} or {@code blocked}). The backends are prototypes, so parsing here makes a typo
+ * fail the startup instead of every backend creation.
+ */
+@Component
+public class SegmentTreeLayoutProperty {
+
+    private final SegmentTreeAmplitude.Layout layout;
+
+    public SegmentTreeLayoutProperty(@Value("${amplitude.segment-tree.layout:heap}") String layout) {
+        this.layout = SegmentTreeAmplitude.Layout.parse(layout);
+    }
+
+    public SegmentTreeAmplitude.Layout layout() {
+        return layout;
+    }
+}
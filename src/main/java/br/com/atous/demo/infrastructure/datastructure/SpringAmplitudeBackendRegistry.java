@@ -0,0 +1,37 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Backends are the {@link AmplitudeDataStructure} beans, named by bean name
+ * (segmentTreeAmplitude, fenwickTreeAmplitude, compactFloatAmplitude, ...). They are
+ * prototype-scoped, so every lookup yields a new instance.
+ */
+@Component
+public class SpringAmplitudeBackendRegistry implements AmplitudeBackendRegistry {
+
+    private final ListableBeanFactory beanFactory;
+
+    public SpringAmplitudeBackendRegistry(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public AmplitudeDataStructure create(String backend) {
+        if (backend == null || !backends().contains(backend)) {
+            throw new IllegalArgumentException("Unknown amplitude backend '" + backend + "', available: " + backends());
+        }
+        return beanFactory.getBean(backend, AmplitudeDataStructure.class);
+    }
+
+    @Override
+    public Set<String> backends() {
+        return new TreeSet<>(Set.of(beanFactory.getBeanNamesForType(AmplitudeDataStructure.class)));
+    }
+}
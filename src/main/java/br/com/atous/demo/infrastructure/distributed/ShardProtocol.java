@@ -0,0 +1,26 @@
+package br.com.atous.demo.infrastructure.distributed;
+
+/**
+ * Binary protocol between {@link ShardedAmplitudeCoordinator} and {@link ShardWorker}: an
+ * opcode byte followed by fixed-width big-endian operands (DataOutput encoding).
+ *
+ * ORACLE and AFFINE have no reply, so the coordinator leaves them in its send buffer and they
+ * travel in the same segment as the next request; an error they raise is reported on the next
+ * reply. Every reply starts with {@link #OK}, or {@link #FAILED} followed by a UTF message.
+ */
+final class ShardProtocol {
+
+    static final byte INIT = 1;   // int size, double amplitude        → status
+    static final byte ORACLE = 2; // int localIndex                    (no reply)
+    static final byte SUM = 3;    //                                   → status, double sum
+    static final byte AFFINE = 4; // double mul, double add            (no reply)
+    static final byte MAX = 5;    //                                   → status, int localIndex, double amplitude
+    static final byte GET = 6;    // int localIndex                    → status, double amplitude
+    static final byte CLOSE = 7;  //                                   (connection closed)
+
+    static final byte OK = 0;
+    static final byte FAILED = 1;
+
+    private ShardProtocol() {
+    }
+}
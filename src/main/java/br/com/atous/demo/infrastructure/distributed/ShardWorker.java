@@ -0,0 +1,209 @@
+package br.com.atous.demo.infrastructure.distributed;
+
+import br.com.atous.demo.domain.port.out.AffineAmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.function.Supplier;
+
+/**
+ * One shard of a distributed amplitude space: a socket server that keeps a local
+ * {@link AffineAmplitudeDataStructure} per coordinator connection and executes
+ * {@link ShardProtocol} commands on it.
+ *
+ * Run standalone with {@code java -cp <classpath> br.com.atous.demo.infrastructure.distributed.ShardWorker [port]};
+ * the first line on stdout is {@code LISTENING <port>}, which is how a launcher finds an
+ * ephemeral port. The worker binds to loopback unless {@code -Damplitude.shard.bind=0.0.0.0}.
+ */
+public final class ShardWorker implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardWorker.class);
+
+    private final ServerSocket serverSocket;
+    private final Supplier<? extends AffineAmplitudeDataStructure> backend;
+
+    private ShardWorker(ServerSocket serverSocket, Supplier<? extends AffineAmplitudeDataStructure> backend) {
+        this.serverSocket = serverSocket;
+        this.backend = backend;
+    }
+
+    public static ShardWorker start(int port, Supplier<? extends AffineAmplitudeDataStructure> backend) {
+        try {
+            InetAddress bind = InetAddress.getByName(System.getProperty("amplitude.shard.bind", "127.0.0.1"));
+            ShardWorker worker = new ShardWorker(new ServerSocket(port, 50, bind), backend);
+            Thread acceptor = new Thread(worker::acceptLoop, "shard-worker-" + worker.port());
+            acceptor.setDaemon(true);
+            acceptor.start();
+            return worker;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start shard worker on port " + port, e);
+        }
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().name("shard-connection-" + socket.getPort()).start(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOG.warn("Shard worker stopped accepting connections", e);
+                }
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            new Session(in, out).run();
+        } catch (EOFException | SocketException e) {
+            // Coordinator went away
+        } catch (IOException e) {
+            LOG.warn("Shard connection failed", e);
+        }
+    }
+
+    private final class Session {
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream payload = new ByteArrayOutputStream(16);
+        private AffineAmplitudeDataStructure amplitudes;
+        private String deferredError;
+
+        Session(DataInputStream in, DataOutputStream out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        void run() throws IOException {
+            while (true) {
+                byte opcode = in.readByte();
+                switch (opcode) {
+                    case ShardProtocol.INIT -> {
+                        int size = in.readInt();
+                        double amplitude = in.readDouble();
+                        deferredError = null;
+                        amplitudes = null;
+                        reply(data -> {
+                            AffineAmplitudeDataStructure fresh = backend.get();
+                            fresh.initialize(size, amplitude);
+                            amplitudes = fresh;
+                        });
+                    }
+                    case ShardProtocol.ORACLE -> {
+                        int localIndex = in.readInt();
+                        deferred(() -> initialized().applyOracle(localIndex));
+                    }
+                    case ShardProtocol.AFFINE -> {
+                        double mul = in.readDouble();
+                        double add = in.readDouble();
+                        deferred(() -> initialized().applyAffine(mul, add));
+                    }
+                    case ShardProtocol.SUM -> reply(data -> data.writeDouble(initialized().getAmplitudeSum()));
+                    case ShardProtocol.MAX -> reply(data -> {
+                        int localIndex = initialized().findMaxAmplitudeIndex();
+                        data.writeInt(localIndex);
+                        data.writeDouble(amplitudes.getAmplitude(localIndex));
+                    });
+                    case ShardProtocol.GET -> {
+                        int localIndex = in.readInt();
+                        reply(data -> data.writeDouble(initialized().getAmplitude(localIndex)));
+                    }
+                    case ShardProtocol.CLOSE -> {
+                        return;
+                    }
+                    default -> throw new IOException("Unknown shard opcode " + opcode);
+                }
+            }
+        }
+
+        // Commands without a reply keep the first failure for the next reply
+        private void deferred(Runnable command) {
+            if (deferredError != null) {
+                return;
+            }
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                deferredError = String.valueOf(e.getMessage());
+            }
+        }
+
+        // The payload is staged first, so a failure never leaves half a reply on the wire
+        private void reply(Reply reply) throws IOException {
+            String error = deferredError;
+            deferredError = null;
+            payload.reset();
+            if (error == null) {
+                try {
+                    reply.write(new DataOutputStream(payload));
+                } catch (RuntimeException e) {
+                    error = String.valueOf(e.getMessage());
+                }
+            }
+            if (error == null) {
+                out.writeByte(ShardProtocol.OK);
+                payload.writeTo(out);
+            } else {
+                out.writeByte(ShardProtocol.FAILED);
+                out.writeUTF(error);
+            }
+            out.flush();
+        }
+
+        private AffineAmplitudeDataStructure initialized() {
+            if (amplitudes == null) {
+                throw new IllegalStateException("Shard not initialized");
+            }
+            return amplitudes;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reply {
+        void write(DataOutputStream data) throws IOException;
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        ShardWorker worker = start(port, BlockedAmplitude::new);
+        System.out.println("LISTENING " + worker.port());
+        System.out.flush();
+        LOG.info("Shard worker listening on port {}", worker.port());
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
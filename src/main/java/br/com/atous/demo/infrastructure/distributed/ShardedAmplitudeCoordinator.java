@@ -0,0 +1,378 @@
+package br.com.atous.demo.infrastructure.distributed;
+
+import br.com.atous.demo.domain.model.CommunicationStats;
+import br.com.atous.demo.domain.port.out.ShardedAmplitudeSpace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coordinator of an amplitude space split into contiguous index ranges, one per
+ * {@link ShardWorker}.
+ *
+ * <ul>
+ *   <li>Oracle: routed to the owning shard only, no reply.</li>
+ *   <li>Diffusion: one all-reduce. Every shard returns its partial sum, the coordinator forms
+ *       the global mean and broadcasts a → -a + 2·mean. The broadcast needs no reply, so it
+ *       rides in the send buffer with the next request: one round trip per iteration.</li>
+ *   <li>Argmax: every shard returns its local maximum, reduced here (lowest index on ties).</li>
+ * </ul>
+ * Requests to all shards are written before any reply is read, so shards work concurrently.
+ * A reply that takes longer than the read timeout means a stalled worker: every shard
+ * connection is closed and the call fails with an {@link IllegalStateException}, since the
+ * all-reduce cannot continue without it. Communication counters restart after every
+ * {@link #initialize(int)}. Not thread-safe.
+ */
+public class ShardedAmplitudeCoordinator implements ShardedAmplitudeSpace {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+    static final int DEFAULT_READ_TIMEOUT_MILLIS = 30_000;
+
+    private final List<Connection> connections = new ArrayList<>();
+    private final int readTimeoutMillis;
+    private int[] offsets = new int[0]; // Shard s owns [offsets[s], offsets[s + 1])
+    private int activeShards;
+    private int size;
+    private boolean closed;
+
+    private long iterations;
+    private long messagesSent;
+    private long messagesReceived;
+    private long roundTrips;
+    private long waitNanos;
+
+    public ShardedAmplitudeCoordinator(List<InetSocketAddress> workers) {
+        this(workers, DEFAULT_READ_TIMEOUT_MILLIS);
+    }
+
+    public ShardedAmplitudeCoordinator(List<InetSocketAddress> workers, int readTimeoutMillis) {
+        if (workers == null || workers.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard worker is required");
+        }
+        if (readTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Shard read timeout must be positive, got: " + readTimeoutMillis + "ms");
+        }
+        this.readTimeoutMillis = readTimeoutMillis;
+        for (InetSocketAddress worker : workers) {
+            try {
+                connections.add(new Connection(worker, readTimeoutMillis));
+            } catch (IOException e) {
+                close();
+                throw new IllegalStateException("Shard worker " + worker + " is unreachable: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public int shardCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void initialize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive, got: " + size);
+        }
+        ensureOpen();
+        this.size = size;
+        // Never more shards than indices, so every active shard is non-empty
+        this.activeShards = Math.min(connections.size(), size);
+        this.offsets = new int[activeShards + 1];
+        for (int s = 0; s <= activeShards; s++) {
+            offsets[s] = (int) ((long) size * s / activeShards);
+        }
+
+        double amplitude = 1.0 / Math.sqrt(size);
+        for (int s = 0; s < activeShards; s++) {
+            int shardSize = offsets[s + 1] - offsets[s];
+            DataOutputStream out = send(s, ShardProtocol.INIT);
+            write(() -> {
+                out.writeInt(shardSize);
+                out.writeDouble(amplitude);
+            });
+        }
+        gather(s -> null);
+        // Setup is not part of the per-iteration cost
+        resetCounters();
+    }
+
+    @Override
+    public void applyOracle(int targetIndex) {
+        validateTargetIndex(targetIndex);
+        int shard = ownerOf(targetIndex);
+        DataOutputStream out = send(shard, ShardProtocol.ORACLE);
+        write(() -> out.writeInt(targetIndex - offsets[shard]));
+    }
+
+    @Override
+    public void applyDiffusion() {
+        requireInitialized();
+        for (int s = 0; s < activeShards; s++) {
+            send(s, ShardProtocol.SUM);
+        }
+        double[] partialSums = new double[activeShards];
+        gather(s -> partialSums[s] = connections.get(s).in.readDouble());
+
+        double total = 0.0;
+        for (double partial : partialSums) {
+            total += partial;
+        }
+        double mean = total / size;
+        for (int s = 0; s < activeShards; s++) {
+            DataOutputStream out = send(s, ShardProtocol.AFFINE);
+            write(() -> {
+                out.writeDouble(-1.0);
+                out.writeDouble(2.0 * mean);
+            });
+        }
+        iterations++;
+    }
+
+    @Override
+    public int findMaxAmplitudeIndex() {
+        if (activeShards == 0) {
+            throw new IllegalStateException("Amplitudes not initialized");
+        }
+        for (int s = 0; s < activeShards; s++) {
+            send(s, ShardProtocol.MAX);
+        }
+        int[] indices = new int[activeShards];
+        double[] amplitudes = new double[activeShards];
+        gather(s -> {
+            DataInputStream in = connections.get(s).in;
+            indices[s] = offsets[s] + in.readInt();
+            amplitudes[s] = in.readDouble();
+            return null;
+        });
+
+        int best = 0;
+        for (int s = 1; s < activeShards; s++) {
+            if (amplitudes[s] * amplitudes[s] > amplitudes[best] * amplitudes[best]) {
+                best = s;
+            }
+        }
+        return indices[best];
+    }
+
+    @Override
+    public double getAmplitude(int index) {
+        validateTargetIndex(index);
+        int shard = ownerOf(index);
+        DataOutputStream out = send(shard, ShardProtocol.GET);
+        write(() -> out.writeInt(index - offsets[shard]));
+        double[] amplitude = new double[1];
+        gather(shard, () -> amplitude[0] = connections.get(shard).in.readDouble());
+        return amplitude[0];
+    }
+
+    @Override
+    public CommunicationStats communicationStats() {
+        long bytesSent = 0;
+        long bytesReceived = 0;
+        for (Connection connection : connections) {
+            bytesSent += connection.out.size() - connection.bytesSentBaseline;
+            bytesReceived += connection.counter.count - connection.bytesReceivedBaseline;
+        }
+        return CommunicationStats.of(connections.size(), iterations, messagesSent, messagesReceived,
+            bytesSent, bytesReceived, roundTrips, waitNanos);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Connection connection : connections) {
+            try (Socket socket = connection.socket) {
+                connection.out.writeByte(ShardProtocol.CLOSE);
+                connection.out.flush();
+            } catch (IOException e) {
+                // The worker is gone already
+            }
+        }
+    }
+
+    // A stalled worker leaves the protocol out of step, so no CLOSE is sent, the sockets are just dropped
+    private void abort() {
+        closed = true;
+        for (Connection connection : connections) {
+            try {
+                connection.socket.close();
+            } catch (IOException e) {
+                // Dropping it anyway
+            }
+        }
+    }
+
+    // --- Messaging ---
+
+    private DataOutputStream send(int shard, byte opcode) {
+        DataOutputStream out = connections.get(shard).out;
+        write(() -> out.writeByte(opcode));
+        messagesSent++;
+        return out;
+    }
+
+    // Flushes every active shard, then reads one reply from each, in shard order
+    private void gather(ReplyReader reader) {
+        long start = System.nanoTime();
+        for (int s = 0; s < activeShards; s++) {
+            Connection connection = connections.get(s);
+            write(connection.out::flush);
+        }
+        for (int s = 0; s < activeShards; s++) {
+            int shard = s;
+            readStatus(shard);
+            write(() -> reader.read(shard));
+        }
+        messagesReceived += activeShards;
+        roundTrips++;
+        waitNanos += System.nanoTime() - start;
+    }
+
+    private void gather(int shard, IoAction reader) {
+        long start = System.nanoTime();
+        write(connections.get(shard).out::flush);
+        readStatus(shard);
+        write(reader);
+        messagesReceived++;
+        roundTrips++;
+        waitNanos += System.nanoTime() - start;
+    }
+
+    private void readStatus(int shard) {
+        DataInputStream in = connections.get(shard).in;
+        write(() -> {
+            byte status = in.readByte();
+            if (status != ShardProtocol.OK) {
+                throw new IllegalStateException("Shard " + shard + " failed: " + in.readUTF());
+            }
+        });
+    }
+
+    private void write(IoAction action) {
+        ensureOpen();
+        try {
+            action.run();
+        } catch (SocketTimeoutException e) {
+            abort();
+            throw new IllegalStateException(
+                "Shard worker did not reply within " + readTimeoutMillis + " ms, all shard connections closed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Shard communication failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ReplyReader {
+        Object read(int shard) throws IOException;
+    }
+
+    // --- Partitioning and validation ---
+
+    private int ownerOf(int index) {
+        int position = Arrays.binarySearch(offsets, 0, activeShards, index);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    private void validateTargetIndex(int targetIndex) {
+        requireInitialized();
+        if (targetIndex < 0 || targetIndex >= size) {
+            throw new IllegalArgumentException(
+                String.format("Target index %d is out of bounds [0, %d)", targetIndex, size)
+            );
+        }
+    }
+
+    private void requireInitialized() {
+        if (activeShards == 0) {
+            throw new IllegalStateException("Amplitudes not initialized");
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Coordinator is closed");
+        }
+    }
+
+    private void resetCounters() {
+        iterations = 0;
+        messagesSent = 0;
+        messagesReceived = 0;
+        roundTrips = 0;
+        waitNanos = 0;
+        for (Connection connection : connections) {
+            connection.bytesSentBaseline = connection.out.size();
+            connection.bytesReceivedBaseline = connection.counter.count;
+        }
+    }
+
+    private static final class Connection {
+        private final Socket socket;
+        private final DataOutputStream out;
+        private final CountingInputStream counter;
+        private final DataInputStream in;
+        private long bytesSentBaseline;
+        private long bytesReceivedBaseline;
+
+        Connection(InetSocketAddress address, int readTimeoutMillis) throws IOException {
+            this.socket = new Socket();
+            try {
+                socket.connect(address, CONNECT_TIMEOUT_MILLIS);
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(readTimeoutMillis);
+                this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                this.counter = new CountingInputStream(new BufferedInputStream(socket.getInputStream()));
+                this.in = new DataInputStream(counter);
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
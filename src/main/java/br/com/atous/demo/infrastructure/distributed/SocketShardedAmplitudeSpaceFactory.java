@@ -0,0 +1,60 @@
+package br.com.atous.demo.infrastructure.distributed;
+
+import br.com.atous.demo.domain.port.out.ShardedAmplitudeSpace;
+import br.com.atous.demo.domain.port.out.ShardedAmplitudeSpaceFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shards are the {@link ShardWorker} processes listed in {@code amplitude.shards.workers}
+ * as comma-separated {@code host:port} pairs. The list is server configuration on purpose:
+ * requests never choose where the application opens connections. A worker that does not reply
+ * within {@code amplitude.shards.read-timeout-millis} fails the search instead of blocking it.
+ */
+@Component
+public class SocketShardedAmplitudeSpaceFactory implements ShardedAmplitudeSpaceFactory {
+
+    private final List<InetSocketAddress> workers;
+    private final int readTimeoutMillis;
+
+    public SocketShardedAmplitudeSpaceFactory(@Value("${amplitude.shards.workers:}") String workers,
+                                              @Value("${amplitude.shards.read-timeout-millis:30000}") int readTimeoutMillis) {
+        if (readTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Shard read timeout must be positive, got: " + readTimeoutMillis + "ms");
+        }
+        this.workers = parse(workers);
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    static List<InetSocketAddress> parse(String workers) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (String entry : workers.split(",")) {
+            String worker = entry.trim();
+            if (worker.isEmpty()) {
+                continue;
+            }
+            int colon = worker.lastIndexOf(':');
+            if (colon <= 0 || colon == worker.length() - 1) {
+                throw new IllegalArgumentException("Shard worker must be host:port, got: " + worker);
+            }
+            int port = Integer.parseInt(worker.substring(colon + 1));
+            addresses.add(InetSocketAddress.createUnresolved(worker.substring(0, colon), port));
+        }
+        return List.copyOf(addresses);
+    }
+
+    @Override
+    public ShardedAmplitudeSpace open() {
+        if (workers.isEmpty()) {
+            throw new IllegalStateException("No shard workers configured (amplitude.shards.workers)");
+        }
+        List<InetSocketAddress> resolved = workers.stream()
+            .map(address -> new InetSocketAddress(address.getHostString(), address.getPort()))
+            .toList();
+        return new ShardedAmplitudeCoordinator(resolved, readTimeoutMillis);
+    }
+}
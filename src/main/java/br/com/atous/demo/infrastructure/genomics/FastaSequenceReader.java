@@ -0,0 +1,114 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the records of a FASTA file one at a time, packing each sequence as it is read,
+ * so only the record being parsed is ever held in memory.
+ */
+final class FastaSequenceReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLimit;
+    private String pendingName;
+    private boolean started;
+
+    FastaSequenceReader(Path path) throws IOException {
+        this.input = Files.newInputStream(path);
+    }
+
+    /**
+     * Returns the next record, or {@code null} at end of file.
+     */
+    PackedSequence next() throws IOException {
+        if (!started) {
+            started = true;
+            int first = skipBlankLines();
+            if (first == -1) {
+                return null;
+            }
+            if (first != '>') {
+                throw new IllegalArgumentException("Not a FASTA file: expected '>' header, found '" + (char) first + "'");
+            }
+            pendingName = readHeaderName();
+        }
+        if (pendingName == null) {
+            return null;
+        }
+
+        PackedSequence sequence = new PackedSequence(pendingName);
+        pendingName = null;
+        boolean lineStart = true;
+        int b;
+        while ((b = read()) != -1) {
+            if (b == '\n') {
+                lineStart = true;
+            } else if (lineStart && b == '>') {
+                pendingName = readHeaderName();
+                break;
+            } else if (lineStart && b == ';') {
+                skipLine();
+            } else if (b != '\r' && b != ' ' && b != '\t') {
+                lineStart = false;
+                sequence.append(b);
+            }
+        }
+        return sequence;
+    }
+
+    private int skipBlankLines() throws IOException {
+        int b;
+        while ((b = read()) != -1) {
+            if (b != '\n' && b != '\r' && b != ' ' && b != '\t') {
+                return b;
+            }
+        }
+        return -1;
+    }
+
+    private String readHeaderName() throws IOException {
+        StringBuilder header = new StringBuilder();
+        int b;
+        while ((b = read()) != -1 && b != '\n') {
+            header.append((char) b);
+        }
+        String name = header.toString().trim().split("\\s+", 2)[0];
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("FASTA record without a name");
+        }
+        return new String(name.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
+    }
+
+    private void skipLine() throws IOException {
+        int b;
+        while ((b = read()) != -1 && b != '\n') {
+            // comment line
+        }
+    }
+
+    private int read() throws IOException {
+        if (bufferPosition == bufferLimit) {
+            bufferLimit = input.read(buffer, 0, BUFFER_SIZE);
+            bufferPosition = 0;
+            if (bufferLimit <= 0) {
+                bufferLimit = 0;
+                return -1;
+            }
+        }
+        return buffer[bufferPosition++] & 0xFF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+/**
+ * 2-bit nucleotide encoding (A=0, C=1, G=2, T=3). A k-mer of up to {@link #MAX_K} bases
+ * packs into the low 2k bits of an int-sized code, first base in the most significant position.
+ */
+final class KmerEncoding {
+
+    static final int MAX_K = 16;
+    static final int AMBIGUOUS = -1;
+
+    private KmerEncoding() {
+    }
+
+    static int encodeBase(int base) {
+        return switch (base) {
+            case 'A', 'a' -> 0;
+            case 'C', 'c' -> 1;
+            case 'G', 'g' -> 2;
+            case 'T', 't' -> 3;
+            default -> AMBIGUOUS;
+        };
+    }
+
+    static long encode(String kmer, int k) {
+        if (kmer == null || kmer.length() != k) {
+            throw new IllegalArgumentException(
+                String.format("K-mer must have exactly %d bases, got: %s", k, kmer)
+            );
+        }
+        long code = 0;
+        for (int i = 0; i < k; i++) {
+            int base = encodeBase(kmer.charAt(i));
+            if (base == AMBIGUOUS) {
+                throw new IllegalArgumentException("K-mer contains a non-ACGT base: " + kmer);
+            }
+            code = (code << 2) | base;
+        }
+        return code;
+    }
+
+    static void validateK(int k) {
+        if (k <= 0 || k > MAX_K) {
+            throw new IllegalArgumentException(
+                String.format("K must be in [1, %d], got: %d", MAX_K, k)
+            );
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+/**
+ * Sorted streams of packed (k-mer code, position) entries and their k-way merge.
+ */
+final class KmerEntries {
+
+    private KmerEntries() {
+    }
+
+    static long pack(long code, int position) {
+        return ((code << 32) | (position & 0xFFFFFFFFL)) ^ Long.MIN_VALUE;
+    }
+
+    static long code(long entry) {
+        return (entry ^ Long.MIN_VALUE) >>> 32;
+    }
+
+    static int position(long entry) {
+        return (int) entry;
+    }
+
+    interface Cursor {
+        /** Advances to the next entry; returns false once exhausted. */
+        boolean next();
+
+        long entry();
+    }
+
+    static Cursor of(long[] sortedEntries) {
+        return new Cursor() {
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                return ++index < sortedEntries.length;
+            }
+
+            @Override
+            public long entry() {
+                return sortedEntries[index];
+            }
+        };
+    }
+
+    /**
+     * Binary min-heap merge of already sorted cursors.
+     */
+    static Cursor merge(Cursor[] cursors) {
+        return new Cursor() {
+            private final int[] heap = new int[cursors.length];
+            private int heapSize = -1;
+            private long current;
+
+            @Override
+            public boolean next() {
+                if (heapSize < 0) {
+                    heapSize = 0;
+                    for (int i = 0; i < cursors.length; i++) {
+                        if (cursors[i].next()) {
+                            heap[heapSize++] = i;
+                        }
+                    }
+                    for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                        siftDown(i);
+                    }
+                } else if (heapSize > 0) {
+                    if (!cursors[heap[0]].next()) {
+                        heap[0] = heap[--heapSize];
+                    }
+                    siftDown(0);
+                }
+                if (heapSize == 0) {
+                    return false;
+                }
+                current = cursors[heap[0]].entry();
+                return true;
+            }
+
+            @Override
+            public long entry() {
+                return current;
+            }
+
+            private void siftDown(int node) {
+                while (true) {
+                    int smallest = node;
+                    int left = 2 * node + 1;
+                    int right = left + 1;
+                    if (left < heapSize && cursors[heap[left]].entry() < cursors[heap[smallest]].entry()) {
+                        smallest = left;
+                    }
+                    if (right < heapSize && cursors[heap[right]].entry() < cursors[heap[smallest]].entry()) {
+                        smallest = right;
+                    }
+                    if (smallest == node) {
+                        return;
+                    }
+                    int swap = heap[node];
+                    heap[node] = heap[smallest];
+                    heap[smallest] = swap;
+                    node = smallest;
+                }
+            }
+        };
+    }
+}
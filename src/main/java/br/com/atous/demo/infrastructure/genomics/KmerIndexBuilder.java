@@ -0,0 +1,101 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import br.com.atous.demo.domain.model.Chromosome;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds k-mer index files in one pass over the FASTA input.
+ *
+ * The reader packs each chromosome to 2 bits per base as it streams; as soon as a record
+ * is complete its k-mers are extracted and sorted on the common pool, so chromosomes are
+ * indexed in parallel while the next one is still being read. The sorted per-chromosome
+ * runs (and, when extending, the existing index) are then k-way merged straight into the
+ * sections of the output file.
+ */
+final class KmerIndexBuilder {
+
+    private KmerIndexBuilder() {
+    }
+
+    static void build(Path fasta, int k, Path indexFile) {
+        KmerEncoding.validateK(k);
+        writeIndex(fasta, k, indexFile, null);
+    }
+
+    static void extend(MappedKmerIndex existing, Path fasta) {
+        writeIndex(fasta, existing.descriptor().k(), existing.path(), existing);
+    }
+
+    private static void writeIndex(Path fasta, int k, Path indexFile, MappedKmerIndex existing) {
+        List<Chromosome> chromosomes = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        long nextStart = 0;
+        if (existing != null) {
+            for (Chromosome chromosome : existing.descriptor().chromosomes()) {
+                chromosomes.add(chromosome);
+                names.add(chromosome.name());
+            }
+            nextStart = existing.descriptor().searchSpaceSize();
+        }
+
+        List<CompletableFuture<long[]>> runs = new ArrayList<>();
+        try (FastaSequenceReader reader = new FastaSequenceReader(fasta)) {
+            PackedSequence sequence;
+            while ((sequence = reader.next()) != null) {
+                if (!names.add(sequence.name())) {
+                    throw new IllegalArgumentException("Duplicate chromosome name: " + sequence.name());
+                }
+                if (nextStart + sequence.length() > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Indexed sequences exceed " + Integer.MAX_VALUE + " positions");
+                }
+                int start = (int) nextStart;
+                chromosomes.add(new Chromosome(sequence.name(), start, sequence.length()));
+                nextStart += sequence.length();
+
+                PackedSequence packed = sequence;
+                runs.add(CompletableFuture.supplyAsync(() -> packed.sortedEntries(k, start)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read FASTA file " + fasta, e);
+        }
+        if (existing == null && chromosomes.isEmpty()) {
+            throw new IllegalArgumentException("FASTA file contains no sequences: " + fasta);
+        }
+
+        List<long[]> sortedRuns = runs.stream().map(CompletableFuture::join).toList();
+
+        // Write next to the target and move into place, so an index being extended stays
+        // readable (and mapped) until the replacement is complete
+        Path target = indexFile.toAbsolutePath();
+        try {
+            Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                KmerIndexFormat.write(temporary, k, chromosomes, (int) nextStart, () -> {
+                    List<KmerEntries.Cursor> cursors = new ArrayList<>(sortedRuns.size() + 1);
+                    if (existing != null) {
+                        cursors.add(existing.entries());
+                    }
+                    for (long[] run : sortedRuns) {
+                        cursors.add(KmerEntries.of(run));
+                    }
+                    return KmerEntries.merge(cursors.toArray(KmerEntries.Cursor[]::new));
+                });
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write k-mer index " + indexFile, e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import br.com.atous.demo.domain.model.Chromosome;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Little-endian, memory-mappable k-mer index file:
+ *
+ * <pre>
+ * header (64 bytes)  magic, version, k, chromosome count, search space size,
+ *                    key count, position count, section offsets
+ * chromosome table   per chromosome: start (int), length (int), name length (short), UTF-8 name
+ * keys               long[keyCount]        distinct k-mer codes, ascending
+ * offsets            long[keyCount + 1]    CSR offsets into positions
+ * positions          int[positionCount]    global start positions, ascending per key
+ * </pre>
+ *
+ * Sections start on 8-byte boundaries so no element straddles a mapping segment.
+ */
+final class KmerIndexFormat {
+
+    static final long MAGIC = 0x31584449524D454BL; // "KMERIDX1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    static final int K_OFFSET = 12;
+    static final int CHROMOSOME_COUNT_OFFSET = 16;
+    static final int SEARCH_SPACE_OFFSET = 20;
+    static final int KEY_COUNT_OFFSET = 24;
+    static final int POSITION_COUNT_OFFSET = 32;
+    static final int KEYS_SECTION_OFFSET = 40;
+    static final int OFFSETS_SECTION_OFFSET = 48;
+    static final int POSITIONS_SECTION_OFFSET = 56;
+
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private KmerIndexFormat() {
+    }
+
+    /**
+     * Streams merged entries into {@code file}. The entries are consumed twice: once to size
+     * the sections and once to write them, each section through its own buffered cursor.
+     */
+    static void write(Path file, int k, List<Chromosome> chromosomes, int searchSpaceSize,
+                      Supplier<KmerEntries.Cursor> entries) throws IOException {
+        long keyCount = 0;
+        long positionCount = 0;
+        long previousCode = -1;
+        KmerEntries.Cursor counting = entries.get();
+        while (counting.next()) {
+            long code = KmerEntries.code(counting.entry());
+            if (code != previousCode) {
+                keyCount++;
+                previousCode = code;
+            }
+            positionCount++;
+        }
+
+        byte[][] names = new byte[chromosomes.size()][];
+        long tableBytes = 0;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = chromosomes.get(i).name().getBytes(StandardCharsets.UTF_8);
+            tableBytes += 4 + 4 + 2 + names[i].length;
+        }
+        long keysOffset = align8(HEADER_BYTES + tableBytes);
+        long offsetsOffset = keysOffset + keyCount * Long.BYTES;
+        long positionsOffset = offsetsOffset + (keyCount + 1) * Long.BYTES;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate((int) keysOffset).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(VERSION).putInt(k).putInt(chromosomes.size()).putInt(searchSpaceSize)
+                .putLong(keyCount).putLong(positionCount)
+                .putLong(keysOffset).putLong(offsetsOffset).putLong(positionsOffset);
+            for (int i = 0; i < names.length; i++) {
+                header.putInt(chromosomes.get(i).start()).putInt(chromosomes.get(i).length())
+                    .putShort((short) names[i].length).put(names[i]);
+            }
+            header.position(0).limit(header.capacity());
+            writeFully(channel, header, 0);
+
+            SectionWriter keys = new SectionWriter(channel, keysOffset);
+            SectionWriter offsets = new SectionWriter(channel, offsetsOffset);
+            SectionWriter positions = new SectionWriter(channel, positionsOffset);
+
+            long written = 0;
+            previousCode = -1;
+            KmerEntries.Cursor writing = entries.get();
+            while (writing.next()) {
+                long entry = writing.entry();
+                long code = KmerEntries.code(entry);
+                if (code != previousCode) {
+                    keys.putLong(code);
+                    offsets.putLong(written);
+                    previousCode = code;
+                }
+                positions.putInt(KmerEntries.position(entry));
+                written++;
+            }
+            offsets.putLong(written);
+
+            keys.flush();
+            offsets.flush();
+            positions.flush();
+            channel.force(true);
+        }
+    }
+
+    static long align8(long value) {
+        return (value + 7) & ~7L;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static final class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        SectionWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void putLong(long value) throws IOException {
+            if (buffer.remaining() < Long.BYTES) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        void putInt(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            long start = position;
+            position += buffer.remaining();
+            writeFully(channel, buffer, start);
+            buffer.clear();
+        }
+    }
+}
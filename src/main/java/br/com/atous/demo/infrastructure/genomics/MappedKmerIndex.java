@@ -0,0 +1,155 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import br.com.atous.demo.domain.model.Chromosome;
+import br.com.atous.demo.domain.model.KmerIndexDescriptor;
+import br.com.atous.demo.domain.port.out.KmerSearchSpace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of a k-mer index file (see {@link KmerIndexFormat}). The file is mapped
+ * in 1 GiB segments and queried in place: a lookup is a binary search over the key section
+ * followed by a copy of the matching position slice, so opening an index costs no parsing.
+ */
+public class MappedKmerIndex implements KmerSearchSpace {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final KmerIndexDescriptor descriptor;
+    private final Path path;
+    private final MappedByteBuffer[] segments;
+    private final int k;
+    private final long keyCount;
+    private final long keysOffset;
+    private final long offsetsOffset;
+    private final long positionsOffset;
+
+    public MappedKmerIndex(String id, Path path) {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < KmerIndexFormat.HEADER_BYTES) {
+                throw new IllegalArgumentException("Not a k-mer index file: " + path);
+            }
+            int segmentCount = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(1L << SEGMENT_SHIFT, size - position));
+                segments[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map k-mer index " + path, e);
+        }
+
+        if (getLong(0) != KmerIndexFormat.MAGIC || getInt(8) != KmerIndexFormat.VERSION) {
+            throw new IllegalArgumentException("Not a k-mer index file (or unsupported version): " + path);
+        }
+        this.k = getInt(KmerIndexFormat.K_OFFSET);
+        int chromosomeCount = getInt(KmerIndexFormat.CHROMOSOME_COUNT_OFFSET);
+        int searchSpaceSize = getInt(KmerIndexFormat.SEARCH_SPACE_OFFSET);
+        this.keyCount = getLong(KmerIndexFormat.KEY_COUNT_OFFSET);
+        long positionCount = getLong(KmerIndexFormat.POSITION_COUNT_OFFSET);
+        this.keysOffset = getLong(KmerIndexFormat.KEYS_SECTION_OFFSET);
+        this.offsetsOffset = getLong(KmerIndexFormat.OFFSETS_SECTION_OFFSET);
+        this.positionsOffset = getLong(KmerIndexFormat.POSITIONS_SECTION_OFFSET);
+
+        List<Chromosome> chromosomes = new ArrayList<>(chromosomeCount);
+        long cursor = KmerIndexFormat.HEADER_BYTES;
+        for (int i = 0; i < chromosomeCount; i++) {
+            int start = getInt(cursor);
+            int length = getInt(cursor + 4);
+            int nameLength = segments[0].getShort((int) (cursor + 8)) & 0xFFFF;
+            byte[] name = new byte[nameLength];
+            segments[0].get((int) (cursor + 10), name);
+            chromosomes.add(new Chromosome(new String(name, StandardCharsets.UTF_8), start, length));
+            cursor += 10 + nameLength;
+        }
+
+        this.descriptor = new KmerIndexDescriptor(id, path.toString(), k, searchSpaceSize, keyCount, positionCount, chromosomes);
+    }
+
+    @Override
+    public KmerIndexDescriptor descriptor() {
+        return descriptor;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    @Override
+    public int[] positionsOf(String kmer) {
+        long code = KmerEncoding.encode(kmer, k);
+
+        long low = 0;
+        long high = keyCount - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            long key = getLong(keysOffset + mid * Long.BYTES);
+            if (key < code) {
+                low = mid + 1;
+            } else if (key > code) {
+                high = mid - 1;
+            } else {
+                long from = getLong(offsetsOffset + mid * Long.BYTES);
+                long to = getLong(offsetsOffset + (mid + 1) * Long.BYTES);
+                int[] positions = new int[(int) (to - from)];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = getInt(positionsOffset + (from + i) * Integer.BYTES);
+                }
+                return positions;
+            }
+        }
+        return new int[0];
+    }
+
+    /**
+     * Replays the whole index as sorted entries, used as one input run when the index is extended.
+     */
+    KmerEntries.Cursor entries() {
+        return new KmerEntries.Cursor() {
+            private long keyIndex = -1;
+            private long positionIndex;
+            private long keyEnd;
+            private long code;
+
+            @Override
+            public boolean next() {
+                while (positionIndex >= keyEnd) {
+                    if (++keyIndex >= keyCount) {
+                        return false;
+                    }
+                    code = getLong(keysOffset + keyIndex * Long.BYTES);
+                    positionIndex = getLong(offsetsOffset + keyIndex * Long.BYTES);
+                    keyEnd = getLong(offsetsOffset + (keyIndex + 1) * Long.BYTES);
+                }
+                positionIndex++;
+                return true;
+            }
+
+            @Override
+            public long entry() {
+                return KmerEntries.pack(code, getInt(positionsOffset + (positionIndex - 1) * Integer.BYTES));
+            }
+        };
+    }
+
+    private long getLong(long offset) {
+        return segments[(int) (offset >>> SEGMENT_SHIFT)].getLong((int) (offset & SEGMENT_MASK));
+    }
+
+    private int getInt(long offset) {
+        return segments[(int) (offset >>> SEGMENT_SHIFT)].getInt((int) (offset & SEGMENT_MASK));
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import br.com.atous.demo.domain.port.out.KmerIndexRepository;
+import br.com.atous.demo.domain.port.out.KmerSearchSpace;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class MappedKmerIndexRepository implements KmerIndexRepository {
+
+    private final Map<String, MappedKmerIndex> indexes = new ConcurrentHashMap<>();
+
+    @Override
+    public KmerSearchSpace build(String id, Path fasta, int k, Path indexFile) {
+        validateId(id);
+        requireFile(fasta);
+        KmerIndexBuilder.build(fasta, k, indexFile);
+        return register(id, indexFile);
+    }
+
+    @Override
+    public synchronized KmerSearchSpace extend(String id, Path fasta) {
+        MappedKmerIndex existing = indexes.get(id);
+        if (existing == null) {
+            throw new IllegalArgumentException("Unknown k-mer index: " + id);
+        }
+        requireFile(fasta);
+        KmerIndexBuilder.extend(existing, fasta);
+        return register(id, existing.path());
+    }
+
+    @Override
+    public KmerSearchSpace open(String id, Path indexFile) {
+        validateId(id);
+        requireFile(indexFile);
+        return register(id, indexFile);
+    }
+
+    @Override
+    public Optional<KmerSearchSpace> find(String id) {
+        return Optional.ofNullable(indexes.get(id));
+    }
+
+    private MappedKmerIndex register(String id, Path indexFile) {
+        MappedKmerIndex index = new MappedKmerIndex(id, indexFile);
+        indexes.put(id, index);
+        return index;
+    }
+
+    private void validateId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Index id must not be blank");
+        }
+    }
+
+    private void requireFile(Path path) {
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("File not found: " + path);
+        }
+    }
+}
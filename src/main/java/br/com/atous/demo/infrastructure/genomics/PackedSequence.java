@@ -0,0 +1,80 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import java.util.Arrays;
+
+/**
+ * One FASTA record packed at 2 bits per base, plus a 1-bit-per-base mask of ambiguous
+ * positions (N and other IUPAC codes), which break k-mers.
+ */
+final class PackedSequence {
+
+    private final String name;
+    private long[] bases = new long[1024];
+    private long[] ambiguous = new long[512];
+    private int length;
+
+    PackedSequence(String name) {
+        this.name = name;
+    }
+
+    void append(int symbol) {
+        if (length == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Sequence " + name + " exceeds " + Integer.MAX_VALUE + " bases");
+        }
+        if ((length >>> 5) == bases.length) {
+            bases = Arrays.copyOf(bases, bases.length * 2);
+        }
+        if ((length >>> 6) == ambiguous.length) {
+            ambiguous = Arrays.copyOf(ambiguous, ambiguous.length * 2);
+        }
+        int code = KmerEncoding.encodeBase(symbol);
+        if (code == KmerEncoding.AMBIGUOUS) {
+            ambiguous[length >>> 6] |= 1L << (length & 63);
+        } else {
+            bases[length >>> 5] |= (long) code << ((length & 31) << 1);
+        }
+        length++;
+    }
+
+    String name() {
+        return name;
+    }
+
+    int length() {
+        return length;
+    }
+
+    int baseAt(int position) {
+        return (int) ((bases[position >>> 5] >>> ((position & 31) << 1)) & 3L);
+    }
+
+    boolean isAmbiguous(int position) {
+        return ((ambiguous[position >>> 6] >>> (position & 63)) & 1L) != 0;
+    }
+
+    /**
+     * Emits every valid k-mer as a packed {@code (code << 32) | globalPosition} entry, sign-flipped
+     * so that the signed sort order equals the unsigned (code, position) order, and sorts them.
+     */
+    long[] sortedEntries(int k, int globalStart) {
+        long[] entries = new long[Math.max(0, length - k + 1)];
+        long mask = (1L << (2 * k)) - 1;
+        long code = 0;
+        int run = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (isAmbiguous(i)) {
+                run = 0;
+                code = 0;
+                continue;
+            }
+            code = ((code << 2) | baseAt(i)) & mask;
+            if (++run >= k) {
+                entries[count++] = KmerEntries.pack(code, globalStart + i - k + 1);
+            }
+        }
+        long[] sorted = count == entries.length ? entries : Arrays.copyOf(entries, count);
+        Arrays.parallelSort(sorted);
+        return sorted;
+    }
+}
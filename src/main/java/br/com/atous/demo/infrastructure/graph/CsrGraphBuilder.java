@@ -0,0 +1,121 @@
+package br.com.atous.demo.infrastructure.graph;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Converts a text edge list into a {@link CsrGraphFormat} file.
+ *
+ * Both directions of every edge are packed into one long per arc (tail in the high word,
+ * head in the low word) and sorted, which orders the arcs by tail and then by head: the
+ * CSR offsets fall out of one counting pass and the reverse of u→v is a binary search for u
+ * among the neighbours of v. Blank lines and lines starting with '#' or '%' are skipped,
+ * and columns after the first two (weights, timestamps) are ignored.
+ */
+final class CsrGraphBuilder {
+
+    private CsrGraphBuilder() {
+    }
+
+    static void build(Path edgeList, Path graphFile) {
+        long[] arcs = readArcs(edgeList);
+
+        int arcCount = 0;
+        for (int i = 0; i < arcs.length; i++) {
+            if (i == 0 || arcs[i] != arcs[i - 1]) {
+                arcs[arcCount++] = arcs[i];
+            }
+        }
+        if (arcCount == 0) {
+            throw new IllegalArgumentException("Edge list contains no edges: " + edgeList);
+        }
+
+        int vertexCount = tail(arcs[arcCount - 1]) + 1;
+        int[] offsets = new int[vertexCount + 1];
+        int[] neighbours = new int[arcCount];
+        for (int arc = 0; arc < arcCount; arc++) {
+            offsets[tail(arcs[arc]) + 1]++;
+            neighbours[arc] = head(arcs[arc]);
+        }
+        int maxDegree = 0;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            maxDegree = Math.max(maxDegree, offsets[vertex + 1]);
+            offsets[vertex + 1] += offsets[vertex];
+        }
+        int[] reverse = new int[arcCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+                int neighbour = neighbours[arc];
+                reverse[arc] = Arrays.binarySearch(neighbours, offsets[neighbour], offsets[neighbour + 1], vertex);
+            }
+        }
+
+        try {
+            CsrGraphFormat.write(graphFile, offsets, neighbours, reverse, maxDegree);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write graph file " + graphFile, e);
+        }
+    }
+
+    private static long[] readArcs(Path edgeList) {
+        long[] arcs = new long[1 << 16];
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(edgeList)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.charAt(0) == '#' || trimmed.charAt(0) == '%') {
+                    continue;
+                }
+                String[] columns = trimmed.split("\\s+");
+                int u;
+                int v;
+                try {
+                    u = columns.length >= 2 ? Integer.parseInt(columns[0]) : -1;
+                    v = columns.length >= 2 ? Integer.parseInt(columns[1]) : -1;
+                } catch (NumberFormatException e) {
+                    u = -1;
+                    v = -1;
+                }
+                if (u < 0 || v < 0 || Math.max(u, v) >= CsrGraphFormat.MAX_ARCS) {
+                    throw new IllegalArgumentException(
+                        String.format("Malformed edge at line %d of %s: '%s'", lineNumber, edgeList, line));
+                }
+                if (u == v) {
+                    continue; // Self-loops carry no walk
+                }
+                if (count + 2 > CsrGraphFormat.MAX_ARCS) {
+                    throw new IllegalArgumentException("Edge list exceeds " + CsrGraphFormat.MAX_ARCS / 2 + " edges: " + edgeList);
+                }
+                if (count + 2 > arcs.length) {
+                    arcs = Arrays.copyOf(arcs, (int) Math.min(CsrGraphFormat.MAX_ARCS, 2L * arcs.length));
+                }
+                arcs[count++] = arc(u, v);
+                arcs[count++] = arc(v, u);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read edge list " + edgeList, e);
+        }
+        long[] sorted = Arrays.copyOf(arcs, count);
+        Arrays.parallelSort(sorted);
+        return sorted;
+    }
+
+    private static long arc(int tail, int head) {
+        return (long) tail << 32 | head;
+    }
+
+    private static int tail(long arc) {
+        return (int) (arc >>> 32);
+    }
+
+    private static int head(long arc) {
+        return (int) arc;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.atous.demo.infrastructure.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Little-endian, memory-mappable graph file in compressed sparse row form:
+ *
+ * <pre>
+ * header (64 bytes)  magic, version, vertex count, edge count, arc count, max degree,
+ *                    section offsets
+ * offsets            int[vertexCount + 1]  first arc of each vertex, then the arc count
+ * neighbours         int[arcCount]         arc heads, ascending per vertex
+ * reverse            int[arcCount]         index of the opposite arc
+ * </pre>
+ *
+ * Each section is mapped as one buffer, which caps it at 2 GiB and the graph at
+ * {@link #MAX_ARCS} arcs.
+ */
+final class CsrGraphFormat {
+
+    static final long MAGIC = 0x3148505247525343L; // "CSRGRPH1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int MAX_ARCS = Integer.MAX_VALUE / Integer.BYTES - 1;
+
+    static final int VERTEX_COUNT_OFFSET = 12;
+    static final int EDGE_COUNT_OFFSET = 16;
+    static final int ARC_COUNT_OFFSET = 24;
+    static final int MAX_DEGREE_OFFSET = 28;
+    static final int OFFSETS_SECTION_OFFSET = 32;
+    static final int NEIGHBOURS_SECTION_OFFSET = 40;
+    static final int REVERSE_SECTION_OFFSET = 48;
+
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private CsrGraphFormat() {
+    }
+
+    static void write(Path file, int[] offsets, int[] neighbours, int[] reverse, int maxDegree) throws IOException {
+        int vertexCount = offsets.length - 1;
+        int arcCount = neighbours.length;
+        long offsetsOffset = HEADER_BYTES;
+        long neighboursOffset = offsetsOffset + (long) offsets.length * Integer.BYTES;
+        long reverseOffset = neighboursOffset + (long) arcCount * Integer.BYTES;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(VERSION).putInt(vertexCount).putLong(arcCount / 2).putInt(arcCount)
+                .putInt(maxDegree).putLong(offsetsOffset).putLong(neighboursOffset).putLong(reverseOffset);
+            header.position(0);
+            writeFully(channel, header, 0);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            writeSection(channel, buffer, offsets, offsetsOffset);
+            writeSection(channel, buffer, neighbours, neighboursOffset);
+            writeSection(channel, buffer, reverse, reverseOffset);
+            channel.force(true);
+        }
+    }
+
+    private static void writeSection(FileChannel channel, ByteBuffer buffer, int[] values, long position) throws IOException {
+        int index = 0;
+        while (index < values.length) {
+            buffer.clear();
+            int end = Math.min(values.length, index + buffer.capacity() / Integer.BYTES);
+            buffer.asIntBuffer().put(values, index, end - index);
+            buffer.limit((end - index) * Integer.BYTES);
+            writeFully(channel, buffer, position);
+            position += (long) (end - index) * Integer.BYTES;
+            index = end;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.atous.demo.infrastructure.graph;
+
+import br.com.atous.demo.domain.model.GraphDescriptor;
+import br.com.atous.demo.domain.port.out.SearchGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a graph file (see {@link CsrGraphFormat}). Each section is mapped as an
+ * int view and read in place, so opening a graph costs no parsing and its adjacency stays
+ * in the page cache rather than on the heap.
+ */
+public class MappedCsrGraph implements SearchGraph {
+
+    private final GraphDescriptor descriptor;
+    private final IntBuffer offsets;
+    private final IntBuffer neighbours;
+    private final IntBuffer reverse;
+
+    public MappedCsrGraph(String id, Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < CsrGraphFormat.HEADER_BYTES) {
+                throw new IllegalArgumentException("Not a graph file: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, CsrGraphFormat.HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong(0) != CsrGraphFormat.MAGIC || header.getInt(8) != CsrGraphFormat.VERSION) {
+                throw new IllegalArgumentException("Not a graph file (or unsupported version): " + path);
+            }
+            int vertexCount = header.getInt(CsrGraphFormat.VERTEX_COUNT_OFFSET);
+            int arcCount = header.getInt(CsrGraphFormat.ARC_COUNT_OFFSET);
+            long reverseOffset = header.getLong(CsrGraphFormat.REVERSE_SECTION_OFFSET);
+            if (reverseOffset + (long) arcCount * Integer.BYTES > size) {
+                throw new IllegalArgumentException("Truncated graph file: " + path);
+            }
+            this.offsets = mapSection(channel, header.getLong(CsrGraphFormat.OFFSETS_SECTION_OFFSET), vertexCount + 1);
+            this.neighbours = mapSection(channel, header.getLong(CsrGraphFormat.NEIGHBOURS_SECTION_OFFSET), arcCount);
+            this.reverse = mapSection(channel, reverseOffset, arcCount);
+            this.descriptor = new GraphDescriptor(id, path.toString(), vertexCount,
+                header.getLong(CsrGraphFormat.EDGE_COUNT_OFFSET), arcCount, header.getInt(CsrGraphFormat.MAX_DEGREE_OFFSET));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map graph " + path, e);
+        }
+    }
+
+    @Override
+    public GraphDescriptor descriptor() {
+        return descriptor;
+    }
+
+    @Override
+    public int vertexCount() {
+        return descriptor.vertexCount();
+    }
+
+    @Override
+    public int arcCount() {
+        return descriptor.arcCount();
+    }
+
+    @Override
+    public int arcStart(int vertex) {
+        return offsets.get(vertex);
+    }
+
+    @Override
+    public int neighbour(int arc) {
+        return neighbours.get(arc);
+    }
+
+    @Override
+    public int reverseArc(int arc) {
+        return reverse.get(arc);
+    }
+
+    private static IntBuffer mapSection(FileChannel channel, long offset, int length) throws IOException {
+        MappedByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, offset, (long) length * Integer.BYTES);
+        return section.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+}
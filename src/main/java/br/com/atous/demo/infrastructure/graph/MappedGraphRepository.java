@@ -0,0 +1,75 @@
+package br.com.atous.demo.infrastructure.graph;
+
+import br.com.atous.demo.domain.port.out.GraphRepository;
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Graphs mapped by id. An id is registered once: a mapping cannot be released before the
+ * garbage collector gets to it, so replacing a graph would leave the old file mapped, and
+ * rebuilding into its file would rewrite pages that are still mapped.
+ */
+@Component
+public class MappedGraphRepository implements GraphRepository {
+
+    private final Map<String, MappedCsrGraph> graphs = new ConcurrentHashMap<>();
+
+    @Override
+    public SearchGraph build(String id, Path edgeList, Path graphFile) {
+        validateId(id);
+        requireUnregistered(id);
+        requireFile(edgeList);
+        CsrGraphBuilder.build(edgeList, graphFile);
+        return register(id, graphFile);
+    }
+
+    @Override
+    public SearchGraph open(String id, Path graphFile) {
+        validateId(id);
+        requireUnregistered(id);
+        requireFile(graphFile);
+        return register(id, graphFile);
+    }
+
+    @Override
+    public Optional<SearchGraph> find(String id) {
+        return Optional.ofNullable(graphs.get(id));
+    }
+
+    private MappedCsrGraph register(String id, Path graphFile) {
+        MappedCsrGraph graph = new MappedCsrGraph(id, graphFile);
+        // A concurrent registration of the same id may have won since the check
+        if (graphs.putIfAbsent(id, graph) != null) {
+            throw alreadyRegistered(id);
+        }
+        return graph;
+    }
+
+    private void requireUnregistered(String id) {
+        if (graphs.containsKey(id)) {
+            throw alreadyRegistered(id);
+        }
+    }
+
+    private static IllegalArgumentException alreadyRegistered(String id) {
+        return new IllegalArgumentException("Graph id already registered: " + id);
+    }
+
+    private void validateId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Graph id must not be blank");
+        }
+    }
+
+    private void requireFile(Path path) {
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("File not found: " + path);
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package br.com.atous.demo.infrastructure.resultlog;
+
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.LoggedResult;
+import br.com.atous.demo.domain.model.ResultCompaction;
+import br.com.atous.demo.domain.model.ResultQuery;
+import br.com.atous.demo.domain.port.out.ResultLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link ResultLog} on a single append-only file in the {@link ResultLogFormat} layout.
+ *
+ * Request threads only offer results to a bounded queue; a full queue drops the result and
+ * counts it rather than block. One background writer drains the queue in batches, writes each
+ * batch with one positional {@link FileChannel} write and one {@code force} (group fsync), and
+ * only then adds the batch to the {@link ResultIndex}, so queries never see a result that is
+ * not durable. Queries read records through a read-only memory mapping of the file, remapped
+ * when it has grown past the mapped length.
+ *
+ * On start the file is scanned and the index rebuilt; the first record whose checksum fails
+ * marks a torn write, and the file is truncated there. Compaction copies the kept records to
+ * a new file, forces it and renames it over the log, holding off the writer meanwhile.
+ * Records are addressed through one mapping, which caps the log at 2 GiB (about 44 million
+ * results); past that results are dropped until a compaction makes room.
+ *
+ * Disabled unless {@code search.result-log.path} is set.
+ */
+@Component
+public class FileResultLog implements ResultLog, SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileResultLog.class);
+    private static final int MAX_BATCH = 512;
+    private static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+
+    private record Pending(GroverResult result, long recordedAtMillis) {}
+
+    private final Path path;
+    private final BlockingQueue<Pending> queue;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Writer state: file, next sequence and last timestamp belong to whoever holds fileLock
+    private final Object fileLock = new Object();
+    private volatile FileChannel channel;
+    private long nextSequence;
+    private long lastTimestamp;
+    private final ByteBuffer batchBuffer = ByteBuffer.allocateDirect(MAX_BATCH * ResultLogFormat.RECORD_SIZE);
+
+    // Reader state: index, mapping and durable length change together under the write lock
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private ResultIndex index = new ResultIndex();
+    private volatile MappedByteBuffer mapped;
+    private long durableBytes;
+
+    private final Object progress = new Object();
+    private long processed; // Guarded by progress: results written or dropped by the writer
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public FileResultLog(@Value("${search.result-log.path:}") String path,
+                         @Value("${search.result-log.queue-capacity:65536}") int queueCapacity) {
+        this.path = path == null || path.isBlank() ? null : Path.of(path);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public boolean enabled() {
+        return path != null;
+    }
+
+    @Override
+    public void start() {
+        if (path == null || running) {
+            return;
+        }
+        try {
+            synchronized (fileLock) {
+                open();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not open result log " + path, e);
+        }
+        running = true;
+        writer = Thread.ofPlatform().daemon().name("result-log-writer").start(this::writeLoop);
+        LOG.info("Result log {} opened with {} records", path, index.count());
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        try {
+            // The writer drains what is queued before it exits
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        synchronized (fileLock) {
+            closeChannel();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void append(GroverResult result) {
+        if (path == null) {
+            return;
+        }
+        accepted.incrementAndGet();
+        if (!queue.offer(new Pending(result, System.currentTimeMillis()))) {
+            dropped.incrementAndGet();
+            markProcessed(1);
+        }
+    }
+
+    /**
+     * Results dropped because the queue was full or the file could not take them.
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Waits until every result appended before the call is durable (or dropped).
+     */
+    public void flush() throws InterruptedException {
+        long target = accepted.get();
+        synchronized (progress) {
+            while (processed < target) {
+                progress.wait(100);
+            }
+        }
+    }
+
+    // --- Writer ---
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Result log write failed, {} results dropped", batch.size(), e);
+                dropped.addAndGet(batch.size());
+            } finally {
+                markProcessed(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Pending> batch) throws IOException {
+        synchronized (fileLock) {
+            long position = channel.size();
+            if (position + (long) batch.size() * ResultLogFormat.RECORD_SIZE > MAX_FILE_SIZE) {
+                throw new IOException("Result log is full (2 GiB), compact it to make room");
+            }
+            long firstSequence = nextSequence;
+            long[] timestamps = new long[batch.size()];
+            batchBuffer.clear();
+            for (int i = 0; i < batch.size(); i++) {
+                Pending pending = batch.get(i);
+                // Request threads race to the queue, so timestamps are clamped to stay non-decreasing
+                lastTimestamp = Math.max(lastTimestamp, pending.recordedAtMillis());
+                timestamps[i] = lastTimestamp;
+                ResultLogFormat.write(batchBuffer, nextSequence++, lastTimestamp, pending.result());
+            }
+            batchBuffer.flip();
+            while (batchBuffer.hasRemaining()) {
+                position += channel.write(batchBuffer, position);
+            }
+            channel.force(false);
+
+            indexLock.writeLock().lock();
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    GroverResult result = batch.get(i).result();
+                    index.add(result.searchSpaceSize(), result.targetIndex(), timestamps[i]);
+                }
+                durableBytes = position;
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+            LOG.trace("Result log batch of {} from sequence {}", batch.size(), firstSequence);
+        }
+    }
+
+    private void markProcessed(int results) {
+        synchronized (progress) {
+            processed += results;
+            progress.notifyAll();
+        }
+    }
+
+    // --- Recovery ---
+
+    // Caller holds fileLock
+    private void open() throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < ResultLogFormat.HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(ResultLogFormat.HEADER_SIZE);
+            ResultLogFormat.writeHeader(header);
+            channel.truncate(0);
+            channel.write(header.flip(), 0);
+            channel.force(true);
+        }
+
+        MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (!ResultLogFormat.validHeader(file)) {
+            channel.close();
+            throw new IOException("Not a result log: " + path);
+        }
+        ResultIndex rebuilt = new ResultIndex();
+        long end = ResultLogFormat.HEADER_SIZE;
+        nextSequence = 0;
+        lastTimestamp = 0;
+        while (end + ResultLogFormat.RECORD_SIZE <= file.capacity() && ResultLogFormat.valid(file, (int) end)) {
+            int offset = (int) end;
+            long timestamp = ResultLogFormat.recordedAt(file, offset);
+            rebuilt.add(ResultLogFormat.searchSpaceSize(file, offset), ResultLogFormat.targetIndex(file, offset), timestamp);
+            nextSequence = ResultLogFormat.sequence(file, offset) + 1;
+            lastTimestamp = Math.max(lastTimestamp, timestamp);
+            end += ResultLogFormat.RECORD_SIZE;
+        }
+        if (end < channel.size()) {
+            LOG.warn("Result log {} has a torn tail, truncating {} bytes", path, channel.size() - end);
+            channel.truncate(end);
+            channel.force(true);
+        }
+
+        indexLock.writeLock().lock();
+        try {
+            index = rebuilt;
+            mapped = null;
+            durableBytes = end;
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.debug("Closing result log failed", e);
+        }
+        channel = null;
+    }
+
+    // --- Queries ---
+
+    @Override
+    public List<LoggedResult> query(ResultQuery query) {
+        if (path == null) {
+            return List.of();
+        }
+        indexLock.readLock().lock();
+        try {
+            ByteBuffer file = mapping();
+            if (file == null) {
+                return List.of();
+            }
+            List<LoggedResult> results = new ArrayList<>();
+            if (query.searchSpaceSize() != null && query.targetIndex() != null) {
+                for (int record = index.newest(query.searchSpaceSize(), query.targetIndex());
+                     record >= 0 && results.size() < query.limit();
+                     record = index.previousWithKey(record)) {
+                    if (inTimeRange(query, index.timestamp(record))) {
+                        results.add(ResultLogFormat.read(file, offset(record)));
+                    }
+                }
+                return results;
+            }
+            int from = query.fromMillis() == null ? 0 : index.firstAtOrAfter(query.fromMillis());
+            int to = query.toMillis() == null ? index.count() : index.firstAtOrAfter(query.toMillis());
+            for (int record = to - 1; record >= from && results.size() < query.limit(); record--) {
+                int offset = offset(record);
+                if (matches(query.searchSpaceSize(), ResultLogFormat.searchSpaceSize(file, offset))
+                    && matches(query.targetIndex(), ResultLogFormat.targetIndex(file, offset))) {
+                    results.add(ResultLogFormat.read(file, offset));
+                }
+            }
+            return results;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private static boolean inTimeRange(ResultQuery query, long timestamp) {
+        return (query.fromMillis() == null || timestamp >= query.fromMillis())
+            && (query.toMillis() == null || timestamp < query.toMillis());
+    }
+
+    private static boolean matches(Integer expected, int actual) {
+        return expected == null || expected == actual;
+    }
+
+    private static int offset(int record) {
+        return (int) ResultLogFormat.position(record);
+    }
+
+    // Caller holds the read lock. Remapping swaps one reference, so racing readers at worst map twice
+    private ByteBuffer mapping() {
+        MappedByteBuffer current = mapped;
+        if (current != null && current.capacity() >= durableBytes) {
+            return current;
+        }
+        FileChannel file = channel;
+        if (file == null) {
+            return null;
+        }
+        try {
+            current = file.map(FileChannel.MapMode.READ_ONLY, 0, durableBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map result log " + path, e);
+        }
+        mapped = current;
+        return current;
+    }
+
+    // --- Compaction ---
+
+    @Override
+    public ResultCompaction compact(int keepPerKey) {
+        if (path == null) {
+            throw new IllegalStateException("Result log is disabled");
+        }
+        synchronized (fileLock) {
+            try {
+                return compactLocked(keepPerKey);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Result log compaction failed", e);
+            }
+        }
+    }
+
+    private ResultCompaction compactLocked(int keepPerKey) throws IOException {
+        ResultIndex current;
+        ByteBuffer file;
+        long bytesBefore;
+        indexLock.readLock().lock();
+        try {
+            current = index;
+            file = mapping();
+            bytesBefore = durableBytes;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+
+        // The writer is held off by fileLock, so the index cannot grow while we walk it
+        boolean[] keep = new boolean[current.count()];
+        for (int head : current.heads()) {
+            int record = head;
+            for (int kept = 0; kept < keepPerKey && record >= 0; kept++) {
+                keep[record] = true;
+                record = current.previousWithKey(record);
+            }
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        ResultIndex rebuilt = new ResultIndex();
+        long bytesAfter;
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(MAX_BATCH * ResultLogFormat.RECORD_SIZE);
+            ResultLogFormat.writeHeader(buffer);
+            for (int record = 0; record < keep.length; record++) {
+                if (!keep[record]) {
+                    continue;
+                }
+                int offset = offset(record);
+                if (buffer.remaining() < ResultLogFormat.RECORD_SIZE) {
+                    writeFully(out, buffer.flip());
+                    buffer.clear();
+                }
+                buffer.put(file.slice(offset, ResultLogFormat.RECORD_SIZE));
+                rebuilt.add(ResultLogFormat.searchSpaceSize(file, offset), ResultLogFormat.targetIndex(file, offset),
+                    current.timestamp(record));
+            }
+            writeFully(out, buffer.flip());
+            out.force(true);
+            bytesAfter = out.size();
+        }
+
+        // Readers are held off while the file is swapped, so none maps the new file with the old length
+        indexLock.writeLock().lock();
+        try {
+            closeChannel();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = rebuilt;
+            mapped = null;
+            durableBytes = bytesAfter;
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+        LOG.info("Result log compacted from {} to {} records", current.count(), rebuilt.count());
+        return new ResultCompaction(current.count(), rebuilt.count(), bytesBefore, bytesAfter);
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
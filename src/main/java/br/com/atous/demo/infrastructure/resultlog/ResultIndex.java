@@ -0,0 +1,143 @@
+package br.com.atous.demo.infrastructure.resultlog;
+
+import java.util.Arrays;
+
+/**
+ * In-memory index over the records of the result log, in primitive arrays only.
+ *
+ * Records are numbered in log order. Per record we keep its timestamp (non-decreasing, so a
+ * time range is two binary searches) and the number of the previous record with the same
+ * (N, target). An open-addressing table maps each (N, target) to its newest record, so the
+ * results for a key are a walk down that chain, newest first, touching only matches.
+ */
+final class ResultIndex {
+
+    private static final int EMPTY = -1;
+
+    private long[] timestamps = new long[1024];
+    private int[] previousWithKey = new int[1024];
+    private int count;
+
+    private long[] tableKeys = new long[1024];
+    private int[] tableHeads = newTable(1024);
+    private int keys;
+
+    private static int[] newTable(int capacity) {
+        int[] heads = new int[capacity];
+        Arrays.fill(heads, EMPTY);
+        return heads;
+    }
+
+    static long key(int searchSpaceSize, int targetIndex) {
+        return ((long) searchSpaceSize << 32) | (targetIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Indexes the next record and returns its number.
+     */
+    int add(int searchSpaceSize, int targetIndex, long timestamp) {
+        if (count == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, 2 * count);
+            previousWithKey = Arrays.copyOf(previousWithKey, 2 * count);
+        }
+        if (2 * (keys + 1) > tableHeads.length) {
+            rehash();
+        }
+        long key = key(searchSpaceSize, targetIndex);
+        int slot = slot(key);
+        if (tableHeads[slot] == EMPTY) {
+            tableKeys[slot] = key;
+            keys++;
+        }
+        int record = count++;
+        timestamps[record] = timestamp;
+        previousWithKey[record] = tableHeads[slot];
+        tableHeads[slot] = record;
+        return record;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int keyCount() {
+        return keys;
+    }
+
+    long timestamp(int record) {
+        return timestamps[record];
+    }
+
+    /**
+     * The newest record for (N, target), or -1.
+     */
+    int newest(int searchSpaceSize, int targetIndex) {
+        return tableHeads[slot(key(searchSpaceSize, targetIndex))];
+    }
+
+    int previousWithKey(int record) {
+        return previousWithKey[record];
+    }
+
+    /**
+     * Newest record of every key, in table order, for walking all chains.
+     */
+    int[] heads() {
+        int[] heads = new int[keys];
+        int next = 0;
+        for (int head : tableHeads) {
+            if (head != EMPTY) {
+                heads[next++] = head;
+            }
+        }
+        return heads;
+    }
+
+    /**
+     * The first record with a timestamp at or after {@code timestamp}, or {@link #count()}.
+     */
+    int firstAtOrAfter(long timestamp) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Linear probing over a power-of-two table; the mix spreads keys that differ only in N
+    private int slot(long key) {
+        int mask = tableHeads.length - 1;
+        int slot = (int) (mix(key) & mask);
+        while (tableHeads[slot] != EMPTY && tableKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private void rehash() {
+        long[] oldKeys = tableKeys;
+        int[] oldHeads = tableHeads;
+        tableKeys = new long[2 * oldKeys.length];
+        tableHeads = newTable(2 * oldHeads.length);
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                tableKeys[slot] = oldKeys[i];
+                tableHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+}
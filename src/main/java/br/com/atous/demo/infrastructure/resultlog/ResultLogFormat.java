@@ -0,0 +1,94 @@
+package br.com.atous.demo.infrastructure.resultlog;
+
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.LoggedResult;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout of the result log: a 16-byte header, then fixed 48-byte records, so record r
+ * starts at {@code 16 + 48 · r} and the log can be indexed by record number alone.
+ *
+ * <pre>
+ * header:  magic (8) | record size (4) | reserved (4)
+ * record:  sequence (8) | recorded at, epoch ms (8) | N (4) | target (4) | found (4)
+ *          | iterations (4) | execution ms (8) | success (1) | padding (3) | CRC32C of bytes 0..43 (4)
+ * </pre>
+ *
+ * The checksum is what recovery uses to find a torn tail after a crash.
+ */
+final class ResultLogFormat {
+
+    static final long MAGIC = 0x47524C4F47303031L; // "GRLOG001"
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 48;
+    private static final int CHECKED_BYTES = 44;
+
+    private ResultLogFormat() {
+    }
+
+    static long position(int record) {
+        return HEADER_SIZE + (long) record * RECORD_SIZE;
+    }
+
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putLong(MAGIC).putInt(RECORD_SIZE).putInt(0);
+    }
+
+    static boolean validHeader(ByteBuffer buffer) {
+        return buffer.getLong(0) == MAGIC && buffer.getInt(Long.BYTES) == RECORD_SIZE;
+    }
+
+    static void write(ByteBuffer buffer, long sequence, long recordedAtMillis, GroverResult result) {
+        int start = buffer.position();
+        buffer.putLong(sequence)
+            .putLong(recordedAtMillis)
+            .putInt(result.searchSpaceSize())
+            .putInt(result.targetIndex())
+            .putInt(result.foundIndex())
+            .putInt(result.iterations())
+            .putLong(result.executionTimeMillis())
+            .put((byte) (result.success() ? 1 : 0))
+            .put((byte) 0).put((byte) 0).put((byte) 0);
+        buffer.putInt(checksum(buffer, start));
+    }
+
+    static boolean valid(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + CHECKED_BYTES) == checksum(buffer, offset);
+    }
+
+    static LoggedResult read(ByteBuffer buffer, int offset) {
+        GroverResult result = new GroverResult(
+            buffer.getInt(offset + 24),
+            buffer.getInt(offset + 20),
+            buffer.get(offset + 40) != 0,
+            buffer.getLong(offset + 32),
+            buffer.getInt(offset + 16),
+            buffer.getInt(offset + 28)
+        );
+        return new LoggedResult(buffer.getLong(offset), buffer.getLong(offset + 8), result);
+    }
+
+    static long sequence(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+    }
+
+    static long recordedAt(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + 8);
+    }
+
+    static int searchSpaceSize(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 16);
+    }
+
+    static int targetIndex(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 20);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CHECKED_BYTES));
+        return (int) crc.getValue();
+    }
+}
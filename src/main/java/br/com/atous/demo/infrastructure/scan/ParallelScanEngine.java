@@ -0,0 +1,64 @@
+package br.com.atous.demo.infrastructure.scan;
+
+import br.com.atous.demo.domain.port.out.ScanEngine;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fork/join scan on the common pool: the column is split in halves down to chunks of
+ * {@value #CHUNK} keys, each scanned with the vector kernel. The lowest match found so far is
+ * shared, and chunks that start after it are skipped, so a hit early in the column stops most
+ * of the work. Columns shorter than two chunks are scanned on the calling thread.
+ */
+@Component("parallelScan")
+public class ParallelScanEngine implements ScanEngine {
+
+    private static final int CHUNK = 1 << 16;
+
+    @Override
+    public int indexOf(int[] keys, int length, int needle) {
+        if (length < 2 * CHUNK) {
+            return AmplitudeKernels.get().indexOf(keys, 0, length, needle);
+        }
+        AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+        ForkJoinPool.commonPool().invoke(new ScanTask(keys, 0, length, needle, first));
+        return first.get() == Integer.MAX_VALUE ? -1 : first.get();
+    }
+
+    private static final class ScanTask extends RecursiveAction {
+
+        private final int[] keys;
+        private final int from;
+        private final int to;
+        private final int needle;
+        private final AtomicInteger first;
+
+        ScanTask(int[] keys, int from, int to, int needle, AtomicInteger first) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.needle = needle;
+            this.first = first;
+        }
+
+        @Override
+        protected void compute() {
+            if (first.get() < from) {
+                return;
+            }
+            if (to - from <= CHUNK) {
+                int index = AmplitudeKernels.get().indexOf(keys, from, to, needle);
+                if (index >= 0) {
+                    first.accumulateAndGet(index, Math::min);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScanTask(keys, from, mid, needle, first), new ScanTask(keys, mid, to, needle, first));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.atous.demo.infrastructure.scan;
+
+import br.com.atous.demo.domain.port.out.ScanEngine;
+import org.springframework.stereotype.Component;
+
+/**
+ * One thread, one comparison per element: the textbook linear search.
+ */
+@Component("sequentialScan")
+public class SequentialScanEngine implements ScanEngine {
+
+    @Override
+    public int indexOf(int[] keys, int length, int needle) {
+        for (int i = 0; i < length; i++) {
+            if (keys[i] == needle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.atous.demo.infrastructure.scan;
+
+import br.com.atous.demo.domain.port.out.ScanEngine;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+import org.springframework.stereotype.Component;
+
+/**
+ * One thread comparing a whole vector of keys per step through {@link AmplitudeKernels#indexOf}.
+ * Without the {@code jdk.incubator.vector} module this degrades to the sequential loop.
+ */
+@Component("simdScan")
+public class SimdScanEngine implements ScanEngine {
+
+    @Override
+    public int indexOf(int[] keys, int length, int needle) {
+        return AmplitudeKernels.get().indexOf(keys, 0, length, needle);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.atous.demo.infrastructure.simd;
+
+/**
+ * Dense sweeps over amplitude arrays, each on the half-open range [from, to).
+ *
+ * {@link #get()} returns the implementation chosen once at startup: Vector API kernels when
+ * the {@code jdk.incubator.vector} module is in the boot layer (run with
+ * {@code --add-modules jdk.incubator.vector}), plain loops otherwise. {@code -Damplitude.kernels=scalar}
+ * forces the fallback.
+ */
+public interface AmplitudeKernels {
+
+    /**
+     * values[i] = mul · values[i] + add
+     */
+    void affine(double[] values, int from, int to, double mul, double add);
+
+    /**
+     * values[i] = coefficient · basis[i] - values[i], the reflection step about a non-uniform state.
+     */
+    void reflect(double[] values, double[] basis, int from, int to, double coefficient);
+
+    double sumOfSquares(double[] values, int from, int to);
+
+    double dot(double[] left, double[] right, int from, int to);
+
+    /**
+     * Index of the largest values[i]², the lowest one on ties; {@code from} for an empty range.
+     */
+    int argMaxSquare(double[] values, int from, int to);
+
+    /**
+     * Index of the first keys[i] == needle, or -1. Not an amplitude sweep: it is the inner loop
+     * of the linear-scan baselines, kept here so it gets the same kernel selection.
+     */
+    int indexOf(int[] keys, int from, int to, int needle);
+
+    String name();
+
+    static AmplitudeKernels get() {
+        return KernelSelection.SELECTED;
+    }
+}
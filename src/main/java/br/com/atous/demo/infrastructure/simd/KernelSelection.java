@@ -0,0 +1,28 @@
+package br.com.atous.demo.infrastructure.simd;
+
+/**
+ * Picks the kernels once per JVM. The vector implementation is loaded reflectively so that no
+ * class referring to {@code jdk.incubator.vector} is linked when the module is absent.
+ */
+final class KernelSelection {
+
+    static final String PROPERTY = "amplitude.kernels";
+    private static final String VECTOR_KERNELS = "br.com.atous.demo.infrastructure.simd.VectorAmplitudeKernels";
+
+    static final AmplitudeKernels SELECTED = select();
+
+    private KernelSelection() {
+    }
+
+    private static AmplitudeKernels select() {
+        if ("scalar".equalsIgnoreCase(System.getProperty(PROPERTY))
+            || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return new ScalarAmplitudeKernels();
+        }
+        try {
+            return (AmplitudeKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarAmplitudeKernels();
+        }
+    }
+}
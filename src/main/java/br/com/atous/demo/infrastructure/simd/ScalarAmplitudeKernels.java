@@ -0,0 +1,65 @@
+package br.com.atous.demo.infrastructure.simd;
+
+public final class ScalarAmplitudeKernels implements AmplitudeKernels {
+
+    @Override
+    public void affine(double[] values, int from, int to, double mul, double add) {
+        for (int i = from; i < to; i++) {
+            values[i] = mul * values[i] + add;
+        }
+    }
+
+    @Override
+    public void reflect(double[] values, double[] basis, int from, int to, double coefficient) {
+        for (int i = from; i < to; i++) {
+            values[i] = coefficient * basis[i] - values[i];
+        }
+    }
+
+    @Override
+    public double sumOfSquares(double[] values, int from, int to) {
+        double total = 0.0;
+        for (int i = from; i < to; i++) {
+            total += values[i] * values[i];
+        }
+        return total;
+    }
+
+    @Override
+    public double dot(double[] left, double[] right, int from, int to) {
+        double total = 0.0;
+        for (int i = from; i < to; i++) {
+            total += left[i] * right[i];
+        }
+        return total;
+    }
+
+    @Override
+    public int argMaxSquare(double[] values, int from, int to) {
+        int maxIndex = from;
+        double maxSquare = -1.0;
+        for (int i = from; i < to; i++) {
+            double square = values[i] * values[i];
+            if (square > maxSquare) {
+                maxSquare = square;
+                maxIndex = i;
+            }
+        }
+        return maxIndex;
+    }
+
+    @Override
+    public int indexOf(int[] keys, int from, int to, int needle) {
+        for (int i = from; i < to; i++) {
+            if (keys[i] == needle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
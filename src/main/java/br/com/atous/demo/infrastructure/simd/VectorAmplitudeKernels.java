@@ -0,0 +1,159 @@
+package br.com.atous.demo.infrastructure.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels: the main loop covers whole vectors of the species and a scalar tail
+ * handles the remainder. Reductions keep one accumulator per lane, so sums may differ from
+ * the scalar loop in the last bits.
+ */
+public final class VectorAmplitudeKernels implements AmplitudeKernels {
+
+    private static final int ARGMAX_BLOCK = 1024;
+
+    private final VectorSpecies<Double> species;
+    private final VectorSpecies<Integer> intSpecies; // Same shape, twice the lanes
+
+    public VectorAmplitudeKernels() {
+        this(DoubleVector.SPECIES_PREFERRED);
+    }
+
+    public VectorAmplitudeKernels(int vectorBits) {
+        this(VectorSpecies.of(double.class, VectorShape.forBitSize(vectorBits)));
+    }
+
+    private VectorAmplitudeKernels(VectorSpecies<Double> species) {
+        this.species = species;
+        this.intSpecies = VectorSpecies.of(int.class, species.vectorShape());
+    }
+
+    @Override
+    public void affine(double[] values, int from, int to, double mul, double add) {
+        int i = from;
+        int upper = from + species.loopBound(to - from);
+        for (; i < upper; i += species.length()) {
+            DoubleVector.fromArray(species, values, i).fma(mul, add).intoArray(values, i);
+        }
+        for (; i < to; i++) {
+            values[i] = mul * values[i] + add;
+        }
+    }
+
+    @Override
+    public void reflect(double[] values, double[] basis, int from, int to, double coefficient) {
+        int i = from;
+        int upper = from + species.loopBound(to - from);
+        for (; i < upper; i += species.length()) {
+            DoubleVector x = DoubleVector.fromArray(species, values, i);
+            DoubleVector.fromArray(species, basis, i).mul(coefficient).sub(x).intoArray(values, i);
+        }
+        for (; i < to; i++) {
+            values[i] = coefficient * basis[i] - values[i];
+        }
+    }
+
+    @Override
+    public double sumOfSquares(double[] values, int from, int to) {
+        DoubleVector accumulator = DoubleVector.zero(species);
+        int i = from;
+        int upper = from + species.loopBound(to - from);
+        for (; i < upper; i += species.length()) {
+            DoubleVector v = DoubleVector.fromArray(species, values, i);
+            accumulator = v.fma(v, accumulator);
+        }
+        double total = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += values[i] * values[i];
+        }
+        return total;
+    }
+
+    @Override
+    public double dot(double[] left, double[] right, int from, int to) {
+        DoubleVector accumulator = DoubleVector.zero(species);
+        int i = from;
+        int upper = from + species.loopBound(to - from);
+        for (; i < upper; i += species.length()) {
+            accumulator = DoubleVector.fromArray(species, left, i)
+                .fma(DoubleVector.fromArray(species, right, i), accumulator);
+        }
+        double total = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += left[i] * right[i];
+        }
+        return total;
+    }
+
+    /**
+     * Blocks of {@value #ARGMAX_BLOCK} elements are screened with a vector compare of x² against
+     * the running maximum; only blocks that contain a larger value are rescanned element by
+     * element. Lane-wise max and per-element mask/blend bookkeeping were both slower than the
+     * scalar loop on AVX-512, a compare plus mask OR is not. Ties keep the lowest index.
+     */
+    @Override
+    public int argMaxSquare(double[] values, int from, int to) {
+        int maxIndex = from;
+        double maxSquare = -1.0;
+        for (int block = from; block < to; block += ARGMAX_BLOCK) {
+            int blockEnd = Math.min(to, block + ARGMAX_BLOCK);
+            if (!exceeds(values, block, blockEnd, maxSquare)) {
+                continue;
+            }
+            for (int i = block; i < blockEnd; i++) {
+                double square = values[i] * values[i];
+                if (square > maxSquare) {
+                    maxSquare = square;
+                    maxIndex = i;
+                }
+            }
+        }
+        return maxIndex;
+    }
+
+    private boolean exceeds(double[] values, int from, int to, double threshold) {
+        VectorMask<Double> any = species.maskAll(false);
+        int i = from;
+        int upper = from + species.loopBound(to - from);
+        for (; i < upper; i += species.length()) {
+            DoubleVector v = DoubleVector.fromArray(species, values, i);
+            any = any.or(v.mul(v).compare(VectorOperators.GT, threshold));
+        }
+        if (any.anyTrue()) {
+            return true;
+        }
+        for (; i < to; i++) {
+            if (values[i] * values[i] > threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int indexOf(int[] keys, int from, int to, int needle) {
+        int i = from;
+        int upper = from + intSpecies.loopBound(to - from);
+        for (; i < upper; i += intSpecies.length()) {
+            VectorMask<Integer> hits = IntVector.fromArray(intSpecies, keys, i).eq(needle);
+            if (hits.anyTrue()) {
+                return i + hits.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (keys[i] == needle) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + species.vectorBitSize();
+    }
+}
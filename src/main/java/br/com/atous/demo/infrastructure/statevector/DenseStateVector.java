@@ -0,0 +1,48 @@
+package br.com.atous.demo.infrastructure.statevector;
+
+import br.com.atous.demo.domain.port.out.StateVector;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+
+/**
+ * 2^n real amplitudes in one primitive array, indexed by basis state.
+ */
+final class DenseStateVector implements StateVector {
+
+    private final int qubitCount;
+    private final double[] amplitudes;
+
+    DenseStateVector(int qubitCount) {
+        this.qubitCount = qubitCount;
+        this.amplitudes = new double[1 << qubitCount];
+        this.amplitudes[0] = 1.0; // |0…0⟩
+    }
+
+    double[] amplitudes() {
+        return amplitudes;
+    }
+
+    @Override
+    public int qubitCount() {
+        return qubitCount;
+    }
+
+    @Override
+    public double getAmplitude(int basisIndex) {
+        if (basisIndex < 0 || basisIndex >= amplitudes.length) {
+            throw new IllegalArgumentException(
+                String.format("Basis index %d is out of bounds [0, %d)", basisIndex, amplitudes.length)
+            );
+        }
+        return amplitudes[basisIndex];
+    }
+
+    @Override
+    public int findMaxAmplitudeIndex() {
+        return AmplitudeKernels.get().argMaxSquare(amplitudes, 0, amplitudes.length);
+    }
+
+    @Override
+    public double getTotalProbability() {
+        return AmplitudeKernels.get().sumOfSquares(amplitudes, 0, amplitudes.length);
+    }
+}
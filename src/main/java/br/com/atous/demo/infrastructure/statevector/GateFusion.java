@@ -0,0 +1,94 @@
+package br.com.atous.demo.infrastructure.statevector;
+
+import br.com.atous.demo.domain.model.QuantumCircuit;
+import br.com.atous.demo.domain.model.QuantumGate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles a circuit into {@link GateKernel}s, fusing single-qubit gates.
+ *
+ * Uncontrolled gates on a qubit are multiplied into a pending 2×2 matrix for that qubit and
+ * only emitted when a controlled gate touches the qubit (or at the end). Gates on different
+ * qubits commute, so the pending matrices can wait; in the Grover circuit this merges the
+ * H and X layers around every multi-controlled Z, and drops products like H·H entirely.
+ */
+final class GateFusion {
+
+    private static final double INV_SQRT2 = 1.0 / Math.sqrt(2.0);
+    private static final double IDENTITY_TOLERANCE = 1e-12;
+
+    private GateFusion() {
+    }
+
+    static List<GateKernel> compile(QuantumCircuit circuit) {
+        int qubitCount = circuit.qubitCount();
+        double[][] pending = new double[qubitCount][]; // Row-major {m00, m01, m10, m11}, null = identity
+        List<GateKernel> kernels = new ArrayList<>();
+
+        for (QuantumGate gate : circuit.gates()) {
+            switch (gate) {
+                case QuantumGate.Hadamard h -> accumulate(pending, h.qubit(), INV_SQRT2, INV_SQRT2, INV_SQRT2, -INV_SQRT2);
+                case QuantumGate.PauliX x -> accumulate(pending, x.qubit(), 0.0, 1.0, 1.0, 0.0);
+                case QuantumGate.PauliZ z -> accumulate(pending, z.qubit(), 1.0, 0.0, 0.0, -1.0);
+                case QuantumGate.MultiControlledX cx -> {
+                    if (cx.controls().length == 0) {
+                        accumulate(pending, cx.target(), 0.0, 1.0, 1.0, 0.0);
+                    } else {
+                        emitControlled(kernels, pending, cx.controls(), cx.target(), 0.0, 1.0, 1.0, 0.0);
+                    }
+                }
+                case QuantumGate.MultiControlledZ cz -> {
+                    if (cz.controls().length == 0) {
+                        accumulate(pending, cz.target(), 1.0, 0.0, 0.0, -1.0);
+                    } else {
+                        emitControlled(kernels, pending, cz.controls(), cz.target(), 1.0, 0.0, 0.0, -1.0);
+                    }
+                }
+            }
+        }
+        for (int qubit = 0; qubit < qubitCount; qubit++) {
+            flush(kernels, pending, qubit);
+        }
+        return kernels;
+    }
+
+    // pending[q] ← G · pending[q], since G acts after the gates already accumulated
+    private static void accumulate(double[][] pending, int qubit, double g00, double g01, double g10, double g11) {
+        double[] m = pending[qubit];
+        if (m == null) {
+            pending[qubit] = new double[]{g00, g01, g10, g11};
+            return;
+        }
+        pending[qubit] = new double[]{
+            g00 * m[0] + g01 * m[2], g00 * m[1] + g01 * m[3],
+            g10 * m[0] + g11 * m[2], g10 * m[1] + g11 * m[3]
+        };
+    }
+
+    private static void emitControlled(List<GateKernel> kernels, double[][] pending, int[] controls, int target,
+                                       double m00, double m01, double m10, double m11) {
+        int controlMask = 0;
+        for (int control : controls) {
+            flush(kernels, pending, control);
+            controlMask |= 1 << control;
+        }
+        flush(kernels, pending, target);
+        kernels.add(new GateKernel(target, controlMask, m00, m01, m10, m11));
+    }
+
+    private static void flush(List<GateKernel> kernels, double[][] pending, int qubit) {
+        double[] m = pending[qubit];
+        pending[qubit] = null;
+        if (m == null || isIdentity(m)) {
+            return;
+        }
+        kernels.add(new GateKernel(qubit, 0, m[0], m[1], m[2], m[3]));
+    }
+
+    private static boolean isIdentity(double[] m) {
+        return Math.abs(m[0] - 1.0) < IDENTITY_TOLERANCE && Math.abs(m[1]) < IDENTITY_TOLERANCE
+            && Math.abs(m[2]) < IDENTITY_TOLERANCE && Math.abs(m[3] - 1.0) < IDENTITY_TOLERANCE;
+    }
+}
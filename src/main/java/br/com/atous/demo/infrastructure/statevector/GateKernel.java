@@ -0,0 +1,99 @@
+package br.com.atous.demo.infrastructure.statevector;
+
+/**
+ * A real 2×2 matrix [[m00, m01], [m10, m11]] on one target qubit, applied only where every
+ * control bit is set. Every gate of the circuit, fused or not, compiles to one of these.
+ *
+ * The kernel enumerates the 2^(n - 1 - c) amplitude pairs (i, i | targetBit) by depositing a
+ * dense pair counter k around the fixed control and target bits, so a range of k is an
+ * independent block of work.
+ */
+final class GateKernel {
+
+    private final int target;
+    private final int controlMask;
+    private final int[] fixedBits; // Control and target positions, ascending
+    private final double m00;
+    private final double m01;
+    private final double m10;
+    private final double m11;
+
+    GateKernel(int target, int controlMask, double m00, double m01, double m10, double m11) {
+        this.target = target;
+        this.controlMask = controlMask;
+        this.fixedBits = bitsOf(controlMask | (1 << target));
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m10 = m10;
+        this.m11 = m11;
+    }
+
+    int pairCount(int qubitCount) {
+        return 1 << (qubitCount - fixedBits.length);
+    }
+
+    void apply(double[] amplitudes, int fromPair, int toPair) {
+        int targetBit = 1 << target;
+        if (controlMask == 0) {
+            applyStrided(amplitudes, fromPair, toPair, targetBit);
+        } else if (m01 == 0.0 && m10 == 0.0) {
+            for (int k = fromPair; k < toPair; k++) {
+                int i = deposit(k) | controlMask;
+                amplitudes[i] *= m00;
+                amplitudes[i | targetBit] *= m11;
+            }
+        } else {
+            for (int k = fromPair; k < toPair; k++) {
+                int i = deposit(k) | controlMask;
+                int j = i | targetBit;
+                double a = amplitudes[i];
+                double b = amplitudes[j];
+                amplitudes[i] = m00 * a + m01 * b;
+                amplitudes[j] = m10 * a + m11 * b;
+            }
+        }
+    }
+
+    // Uncontrolled gate: pairs form runs of `stride` contiguous amplitudes, stride apart
+    private void applyStrided(double[] amplitudes, int fromPair, int toPair, int stride) {
+        int k = fromPair;
+        while (k < toPair) {
+            int offset = k & (stride - 1);
+            int base = ((k >>> target) << (target + 1));
+            int runEnd = Math.min(toPair - k, stride - offset);
+            int i = base + offset;
+            for (int r = 0; r < runEnd; r++, i++) {
+                double a = amplitudes[i];
+                double b = amplitudes[i + stride];
+                amplitudes[i] = m00 * a + m01 * b;
+                amplitudes[i + stride] = m10 * a + m11 * b;
+            }
+            k += runEnd;
+        }
+    }
+
+    // Inserts a zero at every fixed bit position, lowest first
+    private int deposit(int k) {
+        int index = k;
+        for (int bit : fixedBits) {
+            int low = index & ((1 << bit) - 1);
+            index = ((index >>> bit) << (bit + 1)) | low;
+        }
+        return index;
+    }
+
+    private static int[] bitsOf(int mask) {
+        int[] bits = new int[Integer.bitCount(mask)];
+        for (int i = 0, remaining = mask; remaining != 0; i++) {
+            bits[i] = Integer.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GateKernel[target=%d, controls=%s, [[%.4f, %.4f], [%.4f, %.4f]]]",
+            target, Integer.toBinaryString(controlMask), m00, m01, m10, m11);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.atous.demo.infrastructure.statevector;
+
+import br.com.atous.demo.domain.model.QuantumCircuit;
+import br.com.atous.demo.domain.port.out.StateVector;
+import br.com.atous.demo.domain.port.out.StateVectorSimulator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Dense state-vector simulator: the circuit is fused into {@link GateKernel}s and each kernel
+ * is one pass over the 2^n amplitudes, split across the common fork/join pool in blocks of
+ * independent amplitude pairs.
+ *
+ * Amplitudes are real doubles (H, X, Z and their multi-controlled forms are real), so 28
+ * qubits take 2 GiB of heap; the register size is checked against the maximum heap up front.
+ */
+@Component
+public class StateVectorEngine implements StateVectorSimulator {
+
+    static final int MAX_QUBITS = 30;
+    static final int PARALLEL_GRAIN = 1 << 14; // Amplitude pairs per fork/join leaf task
+
+    @Override
+    public StateVector run(QuantumCircuit circuit) {
+        int qubitCount = circuit.qubitCount();
+        validateQubitCount(qubitCount);
+
+        List<GateKernel> kernels = GateFusion.compile(circuit);
+        DenseStateVector state = new DenseStateVector(qubitCount);
+        double[] amplitudes = state.amplitudes();
+        for (GateKernel kernel : kernels) {
+            int pairs = kernel.pairCount(qubitCount);
+            if (pairs <= PARALLEL_GRAIN) {
+                kernel.apply(amplitudes, 0, pairs);
+            } else {
+                ForkJoinPool.commonPool().invoke(new KernelTask(kernel, amplitudes, 0, pairs));
+            }
+        }
+        return state;
+    }
+
+    @Override
+    public int kernelCount(QuantumCircuit circuit) {
+        return GateFusion.compile(circuit).size();
+    }
+
+    private void validateQubitCount(int qubitCount) {
+        if (qubitCount > MAX_QUBITS) {
+            throw new IllegalArgumentException(
+                String.format("Qubit count %d exceeds the maximum of %d", qubitCount, MAX_QUBITS)
+            );
+        }
+        long bytes = (long) Double.BYTES << qubitCount;
+        if (bytes > Runtime.getRuntime().maxMemory()) {
+            throw new IllegalArgumentException(
+                String.format("A %d-qubit state vector needs %d MiB, more than the %d MiB heap",
+                    qubitCount, bytes >> 20, Runtime.getRuntime().maxMemory() >> 20)
+            );
+        }
+    }
+
+    private static final class KernelTask extends RecursiveAction {
+        private final GateKernel kernel;
+        private final double[] amplitudes;
+        private final int from;
+        private final int to;
+
+        KernelTask(GateKernel kernel, double[] amplitudes, int from, int to) {
+            this.kernel = kernel;
+            this.amplitudes = amplitudes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_GRAIN) {
+                kernel.apply(amplitudes, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new KernelTask(kernel, amplitudes, from, mid), new KernelTask(kernel, amplitudes, mid, to));
+        }
+    }
+}
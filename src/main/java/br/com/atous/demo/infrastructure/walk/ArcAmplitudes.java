@@ -0,0 +1,53 @@
+package br.com.atous.demo.infrastructure.walk;
+
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import br.com.atous.demo.domain.port.out.WalkState;
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+
+/**
+ * One real amplitude per arc; the probability of a vertex is the squared norm of its
+ * outgoing arcs, which are contiguous in CSR order.
+ */
+final class ArcAmplitudes implements WalkState {
+
+    private final SearchGraph graph;
+    private final double[] amplitudes;
+
+    ArcAmplitudes(SearchGraph graph, double[] amplitudes) {
+        this.graph = graph;
+        this.amplitudes = amplitudes;
+    }
+
+    @Override
+    public double vertexProbability(int vertex) {
+        if (vertex < 0 || vertex >= graph.vertexCount()) {
+            throw new IllegalArgumentException(
+                String.format("Vertex %d is out of bounds [0, %d)", vertex, graph.vertexCount())
+            );
+        }
+        return AmplitudeKernels.get().sumOfSquares(amplitudes, graph.arcStart(vertex), graph.arcStart(vertex + 1));
+    }
+
+    @Override
+    public int findMaxProbabilityVertex() {
+        AmplitudeKernels kernels = AmplitudeKernels.get();
+        int best = 0;
+        double bestProbability = -1.0;
+        int start = graph.arcStart(0);
+        for (int vertex = 0; vertex < graph.vertexCount(); vertex++) {
+            int end = graph.arcStart(vertex + 1);
+            double probability = kernels.sumOfSquares(amplitudes, start, end);
+            if (probability > bestProbability) {
+                bestProbability = probability;
+                best = vertex;
+            }
+            start = end;
+        }
+        return best;
+    }
+
+    @Override
+    public double getTotalProbability() {
+        return AmplitudeKernels.get().sumOfSquares(amplitudes, 0, amplitudes.length);
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.atous.demo.infrastructure.walk;
+
+import br.com.atous.demo.domain.port.out.QuantumWalkSimulator;
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import br.com.atous.demo.domain.port.out.WalkState;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Coined quantum walk search (Ambainis–Kempe–Rivosh) on the arcs of a graph: the state has
+ * one amplitude per arc u→v, starting uniform. A step applies the Grover coin at every
+ * vertex, reflecting its outgoing arcs about their mean, except at marked vertices where the
+ * coin is -I, and then the flip-flop shift, which moves the amplitude of u→v to v→u.
+ *
+ * Coin and shift are fused into one pass, next[reverse(e)] = coin(current)[e]. Every arc is
+ * written exactly once, so the pass splits across the common fork/join pool by vertex ranges
+ * of about {@link #PARALLEL_GRAIN} arcs, and only the local mean of each vertex is read:
+ * nothing global is reduced inside a step.
+ */
+@Component
+public class CoinedWalkEngine implements QuantumWalkSimulator {
+
+    static final int PARALLEL_GRAIN = 1 << 14; // Arcs per fork/join leaf task
+
+    @Override
+    public double[] markedProbabilities(SearchGraph graph, int[] markedVertices, int steps) {
+        Walk walk = new Walk(graph, markedVertices, steps);
+        double[] probabilities = new double[steps + 1];
+        probabilities[0] = walk.markedProbability();
+        for (int step = 1; step <= steps; step++) {
+            walk.step();
+            probabilities[step] = walk.markedProbability();
+        }
+        return probabilities;
+    }
+
+    @Override
+    public WalkState run(SearchGraph graph, int[] markedVertices, int steps) {
+        Walk walk = new Walk(graph, markedVertices, steps);
+        for (int step = 0; step < steps; step++) {
+            walk.step();
+        }
+        return new ArcAmplitudes(graph, walk.current);
+    }
+
+    private static final class Walk {
+        private final SearchGraph graph;
+        private final int[] marked;
+        private final long[] markedBits;
+        private double[] current;
+        private double[] next;
+
+        Walk(SearchGraph graph, int[] markedVertices, int steps) {
+            if (steps < 0) {
+                throw new IllegalArgumentException("Step count must be non-negative, got: " + steps);
+            }
+            int arcCount = graph.arcCount();
+            long bytes = 2L * Double.BYTES * arcCount;
+            if (bytes > Runtime.getRuntime().maxMemory()) {
+                throw new IllegalArgumentException(
+                    String.format("A walk over %d arcs needs %d MiB, more than the %d MiB heap",
+                        arcCount, bytes >> 20, Runtime.getRuntime().maxMemory() >> 20)
+                );
+            }
+            this.graph = graph;
+            this.marked = markedVertices.clone();
+            this.markedBits = new long[(graph.vertexCount() + 63) >>> 6];
+            for (int vertex : marked) {
+                if (vertex < 0 || vertex >= graph.vertexCount()) {
+                    throw new IllegalArgumentException(
+                        String.format("Marked vertex %d is out of bounds [0, %d)", vertex, graph.vertexCount())
+                    );
+                }
+                markedBits[vertex >>> 6] |= 1L << vertex;
+            }
+            this.current = new double[arcCount];
+            this.next = new double[arcCount];
+            Arrays.fill(current, 1.0 / Math.sqrt(arcCount));
+        }
+
+        void step() {
+            int vertexCount = graph.vertexCount();
+            if (graph.arcCount() <= PARALLEL_GRAIN) {
+                coinAndShift(0, vertexCount);
+            } else {
+                ForkJoinPool.commonPool().invoke(new StepTask(this, 0, vertexCount));
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+        }
+
+        void coinAndShift(int fromVertex, int toVertex) {
+            double[] in = current;
+            double[] out = next;
+            int start = graph.arcStart(fromVertex);
+            for (int vertex = fromVertex; vertex < toVertex; vertex++) {
+                int end = graph.arcStart(vertex + 1);
+                if ((markedBits[vertex >>> 6] & 1L << vertex) != 0) {
+                    for (int arc = start; arc < end; arc++) {
+                        out[graph.reverseArc(arc)] = -in[arc];
+                    }
+                } else if (end > start) {
+                    double sum = 0.0;
+                    for (int arc = start; arc < end; arc++) {
+                        sum += in[arc];
+                    }
+                    double twiceMean = 2.0 * sum / (end - start);
+                    for (int arc = start; arc < end; arc++) {
+                        out[graph.reverseArc(arc)] = twiceMean - in[arc];
+                    }
+                }
+                start = end;
+            }
+        }
+
+        double markedProbability() {
+            double probability = 0.0;
+            for (int vertex : marked) {
+                for (int arc = graph.arcStart(vertex); arc < graph.arcStart(vertex + 1); arc++) {
+                    probability += current[arc] * current[arc];
+                }
+            }
+            return probability;
+        }
+    }
+
+    private static final class StepTask extends RecursiveAction {
+        private final Walk walk;
+        private final int fromVertex;
+        private final int toVertex;
+
+        StepTask(Walk walk, int fromVertex, int toVertex) {
+            this.walk = walk;
+            this.fromVertex = fromVertex;
+            this.toVertex = toVertex;
+        }
+
+        @Override
+        protected void compute() {
+            int arcs = walk.graph.arcStart(toVertex) - walk.graph.arcStart(fromVertex);
+            if (arcs <= PARALLEL_GRAIN || toVertex - fromVertex == 1) {
+                walk.coinAndShift(fromVertex, toVertex);
+                return;
+            }
+            int mid = (fromVertex + toVertex) >>> 1;
+            invokeAll(new StepTask(walk, fromVertex, mid), new StepTask(walk, mid, toVertex));
+        }
+    }
+}
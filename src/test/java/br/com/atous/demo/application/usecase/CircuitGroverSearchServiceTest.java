@@ -0,0 +1,63 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.CircuitSearchUseCase;
+import br.com.atous.demo.domain.model.CircuitSearchResult;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.statevector.StateVectorEngine;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {CircuitGroverSearchService.class, StateVectorEngine.class})
+class CircuitGroverSearchServiceTest {
+
+    @Autowired
+    private CircuitSearchUseCase circuitSearchService;
+
+    @Test
+    void whenExecuteSearch_thenFindsTargetForEveryRegisterSize() {
+        for (int qubits = 2; qubits <= 12; qubits++) {
+            int targetIndex = (int) ((1L << qubits) * 2 / 3);
+            CircuitSearchResult result = circuitSearchService.executeSearch(qubits, targetIndex);
+            assertTrue(result.success(), "qubits=" + qubits);
+            assertEquals(targetIndex, result.foundIndex());
+        }
+    }
+
+    @Test
+    void whenExecuteSearch_thenMatchesAlgebraicBackend() {
+        int qubits = 8;
+        int targetIndex = 77;
+        CircuitSearchResult result = circuitSearchService.executeSearch(qubits, targetIndex);
+
+        SegmentTreeAmplitude amplitudes = new SegmentTreeAmplitude();
+        amplitudes.initialize(1 << qubits);
+        for (int i = 0; i < result.iterations(); i++) {
+            amplitudes.applyOracle(targetIndex);
+            amplitudes.applyDiffusion();
+        }
+        double amplitude = amplitudes.getAmplitude(targetIndex);
+
+        assertEquals(amplitude * amplitude, result.successProbability(), 1e-9);
+    }
+
+    @Test
+    void whenExecuteSearch_thenGatesAreFusedIntoFewerKernels() {
+        CircuitSearchResult result = circuitSearchService.executeSearch(16, 12_345);
+
+        assertTrue(result.success());
+        assertEquals(201, result.iterations());
+        assertTrue(result.kernelCount() < result.gateCount(),
+            result.kernelCount() + " kernels for " + result.gateCount() + " gates");
+    }
+
+    @Test
+    void whenExecuteSearch_withInvalidInputs_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> circuitSearchService.executeSearch(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> circuitSearchService.executeSearch(31, 0));
+        assertThrows(IllegalArgumentException.class, () -> circuitSearchService.executeSearch(4, 16));
+        assertThrows(IllegalArgumentException.class, () -> circuitSearchService.executeSearch(4, -1));
+    }
+}
@@ -2,7 +2,13 @@ package br.com.atous.demo.application.usecase;
 
 import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
 import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.CompactFloatAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.MultiLaneSegmentTreeAmplitude;
 import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.ObjectProvider;
@@ -13,9 +19,19 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Scope;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {ClassicalGroverSearchService.class, ClassicalGroverSearchServiceTest.TestConfig.class})
+@SpringBootTest(classes = {ClassicalGroverSearchService.class, SpringAmplitudeBackendRegistry.class,
+    ClassicalGroverSearchServiceTest.TestConfig.class})
 class ClassicalGroverSearchServiceTest {
 
     @Autowired
@@ -30,6 +46,18 @@ class ClassicalGroverSearchServiceTest {
             return new SegmentTreeAmplitude();
         }
 
+        @Bean
+        @Scope("prototype")
+        public CompactFloatAmplitude compactFloatAmplitude() {
+            return new CompactFloatAmplitude();
+        }
+
+        @Bean
+        @Scope("prototype")
+        public MultiLaneSegmentTreeAmplitude multiLaneSegmentTreeAmplitude() {
+            return new MultiLaneSegmentTreeAmplitude();
+        }
+
         @Bean
         public ObjectProvider<SegmentTreeAmplitude> segmentTreeAmplitudeObjectProvider() {
             return new ObjectProvider<SegmentTreeAmplitude>() {
@@ -115,6 +143,100 @@ class ClassicalGroverSearchServiceTest {
         assertThrows(IllegalArgumentException.class, () -> searchService.executeSearch(10, 10));
     }
 
+    @Test
+    void whenExecuteSearchWithUniformPrior_thenMatchesUniformSearch() {
+        double[] weights = new double[1024];
+        java.util.Arrays.fill(weights, 2.5);
+        GroverResult result = searchService.executeSearch(512, PriorWeights.of(weights));
+        GroverResult uniform = searchService.executeSearch(1024, 512);
+
+        assertTrue(result.success());
+        assertEquals(uniform.iterations(), result.iterations());
+        assertEquals(1024, result.searchSpaceSize());
+    }
+
+    @Test
+    void whenExecuteSearchWithSkewedPrior_thenNeedsFewerIterations() {
+        int searchSpaceSize = 4096;
+        int targetIndex = 100;
+        double[] weights = new double[searchSpaceSize];
+        java.util.Arrays.fill(weights, 1.0);
+        for (int i = 0; i < 64; i++) {
+            weights[targetIndex - 32 + i] = 50.0;
+        }
+
+        GroverResult result = searchService.executeSearch(targetIndex, PriorWeights.of(weights));
+        GroverResult uniform = searchService.executeSearch(searchSpaceSize, targetIndex);
+
+        assertTrue(result.success());
+        assertEquals(targetIndex, result.foundIndex());
+        assertTrue(result.iterations() < uniform.iterations(),
+            "Prior search took " + result.iterations() + " iterations, uniform took " + uniform.iterations());
+    }
+
+    @Test
+    void whenExecuteSearchWithPrior_withInvalidInputs_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.executeSearch(0, (PriorWeights) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> searchService.executeSearch(4, PriorWeights.of(new double[]{1, 1, 1, 1})));
+        assertThrows(IllegalArgumentException.class,
+            () -> searchService.executeSearch(0, PriorWeights.of(new double[]{1, -1})));
+    }
+
+    @Test
+    void whenTargetHasZeroPrior_thenNoIterationsAreRun() {
+        GroverResult result = searchService.executeSearch(0, PriorWeights.of(new double[]{0, 1, 1, 1}));
+        assertEquals(0, result.iterations());
+        assertFalse(result.success());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenPrimaryBackendHasNoPriorSupport_thenPriorSearchIsRejected() {
+        ObjectProvider<AmplitudeDataStructure> compactProvider = mock(ObjectProvider.class);
+        when(compactProvider.getObject()).thenReturn(new CompactFloatAmplitude());
+        QuantumSearchUseCase compactService = new ClassicalGroverSearchService(compactProvider,
+            mock(AmplitudeBackendRegistry.class), mock(ObjectProvider.class), 0, 1, 0);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> compactService.executeSearch(1, PriorWeights.of(new double[]{1, 1, 1, 1})));
+    }
+
+    @Test
+    void whenExecuteSearch_onCompactBackend_thenFindsTarget() {
+        GroverResult result = searchService.executeSearch(65536, 4242, "compactFloatAmplitude");
+
+        assertTrue(result.success());
+        assertEquals(4242, result.foundIndex());
+        assertEquals(201, result.iterations());
+    }
+
+    @Test
+    void whenSearchesOverlap_thenBatchedLanesFindTheirOwnTargets() throws Exception {
+        int searchSpaceSize = 8192;
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<GroverResult>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                int targetIndex = 1237 * i + 11;
+                results.add(executor.submit(() -> searchService.executeSearch(searchSpaceSize, targetIndex)));
+            }
+            for (int i = 0; i < 6; i++) {
+                GroverResult result = results.get(i).get(30, TimeUnit.SECONDS);
+                assertTrue(result.success());
+                assertEquals(1237 * i + 11, result.foundIndex());
+                assertEquals(71, result.iterations());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenExecuteSearch_onUnknownBackend_thenThrows() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.executeSearch(16, 3, "noSuchBackend"));
+    }
+
     /**
      * Performance test to verify O(√N log N) complexity.
      * This test will run for various N values and check if the execution time
@@ -0,0 +1,67 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.DistributedSearchUseCase;
+import br.com.atous.demo.domain.model.DistributedSearchResult;
+import br.com.atous.demo.domain.port.out.ShardedAmplitudeSpaceFactory;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import br.com.atous.demo.infrastructure.distributed.ShardWorker;
+import br.com.atous.demo.infrastructure.distributed.SocketShardedAmplitudeSpaceFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {DistributedGroverSearchService.class, DistributedGroverSearchServiceTest.TestConfig.class})
+class DistributedGroverSearchServiceTest {
+
+    @Autowired
+    private DistributedSearchUseCase searchService;
+
+    @Configuration
+    static class TestConfig {
+        @Bean(destroyMethod = "close")
+        public ShardWorker firstWorker() {
+            return ShardWorker.start(0, BlockedAmplitude::new);
+        }
+
+        @Bean(destroyMethod = "close")
+        public ShardWorker secondWorker() {
+            return ShardWorker.start(0, BlockedAmplitude::new);
+        }
+
+        @Bean
+        public ShardedAmplitudeSpaceFactory shardedAmplitudeSpaceFactory() {
+            return new SocketShardedAmplitudeSpaceFactory(
+                "127.0.0.1:" + firstWorker().port() + ", 127.0.0.1:" + secondWorker().port(), 30_000);
+        }
+    }
+
+    @Test
+    void whenExecuteSearch_thenFindsTargetAcrossShards() {
+        DistributedSearchResult result = searchService.executeSearch(4096, 3000);
+
+        assertTrue(result.success());
+        assertEquals(3000, result.foundIndex());
+        assertEquals(50, result.iterations());
+        assertEquals(2, result.shardCount());
+        assertTrue(result.successProbability() > 0.99);
+        assertEquals(50, result.communication().iterations());
+        assertEquals(1.0, result.communication().roundTripsPerIteration(), 0.1);
+    }
+
+    @Test
+    void whenExecuteSearch_withInvalidInputs_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.executeSearch(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> searchService.executeSearch(10, 10));
+    }
+
+    @Test
+    void whenNoWorkersConfigured_thenOpenFails() {
+        assertThrows(IllegalStateException.class, () -> new SocketShardedAmplitudeSpaceFactory("", 30_000).open());
+        assertThrows(IllegalArgumentException.class, () -> new SocketShardedAmplitudeSpaceFactory("localhost", 30_000));
+        assertThrows(IllegalArgumentException.class, () -> new SocketShardedAmplitudeSpaceFactory("localhost:1", 0));
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.model.DatasetField;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.Extremum;
+import br.com.atous.demo.domain.model.ExtremumSearchResult;
+import br.com.atous.demo.domain.model.FieldType;
+import br.com.atous.demo.infrastructure.dataset.MappedDatasetRepository;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {DurrHoyerExtremumService.class, MappedDatasetRepository.class,
+    SpringAmplitudeBackendRegistry.class, DurrHoyerExtremumServiceTest.TestConfig.class})
+class DurrHoyerExtremumServiceTest {
+
+    @Autowired
+    private DurrHoyerExtremumService extremumService;
+
+    @Autowired
+    private MappedDatasetRepository datasetRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        @Scope("prototype")
+        public SegmentTreeAmplitude segmentTreeAmplitude() {
+            return new SegmentTreeAmplitude();
+        }
+    }
+
+    @Test
+    void whenSearchingRandomValues_thenTheMinimumIsFoundWithinTheBudget() {
+        long[] values = new SplittableRandom(3).longs(4096, -1_000_000, 1_000_000).toArray();
+
+        for (long seed = 0; seed < 20; seed++) {
+            ExtremumSearchResult result = extremumService.search(values, Extremum.MINIMUM, seed);
+
+            assertTrue(result.success(), "seed " + seed);
+            assertEquals(values[result.classicalIndex()], result.foundValue());
+            assertEquals(values[result.foundIndex()], result.foundValue());
+            assertEquals(DurrHoyerExtremumService.oracleCallBudget(4096), result.oracleCallBudget());
+            assertTrue(result.oracleCalls() <= result.oracleCallBudget());
+            assertTrue(result.measurements() >= result.rounds());
+            // Far fewer threshold rounds than values: about ln N of them
+            assertTrue(result.rounds() < 40, "rounds " + result.rounds());
+        }
+    }
+
+    @Test
+    void whenSearchingForTheMaximum_thenTiesAndExtremeValuesAreHandled() {
+        long[] values = {5, Long.MIN_VALUE, 42, Long.MAX_VALUE, -3, Long.MAX_VALUE, 0, 42};
+
+        ExtremumSearchResult maximum = extremumService.findExtremum(values, Extremum.MAXIMUM);
+        ExtremumSearchResult minimum = extremumService.findExtremum(values, Extremum.MINIMUM);
+
+        assertTrue(maximum.success());
+        assertEquals(Long.MAX_VALUE, maximum.foundValue());
+        assertEquals(3, maximum.classicalIndex());
+        assertTrue(minimum.success());
+        assertEquals(1, minimum.foundIndex());
+        assertEquals(Long.MIN_VALUE, minimum.foundValue());
+    }
+
+    @Test
+    void whenRanking_thenBetterValuesFormAPrefix() {
+        long[] values = {7, 3, 9, 3, 1};
+        ValueRanking ranking = ValueRanking.of(values, Extremum.MINIMUM);
+
+        assertArrayEquals(new int[]{4, 1, 3, 0, 2}, order(ranking));
+        assertArrayEquals(new int[]{2, 0, 1, 3, 4}, order(ValueRanking.of(values, Extremum.MAXIMUM)));
+        assertEquals(0, ranking.betterThan(0));
+        assertEquals(1, ranking.betterThan(2)); // Ties are not better
+        assertEquals(3, ranking.betterThan(3));
+    }
+
+    @Test
+    void whenSearchingADataset_thenTheLowestScoringRecordIsFound() throws IOException {
+        DatasetSchema schema = new DatasetSchema(7, List.of(new DatasetField("score", 0, 6, FieldType.INTEGER)));
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 2048; i++) {
+            content.append(String.format("%6d%n", i == 1500 ? -7 : (i * 7919) % 100_000));
+        }
+        Path file = tempDir.resolve("scores.dat");
+        Files.writeString(file, content.toString(), StandardCharsets.US_ASCII);
+        datasetRepository.register("scores", file, schema);
+
+        ExtremumSearchResult result = extremumService.findExtremum("scores", "score", Extremum.MINIMUM);
+
+        assertTrue(result.success());
+        assertEquals(1500, result.foundIndex());
+        assertEquals(-7, result.foundValue());
+        assertEquals(2048, result.searchSpaceSize());
+        assertTrue(result.preparationTimeNanos() > 0);
+        assertTrue(result.simulationTimeNanos() > 0);
+        assertTrue(result.classicalTimeNanos() > 0);
+        assertEquals(result.preparationTimeNanos() + result.simulationTimeNanos(), result.emulatedTimeNanos());
+    }
+
+    @Test
+    void whenInputsAreInvalid_thenSearchFails() {
+        assertThrows(IllegalArgumentException.class, () -> extremumService.findExtremum(new long[0], Extremum.MINIMUM));
+        assertThrows(IllegalArgumentException.class, () -> extremumService.findExtremum((long[]) null, Extremum.MINIMUM));
+        assertThrows(IllegalArgumentException.class, () -> extremumService.findExtremum(new long[]{1}, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> extremumService.findExtremum("missing", "score", Extremum.MINIMUM));
+    }
+
+    private static int[] order(ValueRanking ranking) {
+        int[] order = new int[ranking.size()];
+        for (int rank = 0; rank < order.length; rank++) {
+            order[rank] = ranking.index(rank);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.port.out.MultiLaneAmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.MultiLaneSegmentTreeAmplitude;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroverLaneBatcherTest {
+
+    private static final int LANES = 4;
+    private static final long LONG_WINDOW = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicInteger structuresCreated = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(LANES);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private MultiLaneAmplitudeDataStructure newStructure() {
+        structuresCreated.incrementAndGet();
+        return new MultiLaneSegmentTreeAmplitude();
+    }
+
+    @Test
+    void whenBatchFills_thenAllLanesRunInOneStructureWithoutWaitingForTheWindow() throws Exception {
+        // With a 30 s window, finishing at all means the full batch closed it early
+        GroverLaneBatcher batcher = new GroverLaneBatcher(this::newStructure, LONG_WINDOW, LANES);
+        int size = 4096;
+        int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+
+        List<Future<Integer>> found = new ArrayList<>();
+        for (int lane = 0; lane < LANES; lane++) {
+            int target = 1000 * lane + 7;
+            found.add(executor.submit(() -> batcher.search(size, target, iterations)));
+        }
+
+        for (int lane = 0; lane < LANES; lane++) {
+            assertEquals(1000 * lane + 7, found.get(lane).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, structuresCreated.get());
+    }
+
+    @Test
+    void whenAloneInTheWindow_thenReturnsNullWithoutBuildingAStructure() {
+        GroverLaneBatcher batcher = new GroverLaneBatcher(this::newStructure, TimeUnit.MILLISECONDS.toNanos(1), LANES);
+
+        assertNull(batcher.search(64, 3, 6));
+        assertEquals(0, structuresCreated.get());
+    }
+
+    @Test
+    void whenBatchFails_thenEveryLaneGetsTheException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("no memory for lanes");
+        GroverLaneBatcher batcher = new GroverLaneBatcher(() -> {
+            throw failure;
+        }, LONG_WINDOW, 2);
+
+        Future<Integer> first = executor.submit(() -> batcher.search(64, 1, 6));
+        Future<Integer> second = executor.submit(() -> batcher.search(64, 2, 6));
+
+        for (Future<Integer> lane : List.of(first, second)) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> lane.get(10, TimeUnit.SECONDS));
+            assertSame(failure, error.getCause());
+        }
+    }
+}
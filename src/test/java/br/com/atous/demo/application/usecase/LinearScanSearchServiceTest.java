@@ -0,0 +1,72 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.infrastructure.scan.ParallelScanEngine;
+import br.com.atous.demo.infrastructure.scan.SequentialScanEngine;
+import br.com.atous.demo.infrastructure.scan.SimdScanEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinearScanSearchServiceTest {
+
+    private final LinearScanSearchService scanService = new LinearScanSearchService(Map.of(
+        "sequentialScan", new SequentialScanEngine(),
+        "parallelScan", new ParallelScanEngine(),
+        "simdScan", new SimdScanEngine()
+    ), 1 << 22);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sequentialScan", "parallelScan", "simdScan"})
+    void whenScanning_thenEveryEngineFindsTheTarget(String engine) {
+        // 2^20 is large enough for the parallel engine to fork
+        for (int size : new int[]{1, 7, 1_000, 1 << 20}) {
+            for (int target : new int[]{0, size / 2, size - 1}) {
+                GroverResult result = scanService.executeSearch(size, target, engine);
+                assertTrue(result.success(), engine + " N=" + size + " target=" + target);
+                assertEquals(target, result.foundIndex());
+                assertEquals(size, result.searchSpaceSize());
+                assertEquals(target + 1, result.iterations());
+            }
+        }
+    }
+
+    @Test
+    void keysAreDistinct() {
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(keys.add(LinearScanSearchService.key(i)), "duplicate key at " + i);
+        }
+    }
+
+    @Test
+    void whenTheColumnGrows_thenSmallerSearchesStillMatch() {
+        assertEquals(3, scanService.executeSearch(10, 3).foundIndex());
+        assertEquals(70_000, scanService.executeSearch(100_000, 70_000).foundIndex());
+        assertEquals(3, scanService.executeSearch(10, 3, "simdScan").foundIndex());
+    }
+
+    @Test
+    void whenPriorIsGiven_thenItsSizeSetsTheSearchSpace() {
+        GroverResult result = scanService.executeSearch(4, PriorWeights.of(new double[]{1, 1, 1, 1, 1}));
+        assertEquals(4, result.foundIndex());
+        assertEquals(5, result.searchSpaceSize());
+    }
+
+    @Test
+    void whenInputsAreInvalid_thenSearchFails() {
+        assertThrows(IllegalArgumentException.class, () -> scanService.executeSearch(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> scanService.executeSearch(10, 10));
+        assertThrows(IllegalArgumentException.class, () -> scanService.executeSearch(10, -1));
+        assertThrows(IllegalArgumentException.class, () -> scanService.executeSearch((1 << 22) + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scanService.executeSearch(10, 1, "segmentTreeAmplitude"));
+        assertThrows(IllegalArgumentException.class, () -> scanService.executeSearch(1, null));
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.QuantumCountingUseCase;
+import br.com.atous.demo.domain.model.CountingResult;
+import br.com.atous.demo.domain.model.CountingRun;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {MaximumLikelihoodCountingService.class, MaximumLikelihoodCountingServiceTest.TestConfig.class})
+class MaximumLikelihoodCountingServiceTest {
+
+    @Autowired
+    private QuantumCountingUseCase countingService;
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        @Scope("prototype")
+        public SegmentTreeAmplitude segmentTreeAmplitude() {
+            return new SegmentTreeAmplitude();
+        }
+    }
+
+    @Test
+    void whenEstimateMarkedCount_thenEstimateIsCloseToActualCount() {
+        int searchSpaceSize = 4096;
+        int[] marked = IntStream.range(0, 16).map(i -> i * 97).toArray();
+
+        CountingResult result = countingService.estimateMarkedCount(searchSpaceSize, marked);
+
+        assertEquals(16, result.actualMarkedCount());
+        assertEquals(16.0, result.estimatedMarkedCount(), 16.0 * 0.2);
+        assertTrue(result.lowerBound() <= result.estimatedMarkedCount());
+        assertTrue(result.upperBound() >= result.estimatedMarkedCount());
+        assertEquals(0.95, result.confidenceLevel());
+    }
+
+    @Test
+    void whenEstimateMarkedCount_thenReportsPerRunCost() {
+        int[] powers = {0, 1, 2, 4};
+        CountingResult result = countingService.estimateMarkedCount(1024, new int[]{3, 500}, powers, 50);
+
+        assertEquals(powers.length, result.runs().size());
+        long expectedOracleCalls = 0;
+        for (int i = 0; i < powers.length; i++) {
+            CountingRun run = result.runs().get(i);
+            assertEquals(powers[i], run.groverPower());
+            assertEquals(50, run.shots());
+            assertEquals((long) powers[i] * 50, run.oracleCalls());
+            assertTrue(run.hits() >= 0 && run.hits() <= 50);
+            expectedOracleCalls += run.oracleCalls();
+        }
+        assertEquals(expectedOracleCalls, result.totalOracleCalls());
+    }
+
+    @Test
+    void whenNothingIsMarked_thenEstimateIsZero() {
+        CountingResult result = countingService.estimateMarkedCount(256, new int[0]);
+
+        assertEquals(0.0, result.estimatedMarkedCount(), 1e-9);
+        assertEquals(0, result.actualMarkedCount());
+    }
+
+    @Test
+    void whenDuplicateMarkedIndices_thenTheyCountOnce() {
+        CountingResult result = countingService.estimateMarkedCount(64, new int[]{5, 5, 9});
+        assertEquals(2, result.actualMarkedCount());
+    }
+
+    @Test
+    void defaultGroverPowersAreExponentialUpToOptimalIterations() {
+        assertArrayEquals(new int[]{0, 1, 2, 4, 8, 16}, MaximumLikelihoodCountingService.defaultGroverPowers(1024));
+        assertArrayEquals(new int[]{0}, MaximumLikelihoodCountingService.defaultGroverPowers(1));
+    }
+
+    @Test
+    void whenEstimateMarkedCount_withInvalidInputs_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> countingService.estimateMarkedCount(0, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> countingService.estimateMarkedCount(10, new int[]{10}));
+        assertThrows(IllegalArgumentException.class, () -> countingService.estimateMarkedCount(10, new int[]{-1}));
+        assertThrows(IllegalArgumentException.class,
+            () -> countingService.estimateMarkedCount(10, new int[]{1}, new int[0], 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> countingService.estimateMarkedCount(10, new int[]{1}, new int[]{1}, 0));
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.ParameterSweepUseCase;
+import br.com.atous.demo.domain.model.SearchLimits;
+import br.com.atous.demo.domain.model.SweepGrid;
+import br.com.atous.demo.domain.model.SweepPoint;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Scope;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {ParameterSweepService.class, SpringAmplitudeBackendRegistry.class,
+    ParameterSweepServiceTest.TestConfig.class}, properties = "search.sweep.parallelism=3")
+class ParameterSweepServiceTest {
+
+    @Autowired
+    private ParameterSweepUseCase sweepService;
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        @Primary
+        @Scope("prototype")
+        public SegmentTreeAmplitude segmentTreeAmplitude() {
+            return new SegmentTreeAmplitude();
+        }
+
+        @Bean
+        @Scope("prototype")
+        public BlockedAmplitude blockedAmplitude() {
+            return new BlockedAmplitude();
+        }
+    }
+
+    private static SweepGrid grid(double minMultiplier, double maxMultiplier, double multiplierStep, String backend) {
+        return new SweepGrid(16, 256, 2, 0, 20, 10, minMultiplier, maxMultiplier, multiplierStep, backend);
+    }
+
+    @Test
+    void whenSweep_thenEveryGridPointIsRunOnce() {
+        SweepGrid grid = grid(0.5, 1.5, 0.5, null);
+        List<SweepPoint> points = new CopyOnWriteArrayList<>();
+
+        long count = sweepService.sweep(grid, points::add);
+
+        // N = 16 runs targets 0 and 10, N = 32..256 also 20; three multipliers each
+        assertEquals((2 + 4 * 3) * 3, sweepService.plan(grid));
+        assertEquals(sweepService.plan(grid), count);
+        assertEquals(count, points.size());
+        Set<String> distinct = new HashSet<>();
+        for (SweepPoint point : points) {
+            assertTrue(point.targetIndex() < point.searchSpaceSize());
+            distinct.add(point.searchSpaceSize() + "/" + point.targetIndex() + "/" + point.iterationMultiplier());
+        }
+        assertEquals(points.size(), distinct.size());
+    }
+
+    @Test
+    void whenMultiplierIsOne_thenPointsRunTheOptimalIterations() {
+        List<SweepPoint> points = new CopyOnWriteArrayList<>();
+        sweepService.sweep(grid(0.0, 1.0, 1.0, null), points::add);
+
+        for (SweepPoint point : points) {
+            int optimal = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(point.searchSpaceSize()));
+            if (point.iterationMultiplier() == 1.0) {
+                assertEquals(optimal, point.iterations());
+                assertTrue(point.success());
+                assertTrue(point.targetProbability() > 0.9);
+            } else {
+                assertEquals(0, point.iterations());
+                assertEquals(1.0 / point.searchSpaceSize(), point.targetProbability(), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void whenBackendIsNamed_thenPointsRunOnIt() {
+        List<SweepPoint> points = new CopyOnWriteArrayList<>();
+        sweepService.sweep(grid(1.0, 1.0, 0.0, "blockedAmplitude"), points::add);
+
+        assertEquals(14, points.size());
+        assertTrue(points.stream().allMatch(SweepPoint::success));
+    }
+
+    @Test
+    void whenSinkFails_thenSweepStopsAndRethrows() {
+        IllegalStateException failure = new IllegalStateException("client went away");
+        AtomicInteger calls = new AtomicInteger();
+        SweepGrid grid = new SweepGrid(16, SearchLimits.MAX_SEARCH_SPACE, 2, 0, 1000, 1, 1.0, 1.0, 0.0, null);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+            sweepService.sweep(grid, point -> {
+                if (calls.incrementAndGet() == 3) {
+                    throw failure;
+                }
+            }));
+
+        assertSame(failure, thrown);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void whenGridIsInvalid_thenPlanThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(0, 16, 2, 0, 1, 1, 1, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(32, 16, 2, 0, 1, 1, 1, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(16, 1_000_001, 2, 0, 1, 1, 1, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(16, 32, 1, 0, 1, 1, 1, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(16, 32, 2, 0, 1, 0, 1, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(16, 32, 2, 0, 1, 1, 0.5, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(16, 32, 2, 0, 1, 1, Double.NaN, 1, 0.1, null));
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(16, 32, 2, 0, 1, 1, 1, 1e12, 1, null));
+        // 1,000,000 targets at each of two multipliers
+        assertThrows(IllegalArgumentException.class, () -> new SweepGrid(1_000_000, 1_000_000, 2, 0, 999_999, 1, 1, 2, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> sweepService.plan(grid(1, 1, 0, "noSuchBackend")));
+        assertThrows(IllegalArgumentException.class, () -> sweepService.plan(null));
+    }
+
+    @Test
+    void whenTargetsExceedEverySize_thenSweepIsEmpty() {
+        SweepGrid grid = new SweepGrid(4, 8, 2, 100, 200, 1, 1, 1, 0, null);
+
+        assertEquals(0, sweepService.plan(grid));
+        assertEquals(0, sweepService.sweep(grid, point -> fail("no point expected")));
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.PartialSearchUseCase;
+import br.com.atous.demo.domain.model.PartialSearchResult;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.FenwickTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Scope;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {PartialGroverSearchService.class, SpringAmplitudeBackendRegistry.class,
+    PartialGroverSearchServiceTest.TestConfig.class})
+class PartialGroverSearchServiceTest {
+
+    @Autowired
+    private PartialSearchUseCase partialSearchService;
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        @Primary
+        @Scope("prototype")
+        public SegmentTreeAmplitude segmentTreeAmplitude() {
+            return new SegmentTreeAmplitude();
+        }
+
+        @Bean
+        @Scope("prototype")
+        public BlockedAmplitude blockedAmplitude() {
+            return new BlockedAmplitude();
+        }
+
+        @Bean
+        @Scope("prototype")
+        public FenwickTreeAmplitude fenwickTreeAmplitude() {
+            return new FenwickTreeAmplitude();
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1024, 2", "1024, 4", "1024, 32", "4096, 8", "65536, 16"})
+    void whenSearchingForABlock_thenItIsFoundWithFewerOracleCalls(int size, int blocks) {
+        int blockSize = size / blocks;
+        for (int target : new int[]{0, size / 3, size - 1}) {
+            PartialSearchResult result = partialSearchService.searchBlock(size, target, blocks);
+
+            assertTrue(result.search().success(), "N=" + size + " K=" + blocks + " target=" + target);
+            assertEquals(target / blockSize, result.targetBlock());
+            assertEquals(result.targetBlock(), result.foundBlock());
+            assertEquals(result.foundBlock(), result.search().foundIndex() / blockSize);
+            assertEquals(blockSize, result.blockSize());
+            assertTrue(result.blockProbability() > 0.99, "block probability " + result.blockProbability());
+
+            int fullCalls = GroverIterations.forMarkedCount(size, 1);
+            assertEquals(result.globalIterations() + result.localIterations() + 1, result.search().oracleCalls());
+            assertEquals(fullCalls - result.search().oracleCalls(), result.search().oracleCallsSaved());
+            assertTrue(result.search().oracleCallsSaved() > 0, "no oracle calls saved for N=" + size + " K=" + blocks);
+        }
+    }
+
+    @Test
+    void whenPlanned_thenTheModelMatchesTheSimulatedBlockProbability() {
+        PartialSearchPlan plan = PartialSearchPlan.forBlocks(4096, 8);
+        PartialSearchResult result = partialSearchService.searchBlock(4096, 1000, 8);
+
+        assertEquals(plan.globalIterations(), result.globalIterations());
+        assertEquals(plan.localIterations(), result.localIterations());
+        assertEquals(plan.blockProbability(), result.blockProbability(), 1e-9);
+        // At least as reliable as a full search on the same N
+        double theta = Math.asin(1.0 / 64);
+        double fullProbability = Math.pow(Math.sin((2 * GroverIterations.forMarkedCount(4096, 1) + 1) * theta), 2);
+        assertTrue(plan.blockProbability() >= fullProbability - 1e-12);
+    }
+
+    @Test
+    void whenANamedBackendIsUsed_thenItMustSupportRangeUpdates() {
+        PartialSearchResult blocked = partialSearchService.searchBlock(4096, 777, 8, "blockedAmplitude");
+        PartialSearchResult segmentTree = partialSearchService.searchBlock(4096, 777, 8);
+
+        assertTrue(blocked.search().success());
+        assertEquals(segmentTree.foundBlock(), blocked.foundBlock());
+        assertEquals(segmentTree.blockProbability(), blocked.blockProbability(), 1e-9);
+        assertThrows(IllegalArgumentException.class,
+            () -> partialSearchService.searchBlock(4096, 777, 8, "fenwickTreeAmplitude"));
+    }
+
+    @Test
+    void whenInputsAreInvalid_thenSearchFails() {
+        assertThrows(IllegalArgumentException.class, () -> partialSearchService.searchBlock(0, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> partialSearchService.searchBlock(16, 16, 2));
+        assertThrows(IllegalArgumentException.class, () -> partialSearchService.searchBlock(16, 3, 1));
+        assertThrows(IllegalArgumentException.class, () -> partialSearchService.searchBlock(16, 3, 3));
+        assertThrows(IllegalArgumentException.class, () -> partialSearchService.searchBlock(16, 3, 32));
+    }
+}
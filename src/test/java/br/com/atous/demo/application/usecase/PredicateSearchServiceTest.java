@@ -0,0 +1,102 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.PredicateSearchUseCase;
+import br.com.atous.demo.domain.model.DatasetField;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.FieldType;
+import br.com.atous.demo.domain.model.PredicateSearchResult;
+import br.com.atous.demo.domain.model.RecordPredicate;
+import br.com.atous.demo.infrastructure.dataset.MappedDatasetRepository;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {PredicateSearchService.class, MappedDatasetRepository.class, PredicateSearchServiceTest.TestConfig.class})
+class PredicateSearchServiceTest {
+
+    private static final DatasetSchema SCHEMA = new DatasetSchema(7, List.of(
+        new DatasetField("score", 0, 6, FieldType.INTEGER)
+    ));
+
+    @Autowired
+    private PredicateSearchUseCase predicateSearchService;
+
+    @TempDir
+    Path tempDir;
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        @Scope("prototype")
+        public SegmentTreeAmplitude segmentTreeAmplitude() {
+            return new SegmentTreeAmplitude();
+        }
+    }
+
+    @Test
+    void whenSearch_thenFindsRecordMatchingPredicate() throws IOException {
+        registerScores("scores", 4096, 3071);
+
+        PredicateSearchResult result = predicateSearchService.search("scores", new RecordPredicate.Equals("score", "999999"));
+
+        assertTrue(result.success());
+        assertEquals(3071, result.foundIndex());
+        assertEquals(1, result.markedCount());
+        assertEquals(4096, result.searchSpaceSize());
+        assertEquals((int) Math.floor(Math.PI / 4.0 * Math.sqrt(4096)), result.iterations());
+        assertTrue(result.scanTimeNanos() > 0);
+        assertTrue(result.simulationTimeNanos() > 0);
+    }
+
+    @Test
+    void whenSearchWithSeveralMatches_thenFindsOneOfThem() throws IOException {
+        registerScores("scores", 1024, 100);
+
+        PredicateSearchResult result = predicateSearchService.search("scores", new RecordPredicate.Range("score", 0, 9));
+
+        assertEquals(10, result.markedCount());
+        assertTrue(result.success());
+        assertTrue(result.foundIndex() < 10);
+    }
+
+    @Test
+    void whenNothingMatches_thenReportsNoResult() throws IOException {
+        registerScores("scores", 64, 10);
+
+        PredicateSearchResult result = predicateSearchService.search("scores", new RecordPredicate.Regex("score", "-\\d+"));
+
+        assertFalse(result.success());
+        assertEquals(-1, result.foundIndex());
+        assertEquals(0, result.iterations());
+    }
+
+    @Test
+    void whenDatasetIsUnknown_thenThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> predicateSearchService.search("missing", new RecordPredicate.Equals("score", "1")));
+    }
+
+    // Scores are i + 10 except at highIndex, which holds the only 999999
+    private void registerScores(String id, int records, int highIndex) throws IOException {
+        StringBuilder content = new StringBuilder(records * 7);
+        for (int i = 0; i < records; i++) {
+            content.append(String.format("%6d%n", i == highIndex ? 999999 : i < 10 ? i : i + 10));
+        }
+        Path file = tempDir.resolve(id + ".dat");
+        Files.writeString(file, content.toString(), StandardCharsets.US_ASCII);
+        predicateSearchService.registerDataset(id, file, SCHEMA);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.WalkSearchUseCase;
+import br.com.atous.demo.domain.model.GraphDescriptor;
+import br.com.atous.demo.domain.model.WalkSearchResult;
+import br.com.atous.demo.infrastructure.graph.MappedGraphRepository;
+import br.com.atous.demo.infrastructure.walk.CoinedWalkEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {QuantumWalkSearchService.class, MappedGraphRepository.class, CoinedWalkEngine.class})
+class QuantumWalkSearchServiceTest {
+
+    @Autowired
+    private WalkSearchUseCase walkSearchService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void whenSearchingALattice_thenTheMarkedVertexIsFound() throws IOException {
+        StringBuilder edges = new StringBuilder();
+        int side = 32;
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                int vertex = x * side + y;
+                edges.append(vertex).append(' ').append(((x + 1) % side) * side + y).append('\n');
+                edges.append(vertex).append(' ').append(x * side + (y + 1) % side).append('\n');
+            }
+        }
+        GraphDescriptor descriptor = build("torus", edges.toString());
+        assertEquals(1024, descriptor.vertexCount());
+        assertEquals(2048, descriptor.edgeCount());
+
+        WalkSearchResult result = walkSearchService.search("torus", new int[]{300}, null);
+
+        assertTrue(result.success());
+        assertEquals(300, result.foundVertex());
+        assertEquals(QuantumWalkSearchService.defaultStepBudget(1024), result.stepBudget());
+        assertTrue(result.steps() > 0 && result.steps() <= result.stepBudget());
+        // O(1/log N) on the 2D lattice, against 1/N for a classical guess
+        assertTrue(result.markedProbability() > 0.15, "marked probability " + result.markedProbability());
+    }
+
+    @Test
+    void whenSearchingARandomGraph_thenAnyMarkedVertexIsFound() throws IOException {
+        Random random = new Random(1);
+        StringBuilder edges = new StringBuilder();
+        for (int i = 0; i < 12_000; i++) {
+            edges.append(random.nextInt(4_000)).append(' ').append(random.nextInt(4_000)).append('\n');
+        }
+        build("random", edges.toString());
+
+        WalkSearchResult result = walkSearchService.search("random", new int[]{2_500, 17, 17, 900}, null);
+
+        assertTrue(result.success(), "found " + result.foundVertex());
+        assertEquals(3, result.markedCount());
+        assertTrue(result.markedProbability() > 0.3, "marked probability " + result.markedProbability());
+    }
+
+    @Test
+    void whenTheStepBudgetIsGiven_thenTheWalkStaysWithinIt() throws IOException {
+        build("path", "0 1\n1 2\n2 3\n3 4\n4 5\n5 6\n6 7\n7 0\n");
+
+        WalkSearchResult result = walkSearchService.search("path", new int[]{5}, 3);
+
+        assertEquals(3, result.stepBudget());
+        assertTrue(result.steps() <= 3);
+        WalkSearchResult idle = walkSearchService.search("path", new int[]{5}, 0);
+        assertEquals(0, idle.steps());
+        assertEquals(1.0 / 8, idle.markedProbability(), 1e-12);
+    }
+
+    @Test
+    void whenInputsAreInvalid_thenSearchFails() throws IOException {
+        build("small", "0 1\n1 2\n");
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("missing", new int[]{0}, null));
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("small", new int[0], null));
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("small", null, null));
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("small", new int[]{3}, null));
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("small", new int[]{1}, -1));
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("small", new int[]{1}, Integer.MAX_VALUE));
+
+        int maxBudget = QuantumWalkSearchService.MAX_STEP_BUDGET_FACTOR * QuantumWalkSearchService.defaultStepBudget(3);
+        assertEquals(maxBudget, walkSearchService.search("small", new int[]{1}, maxBudget).stepBudget());
+        assertThrows(IllegalArgumentException.class, () -> walkSearchService.search("small", new int[]{1}, maxBudget + 1));
+    }
+
+    private GraphDescriptor build(String id, String edges) throws IOException {
+        Path edgeList = Files.writeString(tempDir.resolve(id + ".txt"), edges);
+        return walkSearchService.buildGraph(id, edgeList, tempDir.resolve(id + ".csr"));
+    }
+}
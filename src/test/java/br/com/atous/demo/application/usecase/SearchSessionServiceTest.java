@@ -0,0 +1,203 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.application.port.in.SearchSessionUseCase;
+import br.com.atous.demo.domain.model.SessionProbability;
+import br.com.atous.demo.domain.model.SessionState;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Scope;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {SearchSessionService.class, SpringAmplitudeBackendRegistry.class,
+    SearchSessionServiceTest.TestConfig.class},
+    properties = {"search.sessions.ttl-seconds=60", "search.sessions.memory-budget-mb=1"})
+class SearchSessionServiceTest {
+
+    // A heap-layout segment tree over 4096 amplitudes holds 3 · 4 · 4096 doubles, 384 KiB
+    private static final int SIZE = 4096;
+
+    @Autowired
+    private SearchSessionUseCase sessionService;
+
+    @Autowired
+    private SearchSessionService sessionServiceInternals;
+
+    static final CountDownLatch diffusionEntered = new CountDownLatch(1);
+    static final CountDownLatch diffusionRelease = new CountDownLatch(1);
+
+    // Blocks inside its second diffusion, i.e. in the middle of a step
+    static class LatchedAmplitude extends SegmentTreeAmplitude {
+        private int diffusions;
+
+        LatchedAmplitude() {
+            super(Layout.HEAP);
+        }
+
+        @Override
+        public void applyDiffusion() {
+            if (++diffusions == 2) {
+                diffusionEntered.countDown();
+                try {
+                    diffusionRelease.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.applyDiffusion();
+        }
+    }
+
+    @Configuration
+    static class TestConfig {
+        @Bean
+        @Primary
+        @Scope("prototype")
+        public SegmentTreeAmplitude segmentTreeAmplitude() {
+            return new SegmentTreeAmplitude(SegmentTreeAmplitude.Layout.HEAP);
+        }
+
+        @Bean
+        @Scope("prototype")
+        public LatchedAmplitude latchedAmplitude() {
+            return new LatchedAmplitude();
+        }
+    }
+
+    @BeforeEach
+    void dropSessionsFromOtherTests() {
+        sessionServiceInternals.evictExpired(System.nanoTime() + TimeUnit.DAYS.toNanos(1));
+    }
+
+    @Test
+    void whenSteppedIncrementally_thenStateMatchesOneShotSearch() {
+        SessionState created = sessionService.create(1024, 77, null);
+        assertEquals(0, created.iterations());
+        assertEquals(25, created.optimalIterations());
+        assertEquals(1.0 / 1024, created.targetProbability(), 1e-12);
+
+        sessionService.step(created.sessionId(), 10);
+        sessionService.step(created.sessionId(), 1);
+        SessionState stepped = sessionService.step(created.sessionId(), 14);
+
+        SegmentTreeAmplitude oneShot = new SegmentTreeAmplitude(SegmentTreeAmplitude.Layout.HEAP);
+        oneShot.initialize(1024);
+        for (int i = 0; i < 25; i++) {
+            oneShot.applyOracle(77);
+            oneShot.applyDiffusion();
+        }
+        double expected = oneShot.getAmplitude(77) * oneShot.getAmplitude(77);
+        assertEquals(25, stepped.iterations());
+        assertEquals(expected, stepped.targetProbability(), 1e-12);
+        assertTrue(stepped.targetProbability() > 0.99);
+    }
+
+    @Test
+    void whenProbabilityQueried_thenAllIndicesSumToOne() {
+        String id = sessionService.create(SIZE, 5, null).sessionId();
+        sessionService.step(id, 7);
+
+        SessionProbability target = sessionService.probability(id, 5);
+        SessionProbability other = sessionService.probability(id, 4000);
+
+        assertEquals(7, target.iterations());
+        assertEquals(1.0, target.probability() + (SIZE - 1) * other.probability(), 1e-9);
+        assertTrue(target.probability() > other.probability());
+    }
+
+    @Test
+    void whenStepIsInProgress_thenReadsSeeTheLastCompletedIterationWithoutWaiting() throws Exception {
+        String id = sessionService.create(SIZE, 9, "latchedAmplitude").sessionId();
+        CompletableFuture<SessionState> step = CompletableFuture.supplyAsync(() -> sessionService.step(id, 5));
+        assertTrue(diffusionEntered.await(10, TimeUnit.SECONDS));
+
+        assertEquals(1, sessionService.probability(id, 9).iterations());
+        assertEquals(1, sessionService.state(id).iterations());
+        assertFalse(step.isDone());
+
+        // Closing does not wait for the step either; the step notices and fails
+        sessionService.close(id);
+        diffusionRelease.countDown();
+        ExecutionException error = assertThrows(ExecutionException.class, () -> step.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(NoSuchElementException.class, error.getCause());
+        assertThrows(NoSuchElementException.class, () -> sessionService.state(id));
+    }
+
+    @Test
+    void whenIdleLongerThanTtl_thenSessionExpires() {
+        String id = sessionService.create(64, 1, null).sessionId();
+
+        sessionServiceInternals.evictExpired(System.nanoTime() + TimeUnit.SECONDS.toNanos(30));
+        assertEquals(0, sessionService.state(id).iterations());
+
+        sessionServiceInternals.evictExpired(System.nanoTime() + TimeUnit.SECONDS.toNanos(61));
+        assertThrows(NoSuchElementException.class, () -> sessionService.state(id));
+        assertEquals(0, sessionServiceInternals.reservedBytes());
+    }
+
+    @Test
+    void whenMemoryBudgetIsExceeded_thenLeastRecentlyUsedSessionIsEvicted() {
+        SessionState first = sessionService.create(SIZE, 1, null);
+        SessionState second = sessionService.create(SIZE, 2, null);
+        assertEquals(3L * 4 * SIZE * Double.BYTES, first.memoryBytes());
+        sessionService.step(first.sessionId(), 1);
+
+        SessionState third = sessionService.create(SIZE, 3, null);
+
+        assertThrows(NoSuchElementException.class, () -> sessionService.state(second.sessionId()));
+        assertEquals(1, sessionService.state(first.sessionId()).iterations());
+        assertEquals(0, sessionService.state(third.sessionId()).iterations());
+        assertEquals(first.memoryBytes() + third.memoryBytes(), sessionServiceInternals.reservedBytes());
+    }
+
+    @Test
+    void whenSessionExceedsTheWholeBudget_thenCreateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> sessionService.create(1 << 16, 1, null));
+        assertEquals(0, sessionServiceInternals.reservedBytes());
+    }
+
+    @Test
+    void whenEstimateExceedsTheBudget_thenCreateIsRejectedBeforeAllocating() {
+        assertEquals(3L * 4 * SIZE * Double.BYTES,
+            new SegmentTreeAmplitude(SegmentTreeAmplitude.Layout.HEAP).memoryFootprintBytes(SIZE));
+
+        // 4 · N tree slots would overflow an int, or exhaust the heap, if they were allocated
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> sessionService.create(Integer.MAX_VALUE, 1, null));
+        assertTrue(error.getMessage().startsWith("Session needs " + 3L * 4 * Integer.MAX_VALUE * Double.BYTES + " bytes"));
+        assertThrows(IllegalArgumentException.class, () -> sessionService.create(1 << 28, 1, null));
+        assertEquals(0, sessionServiceInternals.reservedBytes());
+    }
+
+    @Test
+    void whenInputsAreInvalid_thenExceptionsAreThrown() {
+        String id = sessionService.create(16, 3, null).sessionId();
+
+        assertThrows(IllegalArgumentException.class, () -> sessionService.create(0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> sessionService.create(16, 16, null));
+        assertThrows(IllegalArgumentException.class, () -> sessionService.create(16, 1, "noSuchBackend"));
+        assertThrows(IllegalArgumentException.class, () -> sessionService.step(id, 0));
+        // Size 16 needs 3 iterations, so a step may run at most 24
+        assertThrows(IllegalArgumentException.class, () -> sessionService.step(id, 25));
+        assertThrows(IllegalArgumentException.class, () -> sessionService.step(id, Integer.MAX_VALUE));
+        assertEquals(24, sessionService.step(id, 24).iterations());
+        assertThrows(IllegalArgumentException.class, () -> sessionService.probability(id, 16));
+        assertThrows(NoSuchElementException.class, () -> sessionService.step("missing", 1));
+
+        sessionService.close(id);
+        assertThrows(NoSuchElementException.class, () -> sessionService.close(id));
+    }
+}
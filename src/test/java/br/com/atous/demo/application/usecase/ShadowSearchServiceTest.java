@@ -0,0 +1,170 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.ShadowStats;
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.CompactFloatAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShadowSearchServiceTest {
+
+    private ShadowSearchService shadow;
+
+    @AfterEach
+    void tearDown() {
+        if (shadow != null) {
+            shadow.shutdown();
+        }
+    }
+
+    private static AmplitudeBackendRegistry registry(Map<String, Supplier<AmplitudeDataStructure>> backends) {
+        return new AmplitudeBackendRegistry() {
+            @Override
+            public AmplitudeDataStructure create(String backend) {
+                Supplier<AmplitudeDataStructure> factory = backends.get(backend);
+                if (factory == null) {
+                    throw new IllegalArgumentException("Unknown amplitude backend: " + backend);
+                }
+                return factory.get();
+            }
+
+            @Override
+            public Set<String> backends() {
+                return backends.keySet();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<AmplitudeDataStructure> primary() {
+        ObjectProvider<AmplitudeDataStructure> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenAnswer(invocation -> new SegmentTreeAmplitude());
+        return provider;
+    }
+
+    private ShadowSearchService shadow(String candidate, double sampleRate, int queueCapacity,
+                                       Map<String, Supplier<AmplitudeDataStructure>> backends) {
+        shadow = new ShadowSearchService(primary(), registry(backends), candidate, sampleRate, 1, queueCapacity, 1 << 20);
+        return shadow;
+    }
+
+    private static ShadowStats awaitSettled(ShadowSearchService shadow) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ShadowStats stats = shadow.shadowStats();
+        while (stats.compared() + stats.failed() + stats.skipped() < stats.sampled() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+            stats = shadow.shadowStats();
+        }
+        return stats;
+    }
+
+    private static GroverResult served(int size, int target, int found) {
+        return new GroverResult(found, target, found == target, 1, size, GroverIterations.forMarkedCount(size, 1));
+    }
+
+    @Test
+    void whenTheCandidateAgrees_thenNoDivergenceAndASpeedupIsReported() throws Exception {
+        ShadowSearchService shadow = shadow("blockedAmplitude", 1.0, 64,
+            Map.of("blockedAmplitude", BlockedAmplitude::new));
+
+        for (int target = 0; target < 10; target++) {
+            shadow.offer(served(4096, target * 300, target * 300), null);
+        }
+        ShadowStats stats = awaitSettled(shadow);
+
+        assertEquals("blockedAmplitude", stats.candidateBackend());
+        assertEquals(10, stats.sampled());
+        assertEquals(10, stats.compared());
+        assertEquals(0, stats.foundIndexDivergences());
+        assertEquals(0, stats.failed());
+        assertEquals(0.0, stats.maxProbabilityDivergence(), 1e-9);
+        assertTrue(stats.referenceNanos() > 0 && stats.candidateNanos() > 0);
+        assertEquals((double) stats.referenceNanos() / stats.candidateNanos(), stats.speedup(), 1e-12);
+    }
+
+    @Test
+    void whenTheServedResultDisagrees_thenADivergenceIsCounted() throws Exception {
+        ShadowSearchService shadow = shadow("compactFloatAmplitude", 1.0, 64,
+            Map.of("compactFloatAmplitude", CompactFloatAmplitude::new));
+
+        shadow.offer(served(1024, 7, 7), null);
+        shadow.offer(served(1024, 7, 8), null);
+        ShadowStats stats = awaitSettled(shadow);
+
+        assertEquals(2, stats.compared());
+        assertEquals(1, stats.foundIndexDivergences());
+        // Single precision drifts a little from the double-precision reference, but not by much
+        assertTrue(stats.maxProbabilityDivergence() < 1e-4);
+        assertTrue(stats.meanProbabilityDivergence() <= stats.maxProbabilityDivergence());
+    }
+
+    @Test
+    void whenTheCandidateFails_thenTheFailureIsCountedAndNotPropagated() throws Exception {
+        AmplitudeDataStructure broken = mock(AmplitudeDataStructure.class);
+        doThrow(new IllegalStateException("boom")).when(broken).applyDiffusion();
+        ShadowSearchService shadow = shadow("broken", 1.0, 64, Map.of("broken", () -> broken));
+
+        shadow.offer(served(64, 3, 3), null);
+        ShadowStats stats = awaitSettled(shadow);
+
+        assertEquals(1, stats.failed());
+        assertEquals(0, stats.compared());
+    }
+
+    @Test
+    void whenTheQueueIsFull_thenSamplesAreSkippedInsteadOfBlocking() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AmplitudeDataStructure slow = mock(AmplitudeDataStructure.class);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(slow).initialize(anyInt());
+        ShadowSearchService shadow = shadow("slow", 1.0, 1, Map.of("slow", () -> slow));
+
+        // One run holds the thread, one waits in the queue, the rest are skipped
+        for (int i = 0; i < 5; i++) {
+            shadow.offer(served(64, 3, 3), null);
+        }
+        assertEquals(5, shadow.shadowStats().sampled());
+        assertTrue(shadow.shadowStats().skipped() >= 3);
+        release.countDown();
+        ShadowStats stats = awaitSettled(shadow);
+        assertEquals(5, stats.compared() + stats.failed() + stats.skipped());
+    }
+
+    @Test
+    void whenOffOrUnsampled_thenNothingIsShadowed() {
+        ShadowSearchService off = shadow("", 1.0, 64, Map.of());
+        off.offer(served(64, 3, 3), null);
+        assertNull(off.shadowStats().candidateBackend());
+        assertEquals(0, off.shadowStats().sampled());
+
+        ShadowSearchService never = shadow("blockedAmplitude", 0.0, 64, Map.of("blockedAmplitude", BlockedAmplitude::new));
+        never.offer(served(64, 3, 3), null);
+        // Searches served by the candidate itself have nothing to be compared against
+        ShadowSearchService always = shadow("blockedAmplitude", 1.0, 64, Map.of("blockedAmplitude", BlockedAmplitude::new));
+        always.offer(served(64, 3, 3), "blockedAmplitude");
+        assertEquals(0, never.shadowStats().sampled());
+        assertEquals(0, always.shadowStats().sampled());
+        never.shutdown();
+    }
+
+    @Test
+    void whenConfigurationIsInvalid_thenConstructionFails() {
+        assertThrows(IllegalArgumentException.class,
+            () -> shadow("missing", 0.5, 64, Map.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> shadow("blockedAmplitude", 1.5, 64, Map.of("blockedAmplitude", BlockedAmplitude::new)));
+    }
+}
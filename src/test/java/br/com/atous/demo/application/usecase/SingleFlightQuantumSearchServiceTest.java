@@ -0,0 +1,147 @@
+package br.com.atous.demo.application.usecase;
+
+import br.com.atous.demo.domain.model.CoalescingStats;
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.PriorWeights;
+import br.com.atous.demo.domain.port.out.ResultLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SingleFlightQuantumSearchServiceTest {
+
+    private static final int CALLERS = 8;
+
+    private ClassicalGroverSearchService delegate;
+    private ResultLog resultLog;
+    private ShadowSearchService shadow;
+    private SingleFlightQuantumSearchService searchService;
+    private ExecutorService executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ClassicalGroverSearchService.class);
+        resultLog = mock(ResultLog.class);
+        shadow = mock(ShadowSearchService.class);
+        searchService = new SingleFlightQuantumSearchService(delegate, resultLog, shadow);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    // The delegate blocks until every caller has attached, so the overlap is deterministic
+    private GroverResult blockingSearch(int size, int target) throws InterruptedException {
+        delegateCalls.incrementAndGet();
+        assertTrue(release.await(10, TimeUnit.SECONDS));
+        return new GroverResult(target, target, true, 1, size, 3);
+    }
+
+    private List<Future<GroverResult>> submitIdentical(int size, int target) throws InterruptedException {
+        List<Future<GroverResult>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> searchService.executeSearch(size, target)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (searchService.coalescingStats().coalesced() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return futures;
+    }
+
+    @Test
+    void whenIdenticalRequestsOverlap_thenOneSearchRunsAndAllShareItsResult() throws Exception {
+        when(delegate.executeSearch(anyInt(), anyInt()))
+            .thenAnswer(invocation -> blockingSearch(invocation.getArgument(0), invocation.getArgument(1)));
+
+        List<Future<GroverResult>> futures = submitIdentical(1024, 7);
+
+        GroverResult first = futures.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<GroverResult> future : futures) {
+            assertSame(first, future.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, delegateCalls.get());
+        CoalescingStats stats = searchService.coalescingStats();
+        assertEquals(1, stats.executed());
+        assertEquals(CALLERS - 1, stats.coalesced());
+        assertEquals(0, stats.failed());
+        assertEquals(0, stats.inFlight());
+        // The shared result is recorded once, not once per caller
+        verify(resultLog, times(1)).append(first);
+        verify(shadow, times(1)).offer(first, null);
+    }
+
+    @Test
+    void whenTheSharedSearchFails_thenEveryCallerGetsTheSameException() throws Exception {
+        IllegalArgumentException failure = new IllegalArgumentException("Target index 7 is out of bounds [0, 4)");
+        when(delegate.executeSearch(anyInt(), anyInt())).thenAnswer(invocation -> {
+            blockingSearch(4, 7);
+            throw failure;
+        });
+
+        List<Future<GroverResult>> futures = submitIdentical(4, 7);
+
+        for (Future<GroverResult> future : futures) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertSame(failure, error.getCause());
+        }
+        assertEquals(1, delegateCalls.get());
+        assertEquals(1, searchService.coalescingStats().failed());
+        assertEquals(0, searchService.coalescingStats().inFlight());
+        verifyNoInteractions(resultLog);
+    }
+
+    @Test
+    void whenRequestsDiffer_thenTheyAreNotCoalesced() {
+        when(delegate.executeSearch(anyInt(), anyInt()))
+            .thenAnswer(invocation -> new GroverResult(invocation.getArgument(1), invocation.getArgument(1), true, 1,
+                invocation.getArgument(0), 3));
+        when(delegate.executeSearch(anyInt(), anyInt(), eq("blockedAmplitude")))
+            .thenReturn(new GroverResult(1, 1, true, 1, 16, 3));
+
+        searchService.executeSearch(16, 1);
+        searchService.executeSearch(16, 2);
+        searchService.executeSearch(16, 1, "blockedAmplitude");
+        // Sequential repeats run again: results are shared, never cached
+        searchService.executeSearch(16, 1);
+
+        assertEquals(4, searchService.coalescingStats().executed());
+        assertEquals(0, searchService.coalescingStats().coalesced());
+        verify(delegate, times(2)).executeSearch(16, 1);
+        verify(shadow).offer(any(GroverResult.class), eq("blockedAmplitude"));
+    }
+
+    @Test
+    void priorSearchesPassThrough() {
+        PriorWeights prior = PriorWeights.of(new double[]{1, 2, 3});
+        GroverResult expected = new GroverResult(2, 2, true, 1, 3, 1);
+        when(delegate.executeSearch(eq(2), any(PriorWeights.class))).thenReturn(expected);
+
+        assertSame(expected, searchService.executeSearch(2, prior));
+        assertEquals(0, searchService.coalescingStats().executed());
+        verify(resultLog).append(expected);
+        verifyNoInteractions(shadow);
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.infrastructure.simd.AmplitudeKernels;
+import br.com.atous.demo.infrastructure.simd.ScalarAmplitudeKernels;
+import br.com.atous.demo.infrastructure.simd.VectorAmplitudeKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dense amplitude sweeps per vector species against the scalar loops ("0" = scalar,
+ * "preferred" = the species the JIT picks for this CPU).
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="AmplitudeKernels"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class AmplitudeKernelsBenchmark {
+
+    @Param({"0", "128", "256", "512", "preferred"})
+    String vectorBits;
+
+    @Param({"4096", "1048576"})
+    int size;
+
+    private AmplitudeKernels kernels;
+    private double[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kernels = switch (vectorBits) {
+            case "0" -> new ScalarAmplitudeKernels();
+            case "preferred" -> new VectorAmplitudeKernels();
+            default -> new VectorAmplitudeKernels(Integer.parseInt(vectorBits));
+        };
+        values = new SplittableRandom(42).doubles(size, -1.0, 1.0).toArray();
+    }
+
+    // Negation keeps the values bounded across invocations
+    @Benchmark
+    public double[] affine() {
+        kernels.affine(values, 0, size, -1.0, 0.0);
+        return values;
+    }
+
+    @Benchmark
+    public int argMaxSquare() {
+        return kernels.argMaxSquare(values, 0, size);
+    }
+
+    @Benchmark
+    public double sumOfSquares() {
+        return kernels.sumOfSquares(values, 0, size);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocked (square-root decomposition) backend against the segment tree. The sizes put the
+ * segment tree's ~96 bytes per amplitude in L2 (2^15), L3 (2^18) and DRAM (2^22); the blocked
+ * backend needs about 8 bytes per amplitude, one size class lower.
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="BlockedAmplitudeBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class BlockedAmplitudeBenchmark {
+
+    @Param({"32768", "262144", "4194304"})
+    int size;
+
+    @Param({"segmentTree", "blocked"})
+    String backend;
+
+    private AmplitudeDataStructure amplitudes;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        amplitudes = "blocked".equals(backend) ? new BlockedAmplitude() : new SegmentTreeAmplitude();
+        amplitudes.initialize(size);
+        targetIndex = size / 3;
+    }
+
+    @Benchmark
+    public double groverIteration() {
+        amplitudes.applyOracle(targetIndex);
+        amplitudes.applyDiffusion();
+        return amplitudes.getAmplitude(targetIndex);
+    }
+
+    @Benchmark
+    public int findMaxAmplitudeIndex() {
+        return amplitudes.findMaxAmplitudeIndex();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.infrastructure.datastructure.MultiLaneSegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eight complete searches over the same N with different targets: one after another on the
+ * segment tree, or in lockstep as the lanes of one multi-lane tree.
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="MultiLaneBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class MultiLaneBenchmark {
+
+    private static final int LANES = 8;
+
+    @Param({"4096", "65536", "1048576"})
+    int size;
+
+    private int[] targets;
+    private int iterations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        targets = new int[LANES];
+        for (int lane = 0; lane < LANES; lane++) {
+            targets[lane] = (int) ((long) size * (2 * lane + 1) / (2 * LANES));
+        }
+        iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+    }
+
+    @Benchmark
+    public int separateSearches() {
+        int found = 0;
+        for (int target : targets) {
+            SegmentTreeAmplitude amplitudes = new SegmentTreeAmplitude();
+            amplitudes.initialize(size);
+            for (int i = 0; i < iterations; i++) {
+                amplitudes.applyOracle(target);
+                amplitudes.applyDiffusion();
+            }
+            found += amplitudes.findMaxAmplitudeIndex();
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int[] laneBatch() {
+        MultiLaneSegmentTreeAmplitude amplitudes = new MultiLaneSegmentTreeAmplitude();
+        amplitudes.initialize(size, LANES);
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(targets);
+            amplitudes.applyDiffusion();
+        }
+        return amplitudes.findMaxAmplitudeIndices();
+    }
+}
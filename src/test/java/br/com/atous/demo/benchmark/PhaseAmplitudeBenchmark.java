@@ -0,0 +1,51 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.ComplexSegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the complex-amplitude backend against the real-valued one.
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="PhaseAmplitude"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class PhaseAmplitudeBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    int size;
+
+    @Param({"real", "complex"})
+    String backend;
+
+    private AmplitudeDataStructure amplitudes;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        amplitudes = "complex".equals(backend) ? new ComplexSegmentTreeAmplitude() : new SegmentTreeAmplitude();
+        amplitudes.initialize(size);
+        targetIndex = size / 3;
+    }
+
+    // One oracle + diffusion step; the state keeps rotating, the cost per step does not change
+    @Benchmark
+    public double groverIteration() {
+        amplitudes.applyOracle(targetIndex);
+        amplitudes.applyDiffusion();
+        return amplitudes.getAmplitude(targetIndex);
+    }
+
+    @Benchmark
+    public int findMaxAmplitudeIndex() {
+        return amplitudes.findMaxAmplitudeIndex();
+    }
+}
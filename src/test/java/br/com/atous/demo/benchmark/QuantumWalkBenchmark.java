@@ -0,0 +1,86 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import br.com.atous.demo.infrastructure.graph.MappedGraphRepository;
+import br.com.atous.demo.infrastructure.walk.CoinedWalkEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of quantum-walk steps on a memory-mapped graph: a 2D torus of {@code vertices} vertices
+ * (degree 4) and a random graph with as many vertices and twice as many edges, so both reach
+ * two million edges at the largest size. Each operation is {@link #STEPS} coin + shift passes,
+ * one amplitude per arc.
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="QuantumWalkBenchmark"}; adding
+ * {@code -jvmArgs -Djava.util.concurrent.ForkJoinPool.common.parallelism=1} gives the
+ * single-threaded baseline for the vertex-range split.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class QuantumWalkBenchmark {
+
+    static final int STEPS = 16;
+
+    @Param({"65536", "1048576"})
+    int vertices;
+
+    @Param({"lattice", "random"})
+    String graphType;
+
+    private final CoinedWalkEngine engine = new CoinedWalkEngine();
+    private Path directory;
+    private SearchGraph graph;
+    private int[] marked;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("walk-benchmark");
+        Path edgeList = directory.resolve("edges.txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(edgeList)) {
+            if (graphType.equals("lattice")) {
+                int side = (int) Math.sqrt(vertices);
+                for (int x = 0; x < side; x++) {
+                    for (int y = 0; y < side; y++) {
+                        int vertex = x * side + y;
+                        writer.write(vertex + " " + (((x + 1) % side) * side + y) + "\n");
+                        writer.write(vertex + " " + (x * side + (y + 1) % side) + "\n");
+                    }
+                }
+            } else {
+                SplittableRandom random = new SplittableRandom(42);
+                for (int i = 0; i < 2 * vertices; i++) {
+                    writer.write(random.nextInt(vertices) + " " + random.nextInt(vertices) + "\n");
+                }
+            }
+        }
+        graph = new MappedGraphRepository().build(graphType, edgeList, directory.resolve("graph.csr"));
+        marked = new int[]{graph.vertexCount() / 3};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        graph = null;
+        try (Stream<Path> files = Files.walk(directory)) {
+            // Mapped files may stay locked until collected on some platforms; leave those behind
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public double walkSteps() {
+        return engine.run(graph, marked, STEPS).vertexProbability(marked[0]);
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.application.usecase.ClassicalGroverSearchService;
+import br.com.atous.demo.entrypoints.binary.BinarySearchServer;
+import br.com.atous.demo.entrypoints.binary.SearchFrameCodec;
+import br.com.atous.demo.entrypoints.rest.SearchController;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeLayoutProperty;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second for a small-N search (N = 64) through the JSON endpoint and through the
+ * binary protocol, one request at a time and pipelined 64 deep, all over one connection.
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="SearchProtocolBenchmark"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SearchProtocolBenchmark {
+
+    private static final int SEARCH_SPACE_SIZE = 64;
+    private static final int PIPELINE_DEPTH = 64;
+    private static final int FRAME = Integer.BYTES + SearchFrameCodec.REQUEST_LENGTH;
+
+    // Only the search path, so component scanning does not pull in test configurations
+    @EnableAutoConfiguration
+    @Import({SearchController.class, BinarySearchServer.class, ClassicalGroverSearchService.class,
+        SegmentTreeLayoutProperty.class, SegmentTreeAmplitude.class, SpringAmplitudeBackendRegistry.class})
+    static class SearchEndpoints {
+    }
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest jsonRequest;
+    private SocketChannel channel;
+    private ByteBuffer single;
+    private ByteBuffer pipeline;
+    private ByteBuffer response;
+    private int target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(SearchEndpoints.class)
+            .properties("server.port=0", "search.binary.port=0", "logging.level.root=WARN")
+            .run();
+        int httpPort = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        int binaryPort = context.getBean(BinarySearchServer.class).port();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        jsonRequest = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + httpPort + "/api/v1/search/execute"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"searchSpaceSize\": " + SEARCH_SPACE_SIZE + ", \"targetIndex\": 5}"))
+            .build();
+
+        channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", binaryPort));
+        channel.socket().setTcpNoDelay(true);
+        single = ByteBuffer.allocateDirect(FRAME);
+        pipeline = ByteBuffer.allocateDirect(FRAME * PIPELINE_DEPTH);
+        response = ByteBuffer.allocateDirect(SearchFrameCodec.MAX_RESPONSE_FRAME * PIPELINE_DEPTH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        channel.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String json() throws IOException, InterruptedException {
+        return httpClient.send(jsonRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public int binary() throws IOException {
+        single.clear();
+        SearchFrameCodec.writeRequest(single, SEARCH_SPACE_SIZE, nextTarget());
+        write(single);
+        return readResponses(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public int binaryPipelined() throws IOException {
+        pipeline.clear();
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            SearchFrameCodec.writeRequest(pipeline, SEARCH_SPACE_SIZE, nextTarget());
+        }
+        write(pipeline);
+        return readResponses(PIPELINE_DEPTH);
+    }
+
+    private int nextTarget() {
+        target = (target + 1) % SEARCH_SPACE_SIZE;
+        return target;
+    }
+
+    private void write(ByteBuffer frames) throws IOException {
+        frames.flip();
+        while (frames.hasRemaining()) {
+            channel.write(frames);
+        }
+    }
+
+    // Responses are consumed frame by frame; returns the sum of found indices
+    private int readResponses(int count) throws IOException {
+        response.clear();
+        int checksum = 0;
+        int read = 0;
+        int position = 0;
+        while (read < count) {
+            if (channel.read(response) < 0) {
+                throw new IOException("Connection closed");
+            }
+            while (response.position() - position >= Integer.BYTES) {
+                int length = response.getInt(position);
+                if (response.position() - position < Integer.BYTES + length) {
+                    break;
+                }
+                ByteBuffer frame = response.duplicate().position(position + Integer.BYTES).limit(position + Integer.BYTES + length);
+                checksum += SearchFrameCodec.readResponse(frame, length).foundIndex();
+                position += Integer.BYTES + length;
+                read++;
+            }
+        }
+        return checksum;
+    }
+}
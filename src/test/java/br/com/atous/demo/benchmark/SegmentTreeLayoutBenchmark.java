@@ -0,0 +1,59 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of one root-to-leaf walk (point query and single-element oracle) at random indices,
+ * heap layout against the blocked layout. 2^24 is the largest size whose heap-layout arrays
+ * (4N nodes × 3 doubles) fit in the forked JVM's heap on a small machine; pass
+ * {@code -p size=67108864 -jvmArgsAppend -Xmx24g} to reach 2^26 where memory allows.
+ *
+ * Run with {@code mvn -Pbenchmark verify -Djmh.args="SegmentTreeLayoutBenchmark"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx3g"})
+@State(Scope.Thread)
+public class SegmentTreeLayoutBenchmark {
+
+    private static final int INDEX_MASK = (1 << 16) - 1;
+
+    @Param({"65536", "1048576", "16777216"})
+    int size;
+
+    @Param({"HEAP", "BLOCKED"})
+    SegmentTreeAmplitude.Layout layout;
+
+    private SegmentTreeAmplitude amplitudes;
+    private int[] indices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        amplitudes = new SegmentTreeAmplitude(layout);
+        amplitudes.initialize(size);
+        SplittableRandom random = new SplittableRandom(7);
+        indices = new int[INDEX_MASK + 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public double pointQuery() {
+        return amplitudes.getAmplitude(indices[cursor++ & INDEX_MASK]);
+    }
+
+    @Benchmark
+    public int oracle() {
+        int index = indices[cursor++ & INDEX_MASK];
+        amplitudes.applyOracle(index);
+        return index;
+    }
+}
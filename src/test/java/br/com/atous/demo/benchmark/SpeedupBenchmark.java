@@ -0,0 +1,110 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.application.usecase.LinearScanSearchService;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import br.com.atous.demo.infrastructure.datastructure.SpringAmplitudeBackendRegistry;
+import br.com.atous.demo.infrastructure.scan.ParallelScanEngine;
+import br.com.atous.demo.infrastructure.scan.SequentialScanEngine;
+import br.com.atous.demo.infrastructure.scan.SimdScanEngine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.beans.Introspector;
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock cost of one complete search, Grover backends against the classical scans, on the
+ * same N and target. A Grover search is what the service runs: initialise the amplitudes,
+ * ⌊π/4 · √N⌋ oracle + diffusion iterations, then the argmax. A scan is a
+ * {@link LinearScanSearchService} search over its prebuilt key column, with the target in the
+ * middle (the average case of N/2 oracle evaluations).
+ *
+ * The speedup of a Grover backend over a scan is the ratio of their scores at the same N;
+ * below 1 the scan wins. Run with {@code mvn -Pbenchmark verify -Djmh.args="SpeedupBenchmark"}.
+ *
+ * The Grover engines are the backend components of the datastructure package, found by the same
+ * classpath scan the application uses and named by bean name; a trial fails up front when one
+ * of them is missing from the {@code engine} parameter. The largest size is
+ * {@code SearchLimits.MAX_SEARCH_SPACE}, which every backend accepts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SpeedupBenchmark {
+
+    private static final Map<String, Class<? extends AmplitudeDataStructure>> GROVER_BACKENDS = groverBackends();
+
+    @Param({"1024", "16384", "262144", "1000000"})
+    int size;
+
+    @Param({"sequentialScan", "parallelScan", "simdScan", "segmentTreeAmplitude", "blockedAmplitude",
+        "fenwickTreeAmplitude", "compactFloatAmplitude", "complexSegmentTreeAmplitude"})
+    String engine;
+
+    private LinearScanSearchService scanService;
+    private Constructor<? extends AmplitudeDataStructure> groverBackend;
+    private int iterations;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException, NoSuchMethodException {
+        Set<String> engines = Set.of(getClass().getDeclaredField("engine").getAnnotation(Param.class).value());
+        Set<String> missing = new TreeSet<>(GROVER_BACKENDS.keySet());
+        missing.removeAll(engines);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Backends missing from the engine parameter: " + missing);
+        }
+
+        targetIndex = size / 2;
+        Class<? extends AmplitudeDataStructure> backend = GROVER_BACKENDS.get(engine);
+        // Every backend keeps a no-argument constructor with its default configuration
+        groverBackend = backend == null ? null : backend.getDeclaredConstructor();
+        iterations = Math.max(1, (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size)));
+        if (groverBackend == null) {
+            scanService = new LinearScanSearchService(Map.of(
+                "sequentialScan", new SequentialScanEngine(),
+                "parallelScan", new ParallelScanEngine(),
+                "simdScan", new SimdScanEngine()
+            ), size);
+            // Builds the key column outside the measurement
+            scanService.executeSearch(size, targetIndex, engine);
+        }
+    }
+
+    @Benchmark
+    public int search() throws ReflectiveOperationException {
+        if (groverBackend == null) {
+            return scanService.executeSearch(size, targetIndex, engine).foundIndex();
+        }
+        AmplitudeDataStructure amplitudes = groverBackend.newInstance();
+        amplitudes.initialize(size);
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(targetIndex);
+            amplitudes.applyDiffusion();
+        }
+        return amplitudes.findMaxAmplitudeIndex();
+    }
+
+    // Bean name → class of every AmplitudeDataStructure component next to the registry
+    private static Map<String, Class<? extends AmplitudeDataStructure>> groverBackends() {
+        Map<String, Class<? extends AmplitudeDataStructure>> backends = new TreeMap<>();
+        for (BeanDefinition candidate : new ClassPathScanningCandidateComponentProvider(true)
+                .findCandidateComponents(SpringAmplitudeBackendRegistry.class.getPackageName())) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), null);
+            if (AmplitudeDataStructure.class.isAssignableFrom(type)) {
+                backends.put(Introspector.decapitalize(type.getSimpleName()), type.asSubclass(AmplitudeDataStructure.class));
+            }
+        }
+        return backends;
+    }
+}
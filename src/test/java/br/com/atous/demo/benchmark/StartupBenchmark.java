@@ -0,0 +1,126 @@
+package br.com.atous.demo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to first request of a cold application: from launching a new JVM on the extracted jar
+ * until the first {@code POST /api/v1/search/execute} (N = 64) is answered.
+ *
+ * <ul>
+ *   <li>demo: the previous default, with the blocking N = 1024 search of {@code AlgorithmRunner}</li>
+ *   <li>plain: no startup demo</li>
+ *   <li>fastStartup: the fast-startup profile, lazy bean initialisation and background warm-up</li>
+ *   <li>aotCache: fast-startup on top of the JEP 483 AOT cache</li>
+ * </ul>
+ *
+ * Tomcat already accepts connections while the demo runs, so there it shows up as contention
+ * with the first request; a readiness check would wait for all of it. Every invocation is a new
+ * process, so there is nothing to warm up. Needs the extracted jar and the cache, run with
+ * {@code mvn -Paot-cache,benchmark verify -Djmh.args="StartupBenchmark"}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class StartupBenchmark {
+
+    private static final Path APPLICATION_DIR = Path.of("target", "application");
+    private static final String AOT_CACHE = "demo.aot";
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    @Param({"demo", "plain", "fastStartup", "aotCache"})
+    String configuration;
+
+    private HttpClient httpClient;
+    private List<String> command;
+    private Process application;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path directory = APPLICATION_DIR.toAbsolutePath();
+        Path jar;
+        try (Stream<Path> files = Files.list(APPLICATION_DIR)) {
+            jar = files.filter(file -> file.toString().endsWith(".jar")).findFirst()
+                .orElseThrow(() -> new IllegalStateException("No extracted jar in " + directory));
+        }
+        if (configuration.equals("aotCache") && !Files.exists(APPLICATION_DIR.resolve(AOT_CACHE))) {
+            throw new IllegalStateException("No AOT cache in " + directory + ", build with -Paot-cache");
+        }
+
+        command = new ArrayList<>(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "--add-modules", "jdk.incubator.vector"));
+        if (configuration.equals("aotCache")) {
+            command.add("-XX:AOTCache=" + AOT_CACHE);
+        }
+        command.addAll(List.of("-jar", jar.getFileName().toString()));
+        switch (configuration) {
+            case "demo" -> command.add("--spring.profiles.active=demo");
+            case "fastStartup", "aotCache" -> command.add("--spring.profiles.active=fast-startup");
+            default -> {
+            }
+        }
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopApplication() throws InterruptedException {
+        if (application != null) {
+            application.destroyForcibly().waitFor();
+            application = null;
+        }
+    }
+
+    @Benchmark
+    public String timeToFirstRequest() throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add("--server.port=" + port);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/v1/search/execute"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"searchSpaceSize\": 64, \"targetIndex\": 5}"))
+            .build();
+
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        application = new ProcessBuilder(arguments).directory(APPLICATION_DIR.toFile())
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        while (true) {
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("First request failed with " + response.statusCode());
+                }
+                return response.body();
+            } catch (ConnectException e) {
+                // Not listening yet
+                if (!application.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Application did not start (" + configuration + ")", e);
+                }
+                Thread.sleep(2);
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
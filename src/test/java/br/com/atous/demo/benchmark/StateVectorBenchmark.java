@@ -0,0 +1,90 @@
+package br.com.atous.demo.benchmark;
+
+import br.com.atous.demo.domain.model.QuantumCircuit;
+import br.com.atous.demo.domain.model.QuantumGate;
+import br.com.atous.demo.domain.port.out.StateVector;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import br.com.atous.demo.infrastructure.statevector.StateVectorEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gate-level cost of one Grover iteration on the dense state vector against the algebraic
+ * oracle/diffusion step of the segment tree, for the same 2^n search space.
+ *
+ * A 28-qubit register is 2 GiB and needs a single contiguous array, so give the fork enough heap:
+ * {@code mvn -Pbenchmark verify -Djmh.args="StateVector.circuitIteration -p qubits=28 -jvmArgs -Xmx5g"}.
+ * The segment tree keeps 12·2^n doubles and is not benchmarked that far.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class StateVectorBenchmark {
+
+    @Param({"16", "20", "24"})
+    int qubits;
+
+    private final StateVectorEngine engine = new StateVectorEngine();
+    private QuantumCircuit oneIteration;
+    private SegmentTreeAmplitude amplitudes;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        targetIndex = (1 << qubits) / 3;
+        List<QuantumGate> gates = new ArrayList<>();
+        for (int q = 0; q < qubits; q++) {
+            gates.add(new QuantumGate.Hadamard(q));
+        }
+        int[] controls = new int[qubits - 1];
+        for (int q = 0; q < controls.length; q++) {
+            controls[q] = q;
+        }
+        // Oracle
+        for (int q = 0; q < qubits; q++) {
+            if ((targetIndex & (1 << q)) == 0) {
+                gates.add(new QuantumGate.PauliX(q));
+            }
+        }
+        gates.add(new QuantumGate.MultiControlledZ(controls, qubits - 1));
+        for (int q = 0; q < qubits; q++) {
+            if ((targetIndex & (1 << q)) == 0) {
+                gates.add(new QuantumGate.PauliX(q));
+            }
+        }
+        // Diffusion
+        for (int q = 0; q < qubits; q++) {
+            gates.add(new QuantumGate.Hadamard(q));
+            gates.add(new QuantumGate.PauliX(q));
+        }
+        gates.add(new QuantumGate.MultiControlledZ(controls, qubits - 1));
+        for (int q = 0; q < qubits; q++) {
+            gates.add(new QuantumGate.PauliX(q));
+            gates.add(new QuantumGate.Hadamard(q));
+        }
+        oneIteration = new QuantumCircuit(qubits, gates);
+
+        amplitudes = new SegmentTreeAmplitude();
+        amplitudes.initialize(1 << qubits);
+    }
+
+    // Includes preparing |s⟩ and allocating the register, as a standalone circuit run would
+    @Benchmark
+    public double circuitIteration() {
+        StateVector state = engine.run(oneIteration);
+        return state.getAmplitude(targetIndex);
+    }
+
+    @Benchmark
+    public double algebraicIteration() {
+        amplitudes.applyOracle(targetIndex);
+        amplitudes.applyDiffusion();
+        return amplitudes.getAmplitude(targetIndex);
+    }
+}
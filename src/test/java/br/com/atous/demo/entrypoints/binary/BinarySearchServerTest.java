@@ -0,0 +1,171 @@
+package br.com.atous.demo.entrypoints.binary;
+
+import br.com.atous.demo.application.port.in.QuantumSearchUseCase;
+import br.com.atous.demo.domain.model.GroverResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BinarySearchServerTest {
+
+    private QuantumSearchUseCase searchUseCase;
+    private BinarySearchServer server;
+
+    @BeforeEach
+    void setUp() {
+        searchUseCase = mock(QuantumSearchUseCase.class);
+        when(searchUseCase.executeSearch(anyInt(), anyInt())).thenAnswer(invocation -> {
+            int size = invocation.getArgument(0);
+            int target = invocation.getArgument(1);
+            return new GroverResult(target, target, true, 0, size, 3);
+        });
+        server = new BinarySearchServer(searchUseCase, 0, "127.0.0.1");
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private SocketChannel connect() throws IOException {
+        return SocketChannel.open(new InetSocketAddress("127.0.0.1", server.port()));
+    }
+
+    private GroverResult readResponse(SocketChannel channel) throws IOException {
+        ByteBuffer length = readFully(channel, Integer.BYTES);
+        int payloadLength = length.getInt();
+        return SearchFrameCodec.readResponse(readFully(channel, payloadLength), payloadLength);
+    }
+
+    private ByteBuffer readFully(SocketChannel channel, int bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Connection closed");
+            }
+        }
+        return buffer.flip();
+    }
+
+    @Test
+    void whenPipeliningRequests_thenResponsesComeBackInOrder() throws IOException {
+        int requests = 5_000; // 60 KB of requests, more than one read and one output buffer
+        try (SocketChannel channel = connect()) {
+            ByteBuffer batch = ByteBuffer.allocate(requests * (Integer.BYTES + SearchFrameCodec.REQUEST_LENGTH));
+            for (int i = 0; i < requests; i++) {
+                SearchFrameCodec.writeRequest(batch, 10_000, i);
+            }
+            batch.flip();
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+
+            for (int i = 0; i < requests; i++) {
+                GroverResult result = readResponse(channel);
+                assertEquals(i, result.targetIndex());
+                assertEquals(10_000, result.searchSpaceSize());
+                assertTrue(result.success());
+                assertEquals(3, result.iterations());
+            }
+        }
+    }
+
+    @Test
+    void whenRequestIsInvalid_thenBadRequestFrameAndConnectionStaysOpen() throws IOException {
+        when(searchUseCase.executeSearch(eq(10), eq(9)))
+            .thenThrow(new IllegalArgumentException("Unknown amplitude backend"));
+        try (SocketChannel channel = connect()) {
+            ByteBuffer requests = ByteBuffer.allocate(24);
+            SearchFrameCodec.writeRequest(requests, 10, 9);
+            SearchFrameCodec.writeRequest(requests, 10, 4);
+            channel.write(requests.flip());
+
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> readResponse(channel));
+            assertEquals("Unknown amplitude backend", error.getMessage());
+            assertEquals(4, readResponse(channel).foundIndex());
+        }
+    }
+
+    @Test
+    void whenRequestExceedsSearchLimits_thenBadRequestFrameWithoutSearching() throws IOException {
+        try (SocketChannel channel = connect()) {
+            ByteBuffer requests = ByteBuffer.allocate(24);
+            SearchFrameCodec.writeRequest(requests, 1_000_001, 0);
+            SearchFrameCodec.writeRequest(requests, 10, 10);
+            channel.write(requests.flip());
+
+            IllegalArgumentException tooLarge = assertThrows(IllegalArgumentException.class, () -> readResponse(channel));
+            assertEquals("Search space size too large (max: 1,000,000), got: 1000001", tooLarge.getMessage());
+            IllegalArgumentException outOfRange = assertThrows(IllegalArgumentException.class, () -> readResponse(channel));
+            assertEquals("Target index (10) must be less than search space size (10)", outOfRange.getMessage());
+        }
+        verify(searchUseCase, never()).executeSearch(1_000_001, 0);
+        verify(searchUseCase, never()).executeSearch(10, 10);
+    }
+
+    @Test
+    void whenSearchRunsOutOfMemory_thenErrorFrameAndConnectionStaysOpen() throws IOException {
+        when(searchUseCase.executeSearch(eq(8), anyInt())).thenThrow(new OutOfMemoryError("Java heap space"));
+        try (SocketChannel channel = connect()) {
+            ByteBuffer requests = ByteBuffer.allocate(24);
+            SearchFrameCodec.writeRequest(requests, 8, 1);
+            SearchFrameCodec.writeRequest(requests, 10, 4);
+            channel.write(requests.flip());
+
+            IllegalStateException error = assertThrows(IllegalStateException.class, () -> readResponse(channel));
+            assertEquals("Internal error: Java heap space", error.getMessage());
+            assertEquals(4, readResponse(channel).foundIndex());
+        }
+    }
+
+    @Test
+    void whenBoundToLoopback_thenOnlyLoopbackIsListening() {
+        assertTrue(server.isRunning());
+        assertTrue(server.localAddress().getAddress().isLoopbackAddress());
+    }
+
+    @Test
+    void whenSearchFails_thenErrorFrame() throws IOException {
+        when(searchUseCase.executeSearch(eq(7), anyInt())).thenThrow(new RuntimeException("boom"));
+        try (SocketChannel channel = connect()) {
+            ByteBuffer request = ByteBuffer.allocate(12);
+            SearchFrameCodec.writeRequest(request, 7, 1);
+            channel.write(request.flip());
+
+            IllegalStateException error = assertThrows(IllegalStateException.class, () -> readResponse(channel));
+            assertEquals("Internal error: boom", error.getMessage());
+        }
+    }
+
+    @Test
+    void whenFrameLengthIsWrong_thenConnectionIsClosed() throws IOException {
+        try (SocketChannel channel = connect()) {
+            ByteBuffer bad = ByteBuffer.allocate(8).putInt(1_000).putInt(0);
+            channel.write(bad.flip());
+
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    void whenPortIsNegative_thenServerStaysDisabled() {
+        BinarySearchServer disabled = new BinarySearchServer(searchUseCase, -1, "127.0.0.1");
+        disabled.start();
+        assertFalse(disabled.isRunning());
+        assertEquals(-1, disabled.port());
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.atous.demo.entrypoints.rest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataDirectoryTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void whenNameIsRelative_thenResolvesInsideTheDirectory() {
+        DataDirectory directory = new DataDirectory(root.toString());
+
+        assertEquals(root.resolve("genomes/chr1.fa").toAbsolutePath().normalize(), directory.resolve("genomes/chr1.fa"));
+        assertEquals(root.resolve("b.bin").toAbsolutePath().normalize(), directory.resolve("a/../b.bin"));
+    }
+
+    @Test
+    void whenNameIsAbsoluteOrEscapes_thenRejects() {
+        DataDirectory directory = new DataDirectory(root.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> directory.resolve("/etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> directory.resolve("../outside.bin"));
+        assertThrows(IllegalArgumentException.class, () -> directory.resolve("a/../../outside.bin"));
+        assertThrows(IllegalArgumentException.class, () -> directory.resolve("."));
+        assertThrows(IllegalArgumentException.class, () -> directory.resolve(" "));
+        assertThrows(IllegalArgumentException.class, () -> directory.resolve(null));
+    }
+}
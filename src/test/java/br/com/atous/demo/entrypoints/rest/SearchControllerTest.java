@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -15,6 +16,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(SearchController.class)
+@Import(DataDirectory.class)
 class SearchControllerTest {
 
     @Autowired
@@ -93,4 +95,26 @@ class SearchControllerTest {
                .andExpect(jsonPath("$.result.foundIndex").value(foundIndex))
                .andExpect(jsonPath("$.result.success").value(false));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void whenPriorFileEscapesDataDirectory_thenReturnsBadRequest() throws Exception {
+        String requestJson = "{\"targetIndex\": 0, \"priorFile\": \"../../etc/passwd\"}";
+
+        mockMvc.perform(post("/api/v1/search/prior")
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(requestJson))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("File '../../etc/passwd' must be a relative path inside the data directory"));
+    }
+
+    @Test
+    void whenPriorIsLargerThanTheSearchSpaceCap_thenReturnsBadRequest() throws Exception {
+        String requestJson = "{\"targetIndex\": 0, \"priorWeights\": [" + "1,".repeat(1_000_000) + "1]}";
+
+        mockMvc.perform(post("/api/v1/search/prior")
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(requestJson))
+               .andExpect(status().isBadRequest())
+               .andExpect(jsonPath("$.message").value("Prior too large (max: 1,000,000 weights), got: 1000001"));
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.atous.demo.infrastructure.dataset;
+
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryPriorWeightsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void whenReadingLittleEndianDoubles_thenStreamsEveryWeight() throws IOException {
+        int count = 20_000;
+        ByteBuffer buffer = ByteBuffer.allocate(count * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            buffer.putDouble(i * 0.5);
+        }
+        Path file = tempDir.resolve("prior.bin");
+        Files.write(file, buffer.array());
+
+        BinaryPriorWeights prior = new BinaryPriorWeights(file);
+        assertEquals(count, prior.size());
+
+        PrimitiveIterator.OfDouble weights = prior.iterator();
+        for (int i = 0; i < count; i++) {
+            assertTrue(weights.hasNext());
+            assertEquals(i * 0.5, weights.nextDouble());
+        }
+        assertFalse(weights.hasNext());
+    }
+
+    @Test
+    void whenInitializingFromFile_thenAmplitudesFollowThePrior() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putDouble(1.0).putDouble(0.0).putDouble(2.0).putDouble(1.0);
+        Path file = tempDir.resolve("small.bin");
+        Files.write(file, buffer.array());
+
+        SegmentTreeAmplitude amplitudes = new SegmentTreeAmplitude();
+        amplitudes.initialize(new BinaryPriorWeights(file));
+
+        assertEquals(0.5, amplitudes.getAmplitude(0), 1e-12);
+        assertEquals(0.0, amplitudes.getAmplitude(1), 1e-12);
+        assertEquals(Math.sqrt(0.5), amplitudes.getAmplitude(2), 1e-12);
+    }
+
+    @Test
+    void whenPassStopsEarly_thenTheFileIsNoLongerHeld() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putDouble(1.0).putDouble(-1.0).putDouble(2.0);
+        Path file = tempDir.resolve("invalid.bin");
+        Files.write(file, buffer.array());
+        BinaryPriorWeights prior = new BinaryPriorWeights(file);
+
+        // The negative weight fails the tree build part-way through the pass
+        assertThrows(IllegalArgumentException.class, () -> new SegmentTreeAmplitude().initialize(prior));
+
+        PrimitiveIterator.OfDouble weights = prior.iterator();
+        assertEquals(1.0, weights.nextDouble());
+        // The pass already read and closed the file, so replacing it does not affect it
+        Files.delete(file);
+        Files.write(file, new byte[3 * Double.BYTES]);
+        assertEquals(-1.0, weights.nextDouble());
+        assertEquals(2.0, weights.nextDouble());
+        assertEquals(0.0, prior.iterator().nextDouble());
+    }
+
+    @Test
+    void whenFileIsNotWholeDoubles_thenRejected() throws IOException {
+        Path file = tempDir.resolve("broken.bin");
+        Files.write(file, new byte[12]);
+        assertThrows(IllegalArgumentException.class, () -> new BinaryPriorWeights(file));
+    }
+}
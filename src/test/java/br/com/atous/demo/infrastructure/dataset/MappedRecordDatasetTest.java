@@ -0,0 +1,131 @@
+package br.com.atous.demo.infrastructure.dataset;
+
+import br.com.atous.demo.domain.model.DatasetField;
+import br.com.atous.demo.domain.model.DatasetSchema;
+import br.com.atous.demo.domain.model.FieldType;
+import br.com.atous.demo.domain.model.RecordPredicate;
+import br.com.atous.demo.domain.port.out.RecordDataset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRecordDatasetTest {
+
+    // Record layout: marker name (10) | chromosome (4) | position (8) | newline (1)
+    private static final DatasetSchema SCHEMA = new DatasetSchema(23, List.of(
+        new DatasetField("marker", 0, 10, FieldType.TEXT),
+        new DatasetField("chromosome", 10, 4, FieldType.TEXT),
+        new DatasetField("position", 14, 8, FieldType.INTEGER)
+    ));
+
+    @TempDir
+    Path tempDir;
+
+    private Path datasetFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        datasetFile = tempDir.resolve("markers.dat");
+        StringBuilder content = new StringBuilder();
+        content.append(String.format("%-10s%-4s%8d%n", "rs1000", "chr1", 1200));
+        content.append(String.format("%-10s%-4s%8d%n", "rs2000", "chr2", 5400));
+        content.append(String.format("%-10s%-4s%8d%n", "rs3000", "chr1", 98000));
+        content.append(String.format("%-10s%-4s%8d%n", "rs3001", "chrX", -15));
+        Files.writeString(datasetFile, content.toString(), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void testRecordCount() {
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertEquals(4, dataset.recordCount());
+        assertEquals("markers", dataset.descriptor().id());
+    }
+
+    @Test
+    void testRegisteringATakenIdIsRejected() throws IOException {
+        MappedDatasetRepository repository = new MappedDatasetRepository();
+        RecordDataset registered = repository.register("markers", datasetFile, SCHEMA);
+        Path other = Files.copy(datasetFile, tempDir.resolve("other.dat"));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+            () -> repository.register("markers", other, SCHEMA));
+        assertEquals("Dataset id already registered: markers", error.getMessage());
+        assertSame(registered, repository.find("markers").orElseThrow());
+    }
+
+    @Test
+    void testEqualsOnTextField() {
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertArrayEquals(new int[]{0, 2}, dataset.mark(new RecordPredicate.Equals("chromosome", "chr1")));
+        assertArrayEquals(new int[0], dataset.mark(new RecordPredicate.Equals("chromosome", "chr")));
+    }
+
+    @Test
+    void testEqualsOnIntegerField() {
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertArrayEquals(new int[]{3}, dataset.mark(new RecordPredicate.Equals("position", "-15")));
+    }
+
+    @Test
+    void testRangeOnIntegerField() {
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertArrayEquals(new int[]{0, 1}, dataset.mark(new RecordPredicate.Range("position", 1000, 10000)));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, dataset.mark(new RecordPredicate.Range("position", -100, 100000)));
+    }
+
+    @Test
+    void testRegexOnTextField() {
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertArrayEquals(new int[]{2, 3}, dataset.mark(new RecordPredicate.Regex("marker", "rs300\\d")));
+    }
+
+    @Test
+    void testScanAcrossManyChunksKeepsIndicesSorted() throws IOException {
+        int records = MappedRecordDataset.SCAN_CHUNK_RECORDS * 3 + 17;
+        DatasetSchema schema = new DatasetSchema(8, List.of(new DatasetField("value", 0, 7, FieldType.INTEGER)));
+        StringBuilder content = new StringBuilder(records * 8);
+        for (int i = 0; i < records; i++) {
+            content.append(String.format("%7d%n", i % 1000));
+        }
+        Path file = tempDir.resolve("values.dat");
+        Files.writeString(file, content.toString(), StandardCharsets.US_ASCII);
+
+        MappedRecordDataset dataset = new MappedRecordDataset("values", file, schema);
+        int[] expected = IntStream.range(0, records).filter(i -> i % 1000 == 42).toArray();
+        assertArrayEquals(expected, dataset.mark(new RecordPredicate.Equals("value", "42")));
+    }
+
+    @Test
+    void testIntegerColumnReadsEveryRecord() throws IOException {
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertArrayEquals(new long[]{1200, 5400, 98000, -15}, dataset.integerColumn("position"));
+        assertThrows(IllegalArgumentException.class, () -> dataset.integerColumn("marker"));
+
+        Path gap = tempDir.resolve("gap.dat");
+        Files.writeString(gap, String.format("%-10s%-4s%8d%n%-10s%-4s%8s%n", "rs1", "chr1", 7, "rs2", "chr1", "n/a"),
+            StandardCharsets.US_ASCII);
+        MappedRecordDataset withGap = new MappedRecordDataset("gap", gap, SCHEMA);
+        assertThrows(IllegalArgumentException.class, () -> withGap.integerColumn("position"));
+    }
+
+    @Test
+    void testInvalidDatasetsAndPredicates() throws IOException {
+        Path truncated = tempDir.resolve("truncated.dat");
+        Files.writeString(truncated, "rs1000    chr1", StandardCharsets.US_ASCII);
+        assertThrows(IllegalArgumentException.class, () -> new MappedRecordDataset("bad", truncated, SCHEMA));
+
+        MappedRecordDataset dataset = new MappedRecordDataset("markers", datasetFile, SCHEMA);
+        assertThrows(IllegalArgumentException.class, () -> dataset.mark(new RecordPredicate.Equals("missing", "x")));
+        assertThrows(IllegalArgumentException.class, () -> dataset.mark(new RecordPredicate.Range("marker", 0, 1)));
+        assertThrows(IllegalArgumentException.class, () -> dataset.mark(new RecordPredicate.Equals("position", "abc")));
+    }
+}
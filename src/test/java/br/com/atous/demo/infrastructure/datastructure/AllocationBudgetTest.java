@@ -0,0 +1,163 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import br.com.atous.demo.domain.port.out.AmplitudeDataStructure;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Hot paths of every registered backend are held to a declared allocation budget, measured
+ * with the per-thread allocation counter of {@link com.sun.management.ThreadMXBean}.
+ *
+ * The budget is zero bytes per call unless {@link #BUDGETS} says otherwise, and the context
+ * component-scans this package, so a new backend is checked as soon as it is a component.
+ * States stay below {@link ParallelSupport#THRESHOLD}: the fork/join paths allocate their
+ * tasks by design, and work on pool threads would not be seen by the calling thread's
+ * counter anyway.
+ */
+@SpringBootTest(classes = AllocationBudgetTest.Backends.class)
+class AllocationBudgetTest {
+
+    private static final int SIZE = Math.min(4096, ParallelSupport.THRESHOLD);
+    private static final int ITERATIONS = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(SIZE));
+
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 2_000;
+    // A loop call runs ITERATIONS oracle/diffusion pairs, so fewer calls cover the same ground
+    private static final int LOOP_WARMUP_CALLS = 500;
+    private static final int LOOP_MEASURED_CALLS = 100;
+    // The best round counts, so a round that overlaps a JIT compilation does not fail the build
+    private static final int ROUNDS = 5;
+    // Absorbs one-off allocations of the counter itself; a per-call leak of 8 bytes is still 16 KiB
+    private static final long SLACK_BYTES = 1024;
+
+    /**
+     * Allowed bytes per call, keyed "backend.operation"; anything not listed must not allocate.
+     */
+    private static final Map<String, Long> BUDGETS = Map.of();
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @Autowired
+    private AmplitudeBackendRegistry registry;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Configuration
+    @ComponentScan(basePackageClasses = SpringAmplitudeBackendRegistry.class)
+    static class Backends {
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(AmplitudeDataStructure structure, int call);
+    }
+
+    @BeforeAll
+    static void allocationCounter() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+            "Per-thread allocation accounting is not available on this JVM");
+    }
+
+    @Test
+    void testBackendsAreRegistered() {
+        assertTrue(registry.backends().containsAll(List.of("segmentTreeAmplitude", "blockedAmplitude",
+            "fenwickTreeAmplitude", "compactFloatAmplitude", "complexSegmentTreeAmplitude")));
+
+        // Scanned from the classpath independently of the context: every backend component is measured
+        Set<Class<?>> components = new HashSet<>();
+        for (BeanDefinition candidate : new ClassPathScanningCandidateComponentProvider(true)
+                .findCandidateComponents(SpringAmplitudeBackendRegistry.class.getPackageName())) {
+            Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), null);
+            if (AmplitudeDataStructure.class.isAssignableFrom(type)) {
+                components.add(type);
+            }
+        }
+        Set<Class<?>> registered = registry.backends().stream()
+            .map(context::getType)
+            .collect(Collectors.toSet());
+        assertEquals(components, registered);
+    }
+
+    @Test
+    void testApplyOracleStaysWithinBudget() {
+        assertWithinBudget("applyOracle", WARMUP_CALLS, MEASURED_CALLS,
+            (structure, call) -> structure.applyOracle(call % SIZE));
+    }
+
+    @Test
+    void testApplyDiffusionStaysWithinBudget() {
+        assertWithinBudget("applyDiffusion", WARMUP_CALLS, MEASURED_CALLS,
+            (structure, call) -> structure.applyDiffusion());
+    }
+
+    @Test
+    void testFindMaxAmplitudeIndexStaysWithinBudget() {
+        assertWithinBudget("findMaxAmplitudeIndex", WARMUP_CALLS, MEASURED_CALLS,
+            (structure, call) -> structure.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testIterationLoopStaysWithinBudget() {
+        // One search after initialisation: the optimal number of oracle/diffusion rounds, then the argmax
+        assertWithinBudget("iterationLoop", LOOP_WARMUP_CALLS, LOOP_MEASURED_CALLS, (structure, call) -> {
+            int target = call % SIZE;
+            for (int i = 0; i < ITERATIONS; i++) {
+                structure.applyOracle(target);
+                structure.applyDiffusion();
+            }
+            structure.findMaxAmplitudeIndex();
+        });
+    }
+
+    private void assertWithinBudget(String operation, int warmupCalls, int measuredCalls, Operation body) {
+        List<String> violations = new ArrayList<>();
+        for (String backend : registry.backends()) {
+            AmplitudeDataStructure structure = registry.create(backend);
+            structure.initialize(SIZE);
+            long budget = BUDGETS.getOrDefault(backend + "." + operation, 0L);
+
+            repeat(structure, body, warmupCalls);
+            long allocated = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                allocated = Math.min(allocated, repeat(structure, body, measuredCalls));
+            }
+
+            if (allocated > budget * measuredCalls + SLACK_BYTES) {
+                violations.add(String.format("%s.%s allocated %d bytes in %d calls (%.1f per call), budget %d per call",
+                    backend, operation, allocated, measuredCalls, (double) allocated / measuredCalls, budget));
+            }
+        }
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    // Bytes allocated by the calling thread over the given number of calls
+    private static long repeat(AmplitudeDataStructure structure, Operation body, int calls) {
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int call = 0; call < calls; call++) {
+            body.run(structure, call);
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
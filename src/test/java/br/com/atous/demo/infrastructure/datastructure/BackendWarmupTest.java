@@ -0,0 +1,32 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import br.com.atous.demo.domain.port.out.AmplitudeBackendRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {BackendWarmup.class, SpringAmplitudeBackendRegistry.class, SegmentTreeLayoutProperty.class,
+    SegmentTreeAmplitude.class, BlockedAmplitude.class, ComplexSegmentTreeAmplitude.class},
+    properties = {"search.warmup.search-space=64", "search.warmup.searches=5"})
+class BackendWarmupTest {
+
+    @Autowired
+    private BackendWarmup warmup;
+
+    @Autowired
+    private AmplitudeBackendRegistry registry;
+
+    @Test
+    void testWarmUpRunsEveryRegisteredBackend() {
+        assertEquals(3, registry.backends().size());
+        assertEquals(registry.backends().size(), warmup.warmUp());
+    }
+
+    @Test
+    void testRejectsEmptyWarmUp() {
+        assertThrows(IllegalArgumentException.class, () -> new BackendWarmup(registry, true, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BackendWarmup(registry, true, 64, 0));
+    }
+}
@@ -0,0 +1,178 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockedAmplitudeTest {
+
+    private BlockedAmplitude blockedAmplitude;
+
+    @BeforeEach
+    void setUp() {
+        blockedAmplitude = new BlockedAmplitude();
+    }
+
+    @Test
+    void testInitialize() {
+        int size = 5;
+        blockedAmplitude.initialize(size);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(1.0 / Math.sqrt(size), blockedAmplitude.getAmplitude(i), 1e-12);
+        }
+        assertEquals(1.0, blockedAmplitude.getTotalProbability(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.initialize(0));
+    }
+
+    @Test
+    void testBlockSizeIsAboutSqrtNAndAtLeastOneCacheLine() {
+        blockedAmplitude.initialize(10);
+        assertEquals(8, blockedAmplitude.blockSize());
+
+        blockedAmplitude.initialize(1 << 20);
+        assertEquals(1024, blockedAmplitude.blockSize());
+
+        blockedAmplitude.initialize(1_000_001);
+        assertEquals(1024, blockedAmplitude.blockSize());
+    }
+
+    @Test
+    void testGroverIterationsMatchSegmentTree() {
+        for (int size : new int[]{1, 7, 100, 65_536, 100_003}) {
+            int targetIndex = size / 3;
+            SegmentTreeAmplitude reference = new SegmentTreeAmplitude();
+            reference.initialize(size);
+            blockedAmplitude.initialize(size);
+
+            int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+            for (int i = 0; i < iterations; i++) {
+                reference.applyOracle(targetIndex);
+                reference.applyDiffusion();
+                blockedAmplitude.applyOracle(targetIndex);
+                blockedAmplitude.applyDiffusion();
+            }
+
+            assertArrayEquals(reference.getAllAmplitudes(), blockedAmplitude.getAllAmplitudes(), 1e-9);
+            assertEquals(reference.findMaxAmplitudeIndex(), blockedAmplitude.findMaxAmplitudeIndex());
+            assertEquals(1.0, blockedAmplitude.getTotalProbability(), 1e-9);
+        }
+    }
+
+    @Test
+    void testMultiTargetOracle() {
+        int size = 1000;
+        int[] marked = {3, 500, 999};
+        SegmentTreeAmplitude reference = new SegmentTreeAmplitude();
+        reference.initialize(size);
+        blockedAmplitude.initialize(size);
+
+        for (int i = 0; i < 10; i++) {
+            reference.applyOracle(marked);
+            reference.applyDiffusion();
+            blockedAmplitude.applyOracle(marked);
+            blockedAmplitude.applyDiffusion();
+        }
+
+        assertArrayEquals(reference.getAllAmplitudes(), blockedAmplitude.getAllAmplitudes(), 1e-12);
+    }
+
+    @Test
+    void testRangeAffineUpdateMatchesElementWiseUpdate() {
+        int size = 300;
+        blockedAmplitude.initialize(size);
+        double[] expected = blockedAmplitude.getAllAmplitudes();
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int step = 0; step < 50; step++) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from + 1);
+            double mul = random.nextBoolean() ? -1.0 : 0.5 + random.nextDouble();
+            double add = random.nextDouble() - 0.5;
+            blockedAmplitude.rangeAffineUpdate(from, to, mul, add);
+            for (int i = from; i < to; i++) {
+                expected[i] = mul * expected[i] + add;
+            }
+            if (step % 5 == 0) {
+                blockedAmplitude.applyDiffusion();
+                double mean = 0.0;
+                for (double value : expected) {
+                    mean += value;
+                }
+                mean /= size;
+                for (int i = 0; i < size; i++) {
+                    expected[i] = 2.0 * mean - expected[i];
+                }
+            }
+        }
+
+        assertArrayEquals(expected, blockedAmplitude.getAllAmplitudes(), 1e-9);
+        int expectedMax = 0;
+        for (int i = 1; i < size; i++) {
+            if (expected[i] * expected[i] > expected[expectedMax] * expected[expectedMax]) {
+                expectedMax = i;
+            }
+        }
+        assertEquals(expectedMax, blockedAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testFindMaxAfterExtremesMoveAway() {
+        blockedAmplitude.initialize(64);
+        blockedAmplitude.rangeAffineUpdate(20, 21, 5.0, 0.0);
+        assertEquals(20, blockedAmplitude.findMaxAmplitudeIndex());
+
+        // The former maximum shrinks below everything else; the block must be rescanned
+        blockedAmplitude.rangeAffineUpdate(20, 21, 0.01, 0.0);
+        blockedAmplitude.rangeAffineUpdate(41, 42, 2.0, 0.0);
+        assertEquals(41, blockedAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testFindMaxOnTiesReturnsLowestIndex() {
+        blockedAmplitude.initialize(100);
+        assertEquals(0, blockedAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalStateException.class, () -> blockedAmplitude.findMaxAmplitudeIndex());
+
+        blockedAmplitude.initialize(10);
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.applyOracle(10));
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.getAmplitude(-1));
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.rangeAffineUpdate(5, 11, 1.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.rangeAffineUpdate(0, 5, 0.0, 1.0));
+    }
+
+    @Test
+    void testBlockDiffusionReflectsEachBlockAboutItsMean() {
+        int size = 96;
+        blockedAmplitude.initialize(size);
+        blockedAmplitude.applyOracle(40);
+        blockedAmplitude.applyDiffusion();
+        blockedAmplitude.applyOracle(40);
+        double[] expected = blockedAmplitude.getAllAmplitudes();
+
+        blockedAmplitude.applyBlockDiffusion(24);
+
+        for (int from = 0; from < size; from += 24) {
+            double mean = 0.0;
+            for (int i = from; i < from + 24; i++) {
+                mean += expected[i] / 24;
+            }
+            // Reflecting about the block mean keeps the block sum
+            assertEquals(mean * 24, blockedAmplitude.rangeSum(from, from + 24), 1e-12);
+            for (int i = from; i < from + 24; i++) {
+                expected[i] = 2 * mean - expected[i];
+            }
+        }
+        assertArrayEquals(expected, blockedAmplitude.getAllAmplitudes(), 1e-12);
+        assertEquals(0.0, blockedAmplitude.rangeSum(7, 7));
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.rangeSum(10, 97));
+        assertThrows(IllegalArgumentException.class, () -> blockedAmplitude.rangeSum(10, 9));
+    }
+}
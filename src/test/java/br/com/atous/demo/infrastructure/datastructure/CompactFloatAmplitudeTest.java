@@ -0,0 +1,85 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactFloatAmplitudeTest {
+
+    private CompactFloatAmplitude compactAmplitude;
+
+    @BeforeEach
+    void setUp() {
+        compactAmplitude = new CompactFloatAmplitude();
+    }
+
+    @Test
+    void testInitialize() {
+        int size = 5;
+        compactAmplitude.initialize(size);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(1.0 / Math.sqrt(size), compactAmplitude.getAmplitude(i), 1e-7);
+        }
+        assertEquals(1.0, compactAmplitude.getTotalProbability(), 1e-6);
+        assertThrows(IllegalArgumentException.class, () -> compactAmplitude.initialize(0));
+    }
+
+    @Test
+    void testOracleAndDiffusion() {
+        int size = 4;
+        compactAmplitude.initialize(size);
+
+        compactAmplitude.applyOracle(1);
+        assertEquals(-0.5, compactAmplitude.getAmplitude(1), 1e-7);
+
+        // mean = 0.25 → 2·0.25 - a
+        compactAmplitude.applyDiffusion();
+        assertEquals(1.0, compactAmplitude.getAmplitude(1), 1e-7);
+        assertEquals(0.0, compactAmplitude.getAmplitude(0), 1e-7);
+        assertEquals(1, compactAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testErrorAgainstDoublePrecisionAfterOptimalIterations() {
+        for (int size : new int[]{1_000, 65_536, 1 << 20}) {
+            int targetIndex = size / 3;
+            SegmentTreeAmplitude reference = new SegmentTreeAmplitude();
+            reference.initialize(size);
+            compactAmplitude.initialize(size);
+
+            int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+            for (int i = 0; i < iterations; i++) {
+                reference.applyOracle(targetIndex);
+                reference.applyDiffusion();
+                compactAmplitude.applyOracle(targetIndex);
+                compactAmplitude.applyDiffusion();
+            }
+
+            double[] expected = reference.getAllAmplitudes();
+            double[] actual = compactAmplitude.getAllAmplitudes();
+            double maxError = 0.0;
+            for (int i = 0; i < size; i++) {
+                maxError = Math.max(maxError, Math.abs(expected[i] - actual[i]));
+            }
+
+            assertTrue(maxError < 1e-6, "max error " + maxError + " for N = " + size);
+            assertEquals(targetIndex, compactAmplitude.findMaxAmplitudeIndex());
+            assertEquals(1.0, compactAmplitude.getTotalProbability(), 1e-5);
+        }
+    }
+
+    @Test
+    void testInvalidIndices() {
+        compactAmplitude.initialize(10);
+
+        assertThrows(IllegalArgumentException.class, () -> compactAmplitude.applyOracle(10));
+        assertThrows(IllegalArgumentException.class, () -> compactAmplitude.getAmplitude(-1));
+    }
+
+    @Test
+    void testFindMaxBeforeInitialize() {
+        assertThrows(IllegalStateException.class, () -> compactAmplitude.findMaxAmplitudeIndex());
+    }
+}
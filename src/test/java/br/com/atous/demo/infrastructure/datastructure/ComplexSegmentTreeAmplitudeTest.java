@@ -0,0 +1,125 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComplexSegmentTreeAmplitudeTest {
+
+    private ComplexSegmentTreeAmplitude complexAmplitude;
+
+    @BeforeEach
+    void setUp() {
+        complexAmplitude = new ComplexSegmentTreeAmplitude();
+    }
+
+    @Test
+    void testInitialize() {
+        int size = 5;
+        complexAmplitude.initialize(size);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(1.0 / Math.sqrt(size), complexAmplitude.getAmplitude(i), 1e-12);
+            assertEquals(0.0, complexAmplitude.getImaginaryAmplitude(i), 1e-12);
+        }
+        assertEquals(1.0, complexAmplitude.getTotalProbability(), 1e-12);
+        assertThrows(IllegalArgumentException.class, () -> complexAmplitude.initialize(0));
+    }
+
+    @Test
+    void testPiPhaseMatchesRealValuedBackend() {
+        int size = 37;
+        int targetIndex = 11;
+        SegmentTreeAmplitude real = new SegmentTreeAmplitude();
+        real.initialize(size);
+        complexAmplitude.initialize(size);
+
+        for (int step = 0; step < 4; step++) {
+            real.applyOracle(targetIndex);
+            real.applyDiffusion();
+            complexAmplitude.applyOracle(targetIndex, Math.PI);
+            complexAmplitude.applyDiffusion(Math.PI);
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(real.getAmplitude(i), complexAmplitude.getAmplitude(i), 1e-12);
+            assertEquals(0.0, complexAmplitude.getImaginaryAmplitude(i), 1e-12);
+        }
+        assertEquals(real.findMaxAmplitudeIndex(), complexAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testOraclePhaseRotatesOnlyTheTarget() {
+        int size = 8;
+        double phase = 0.7;
+        complexAmplitude.initialize(size);
+
+        complexAmplitude.applyOracle(3, phase);
+
+        double amplitude = 1.0 / Math.sqrt(size);
+        assertEquals(amplitude * Math.cos(phase), complexAmplitude.getAmplitude(3), 1e-12);
+        assertEquals(amplitude * Math.sin(phase), complexAmplitude.getImaginaryAmplitude(3), 1e-12);
+        assertEquals(amplitude, complexAmplitude.getAmplitude(4), 1e-12);
+
+        complexAmplitude.applyOracle(3, -phase);
+        assertEquals(amplitude, complexAmplitude.getAmplitude(3), 1e-12);
+        assertEquals(0.0, complexAmplitude.getImaginaryAmplitude(3), 1e-12);
+    }
+
+    @Test
+    void testDiffusionWithArbitraryPhaseMatchesDefinition() {
+        int size = 6;
+        double phase = 1.1;
+        complexAmplitude.initialize(size);
+        complexAmplitude.applyOracle(new int[]{1, 4}, 2.3);
+
+        double[] re = new double[size];
+        double[] im = new double[size];
+        double meanRe = 0.0;
+        double meanIm = 0.0;
+        for (int i = 0; i < size; i++) {
+            re[i] = complexAmplitude.getAmplitude(i);
+            im[i] = complexAmplitude.getImaginaryAmplitude(i);
+            meanRe += re[i] / size;
+            meanIm += im[i] / size;
+        }
+        complexAmplitude.applyDiffusion(phase);
+
+        // (1 - e^{iφ})·mean - z
+        double cRe = 1.0 - Math.cos(phase);
+        double cIm = -Math.sin(phase);
+        for (int i = 0; i < size; i++) {
+            assertEquals(cRe * meanRe - cIm * meanIm - re[i], complexAmplitude.getAmplitude(i), 1e-12);
+            assertEquals(cRe * meanIm + cIm * meanRe - im[i], complexAmplitude.getImaginaryAmplitude(i), 1e-12);
+        }
+        assertEquals(1.0, complexAmplitude.getTotalProbability(), 1e-12);
+    }
+
+    @Test
+    void testPiOverThreeStepCubesTheFailureProbability() {
+        // One step of Grover's fixed-point search: R_s(π/3) R_t(π/3) |s⟩ leaves failure ε³
+        int size = 4;
+        int targetIndex = 2;
+        complexAmplitude.initialize(size);
+
+        complexAmplitude.applyOracle(targetIndex, Math.PI / 3.0);
+        complexAmplitude.applyDiffusion(Math.PI / 3.0);
+
+        double failure = 1.0 - 1.0 / size;
+        assertEquals(1.0 - failure * failure * failure, complexAmplitude.getProbability(targetIndex), 1e-12);
+        assertEquals(targetIndex, complexAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testFindMaxAmplitudeIndexNotInitialized() {
+        assertThrows(IllegalStateException.class, () -> complexAmplitude.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testApplyOracleWithInvalidIndex() {
+        complexAmplitude.initialize(4);
+        assertThrows(IllegalArgumentException.class, () -> complexAmplitude.applyOracle(-1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> complexAmplitude.applyOracle(4));
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.atous.demo.infrastructure.datastructure;
 
+import br.com.atous.demo.domain.model.PriorWeights;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -146,4 +147,89 @@ class FenwickTreeAmplitudeTest {
         fenwickTreeAmplitude.applyDiffusion();
         // No assertion here, as for N=4, 2 iterations over-rotates and target might not be max
     }
-}
\ No newline at end of file
+
+    @Test
+    void testInitializeWithPrior() {
+        double[] weights = {1.0, 3.0, 0.0, 4.0};
+        fenwickTreeAmplitude.initialize(PriorWeights.of(weights));
+
+        double[] amplitudes = fenwickTreeAmplitude.getAmplitudes();
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(Math.sqrt(weights[i] / 8.0), amplitudes[i], 1e-9);
+        }
+        assertEquals(1.0, fenwickTreeAmplitude.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void testUniformPriorMatchesUniformInitialization() {
+        int size = 8;
+        int targetIndex = 3;
+        FenwickTreeAmplitude uniform = new FenwickTreeAmplitude();
+        uniform.initialize(size);
+        double[] ones = new double[size];
+        java.util.Arrays.fill(ones, 1.0);
+        fenwickTreeAmplitude.initialize(PriorWeights.of(ones));
+
+        for (int step = 0; step < 2; step++) {
+            uniform.applyOracle(targetIndex);
+            uniform.applyDiffusion();
+            fenwickTreeAmplitude.applyOracle(targetIndex);
+            fenwickTreeAmplitude.applyDiffusion();
+        }
+        assertArrayEquals(uniform.getAmplitudes(), fenwickTreeAmplitude.getAmplitudes(), 1e-9);
+    }
+
+    @Test
+    void testDiffusionReflectsAboutPrior() {
+        double[] weights = {4.0, 1.0, 1.0, 2.0};
+        fenwickTreeAmplitude.initialize(PriorWeights.of(weights));
+        double[] prior = fenwickTreeAmplitude.getAmplitudes();
+
+        fenwickTreeAmplitude.applyOracle(1);
+        double[] before = fenwickTreeAmplitude.getAmplitudes();
+        fenwickTreeAmplitude.applyDiffusion();
+
+        // (2|π⟩⟨π| - I)|ψ⟩
+        double innerProduct = 0.0;
+        for (int i = 0; i < prior.length; i++) {
+            innerProduct += prior[i] * before[i];
+        }
+        double[] after = fenwickTreeAmplitude.getAmplitudes();
+        for (int i = 0; i < prior.length; i++) {
+            assertEquals(2.0 * innerProduct * prior[i] - before[i], after[i], 1e-9);
+        }
+        assertEquals(1.0, fenwickTreeAmplitude.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void testInitializeWithInvalidPrior() {
+        assertThrows(IllegalArgumentException.class, () -> fenwickTreeAmplitude.initialize(PriorWeights.of(new double[0])));
+        assertThrows(IllegalArgumentException.class, () -> fenwickTreeAmplitude.initialize(PriorWeights.of(new double[]{1.0, -1.0})));
+        assertThrows(IllegalArgumentException.class, () -> fenwickTreeAmplitude.initialize(PriorWeights.of(new double[]{1.0, Double.NaN})));
+        assertThrows(IllegalArgumentException.class, () -> fenwickTreeAmplitude.initialize(PriorWeights.of(new double[]{0.0, 0.0})));
+    }
+
+    @Test
+    void testLinearBuildAndParallelPathsMatchReference() {
+        int size = 100_000;
+        int targetIndex = 77_777;
+        fenwickTreeAmplitude.initialize(size);
+
+        double[] reference = new double[size];
+        java.util.Arrays.fill(reference, 1.0 / Math.sqrt(size));
+        for (int step = 0; step < 3; step++) {
+            fenwickTreeAmplitude.applyOracle(targetIndex);
+            fenwickTreeAmplitude.applyDiffusion();
+
+            reference[targetIndex] = -reference[targetIndex];
+            double mean = java.util.Arrays.stream(reference).sum() / size;
+            for (int i = 0; i < size; i++) {
+                reference[i] = 2.0 * mean - reference[i];
+            }
+        }
+
+        assertArrayEquals(reference, fenwickTreeAmplitude.getAmplitudes(), 1e-12);
+        assertEquals(targetIndex, fenwickTreeAmplitude.findMaxAmplitudeIndex());
+        assertEquals(1.0, fenwickTreeAmplitude.getTotalProbability(), 1e-9);
+    }
+}
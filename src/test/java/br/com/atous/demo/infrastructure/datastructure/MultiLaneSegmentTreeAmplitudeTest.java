@@ -0,0 +1,104 @@
+package br.com.atous.demo.infrastructure.datastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiLaneSegmentTreeAmplitudeTest {
+
+    private static SegmentTreeAmplitude singleLane(int size, int target, int iterations) {
+        SegmentTreeAmplitude amplitudes = new SegmentTreeAmplitude(SegmentTreeAmplitude.Layout.HEAP);
+        amplitudes.initialize(size);
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(target);
+            amplitudes.applyDiffusion();
+        }
+        return amplitudes;
+    }
+
+    @Test
+    void testInitialize() {
+        MultiLaneSegmentTreeAmplitude amplitudes = new MultiLaneSegmentTreeAmplitude();
+        amplitudes.initialize(10, 3);
+
+        assertEquals(3, amplitudes.lanes());
+        for (int lane = 0; lane < 3; lane++) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(1.0 / Math.sqrt(10), amplitudes.getAmplitude(lane, i), 1e-15);
+            }
+        }
+    }
+
+    @Test
+    void testLanesMatchIndependentSearches() {
+        // 1000 is not a power of two, so the tree carries 24 padding leaves
+        int size = 1000;
+        int[] targets = {0, 999, 500, 500, 123};
+        MultiLaneSegmentTreeAmplitude amplitudes = new MultiLaneSegmentTreeAmplitude();
+        amplitudes.initialize(size, targets.length);
+        int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+        for (int i = 0; i < iterations; i++) {
+            amplitudes.applyOracle(targets);
+            amplitudes.applyDiffusion();
+        }
+
+        assertArrayEquals(targets, amplitudes.findMaxAmplitudeIndices());
+        for (int lane = 0; lane < targets.length; lane++) {
+            SegmentTreeAmplitude expected = singleLane(size, targets[lane], iterations);
+            double totalProbability = 0.0;
+            for (int i = 0; i < size; i++) {
+                double amplitude = amplitudes.getAmplitude(lane, i);
+                assertEquals(expected.getAmplitude(i), amplitude, 1e-12);
+                totalProbability += amplitude * amplitude;
+            }
+            assertEquals(1.0, totalProbability, 1e-9);
+        }
+    }
+
+    @Test
+    void testArgmaxMidwayMatchesIndependentSearches() {
+        int size = 77;
+        int[] targets = {5, 60};
+        MultiLaneSegmentTreeAmplitude amplitudes = new MultiLaneSegmentTreeAmplitude();
+        amplitudes.initialize(size, targets.length);
+        for (int i = 0; i < 3; i++) {
+            amplitudes.applyOracle(targets);
+            amplitudes.applyDiffusion();
+        }
+
+        int[] found = amplitudes.findMaxAmplitudeIndices();
+        for (int lane = 0; lane < targets.length; lane++) {
+            assertEquals(singleLane(size, targets[lane], 3).findMaxAmplitudeIndex(), found[lane]);
+        }
+    }
+
+    @Test
+    void testTinySizes() {
+        MultiLaneSegmentTreeAmplitude amplitudes = new MultiLaneSegmentTreeAmplitude();
+        amplitudes.initialize(1, 2);
+        amplitudes.applyDiffusion();
+        assertArrayEquals(new int[]{0, 0}, amplitudes.findMaxAmplitudeIndices());
+        assertEquals(1.0, amplitudes.getAmplitude(1, 0), 1e-15);
+
+        amplitudes.initialize(3, 2);
+        amplitudes.applyOracle(new int[]{2, 1});
+        amplitudes.applyDiffusion();
+        assertArrayEquals(new int[]{2, 1}, amplitudes.findMaxAmplitudeIndices());
+        assertEquals(singleLane(3, 1, 1).getAmplitude(0), amplitudes.getAmplitude(1, 0), 1e-15);
+    }
+
+    @Test
+    void testInvalidInputs() {
+        MultiLaneSegmentTreeAmplitude amplitudes = new MultiLaneSegmentTreeAmplitude();
+        assertThrows(IllegalStateException.class, amplitudes::findMaxAmplitudeIndices);
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.initialize(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.initialize(16, 0));
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.initialize(1 << 30, 8));
+
+        amplitudes.initialize(16, 2);
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.applyOracle(new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.applyOracle(new int[]{1, 16}));
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.getAmplitude(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> amplitudes.getAmplitude(0, -1));
+    }
+}
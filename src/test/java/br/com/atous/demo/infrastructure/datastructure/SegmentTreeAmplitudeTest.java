@@ -1,8 +1,11 @@
 package br.com.atous.demo.infrastructure.datastructure;
 
+import br.com.atous.demo.domain.model.PriorWeights;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SegmentTreeAmplitudeTest {
@@ -218,4 +221,222 @@ class SegmentTreeAmplitudeTest {
             fail("Reflection failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testInitializeWithPrior() {
+        double[] weights = {1.0, 3.0, 0.0, 4.0};
+        segmentTreeAmplitude.initialize(PriorWeights.of(weights));
+
+        double[] amplitudes = segmentTreeAmplitude.getAllAmplitudes();
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(Math.sqrt(weights[i] / 8.0), amplitudes[i], 1e-9);
+        }
+        assertEquals(1.0, segmentTreeAmplitude.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void testUniformPriorMatchesUniformInitialization() {
+        int size = 8;
+        int targetIndex = 3;
+        SegmentTreeAmplitude uniform = new SegmentTreeAmplitude();
+        uniform.initialize(size);
+        double[] ones = new double[size];
+        java.util.Arrays.fill(ones, 1.0);
+        segmentTreeAmplitude.initialize(PriorWeights.of(ones));
+
+        for (int step = 0; step < 2; step++) {
+            uniform.applyOracle(targetIndex);
+            uniform.applyDiffusion();
+            segmentTreeAmplitude.applyOracle(targetIndex);
+            segmentTreeAmplitude.applyDiffusion();
+        }
+        assertArrayEquals(uniform.getAllAmplitudes(), segmentTreeAmplitude.getAllAmplitudes(), 1e-9);
+    }
+
+    @Test
+    void testDiffusionReflectsAboutPrior() {
+        double[] weights = {4.0, 1.0, 1.0, 2.0};
+        segmentTreeAmplitude.initialize(PriorWeights.of(weights));
+        double[] prior = segmentTreeAmplitude.getAllAmplitudes();
+
+        segmentTreeAmplitude.applyOracle(1);
+        double[] before = segmentTreeAmplitude.getAllAmplitudes();
+        segmentTreeAmplitude.applyDiffusion();
+
+        // (2|π⟩⟨π| - I)|ψ⟩
+        double innerProduct = 0.0;
+        for (int i = 0; i < prior.length; i++) {
+            innerProduct += prior[i] * before[i];
+        }
+        double[] after = segmentTreeAmplitude.getAllAmplitudes();
+        for (int i = 0; i < prior.length; i++) {
+            assertEquals(2.0 * innerProduct * prior[i] - before[i], after[i], 1e-9);
+        }
+        assertEquals(1.0, segmentTreeAmplitude.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void testInitializeWithInvalidPrior() {
+        assertThrows(IllegalArgumentException.class, () -> segmentTreeAmplitude.initialize(PriorWeights.of(new double[0])));
+        assertThrows(IllegalArgumentException.class, () -> segmentTreeAmplitude.initialize(PriorWeights.of(new double[]{1.0, -1.0})));
+        assertThrows(IllegalArgumentException.class, () -> segmentTreeAmplitude.initialize(PriorWeights.of(new double[]{1.0, Double.NaN})));
+        assertThrows(IllegalArgumentException.class, () -> segmentTreeAmplitude.initialize(PriorWeights.of(new double[]{0.0, 0.0})));
+    }
+
+    @Test
+    void testParallelBulkReadsMatchPointQueries() {
+        // Above the fork/join threshold: parallel build, composed-tag reads and max search
+        int size = 200_003;
+        int targetIndex = 123_457;
+        segmentTreeAmplitude.initialize(size);
+        for (int step = 0; step < 3; step++) {
+            segmentTreeAmplitude.applyOracle(targetIndex);
+            segmentTreeAmplitude.applyDiffusion();
+        }
+
+        double[] amplitudes = segmentTreeAmplitude.getAllAmplitudes();
+        for (int i = 0; i < size; i += 1_009) {
+            assertEquals(segmentTreeAmplitude.getAmplitude(i), amplitudes[i], 1e-12);
+        }
+        assertEquals(segmentTreeAmplitude.getAmplitude(targetIndex), amplitudes[targetIndex], 1e-12);
+        assertEquals(targetIndex, segmentTreeAmplitude.findMaxAmplitudeIndex());
+        assertEquals(1.0, segmentTreeAmplitude.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void testBulkReadsDoNotDisturbPendingPriorTags() {
+        double[] weights = new double[70_000];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1 + (i % 7);
+        }
+        segmentTreeAmplitude.initialize(PriorWeights.of(weights));
+        segmentTreeAmplitude.applyOracle(40_000);
+        segmentTreeAmplitude.applyDiffusion();
+
+        double[] first = segmentTreeAmplitude.getAllAmplitudes();
+        int maxIndex = segmentTreeAmplitude.findMaxAmplitudeIndex();
+        assertArrayEquals(first, segmentTreeAmplitude.getAllAmplitudes(), 0.0);
+        assertEquals(40_000, maxIndex);
+        assertEquals(first[12_345], segmentTreeAmplitude.getAmplitude(12_345), 1e-12);
+    }
+
+    @Test
+    void testBlockedLayoutSlotsAreDistinctAndWithinCapacity() {
+        for (int size : new int[]{1, 2, 3, 5, 8, 100, 1_000, 65_537, 1 << 20}) {
+            SegmentTreeLayout layout = SegmentTreeLayout.blocked(size);
+            BitSet used = new BitSet(layout.capacity());
+            int nodes = collectSlots(layout, layout.root(), 0, size - 1, used);
+            assertEquals(nodes, used.cardinality(), "slot collision for size " + size);
+            assertTrue(layout.capacity() <= 4 * size + 7, "capacity above the heap layout for size " + size);
+        }
+    }
+
+    private int collectSlots(SegmentTreeLayout layout, int node, int start, int end, BitSet used) {
+        assertTrue(node >= 0 && node < layout.capacity());
+        used.set(node);
+        if (start == end) {
+            return 1;
+        }
+        int mid = (start + end) / 2;
+        return 1 + collectSlots(layout, layout.left(node), start, mid, used)
+            + collectSlots(layout, layout.right(node), mid + 1, end, used);
+    }
+
+    @Test
+    void testBlockedLayoutMatchesHeapLayout() {
+        int size = 100_003;
+        int targetIndex = 77_777;
+        SegmentTreeAmplitude blocked = new SegmentTreeAmplitude(SegmentTreeAmplitude.Layout.BLOCKED);
+        segmentTreeAmplitude.initialize(size);
+        blocked.initialize(size);
+
+        int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+        for (int i = 0; i < iterations; i++) {
+            segmentTreeAmplitude.applyOracle(targetIndex);
+            segmentTreeAmplitude.applyDiffusion();
+            blocked.applyOracle(targetIndex);
+            blocked.applyDiffusion();
+        }
+
+        assertArrayEquals(segmentTreeAmplitude.getAllAmplitudes(), blocked.getAllAmplitudes(), 0.0);
+        assertEquals(segmentTreeAmplitude.getAmplitude(123), blocked.getAmplitude(123), 0.0);
+        assertEquals(targetIndex, blocked.findMaxAmplitudeIndex());
+    }
+
+    @Test
+    void testLayoutPropertyIsParsedAtConstruction() {
+        assertEquals(SegmentTreeAmplitude.Layout.BLOCKED, new SegmentTreeLayoutProperty(" Blocked ").layout());
+        assertEquals(SegmentTreeAmplitude.Layout.HEAP, new SegmentTreeLayoutProperty("heap").layout());
+        assertThrows(IllegalArgumentException.class, () -> new SegmentTreeLayoutProperty("bloked"));
+    }
+
+    @Test
+    void testBlockedLayoutWithPrior() {
+        double[] weights = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+        SegmentTreeAmplitude blocked = new SegmentTreeAmplitude(SegmentTreeAmplitude.Layout.BLOCKED);
+        segmentTreeAmplitude.initialize(PriorWeights.of(weights));
+        blocked.initialize(PriorWeights.of(weights));
+
+        for (int i = 0; i < 3; i++) {
+            segmentTreeAmplitude.applyOracle(2);
+            segmentTreeAmplitude.applyDiffusion();
+            blocked.applyOracle(2);
+            blocked.applyDiffusion();
+        }
+
+        assertArrayEquals(segmentTreeAmplitude.getAllAmplitudes(), blocked.getAllAmplitudes(), 0.0);
+    }
+
+    @Test
+    void testReinitializeAfterSearchMatchesFreshInstance() {
+        for (SegmentTreeAmplitude.Layout layout : SegmentTreeAmplitude.Layout.values()) {
+            SegmentTreeAmplitude reused = new SegmentTreeAmplitude(layout);
+            reused.initialize(1000);
+            for (int i = 0; i < 10; i++) {
+                reused.applyOracle(7);
+                reused.applyDiffusion();
+            }
+            // A smaller size reuses the arrays, with the previous search's tags still in them
+            reused.initialize(100);
+            SegmentTreeAmplitude fresh = new SegmentTreeAmplitude(layout);
+            fresh.initialize(100);
+            for (int i = 0; i < 7; i++) {
+                reused.applyOracle(42);
+                reused.applyDiffusion();
+                fresh.applyOracle(42);
+                fresh.applyDiffusion();
+            }
+
+            assertArrayEquals(fresh.getAllAmplitudes(), reused.getAllAmplitudes(), 0.0);
+            assertEquals(42, reused.findMaxAmplitudeIndex());
+        }
+    }
+
+    @Test
+    void testBlockDiffusionReflectsEachBlockAboutItsMean() {
+        int size = 96;
+        segmentTreeAmplitude.initialize(size);
+        segmentTreeAmplitude.applyOracle(40);
+        segmentTreeAmplitude.applyDiffusion();
+        segmentTreeAmplitude.applyOracle(40);
+        double[] expected = segmentTreeAmplitude.getAllAmplitudes();
+
+        segmentTreeAmplitude.applyBlockDiffusion(24);
+
+        for (int from = 0; from < size; from += 24) {
+            double mean = 0.0;
+            for (int i = from; i < from + 24; i++) {
+                mean += expected[i] / 24;
+            }
+            // Reflecting about the block mean keeps the block sum
+            assertEquals(mean * 24, segmentTreeAmplitude.rangeSum(from, from + 24), 1e-12);
+            for (int i = from; i < from + 24; i++) {
+                expected[i] = 2 * mean - expected[i];
+            }
+        }
+        assertArrayEquals(expected, segmentTreeAmplitude.getAllAmplitudes(), 1e-12);
+        assertEquals(0.0, segmentTreeAmplitude.rangeSum(7, 7));
+        assertThrows(IllegalArgumentException.class, () -> segmentTreeAmplitude.rangeSum(10, 97));
+        assertThrows(IllegalArgumentException.class, () -> segmentTreeAmplitude.rangeSum(10, 9));
+    }
+}
@@ -0,0 +1,205 @@
+package br.com.atous.demo.infrastructure.distributed;
+
+import br.com.atous.demo.domain.model.CommunicationStats;
+import br.com.atous.demo.infrastructure.datastructure.BlockedAmplitude;
+import br.com.atous.demo.infrastructure.datastructure.SegmentTreeAmplitude;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedAmplitudeCoordinatorTest {
+
+    private final List<ShardWorker> workers = new ArrayList<>();
+    private final List<Process> processes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        workers.forEach(ShardWorker::close);
+        processes.forEach(Process::destroyForcibly);
+    }
+
+    private List<InetSocketAddress> startWorkers(int count) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ShardWorker worker = ShardWorker.start(0, BlockedAmplitude::new);
+            workers.add(worker);
+            addresses.add(new InetSocketAddress("127.0.0.1", worker.port()));
+        }
+        return addresses;
+    }
+
+    @Test
+    void testShardedIterationsMatchSingleStructure() {
+        int size = 10_007;
+        int targetIndex = 6_666;
+        SegmentTreeAmplitude reference = new SegmentTreeAmplitude();
+        reference.initialize(size);
+
+        try (ShardedAmplitudeCoordinator coordinator = new ShardedAmplitudeCoordinator(startWorkers(3))) {
+            coordinator.initialize(size);
+            int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+            for (int i = 0; i < iterations; i++) {
+                reference.applyOracle(targetIndex);
+                reference.applyDiffusion();
+                coordinator.applyOracle(targetIndex);
+                coordinator.applyDiffusion();
+            }
+
+            for (int index : new int[]{0, 3_335, 3_336, 6_669, targetIndex, size - 1}) {
+                assertEquals(reference.getAmplitude(index), coordinator.getAmplitude(index), 1e-12);
+            }
+            assertEquals(targetIndex, coordinator.findMaxAmplitudeIndex());
+            assertEquals(3, coordinator.shardCount());
+        }
+    }
+
+    @Test
+    void testCommunicationCostPerIteration() {
+        try (ShardedAmplitudeCoordinator coordinator = new ShardedAmplitudeCoordinator(startWorkers(4))) {
+            coordinator.initialize(4_096);
+            for (int i = 0; i < 10; i++) {
+                coordinator.applyOracle(17);
+                coordinator.applyDiffusion();
+            }
+
+            CommunicationStats stats = coordinator.communicationStats();
+            assertEquals(4, stats.shards());
+            assertEquals(10, stats.iterations());
+            // Per iteration: 1 oracle + 4 sum requests + 4 affine broadcasts out, 4 sums back
+            assertEquals(10 * 9, stats.messagesSent());
+            assertEquals(10 * 4, stats.messagesReceived());
+            assertEquals(1.0, stats.roundTripsPerIteration(), 1e-12);
+            // 5 + 4 × 1 + 4 × 17 bytes out, 4 × 9 bytes back
+            assertEquals(10 * (5 + 4 + 68), stats.bytesSent());
+            assertEquals(10 * 36, stats.bytesReceived());
+            assertEquals(113.0, stats.bytesPerIteration(), 1e-12);
+        }
+    }
+
+    @Test
+    void testMoreShardsThanIndices() {
+        try (ShardedAmplitudeCoordinator coordinator = new ShardedAmplitudeCoordinator(startWorkers(3))) {
+            coordinator.initialize(2);
+            coordinator.applyOracle(1);
+            assertEquals(-Math.sqrt(0.5), coordinator.getAmplitude(1), 1e-12);
+            assertEquals(0, coordinator.findMaxAmplitudeIndex());
+        }
+    }
+
+    @Test
+    void testErrorsAndLifecycle() {
+        ShardedAmplitudeCoordinator coordinator = new ShardedAmplitudeCoordinator(startWorkers(2));
+        assertThrows(IllegalStateException.class, coordinator::findMaxAmplitudeIndex);
+        assertThrows(IllegalArgumentException.class, () -> coordinator.initialize(0));
+
+        coordinator.initialize(10);
+        assertThrows(IllegalArgumentException.class, () -> coordinator.applyOracle(10));
+        assertThrows(IllegalArgumentException.class, () -> coordinator.getAmplitude(-1));
+
+        coordinator.close();
+        assertThrows(IllegalStateException.class, coordinator::applyDiffusion);
+        coordinator.close();
+    }
+
+    @Test
+    void testUnreachableWorker() throws IOException {
+        int freePort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            freePort = socket.getLocalPort();
+        }
+        List<InetSocketAddress> addresses = new ArrayList<>(startWorkers(1));
+        addresses.add(new InetSocketAddress("127.0.0.1", freePort));
+
+        assertThrows(IllegalStateException.class, () -> new ShardedAmplitudeCoordinator(addresses));
+    }
+
+    @Test
+    void testStalledWorkerTimesOutAndClosesEveryConnection() throws Exception {
+        List<InetSocketAddress> addresses = new ArrayList<>(startWorkers(1));
+        try (ServerSocket stalled = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            addresses.add(new InetSocketAddress("127.0.0.1", stalled.getLocalPort()));
+            ShardedAmplitudeCoordinator coordinator = new ShardedAmplitudeCoordinator(addresses, 200);
+            // Accepts the connection, then never replies
+            try (Socket silent = stalled.accept()) {
+                long start = System.nanoTime();
+                IllegalStateException error = assertThrows(IllegalStateException.class, () -> coordinator.initialize(16));
+                assertTrue(error.getMessage().startsWith("Shard worker did not reply within 200 ms"));
+                assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+
+                // The coordinator dropped its side: the silent worker reads the INIT request, then end of stream
+                silent.setSoTimeout(5_000);
+                InputStream in = silent.getInputStream();
+                while (in.read() >= 0) {
+                    // INIT opcode, shard size and amplitude
+                }
+                assertThrows(IllegalStateException.class, coordinator::applyDiffusion);
+                coordinator.close();
+            }
+        }
+    }
+
+    @Test
+    void testWorkersInSeparateJvms() throws Exception {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            addresses.add(new InetSocketAddress("127.0.0.1", launchWorkerJvm()));
+        }
+
+        int size = 65_536;
+        int targetIndex = 40_000;
+        try (ShardedAmplitudeCoordinator coordinator = new ShardedAmplitudeCoordinator(addresses)) {
+            coordinator.initialize(size);
+            int iterations = (int) Math.floor(Math.PI / 4.0 * Math.sqrt(size));
+            for (int i = 0; i < iterations; i++) {
+                coordinator.applyOracle(targetIndex);
+                coordinator.applyDiffusion();
+            }
+
+            // Same protocol across processes: 5 + 2 × 1 + 2 × 17 bytes out, 2 × 9 bytes back
+            CommunicationStats stats = coordinator.communicationStats();
+            assertEquals(2, stats.shards());
+            assertEquals(iterations, stats.iterations());
+            assertEquals(iterations * 5L, stats.messagesSent());
+            assertEquals(iterations * 2L, stats.messagesReceived());
+            assertEquals(59.0, stats.bytesPerIteration(), 1e-12);
+            assertTrue(stats.waitNanos() > 0);
+
+            assertEquals(targetIndex, coordinator.findMaxAmplitudeIndex());
+            double amplitude = coordinator.getAmplitude(targetIndex);
+            assertTrue(amplitude * amplitude > 0.99);
+        }
+    }
+
+    private int launchWorkerJvm() throws IOException, InterruptedException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-Xmx128m", "-cp", System.getProperty("java.class.path"),
+            ShardWorker.class.getName(), "0")
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        processes.add(process);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith("LISTENING ")) {
+                return Integer.parseInt(line.substring("LISTENING ".length()).trim());
+            }
+        }
+        process.waitFor(1, TimeUnit.SECONDS);
+        throw new IllegalStateException("Worker JVM exited with " + process.exitValue());
+    }
+}
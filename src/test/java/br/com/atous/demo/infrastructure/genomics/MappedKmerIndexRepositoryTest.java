@@ -0,0 +1,131 @@
+package br.com.atous.demo.infrastructure.genomics;
+
+import br.com.atous.demo.domain.model.Chromosome;
+import br.com.atous.demo.domain.model.KmerIndexDescriptor;
+import br.com.atous.demo.domain.port.out.KmerSearchSpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedKmerIndexRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MappedKmerIndexRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MappedKmerIndexRepository();
+    }
+
+    @Test
+    void testBuildIndexesEveryKmerOccurrence() throws IOException {
+        Path fasta = writeFasta("genome.fa", ">chr1 first\nACGTAC\nGTACGT\n>chr2\nTTACGTN\nACG\n");
+
+        KmerSearchSpace index = repository.build("genome", fasta, 4, tempDir.resolve("genome.kidx"));
+        KmerIndexDescriptor descriptor = index.descriptor();
+
+        assertEquals(4, descriptor.k());
+        assertEquals(22, descriptor.searchSpaceSize());
+        assertEquals(List.of(new Chromosome("chr1", 0, 12), new Chromosome("chr2", 12, 10)), descriptor.chromosomes());
+        // chr1 = ACGTACGTACGT, chr2 = TTACGTNACG (the N breaks k-mers)
+        assertArrayEquals(new int[]{0, 4, 8, 14}, index.positionsOf("ACGT"));
+        assertArrayEquals(new int[]{12}, index.positionsOf("TTAC"));
+        assertArrayEquals(new int[]{1, 5}, index.positionsOf("CGTA"));
+        assertArrayEquals(new int[0], index.positionsOf("GGGG"));
+        assertEquals("chr2", descriptor.chromosomeAt(14).name());
+    }
+
+    @Test
+    void testIndexMatchesBruteForceOnRandomGenome() throws IOException {
+        Random random = new Random(42);
+        String bases = "ACGT";
+        List<String> sequences = new ArrayList<>();
+        StringBuilder fasta = new StringBuilder();
+        for (int c = 0; c < 4; c++) {
+            StringBuilder sequence = new StringBuilder();
+            for (int i = 0; i < 5_000; i++) {
+                sequence.append(bases.charAt(random.nextInt(4)));
+            }
+            sequences.add(sequence.toString());
+            fasta.append(">chr").append(c).append('\n');
+            for (int i = 0; i < sequence.length(); i += 60) {
+                fasta.append(sequence, i, Math.min(sequence.length(), i + 60)).append('\n');
+            }
+        }
+        Path file = writeFasta("random.fa", fasta.toString());
+
+        KmerSearchSpace index = repository.build("random", file, 8, tempDir.resolve("random.kidx"));
+
+        String concatenated = String.join("|", sequences);
+        for (String kmer : List.of("ACGTACGT", "AAAAAAAA", "GATTACAG", sequences.get(2).substring(100, 108))) {
+            List<Integer> expected = new ArrayList<>();
+            int separatorsSeen = 0;
+            for (int i = 0; i + 8 <= concatenated.length(); i++) {
+                if (concatenated.charAt(i) == '|') {
+                    separatorsSeen++;
+                } else if (concatenated.startsWith(kmer, i)) {
+                    expected.add(i - separatorsSeen);
+                }
+            }
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), index.positionsOf(kmer), kmer);
+        }
+    }
+
+    @Test
+    void testOpenReusesPersistedIndex() throws IOException {
+        Path fasta = writeFasta("genome.fa", ">chr1\nACGTACGTAC\n");
+        Path indexFile = tempDir.resolve("genome.kidx");
+        repository.build("genome", fasta, 3, indexFile);
+
+        KmerSearchSpace reopened = new MappedKmerIndexRepository().open("restarted", indexFile);
+
+        assertEquals("restarted", reopened.descriptor().id());
+        assertArrayEquals(new int[]{0, 4}, reopened.positionsOf("ACG"));
+        assertEquals(4, reopened.descriptor().distinctKmers());
+    }
+
+    @Test
+    void testExtendAppendsChromosomesWithoutMovingExistingPositions() throws IOException {
+        Path indexFile = tempDir.resolve("genome.kidx");
+        repository.build("genome", writeFasta("first.fa", ">chr1\nACGTACGT\n"), 4, indexFile);
+
+        KmerSearchSpace extended = repository.extend("genome", writeFasta("second.fa", ">chr2\nGGACGTGG\n"));
+
+        assertEquals(16, extended.descriptor().searchSpaceSize());
+        assertArrayEquals(new int[]{0, 4, 10}, extended.positionsOf("ACGT"));
+        assertArrayEquals(new int[]{8}, extended.positionsOf("GGAC"));
+        assertSame(extended, repository.find("genome").orElseThrow());
+    }
+
+    @Test
+    void testInvalidInputs() throws IOException {
+        Path fasta = writeFasta("genome.fa", ">chr1\nACGT\n");
+        assertThrows(IllegalArgumentException.class, () -> repository.build("genome", fasta, 0, tempDir.resolve("a.kidx")));
+        assertThrows(IllegalArgumentException.class, () -> repository.build("genome", fasta, 17, tempDir.resolve("a.kidx")));
+        assertThrows(IllegalArgumentException.class,
+            () -> repository.build("genome", writeFasta("plain.txt", "ACGT\n"), 2, tempDir.resolve("b.kidx")));
+        assertThrows(IllegalArgumentException.class, () -> repository.extend("missing", fasta));
+
+        KmerSearchSpace index = repository.build("genome", fasta, 2, tempDir.resolve("c.kidx"));
+        assertThrows(IllegalArgumentException.class, () -> index.positionsOf("ACG"));
+        assertThrows(IllegalArgumentException.class, () -> index.positionsOf("AN"));
+        assertThrows(IllegalArgumentException.class, () -> repository.extend("genome", fasta));
+    }
+
+    private Path writeFasta(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+}
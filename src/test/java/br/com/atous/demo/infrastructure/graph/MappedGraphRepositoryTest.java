@@ -0,0 +1,148 @@
+package br.com.atous.demo.infrastructure.graph;
+
+import br.com.atous.demo.domain.model.GraphDescriptor;
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGraphRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MappedGraphRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MappedGraphRepository();
+    }
+
+    @Test
+    void testBuildStoresEachUndirectedEdgeAsTwoArcs() throws IOException {
+        // Vertices 3 and 4 are isolated: the self-loop and the repeated edge are dropped
+        Path edges = write("small.txt", "# comment\n0 1\n1 2 0.5\n\n2 0\n1 0\n3 3\n5 2\n");
+
+        SearchGraph graph = repository.build("small", edges, tempDir.resolve("small.csr"));
+        GraphDescriptor descriptor = graph.descriptor();
+
+        assertEquals(6, descriptor.vertexCount());
+        assertEquals(4, descriptor.edgeCount());
+        assertEquals(8, descriptor.arcCount());
+        assertEquals(3, descriptor.maxDegree());
+        assertArrayEquals(new int[]{0, 2, 4, 7, 7, 7, 8}, arcStarts(graph));
+        assertArrayEquals(new int[]{1, 2}, neighbours(graph, 0));
+        assertArrayEquals(new int[]{0, 1, 5}, neighbours(graph, 2));
+        assertArrayEquals(new int[0], neighbours(graph, 4));
+        assertReverseArcsAreConsistent(graph);
+    }
+
+    @Test
+    void testRandomGraphMatchesEdgeSet() throws IOException {
+        Random random = new Random(42);
+        int vertices = 2_000;
+        Set<Long> expected = new TreeSet<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            text.append(u).append('\t').append(v).append('\n');
+            if (u != v) {
+                expected.add((long) u << 32 | v);
+                expected.add((long) v << 32 | u);
+            }
+        }
+        SearchGraph graph = repository.build("random", write("random.txt", text.toString()), tempDir.resolve("random.csr"));
+
+        assertEquals(expected.size(), graph.arcCount());
+        Set<Long> actual = new TreeSet<>();
+        for (int vertex = 0; vertex < graph.vertexCount(); vertex++) {
+            for (int arc = graph.arcStart(vertex); arc < graph.arcStart(vertex + 1); arc++) {
+                actual.add((long) vertex << 32 | graph.neighbour(arc));
+            }
+        }
+        assertEquals(expected, actual);
+        assertReverseArcsAreConsistent(graph);
+    }
+
+    @Test
+    void testOpenMapsAnExistingGraphFile() throws IOException {
+        Path graphFile = tempDir.resolve("path.csr");
+        repository.build("path", write("path.txt", "0 1\n1 2\n2 3\n"), graphFile);
+
+        MappedGraphRepository restarted = new MappedGraphRepository();
+        SearchGraph reopened = restarted.open("reopened", graphFile);
+
+        assertEquals("reopened", reopened.descriptor().id());
+        assertEquals(3, reopened.descriptor().edgeCount());
+        assertArrayEquals(new int[]{0, 2}, neighbours(reopened, 1));
+        assertTrue(restarted.find("reopened").isPresent());
+        assertTrue(restarted.find("path").isEmpty());
+    }
+
+    @Test
+    void testDuplicateIdIsRejectedAndKeepsTheFirstGraph() throws IOException {
+        Path graphFile = tempDir.resolve("first.csr");
+        SearchGraph first = repository.build("dup", write("first.txt", "0 1\n"), graphFile);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> repository.build("dup", write("second.txt", "0 1\n1 2\n"), graphFile));
+        assertThrows(IllegalArgumentException.class, () -> repository.open("dup", graphFile));
+
+        assertSame(first, repository.find("dup").orElseThrow());
+        assertEquals(1, repository.find("dup").orElseThrow().descriptor().edgeCount());
+    }
+
+    @Test
+    void testInvalidInputsAreRejected() throws IOException {
+        Path graphFile = tempDir.resolve("bad.csr");
+        assertThrows(IllegalArgumentException.class, () -> repository.build("bad", write("a.txt", "0 x\n"), graphFile));
+        assertThrows(IllegalArgumentException.class, () -> repository.build("bad", write("b.txt", "0\n"), graphFile));
+        assertThrows(IllegalArgumentException.class, () -> repository.build("bad", write("c.txt", "0 -1\n"), graphFile));
+        assertThrows(IllegalArgumentException.class, () -> repository.build("bad", write("d.txt", "# only loops\n2 2\n"), graphFile));
+        assertThrows(IllegalArgumentException.class, () -> repository.build(" ", write("e.txt", "0 1\n"), graphFile));
+        assertThrows(IllegalArgumentException.class, () -> repository.open("bad", tempDir.resolve("missing.csr")));
+        assertThrows(IllegalArgumentException.class, () -> repository.open("bad", write("f.csr", "not a graph file at all, just some text that is long enough")));
+    }
+
+    private static void assertReverseArcsAreConsistent(SearchGraph graph) {
+        for (int vertex = 0; vertex < graph.vertexCount(); vertex++) {
+            for (int arc = graph.arcStart(vertex); arc < graph.arcStart(vertex + 1); arc++) {
+                int reverse = graph.reverseArc(arc);
+                assertEquals(arc, graph.reverseArc(reverse));
+                assertEquals(vertex, graph.neighbour(reverse));
+                int head = graph.neighbour(arc);
+                assertTrue(reverse >= graph.arcStart(head) && reverse < graph.arcStart(head + 1));
+            }
+        }
+    }
+
+    private static int[] arcStarts(SearchGraph graph) {
+        int[] starts = new int[graph.vertexCount() + 1];
+        for (int vertex = 0; vertex <= graph.vertexCount(); vertex++) {
+            starts[vertex] = graph.arcStart(vertex);
+        }
+        return starts;
+    }
+
+    private static int[] neighbours(SearchGraph graph, int vertex) {
+        int[] neighbours = new int[graph.arcStart(vertex + 1) - graph.arcStart(vertex)];
+        for (int i = 0; i < neighbours.length; i++) {
+            neighbours[i] = graph.neighbour(graph.arcStart(vertex) + i);
+        }
+        return neighbours;
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content);
+    }
+}
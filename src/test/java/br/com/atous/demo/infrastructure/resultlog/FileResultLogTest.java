@@ -0,0 +1,191 @@
+package br.com.atous.demo.infrastructure.resultlog;
+
+import br.com.atous.demo.domain.model.GroverResult;
+import br.com.atous.demo.domain.model.LoggedResult;
+import br.com.atous.demo.domain.model.ResultCompaction;
+import br.com.atous.demo.domain.model.ResultQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileResultLogTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<FileResultLog> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(FileResultLog::stop);
+    }
+
+    private FileResultLog open(Path file) {
+        FileResultLog log = new FileResultLog(file.toString(), 1024);
+        log.start();
+        opened.add(log);
+        return log;
+    }
+
+    private static GroverResult result(int size, int target, int found) {
+        return new GroverResult(found, target, found == target, 2, size, 3);
+    }
+
+    private static ResultQuery all(int limit) {
+        return new ResultQuery(null, null, null, null, limit);
+    }
+
+    @Test
+    void whenResultsAreAppended_thenTheyAreQueryableByKeyNewestFirst() throws Exception {
+        FileResultLog log = open(directory.resolve("results.log"));
+        log.append(result(64, 5, 5));
+        log.append(result(64, 6, 6));
+        log.append(result(64, 5, 9));
+        log.append(result(128, 5, 5));
+        log.flush();
+
+        List<LoggedResult> matches = log.query(new ResultQuery(64, 5, null, null, 10));
+        assertEquals(2, matches.size());
+        assertEquals(2, matches.get(0).sequence());
+        assertEquals(9, matches.get(0).result().foundIndex());
+        assertFalse(matches.get(0).result().success());
+        assertEquals(0, matches.get(1).sequence());
+        assertEquals(result(64, 5, 5), matches.get(1).result());
+
+        List<LoggedResult> everything = log.query(all(10));
+        assertEquals(List.of(3L, 2L, 1L, 0L), everything.stream().map(LoggedResult::sequence).toList());
+        assertEquals(1, log.query(new ResultQuery(null, 6, null, null, 10)).size());
+        assertEquals(3, log.query(new ResultQuery(64, null, null, null, 10)).size());
+        assertEquals(2, log.query(all(2)).size());
+    }
+
+    @Test
+    void whenQueriedByTime_thenOnlyResultsInTheRangeAreReturned() throws Exception {
+        FileResultLog log = open(directory.resolve("results.log"));
+        log.append(result(64, 1, 1));
+        log.flush();
+        Thread.sleep(5);
+        long middle = System.currentTimeMillis();
+        Thread.sleep(5);
+        log.append(result(64, 1, 1));
+        log.append(result(64, 2, 2));
+        log.flush();
+
+        assertEquals(2, log.query(new ResultQuery(null, null, middle, null, 10)).size());
+        assertEquals(1, log.query(new ResultQuery(null, null, null, middle, 10)).size());
+        assertEquals(1, log.query(new ResultQuery(64, 1, middle, null, 10)).size());
+        for (LoggedResult logged : log.query(new ResultQuery(null, null, middle, null, 10))) {
+            assertTrue(logged.recordedAtMillis() >= middle);
+        }
+    }
+
+    @Test
+    void whenReopened_thenTheIndexIsRebuiltAndSequencesContinue() throws Exception {
+        Path file = directory.resolve("results.log");
+        FileResultLog first = open(file);
+        for (int i = 0; i < 10; i++) {
+            first.append(result(256, i % 3, i % 3));
+        }
+        first.flush();
+        first.stop();
+
+        FileResultLog reopened = open(file);
+        assertEquals(10, reopened.query(all(100)).size());
+        assertEquals(4, reopened.query(new ResultQuery(256, 0, null, null, 100)).size());
+        reopened.append(result(256, 0, 0));
+        reopened.flush();
+        assertEquals(10, reopened.query(new ResultQuery(256, 0, null, null, 1)).getFirst().sequence());
+    }
+
+    @Test
+    void whenTheTailIsTorn_thenRecoveryTruncatesToTheLastValidRecord() throws Exception {
+        Path file = directory.resolve("results.log");
+        FileResultLog first = open(file);
+        for (int i = 0; i < 5; i++) {
+            first.append(result(32, i, i));
+        }
+        first.flush();
+        first.stop();
+
+        // A crash mid-write: half a record of garbage after the last good one
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[ResultLogFormat.RECORD_SIZE / 2]));
+        }
+        // And a flipped byte in the last good record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), ResultLogFormat.position(4) + 20);
+        }
+
+        FileResultLog recovered = open(file);
+        assertEquals(4, recovered.query(all(100)).size());
+        assertEquals(ResultLogFormat.position(4), Files.size(file));
+        recovered.append(result(32, 9, 9));
+        recovered.flush();
+        assertEquals(4, recovered.query(new ResultQuery(32, 9, null, null, 10)).getFirst().sequence());
+    }
+
+    @Test
+    void whenCompacted_thenOnlyTheNewestResultsPerKeySurvive() throws Exception {
+        Path file = directory.resolve("results.log");
+        FileResultLog log = open(file);
+        for (int i = 0; i < 30; i++) {
+            log.append(result(512, i % 3, i));
+        }
+        log.flush();
+
+        ResultCompaction compaction = log.compact(2);
+
+        assertEquals(30, compaction.recordsBefore());
+        assertEquals(6, compaction.recordsAfter());
+        assertEquals(ResultLogFormat.position(6), compaction.bytesAfter());
+        assertEquals(compaction.bytesAfter(), Files.size(file));
+        List<LoggedResult> kept = log.query(new ResultQuery(512, 1, null, null, 10));
+        assertEquals(List.of(28L, 25L), kept.stream().map(LoggedResult::sequence).toList());
+
+        // Appends after a compaction land in the rewritten file and survive a restart
+        log.append(result(512, 1, 1));
+        log.flush();
+        log.stop();
+        FileResultLog reopened = open(file);
+        assertEquals(7, reopened.query(all(100)).size());
+        assertEquals(30, reopened.query(new ResultQuery(512, 1, null, null, 1)).getFirst().sequence());
+    }
+
+    @Test
+    void whenThePathIsBlank_thenTheLogIsDisabled() {
+        FileResultLog log = open(Path.of(""));
+        assertFalse(log.enabled());
+        log.append(result(8, 1, 1));
+        assertEquals(List.of(), log.query(all(10)));
+        assertThrows(IllegalStateException.class, () -> log.compact(1));
+    }
+
+    @Test
+    void whenTheFileIsNotAResultLog_thenStartFails() throws IOException {
+        Path file = directory.resolve("other.bin");
+        Files.write(file, new byte[64]);
+        FileResultLog log = new FileResultLog(file.toString(), 16);
+        assertThrows(IllegalStateException.class, log::start);
+    }
+
+    @Test
+    void whenTheWriterIsNotRunning_thenAppendsBeyondTheQueueAreDropped() {
+        // Not started: nothing drains the queue, so the third append cannot be accepted
+        FileResultLog log = new FileResultLog(directory.resolve("results.log").toString(), 2);
+        for (int i = 0; i < 3; i++) {
+            log.append(result(8, 1, 1));
+        }
+        assertEquals(1, log.droppedCount());
+    }
+}
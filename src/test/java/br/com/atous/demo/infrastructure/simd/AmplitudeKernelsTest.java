@@ -0,0 +1,80 @@
+package br.com.atous.demo.infrastructure.simd;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmplitudeKernelsTest {
+
+    private final ScalarAmplitudeKernels scalar = new ScalarAmplitudeKernels();
+
+    @Test
+    void whenVectorModuleIsPresent_thenVectorKernelsAreSelected() {
+        // Surefire runs with --add-modules jdk.incubator.vector
+        assertTrue(AmplitudeKernels.get().name().startsWith("vector-"), AmplitudeKernels.get().name());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 128, 256, 512})
+    void whenSweeping_thenVectorKernelsMatchScalar(int vectorBits) {
+        VectorAmplitudeKernels vector = new VectorAmplitudeKernels(vectorBits);
+        SplittableRandom random = new SplittableRandom(vectorBits);
+        // Odd bounds exercise both the vector loop and the scalar tail
+        int size = 1_003;
+        int from = 3;
+        int to = 998;
+        double[] values = random.doubles(size, -1.0, 1.0).toArray();
+        double[] basis = random.doubles(size, 0.0, 1.0).toArray();
+
+        assertEquals(scalar.sumOfSquares(values, from, to), vector.sumOfSquares(values, from, to), 1e-12);
+        assertEquals(scalar.dot(values, basis, from, to), vector.dot(values, basis, from, to), 1e-12);
+        assertEquals(scalar.argMaxSquare(values, from, to), vector.argMaxSquare(values, from, to));
+
+        double[] expected = values.clone();
+        double[] actual = values.clone();
+        scalar.affine(expected, from, to, -1.0, 0.25);
+        vector.affine(actual, from, to, -1.0, 0.25);
+        assertArrayEquals(expected, actual, 1e-15);
+
+        scalar.reflect(expected, basis, from, to, 0.7);
+        vector.reflect(actual, basis, from, to, 0.7);
+        assertArrayEquals(expected, actual, 1e-15);
+        assertEquals(values[0], actual[0]);
+        assertEquals(values[size - 1], actual[size - 1]);
+    }
+
+    @Test
+    void whenSquaresTie_thenLowestIndexWins() {
+        double[] values = new double[37];
+        values[5] = -0.5;
+        values[20] = 0.5;
+        values[33] = -0.5;
+        for (AmplitudeKernels kernels : new AmplitudeKernels[]{scalar, new VectorAmplitudeKernels(256)}) {
+            assertEquals(5, kernels.argMaxSquare(values, 0, values.length), kernels.name());
+            assertEquals(20, kernels.argMaxSquare(values, 6, values.length), kernels.name());
+            assertEquals(0, kernels.argMaxSquare(new double[4], 0, 4), kernels.name());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 128, 256, 512})
+    void whenScanningKeys_thenVectorKernelsMatchScalar(int vectorBits) {
+        VectorAmplitudeKernels vector = new VectorAmplitudeKernels(vectorBits);
+        int[] keys = new SplittableRandom(vectorBits).ints(1_003, 0, 500).toArray();
+        for (int needle = -1; needle < 500; needle += 7) {
+            assertEquals(scalar.indexOf(keys, 3, 998, needle), vector.indexOf(keys, 3, 998, needle), "needle " + needle);
+        }
+        // Matches outside [from, to) do not count; the lowest match inside does
+        keys[1] = 9_999;
+        keys[1_000] = 9_999;
+        assertEquals(-1, vector.indexOf(keys, 3, 998, 9_999));
+        keys[500] = 9_999;
+        keys[997] = 9_999;
+        assertEquals(500, vector.indexOf(keys, 3, 998, 9_999));
+        assertEquals(997, vector.indexOf(keys, 501, 998, 9_999));
+    }
+}
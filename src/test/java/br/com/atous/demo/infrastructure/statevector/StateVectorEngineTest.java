@@ -0,0 +1,159 @@
+package br.com.atous.demo.infrastructure.statevector;
+
+import br.com.atous.demo.domain.model.QuantumCircuit;
+import br.com.atous.demo.domain.model.QuantumGate;
+import br.com.atous.demo.domain.port.out.StateVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateVectorEngineTest {
+
+    private final StateVectorEngine engine = new StateVectorEngine();
+
+    @Test
+    void whenHadamardOnEveryQubit_thenStateIsUniform() {
+        // 18 qubits: 2^17 pairs per kernel, above the fork/join grain
+        int qubits = 18;
+        List<QuantumGate> gates = new ArrayList<>();
+        for (int q = 0; q < qubits; q++) {
+            gates.add(new QuantumGate.Hadamard(q));
+        }
+        StateVector state = engine.run(new QuantumCircuit(qubits, gates));
+
+        double expected = 1.0 / Math.sqrt(1 << qubits);
+        for (int i = 0; i < (1 << qubits); i += 997) {
+            assertEquals(expected, state.getAmplitude(i), 1e-12);
+        }
+        assertEquals(1.0, state.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void whenToffoli_thenTargetFlipsOnlyWithBothControlsSet() {
+        for (int input = 0; input < 8; input++) {
+            List<QuantumGate> gates = new ArrayList<>();
+            for (int q = 0; q < 3; q++) {
+                if ((input & (1 << q)) != 0) {
+                    gates.add(new QuantumGate.PauliX(q));
+                }
+            }
+            gates.add(new QuantumGate.MultiControlledX(new int[]{0, 1}, 2));
+            StateVector state = engine.run(new QuantumCircuit(3, gates));
+
+            int expected = (input & 0b011) == 0b011 ? input ^ 0b100 : input;
+            assertEquals(1.0, state.getAmplitude(expected), 1e-12, "input " + input);
+        }
+    }
+
+    @Test
+    void whenMultiControlledZ_thenOnlyAllOnesStateChangesSign() {
+        int qubits = 4;
+        List<QuantumGate> gates = new ArrayList<>();
+        for (int q = 0; q < qubits; q++) {
+            gates.add(new QuantumGate.Hadamard(q));
+        }
+        gates.add(new QuantumGate.MultiControlledZ(new int[]{0, 1, 2}, 3));
+        StateVector state = engine.run(new QuantumCircuit(qubits, gates));
+
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i == 15 ? -0.25 : 0.25, state.getAmplitude(i), 1e-12);
+        }
+    }
+
+    @Test
+    void whenSingleQubitGatesAreAdjacent_thenTheyFuse() {
+        QuantumCircuit cancelling = new QuantumCircuit(2, List.of(
+            new QuantumGate.Hadamard(0), new QuantumGate.PauliX(1), new QuantumGate.Hadamard(0), new QuantumGate.PauliX(1)));
+        assertEquals(0, engine.kernelCount(cancelling));
+
+        // H·X·H = Z on qubit 0, interleaved with gates on qubit 1 that commute with it
+        QuantumCircuit fused = new QuantumCircuit(2, List.of(
+            new QuantumGate.Hadamard(0), new QuantumGate.Hadamard(1), new QuantumGate.PauliX(0),
+            new QuantumGate.Hadamard(0), new QuantumGate.MultiControlledZ(new int[]{1}, 0)));
+        assertEquals(3, engine.kernelCount(fused));
+    }
+
+    @Test
+    void whenRandomCircuit_thenMatchesGateByGateReference() {
+        int qubits = 6;
+        SplittableRandom random = new SplittableRandom(42);
+        List<QuantumGate> gates = new ArrayList<>();
+        for (int g = 0; g < 200; g++) {
+            int target = random.nextInt(qubits);
+            int kind = random.nextInt(5);
+            if (kind < 3) {
+                gates.add(switch (kind) {
+                    case 0 -> new QuantumGate.Hadamard(target);
+                    case 1 -> new QuantumGate.PauliX(target);
+                    default -> new QuantumGate.PauliZ(target);
+                });
+            } else {
+                int control = (target + 1 + random.nextInt(qubits - 1)) % qubits;
+                gates.add(kind == 3
+                    ? new QuantumGate.MultiControlledX(new int[]{control}, target)
+                    : new QuantumGate.MultiControlledZ(new int[]{control}, target));
+            }
+        }
+        QuantumCircuit circuit = new QuantumCircuit(qubits, gates);
+
+        StateVector state = engine.run(circuit);
+        double[] reference = simulateReference(circuit);
+
+        for (int i = 0; i < reference.length; i++) {
+            assertEquals(reference[i], state.getAmplitude(i), 1e-9);
+        }
+        assertTrue(engine.kernelCount(circuit) < gates.size());
+    }
+
+    @Test
+    void whenRegisterIsTooLarge_thenRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.run(new QuantumCircuit(StateVectorEngine.MAX_QUBITS + 1, List.of())));
+        assertThrows(IllegalArgumentException.class,
+            () -> new QuantumCircuit(2, List.of(new QuantumGate.MultiControlledX(new int[]{1}, 1))));
+        assertThrows(IllegalArgumentException.class,
+            () -> new QuantumCircuit(2, List.of(new QuantumGate.Hadamard(2))));
+    }
+
+    // Unfused, sequential, one basis state at a time
+    private static double[] simulateReference(QuantumCircuit circuit) {
+        int size = 1 << circuit.qubitCount();
+        double[] state = new double[size];
+        state[0] = 1.0;
+        double h = 1.0 / Math.sqrt(2.0);
+        for (QuantumGate gate : circuit.gates()) {
+            double[] next = new double[size];
+            for (int i = 0; i < size; i++) {
+                double a = state[i];
+                switch (gate) {
+                    case QuantumGate.Hadamard g -> {
+                        int bit = 1 << g.qubit();
+                        next[i & ~bit] += h * a;
+                        next[i | bit] += (i & bit) == 0 ? h * a : -h * a;
+                    }
+                    case QuantumGate.PauliX g -> next[i ^ (1 << g.qubit())] += a;
+                    case QuantumGate.PauliZ g -> next[i] += (i & (1 << g.qubit())) == 0 ? a : -a;
+                    case QuantumGate.MultiControlledX g ->
+                        next[controlsSet(i, g.controls()) ? i ^ (1 << g.target()) : i] += a;
+                    case QuantumGate.MultiControlledZ g ->
+                        next[i] += controlsSet(i, g.controls()) && (i & (1 << g.target())) != 0 ? -a : a;
+                }
+            }
+            state = next;
+        }
+        return state;
+    }
+
+    private static boolean controlsSet(int index, int[] controls) {
+        for (int control : controls) {
+            if ((index & (1 << control)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
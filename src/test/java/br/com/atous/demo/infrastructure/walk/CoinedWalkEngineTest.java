@@ -0,0 +1,144 @@
+package br.com.atous.demo.infrastructure.walk;
+
+import br.com.atous.demo.domain.port.out.SearchGraph;
+import br.com.atous.demo.domain.port.out.WalkState;
+import br.com.atous.demo.infrastructure.graph.MappedGraphRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoinedWalkEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final CoinedWalkEngine engine = new CoinedWalkEngine();
+    private final MappedGraphRepository repository = new MappedGraphRepository();
+
+    @Test
+    void whenNothingIsMarked_thenTheUniformStateIsStationary() throws IOException {
+        SearchGraph torus = torus(16);
+
+        WalkState state = engine.run(torus, new int[0], 40);
+
+        for (int vertex = 0; vertex < torus.vertexCount(); vertex++) {
+            assertEquals(1.0 / 256, state.vertexProbability(vertex), 1e-12);
+        }
+        assertEquals(1.0, state.getTotalProbability(), 1e-12);
+    }
+
+    @Test
+    void whenWalking_thenMatchesStepByStepReference() throws IOException {
+        // About 24k arcs, above the fork/join grain
+        SearchGraph graph = randomGraph(3_000, 12_000, 7);
+        assertTrue(graph.arcCount() > CoinedWalkEngine.PARALLEL_GRAIN);
+        int[] marked = {3, 1_717};
+
+        WalkState state = engine.run(graph, marked, 30);
+        double[] reference = referenceWalk(graph, marked, 30);
+
+        for (int vertex = 0; vertex < graph.vertexCount(); vertex++) {
+            double expected = 0.0;
+            for (int arc = graph.arcStart(vertex); arc < graph.arcStart(vertex + 1); arc++) {
+                expected += reference[arc] * reference[arc];
+            }
+            assertEquals(expected, state.vertexProbability(vertex), 1e-12, "vertex " + vertex);
+        }
+        assertEquals(1.0, state.getTotalProbability(), 1e-9);
+    }
+
+    @Test
+    void whenTracing_thenEveryStepReportsTheMarkedProbability() throws IOException {
+        SearchGraph torus = torus(32);
+        int[] marked = {300};
+
+        double[] trace = engine.markedProbabilities(torus, marked, 60);
+
+        assertEquals(61, trace.length);
+        assertEquals(1.0 / 1024, trace[0], 1e-15);
+        assertEquals(engine.run(torus, marked, 45).vertexProbability(300), trace[45], 1e-12);
+        // The walk concentrates on the marked vertex, far above its stationary share
+        assertTrue(trace[58] > 0.15, "peak " + trace[58]);
+        assertEquals(300, engine.run(torus, marked, 58).findMaxProbabilityVertex());
+    }
+
+    @Test
+    void whenInputsAreInvalid_thenRejected() throws IOException {
+        SearchGraph torus = torus(4);
+        assertThrows(IllegalArgumentException.class, () -> engine.run(torus, new int[]{16}, 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.run(torus, new int[]{-1}, 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.markedProbabilities(torus, new int[]{0}, -1));
+        assertThrows(IllegalArgumentException.class, () -> engine.run(torus, new int[0], 0).vertexProbability(16));
+    }
+
+    // Unfused and sequential: coin into a temporary array, then shift by looking up each reverse arc
+    private static double[] referenceWalk(SearchGraph graph, int[] marked, int steps) {
+        boolean[] isMarked = new boolean[graph.vertexCount()];
+        for (int vertex : marked) {
+            isMarked[vertex] = true;
+        }
+        double[] state = new double[graph.arcCount()];
+        Arrays.fill(state, 1.0 / Math.sqrt(graph.arcCount()));
+        for (int step = 0; step < steps; step++) {
+            double[] coined = new double[state.length];
+            for (int vertex = 0; vertex < graph.vertexCount(); vertex++) {
+                int start = graph.arcStart(vertex);
+                int end = graph.arcStart(vertex + 1);
+                double mean = 0.0;
+                for (int arc = start; arc < end; arc++) {
+                    mean += state[arc] / (end - start);
+                }
+                for (int arc = start; arc < end; arc++) {
+                    coined[arc] = isMarked[vertex] ? -state[arc] : 2 * mean - state[arc];
+                }
+            }
+            double[] shifted = new double[state.length];
+            for (int vertex = 0; vertex < graph.vertexCount(); vertex++) {
+                for (int arc = graph.arcStart(vertex); arc < graph.arcStart(vertex + 1); arc++) {
+                    int head = graph.neighbour(arc);
+                    for (int back = graph.arcStart(head); back < graph.arcStart(head + 1); back++) {
+                        if (graph.neighbour(back) == vertex) {
+                            shifted[back] = coined[arc];
+                        }
+                    }
+                }
+            }
+            state = shifted;
+        }
+        return state;
+    }
+
+    private SearchGraph torus(int side) throws IOException {
+        StringBuilder edges = new StringBuilder();
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                int vertex = x * side + y;
+                edges.append(vertex).append(' ').append(((x + 1) % side) * side + y).append('\n');
+                edges.append(vertex).append(' ').append(x * side + (y + 1) % side).append('\n');
+            }
+        }
+        return build("torus" + side, edges.toString());
+    }
+
+    private SearchGraph randomGraph(int vertices, int edgeCount, long seed) throws IOException {
+        Random random = new Random(seed);
+        StringBuilder edges = new StringBuilder();
+        for (int i = 0; i < edgeCount; i++) {
+            edges.append(random.nextInt(vertices)).append(' ').append(random.nextInt(vertices)).append('\n');
+        }
+        edges.append(vertices - 1).append(' ').append(0).append('\n');
+        return build("random" + seed, edges.toString());
+    }
+
+    private SearchGraph build(String id, String edges) throws IOException {
+        Path edgeList = Files.writeString(tempDir.resolve(id + ".txt"), edges);
+        return repository.build(id, edgeList, tempDir.resolve(id + ".csr"));
+    }
+}